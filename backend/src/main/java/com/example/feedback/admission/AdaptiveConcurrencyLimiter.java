@@ -0,0 +1,170 @@
+package com.example.feedback.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Concurrency limit that follows observed latency, in the spirit of the gradient algorithm.
+ * <p>
+ * Completed requests report their latency. Once per window the average latency of that window is compared
+ * with a slowly moving baseline: while the two stay within {@code tolerance} the limit grows by roughly
+ * {@code sqrt(limit)}, and when the window gets slower the limit shrinks in proportion. Callers over the
+ * limit are refused immediately instead of waiting for a database connection.
+ * <p>
+ * The admission path is a single CAS loop; the limit is only recomputed by the one thread that closes a window.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    /** Weight of each window in the long-term latency baseline. */
+    private static final double BASELINE_WEIGHT = 0.05;
+    /** Lowest factor a single window may shrink the estimate by. */
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger windowPeakInFlight = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowStart;
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong limitChanges = new AtomicLong();
+
+    private volatile int limit;
+    private double estimate;
+    private double baselineNanos;
+
+    public AdaptiveConcurrencyLimiter(AdmissionProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(AdmissionProperties properties, LongSupplier nanoClock) {
+        if (properties.getMinLimit() < 1 || properties.getMaxLimit() < properties.getMinLimit()) {
+            throw new IllegalArgumentException("Admission limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.tolerance = properties.getTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.windowNanos = properties.getWindow().toNanos();
+        this.minWindowSamples = Math.max(1, properties.getMinWindowSamples());
+        this.nanoClock = nanoClock;
+        this.estimate = clamp(properties.getInitialLimit());
+        this.limit = (int) estimate;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Takes a slot if fewer than {@link #getLimit()} requests are in flight.
+     *
+     * @return the start time to pass to {@link #release(long, boolean)}, or {@code -1} when the caller is refused
+     */
+    public long tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return -1;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        int now = current + 1;
+        int peak;
+        while (now > (peak = windowPeakInFlight.get()) && !windowPeakInFlight.compareAndSet(peak, now)) {
+            // retry until the peak covers this admission
+        }
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Gives back a slot taken by {@link #tryAcquire()}.
+     *
+     * @param sample whether the request's latency is representative; failed or async requests are not
+     */
+    public void release(long startNanos, boolean sample) {
+        inFlight.decrementAndGet();
+        if (!sample) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        windowLatencyNanos.add(now - startNanos);
+        windowSamples.increment();
+
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowSamples.sum() >= minWindowSamples
+                && windowStart.compareAndSet(start, now)) {
+            closeWindow();
+        }
+    }
+
+    private synchronized void closeWindow() {
+        long samples = windowSamples.sumThenReset();
+        long totalNanos = windowLatencyNanos.sumThenReset();
+        int peak = windowPeakInFlight.getAndSet(inFlight.get());
+        if (samples == 0) {
+            return;
+        }
+        double averageNanos = (double) totalNanos / samples;
+
+        if (baselineNanos == 0) {
+            baselineNanos = averageNanos;
+        } else {
+            baselineNanos += (averageNanos - baselineNanos) * BASELINE_WEIGHT;
+            // Latency recovered well below the baseline, so let the baseline catch up faster.
+            if (baselineNanos > 2 * averageNanos) {
+                baselineNanos *= 0.95;
+            }
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baselineNanos / averageNanos));
+        if (gradient == 1.0 && peak * 2 < estimate) {
+            // Traffic did not come close to the limit; there is no evidence it can safely grow.
+            return;
+        }
+        double target = estimate * gradient + Math.sqrt(estimate);
+        estimate = clamp(estimate * (1 - smoothing) + target * smoothing);
+
+        int previous = limit;
+        int next = (int) estimate;
+        if (next != previous) {
+            limit = next;
+            limitChanges.incrementAndGet();
+            logger.debug("Concurrency limit {} -> {} (window latency {} us, baseline {} us)",
+                    previous, next, (long) (averageNanos / 1_000), (long) (baselineNanos / 1_000));
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getLimitChangeCount() {
+        return limitChanges.get();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.feedback.admission;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the state of the {@link AdaptiveConcurrencyLimiter}: in-flight requests, the current limit,
+ * refused requests and how often the limit moved.
+ */
+public class AdmissionMetrics implements MeterBinder {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public AdmissionMetrics(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("feedback.admission.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently admitted")
+                .register(registry);
+        Gauge.builder("feedback.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        FunctionCounter.builder("feedback.admission.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .description("Requests refused with 503 because the limit was reached")
+                .register(registry);
+        FunctionCounter.builder("feedback.admission.limit.changes", limiter,
+                AdaptiveConcurrencyLimiter::getLimitChangeCount)
+                .description("Number of times the concurrency limit was adjusted")
+                .register(registry);
+    }
+}
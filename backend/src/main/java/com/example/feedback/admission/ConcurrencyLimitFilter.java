@@ -0,0 +1,69 @@
+package com.example.feedback.admission;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.feedback.config.SubmissionFilterOrder;
+import com.example.feedback.controller.FeedbackResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Admits requests through an {@link AdaptiveConcurrencyLimiter} and answers 503 with Retry-After when it is full.
+ * Refused requests never reach the controllers, so they do not queue up on the connection pool.
+ * It is the innermost of the submission filters; see {@link SubmissionFilterOrder}.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper,
+            AdmissionProperties properties) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = limiter.tryAcquire();
+        if (start < 0) {
+            reject(request, response);
+            return;
+        }
+
+        boolean sample = false;
+        try {
+            chain.doFilter(request, response);
+            // Streaming responses continue after this point, so their time here says nothing about load.
+            sample = !request.isAsyncStarted() && response.getStatus() < 500;
+        } finally {
+            limiter.release(start, sample);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.debug("Rejected {} {} at concurrency limit {}", request.getMethod(), request.getRequestURI(),
+                limiter.getLimit());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                FeedbackResponses.error("Service unavailable", "The service is busy. Please try again shortly."));
+    }
+}
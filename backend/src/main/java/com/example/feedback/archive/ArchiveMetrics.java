@@ -0,0 +1,41 @@
+package com.example.feedback.archive;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Publishes the size of the archive, the rows rolled into it and purged by retention, and the column cache.
+ */
+public class ArchiveMetrics implements MeterBinder {
+
+    private final FeedbackArchive archive;
+    private final FeedbackArchiver archiver;
+
+    public ArchiveMetrics(FeedbackArchive archive, FeedbackArchiver archiver) {
+        this.archive = archive;
+        this.archiver = archiver;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("feedback.archive.segments", archive, FeedbackArchive::segmentCount)
+                .description("Archive segments on disk")
+                .register(registry);
+        Gauge.builder("feedback.archive.rows", archive, FeedbackArchive::rowCount)
+                .description("Feedback rows held in the archive")
+                .register(registry);
+        FunctionCounter.builder("feedback.archive.rolled", archiver, FeedbackArchiver::getRolledRows)
+                .description("Rows moved from the hot table into the archive")
+                .register(registry);
+        FunctionCounter.builder("feedback.archive.purged", archiver, FeedbackArchiver::getPurgedRows)
+                .description("Rows deleted for being older than the retention period")
+                .register(registry);
+        Gauge.builder("feedback.archive.unarchived", archiver, FeedbackArchiver::getUnarchivedRows)
+                .description("Hot rows created in an already archived period, kept out of the archive")
+                .register(registry);
+        CaffeineCacheMetrics.monitor(registry, archive.columnCache(), "feedback.archive.columns");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.feedback.archive;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for time partitioning of the feedback table, enabled with {@code feedback.archive.enabled=true}.
+ */
+@ConfigurationProperties(prefix = "feedback.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = false;
+    /** Where archive segments are written, one file per period. */
+    private String directory = "data/archive";
+    /** Width of one partition; periods are aligned to the epoch in UTC. */
+    private Duration period = Duration.ofDays(1);
+    /** How long rows stay in the hot table before their period is archived. */
+    private Duration hotPeriod = Duration.ofDays(30);
+    /** How often the archiver checks for periods to roll and data to purge. */
+    private Duration interval = Duration.ofMinutes(10);
+    /** Age beyond which feedback is deleted for good; zero keeps everything. */
+    private Duration retention = Duration.ZERO;
+    /** Rows deleted per statement, each in its own short transaction. */
+    private int purgeChunkSize = 500;
+    /** Pause between two delete chunks, so inserts are never starved of the table. */
+    private Duration purgePause = Duration.ofMillis(20);
+    /** Budget for decompressed archive columns kept in memory. */
+    private DataSize columnCacheSize = DataSize.ofMegabytes(32);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public Duration getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(Duration period) {
+        this.period = period;
+    }
+
+    public Duration getHotPeriod() {
+        return hotPeriod;
+    }
+
+    public void setHotPeriod(Duration hotPeriod) {
+        this.hotPeriod = hotPeriod;
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public int getPurgeChunkSize() {
+        return purgeChunkSize;
+    }
+
+    public void setPurgeChunkSize(int purgeChunkSize) {
+        this.purgeChunkSize = purgeChunkSize;
+    }
+
+    public Duration getPurgePause() {
+        return purgePause;
+    }
+
+    public void setPurgePause(Duration purgePause) {
+        this.purgePause = purgePause;
+    }
+
+    public DataSize getColumnCacheSize() {
+        return columnCacheSize;
+    }
+
+    public void setColumnCacheSize(DataSize columnCacheSize) {
+        this.columnCacheSize = columnCacheSize;
+    }
+}
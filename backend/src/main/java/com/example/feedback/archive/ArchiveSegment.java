@@ -0,0 +1,228 @@
+package com.example.feedback.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * One immutable archive file holding every feedback item of one period, stored column by column.
+ *
+ * <pre>
+ * Header, uncompressed:
+ * int    magic "FBAR"
+ * int    format version
+ * long   period start, nanoseconds since the epoch (as UTC)
+ * long   period end, exclusive
+ * int    row count
+ * long   lowest id
+ * long   highest id
+ * then for each {@link Column}, in order:
+ * long   offset of the column in the file
+ * int    compressed length
+ * int    uncompressed length
+ * int    CRC32C of the compressed bytes
+ *
+ * Columns, each Deflate-compressed on its own, rows in (created_at, id) order:
+ * ID, CREATED_AT           zig-zag varint difference to the previous row (the first to 0)
+ * NAME, EMAIL, MESSAGE     zig-zag varint UTF-8 length of every row, then all the bytes back to back
+ * </pre>
+ *
+ * All numbers are little-endian. Only the header is read when the file is opened; a column is read,
+ * checked and inflated when a query first needs it, and a lookup by email never touches names or messages.
+ */
+final class ArchiveSegment {
+
+    /**
+     * The columns of a segment, in file order.
+     */
+    enum Column {
+        ID, CREATED_AT, NAME, EMAIL, MESSAGE
+    }
+
+    static final String SUFFIX = ".arc";
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int MAGIC = 0x52414246; // "FBAR" read little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 8 + 8 + Column.values().length * (8 + 4 + 4 + 4);
+
+    private final Path file;
+    private final long startNanos;
+    private final long endNanos;
+    private final int rows;
+    private final long minId;
+    private final long maxId;
+    private final long[] offsets = new long[Column.values().length];
+    private final int[] compressedLengths = new int[Column.values().length];
+    private final int[] rawLengths = new int[Column.values().length];
+    private final int[] checksums = new int[Column.values().length];
+
+    private ArchiveSegment(Path file, ByteBuffer header) {
+        this.file = file;
+        if (header.getInt() != MAGIC) {
+            throw new IllegalStateException("Not an archive segment: " + file);
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported archive format version " + version + " in " + file);
+        }
+        this.startNanos = header.getLong();
+        this.endNanos = header.getLong();
+        this.rows = header.getInt();
+        this.minId = header.getLong();
+        this.maxId = header.getLong();
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = header.getLong();
+            compressedLengths[i] = header.getInt();
+            rawLengths[i] = header.getInt();
+            checksums[i] = header.getInt();
+        }
+    }
+
+    /** Reads the header of an archive file; the columns stay on disk until asked for. */
+    static ArchiveSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IllegalStateException("Truncated archive segment: " + file);
+                }
+            }
+            return new ArchiveSegment(file, header.flip());
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    long endNanos() {
+        return endNanos;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    boolean mayContainId(long id) {
+        return id >= minId && id <= maxId;
+    }
+
+    /** Bytes the given column takes once inflated, used to weigh it in the column cache. */
+    int rawLength(Column column) {
+        return rawLengths[column.ordinal()];
+    }
+
+    /** The inflated bytes of one column, after checking them against the checksum in the header. */
+    byte[] readColumn(Column column) throws IOException {
+        int i = column.ordinal();
+        ByteBuffer compressed = ByteBuffer.allocate(compressedLengths[i]);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (compressed.hasRemaining()) {
+                if (channel.read(compressed, offsets[i] + compressed.position()) < 0) {
+                    throw new IllegalStateException("Truncated column " + column + " in " + file);
+                }
+            }
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(compressed.array());
+        if ((int) crc.getValue() != checksums[i]) {
+            throw new IllegalStateException("Corrupt column " + column + " in " + file);
+        }
+
+        byte[] raw = new byte[rawLengths[i]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.array());
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                length += inflater.inflate(raw, length, raw.length - length);
+            }
+            if (length != raw.length) {
+                throw new IllegalStateException("Column " + column + " in " + file + " inflated to " + length
+                        + " bytes instead of " + raw.length);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt column " + column + " in " + file, e);
+        } finally {
+            inflater.end();
+        }
+        return raw;
+    }
+
+    /** Decodes an {@link Column#ID} or {@link Column#CREATED_AT} column. */
+    long[] decodeLongs(byte[] raw) {
+        long[] values = new long[rows];
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            previous += unzigzag(readVarLong(buffer));
+            values[row] = previous;
+        }
+        return values;
+    }
+
+    /** Decodes a {@link Column#NAME}, {@link Column#EMAIL} or {@link Column#MESSAGE} column. */
+    String[] decodeStrings(byte[] raw) {
+        ByteBuffer buffer = ByteBuffer.wrap(raw);
+        int[] lengths = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            lengths[row] = (int) unzigzag(readVarLong(buffer));
+        }
+        String[] values = new String[rows];
+        int position = buffer.position();
+        for (int row = 0; row < rows; row++) {
+            values[row] = new String(raw, position, lengths[row], StandardCharsets.UTF_8);
+            position += lengths[row];
+        }
+        return values;
+    }
+
+    static long epochNanos(LocalDateTime time) {
+        return Math.addExact(Math.multiplyExact(time.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L), time.getNano());
+    }
+
+    static LocalDateTime toLocalDateTime(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    @Override
+    public String toString() {
+        return file.getFileName() + " [" + toLocalDateTime(startNanos) + ", " + toLocalDateTime(endNanos) + ") "
+                + rows + " rows";
+    }
+}
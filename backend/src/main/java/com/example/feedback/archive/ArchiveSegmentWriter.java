@@ -0,0 +1,181 @@
+package com.example.feedback.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import java.util.zip.Deflater;
+
+import com.example.feedback.archive.ArchiveSegment.Column;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.log.Directories;
+
+/**
+ * Collects the rows of one period, column by column, and writes them as an {@link ArchiveSegment}.
+ * Rows must be added in {@code (created_at, id)} order. The whole period is held in memory until written.
+ */
+final class ArchiveSegmentWriter {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final long startNanos;
+    private final long endNanos;
+    private final ColumnBuffer ids = new ColumnBuffer();
+    private final ColumnBuffer createdAts = new ColumnBuffer();
+    private final StringColumnBuffer names = new StringColumnBuffer();
+    private final StringColumnBuffer emails = new StringColumnBuffer();
+    private final StringColumnBuffer messages = new StringColumnBuffer();
+    private int rows;
+    private long minId = Long.MAX_VALUE;
+    private long maxId = Long.MIN_VALUE;
+    private long lastId;
+    private long lastCreatedAt;
+
+    ArchiveSegmentWriter(long startNanos, long endNanos) {
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+    }
+
+    void add(Feedback feedback) {
+        long id = feedback.getId();
+        long createdAt = ArchiveSegment.epochNanos(feedback.getCreatedAt());
+        if (createdAt < startNanos || createdAt >= endNanos) {
+            throw new IllegalArgumentException("Feedback " + id + " is outside the period of this segment");
+        }
+        if (rows > 0 && (createdAt < lastCreatedAt || createdAt == lastCreatedAt && id <= lastId)) {
+            throw new IllegalArgumentException("Feedback " + id + " is out of (created_at, id) order");
+        }
+        ids.add(id - lastId);
+        createdAts.add(createdAt - lastCreatedAt);
+        names.add(feedback.getName());
+        emails.add(feedback.getEmail());
+        messages.add(feedback.getMessage());
+        lastId = id;
+        lastCreatedAt = createdAt;
+        minId = Math.min(minId, id);
+        maxId = Math.max(maxId, id);
+        rows++;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    /**
+     * Writes the segment into {@code directory} under a temporary name, forces it, renames it into place and
+     * forces the directory, so a crash leaves either the complete file or none, and once this returns the file
+     * survives one. Only then may the archiver delete its rows from the hot table.
+     */
+    ArchiveSegment write(Path directory) throws IOException {
+        if (rows == 0) {
+            throw new IllegalStateException("Nothing to archive");
+        }
+        byte[][] compressed = {
+                deflate(ids.toByteArray()),
+                deflate(createdAts.toByteArray()),
+                deflate(names.toByteArray()),
+                deflate(emails.toByteArray()),
+                deflate(messages.toByteArray()) };
+        int[] rawLengths = { ids.size(), createdAts.size(), names.size(), emails.size(), messages.size() };
+
+        ByteBuffer header = ByteBuffer.allocate(ArchiveSegment.HEADER_SIZE).order(ArchiveSegment.ORDER);
+        header.putInt(ArchiveSegment.MAGIC).putInt(ArchiveSegment.VERSION);
+        header.putLong(startNanos).putLong(endNanos).putInt(rows).putLong(minId).putLong(maxId);
+        long offset = ArchiveSegment.HEADER_SIZE;
+        for (Column column : Column.values()) {
+            byte[] bytes = compressed[column.ordinal()];
+            CRC32C crc = new CRC32C();
+            crc.update(bytes);
+            header.putLong(offset).putInt(bytes.length).putInt(rawLengths[column.ordinal()]).putInt((int) crc.getValue());
+            offset += bytes.length;
+        }
+
+        Path target = directory.resolve(fileName(startNanos));
+        Path temp = directory.resolve(target.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header.flip());
+            for (byte[] bytes : compressed) {
+                writeFully(channel, ByteBuffer.wrap(bytes));
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        // The hot rows are deleted once this returns, so the new name must not be lost on power loss
+        Directories.sync(directory);
+        return ArchiveSegment.open(target);
+    }
+
+    /** Segments are named after the first second of their period, so a listing sorts them in time order. */
+    static String fileName(long startNanos) {
+        return String.format("%019d%s", Math.floorDiv(startNanos, 1_000_000_000L), ArchiveSegment.SUFFIX);
+    }
+
+    static boolean isTemporary(Path file) {
+        return file.getFileName().toString().endsWith(TEMP_SUFFIX);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /** Zig-zag varints, so the small deltas of neighbouring rows take one or two bytes. */
+    private static class ColumnBuffer extends ByteArrayOutputStream {
+
+        void add(long value) {
+            long v = ArchiveSegment.zigzag(value);
+            while ((v & ~0x7FL) != 0) {
+                write((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            write((int) v);
+        }
+    }
+
+    /** Lengths and bytes go to separate buffers and are joined at the end, lengths first. */
+    private static final class StringColumnBuffer {
+        private final ColumnBuffer lengths = new ColumnBuffer();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        void add(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            lengths.add(utf8.length);
+            bytes.writeBytes(utf8);
+        }
+
+        int size() {
+            return lengths.size() + bytes.size();
+        }
+
+        byte[] toByteArray() {
+            ByteArrayOutputStream joined = new ByteArrayOutputStream(size());
+            joined.writeBytes(lengths.toByteArray());
+            joined.writeBytes(bytes.toByteArray());
+            return joined.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.feedback.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.feedback.archive.ArchiveSegment.Column;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.FeedbackStore.FeedbackConsumer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * The archived part of the feedback table: one {@link ArchiveSegment} per period, all of them older than
+ * {@link #boundary()}, which is where the hot table takes over.
+ * <p>
+ * Segments are kept in period order and only headers stay resident. Columns are inflated on demand into a
+ * Caffeine cache weighed in bytes and bounded by {@code column-cache-size}, so memory does not grow with
+ * the archive. Queries touch the columns they need: a page filtered by email reads the time, id and email
+ * columns of each segment it passes and the name and message only of segments holding matches.
+ */
+public class FeedbackArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackArchive.class);
+
+    /** Pseudo-column of ids in ascending order with the row of each, for lookups by id. */
+    private static final String ID_INDEX = "ID_INDEX";
+
+    private final Path directory;
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+    private final Cache<ColumnKey, Object> columns;
+    /** Serializes adding and purging segments; readers work on snapshots of the list. */
+    private final ReentrantLock changeLock = new ReentrantLock();
+
+    public FeedbackArchive(ArchiveProperties properties) throws IOException {
+        this.directory = Paths.get(properties.getDirectory());
+        this.columns = Caffeine.newBuilder()
+                .maximumWeight(properties.getColumnCacheSize().toBytes())
+                .weigher(FeedbackArchive::weigh)
+                .recordStats()
+                .build();
+        Files.createDirectories(directory);
+        open();
+    }
+
+    private void open() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted().toList();
+        }
+        for (Path file : files) {
+            if (ArchiveSegmentWriter.isTemporary(file)) {
+                // A segment whose rows were never deleted from the hot table; the next roll writes it again
+                logger.warn("Removing unfinished archive segment {}", file);
+                Files.delete(file);
+            } else if (file.getFileName().toString().endsWith(ArchiveSegment.SUFFIX)) {
+                add(ArchiveSegment.open(file));
+            }
+        }
+        logger.info("Opened feedback archive in {} with {} rows in {} segments", directory, rowCount(),
+                segments.size());
+    }
+
+    Path directory() {
+        return directory;
+    }
+
+    /**
+     * Appends a newly written segment. Periods only move forward, so it must start at or after the end of the
+     * newest segment.
+     */
+    void add(ArchiveSegment segment) {
+        changeLock.lock();
+        try {
+            if (!segments.isEmpty() && segment.startNanos() < segments.get(segments.size() - 1).endNanos()) {
+                throw new IllegalStateException("Archive segment " + segment + " overlaps " + segments.get(segments.size() - 1));
+            }
+            segments.add(segment);
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    /**
+     * Segments ending after {@code since}, oldest first: those that may still have rows in the hot table when
+     * its oldest row was created at {@code since}.
+     */
+    List<ArchiveSegment> segmentsEndingAfter(LocalDateTime since) {
+        long sinceNanos = ArchiveSegment.epochNanos(since);
+        return segments.stream().filter(segment -> segment.endNanos() > sinceNanos).toList();
+    }
+
+    /** The ids a segment holds, in its {@code (created_at, id)} order. */
+    long[] ids(ArchiveSegment segment) {
+        return longs(segment, Column.ID);
+    }
+
+    /**
+     * Everything created before this instant is in the archive, everything from it on is in the hot table;
+     * {@code null} while the archive is empty.
+     */
+    public LocalDateTime boundary() {
+        List<ArchiveSegment> snapshot = segments;
+        return snapshot.isEmpty() ? null
+                : ArchiveSegment.toLocalDateTime(snapshot.get(snapshot.size() - 1).endNanos());
+    }
+
+    public Optional<Feedback> findById(long id) {
+        for (ArchiveSegment segment : segments) {
+            if (segment.mayContainId(id)) {
+                int row = rowOf(segment, id);
+                if (row >= 0) {
+                    return Optional.of(read(segment, row));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<Feedback> findAllById(Iterable<Long> ids) {
+        List<Feedback> found = new ArrayList<>();
+        for (Long id : ids) {
+            if (id != null) {
+                findById(id).ifPresent(found::add);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Up to {@code max} items matching {@code query}, newest first, that come after {@code after} (or from the
+     * newest when {@code null}) in descending {@code (created_at, id)} order.
+     */
+    public List<Feedback> findNewest(FeedbackQuery query, FeedbackCursor after, int max) {
+        List<Feedback> rows = new ArrayList<>(Math.min(max, 64));
+        Long fromNanos = query.from() != null ? ArchiveSegment.epochNanos(query.from()) : null;
+        Long toNanos = query.to() != null ? ArchiveSegment.epochNanos(query.to()) : null;
+        Long afterNanos = after != null ? ArchiveSegment.epochNanos(after.createdAt()) : null;
+
+        List<ArchiveSegment> snapshot = segments;
+        for (int s = snapshot.size() - 1; s >= 0 && rows.size() < max; s--) {
+            ArchiveSegment segment = snapshot.get(s);
+            if (toNanos != null && segment.startNanos() >= toNanos
+                    || afterNanos != null && segment.startNanos() > afterNanos) {
+                continue;
+            }
+            if (fromNanos != null && segment.endNanos() <= fromNanos) {
+                break;
+            }
+
+            long[] createdAt = longs(segment, Column.CREATED_AT);
+            long[] ids = longs(segment, Column.ID);
+            int end = segment.rows();
+            if (toNanos != null) {
+                end = Math.min(end, lowerBound(createdAt, ids, toNanos, Long.MIN_VALUE));
+            }
+            if (after != null) {
+                end = Math.min(end, lowerBound(createdAt, ids, afterNanos, after.id()));
+            }
+            int start = fromNanos != null ? lowerBound(createdAt, ids, fromNanos, Long.MIN_VALUE) : 0;
+            String[] emails = query.email() != null ? strings(segment, Column.EMAIL) : null;
+
+            for (int row = end - 1; row >= start && rows.size() < max; row--) {
+                if (emails == null || query.email().equals(emails[row])) {
+                    rows.add(read(segment, row));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Passes every archived item created at or after {@code since} (all when {@code null}) and before
+     * {@code until} to the consumer in {@code (created_at, id)} order. {@code until} is a {@link #boundary()}
+     * taken earlier, so segments rolled while the scan runs are left to the hot table it reads next.
+     */
+    public long scan(LocalDateTime since, LocalDateTime until, FeedbackConsumer consumer) throws IOException {
+        long sinceNanos = since != null ? ArchiveSegment.epochNanos(since) : Long.MIN_VALUE;
+        long untilNanos = ArchiveSegment.epochNanos(until);
+        long count = 0;
+        for (ArchiveSegment segment : segments) {
+            if (segment.endNanos() <= sinceNanos) {
+                continue;
+            }
+            if (segment.endNanos() > untilNanos) {
+                break;
+            }
+            int start = since != null
+                    ? lowerBound(longs(segment, Column.CREATED_AT), longs(segment, Column.ID), sinceNanos, Long.MIN_VALUE)
+                    : 0;
+            for (int row = start; row < segment.rows(); row++) {
+                consumer.accept(read(segment, row));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Deletes every segment whose whole period lies before {@code cutoff}. A segment is one file, so this is
+     * a handful of unlinks however many rows go with it.
+     *
+     * @return number of rows removed
+     */
+    public long purgeBefore(LocalDateTime cutoff) throws IOException {
+        long cutoffNanos = ArchiveSegment.epochNanos(cutoff);
+        long purged = 0;
+        changeLock.lock();
+        try {
+            while (!segments.isEmpty() && segments.get(0).endNanos() <= cutoffNanos) {
+                ArchiveSegment segment = segments.remove(0);
+                Files.deleteIfExists(segment.file());
+                columns.asMap().keySet().removeIf(key -> key.file().equals(segment.file()));
+                purged += segment.rows();
+                logger.info("Purged archive segment {}", segment);
+            }
+        } finally {
+            changeLock.unlock();
+        }
+        return purged;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public long rowCount() {
+        long rows = 0;
+        for (ArchiveSegment segment : segments) {
+            rows += segment.rows();
+        }
+        return rows;
+    }
+
+    /** The cache of inflated columns, for metrics. */
+    public Cache<?, ?> columnCache() {
+        return columns;
+    }
+
+    private Feedback read(ArchiveSegment segment, int row) {
+        Feedback feedback = new Feedback(strings(segment, Column.NAME)[row], strings(segment, Column.EMAIL)[row],
+                strings(segment, Column.MESSAGE)[row]);
+        feedback.setId(longs(segment, Column.ID)[row]);
+        feedback.setCreatedAt(ArchiveSegment.toLocalDateTime(longs(segment, Column.CREATED_AT)[row]));
+        return feedback;
+    }
+
+    /** Row holding {@code id}, or -1. */
+    private int rowOf(ArchiveSegment segment, long id) {
+        IdIndex index = (IdIndex) columns.get(new ColumnKey(segment.file(), ID_INDEX), key -> IdIndex.of(longs(segment, Column.ID)));
+        int i = Arrays.binarySearch(index.ids(), id);
+        return i >= 0 ? index.rows()[i] : -1;
+    }
+
+    private long[] longs(ArchiveSegment segment, Column column) {
+        return (long[]) columns.get(new ColumnKey(segment.file(), column.name()),
+                key -> segment.decodeLongs(readColumn(segment, column)));
+    }
+
+    private String[] strings(ArchiveSegment segment, Column column) {
+        return (String[]) columns.get(new ColumnKey(segment.file(), column.name()),
+                key -> segment.decodeStrings(readColumn(segment, column)));
+    }
+
+    private static byte[] readColumn(ArchiveSegment segment, Column column) {
+        try {
+            return segment.readColumn(column);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read column " + column + " of " + segment.file(), e);
+        }
+    }
+
+    /** First row at or after {@code (nanos, id)} in the segment's ascending {@code (created_at, id)} order. */
+    static int lowerBound(long[] createdAt, long[] ids, long nanos, long id) {
+        int low = 0;
+        int high = createdAt.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (createdAt[mid] < nanos || createdAt[mid] == nanos && ids[mid] < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Approximate heap taken by an inflated column. */
+    private static int weigh(ColumnKey key, Object value) {
+        long bytes;
+        if (value instanceof long[] longs) {
+            bytes = 16L + 8L * longs.length;
+        } else if (value instanceof IdIndex index) {
+            bytes = 32L + 12L * index.ids().length;
+        } else {
+            String[] strings = (String[]) value;
+            bytes = 16L + 4L * strings.length;
+            for (String string : strings) {
+                bytes += 40L + string.length();
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private record ColumnKey(Path file, String column) {
+    }
+
+    /** Ids sorted ascending, with the segment row of each. Ids follow time order closely but not exactly. */
+    private record IdIndex(long[] ids, int[] rows) {
+
+        static IdIndex of(long[] idColumn) {
+            Integer[] order = new Integer[idColumn.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(idColumn[a], idColumn[b]));
+            long[] ids = new long[order.length];
+            int[] rows = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                ids[i] = idColumn[order[i]];
+                rows[i] = order[i];
+            }
+            return new IdIndex(ids, rows);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.feedback.archive;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import com.example.feedback.repository.FeedbackPartitionRepository;
+
+/**
+ * Background job that moves old feedback from the hot table into the {@link FeedbackArchive} and enforces
+ * retention. Every {@code interval} it:
+ * <ol>
+ * <li>deletes from the hot table the rows the previous run archived, by the ids their segments hold;</li>
+ * <li>drops archive segments and hot rows older than {@code retention}, if set;</li>
+ * <li>rolls every complete period older than {@code hot-period}, oldest first, into a new segment.</li>
+ * </ol>
+ * Only rows that are in a segment are ever deleted for being archived. A row inserted into a period after the
+ * period was rolled, with a backdated {@code created_at}, stays in the hot table: it is counted in
+ * {@link #getUnarchivedRows()} and logged, and only retention removes it.
+ * <p>
+ * Deletes run in chunks of {@code purge-chunk-size} rows, each its own transaction, with {@code purge-pause}
+ * between them, so inserts never wait behind a long-held lock. Archived rows stay in the hot table for one
+ * interval so that reads which took the boundary before the roll still find them there.
+ */
+public class FeedbackArchiver implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackArchiver.class);
+
+    private final FeedbackArchive archive;
+    private final FeedbackPartitionRepository partitions;
+    private final ArchiveProperties properties;
+    private final Clock clock;
+    private final long periodNanos;
+
+    private final AtomicLong rolledRows = new AtomicLong();
+    private final AtomicLong purgedRows = new AtomicLong();
+
+    /**
+     * Segments whose rows may still be in the hot table; {@code null} until the first run works them out from
+     * the oldest hot row, as an earlier process may have stopped before deleting them.
+     */
+    private List<ArchiveSegment> undeleted;
+    private volatile long unarchivedRows;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public FeedbackArchiver(FeedbackArchive archive, FeedbackPartitionRepository partitions,
+            ArchiveProperties properties) {
+        this(archive, partitions, properties, Clock.systemDefaultZone());
+    }
+
+    FeedbackArchiver(FeedbackArchive archive, FeedbackPartitionRepository partitions, ArchiveProperties properties,
+            Clock clock) {
+        if (properties.getPeriod().isNegative() || properties.getPeriod().isZero()) {
+            throw new IllegalArgumentException("feedback.archive.period must be positive");
+        }
+        if (properties.getPurgeChunkSize() < 1) {
+            throw new IllegalArgumentException("feedback.archive.purge-chunk-size must be at least 1");
+        }
+        this.archive = archive;
+        this.partitions = partitions;
+        this.properties = properties;
+        this.clock = clock;
+        this.periodNanos = properties.getPeriod().toNanos();
+    }
+
+    /**
+     * One pass of the job. Runs on the scheduler thread; called directly by tests.
+     */
+    void runOnce() throws IOException {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (undeleted == null) {
+            LocalDateTime oldest = partitions.oldestCreatedAt(null);
+            undeleted = oldest != null ? archive.segmentsEndingAfter(oldest) : List.of();
+        }
+        long deleted = 0;
+        for (ArchiveSegment segment : undeleted) {
+            deleted += deleteArchived(segment);
+        }
+        if (deleted > 0) {
+            logger.info("Deleted {} archived rows from the hot table", deleted);
+        }
+        countUnarchived();
+
+        if (properties.getRetention().isPositive()) {
+            // Archived rows are gone from the hot table by now, so no row is counted twice
+            LocalDateTime cutoff = now.minus(properties.getRetention());
+            long purged = archive.purgeBefore(cutoff) + deleteInChunks(cutoff);
+            if (purged > 0) {
+                purgedRows.addAndGet(purged);
+                logger.info("Purged {} rows created before {}", purged, cutoff);
+            }
+        }
+
+        undeleted = roll(now.minus(properties.getHotPeriod()));
+    }
+
+    /**
+     * Writes a segment for each period that holds rows and ends at or before {@code cold}.
+     *
+     * @return the segments written
+     */
+    private List<ArchiveSegment> roll(LocalDateTime cold) throws IOException {
+        long coldNanos = ArchiveSegment.epochNanos(cold);
+        LocalDateTime from = archive.boundary();
+        List<ArchiveSegment> written = new ArrayList<>();
+        while (!Thread.currentThread().isInterrupted()) {
+            LocalDateTime oldest = partitions.oldestCreatedAt(from);
+            if (oldest == null) {
+                break;
+            }
+            long start = Math.floorDiv(ArchiveSegment.epochNanos(oldest), periodNanos) * periodNanos;
+            long end = start + periodNanos;
+            if (end > coldNanos) {
+                break;
+            }
+
+            long began = System.nanoTime();
+            ArchiveSegmentWriter writer = new ArchiveSegmentWriter(start, end);
+            partitions.streamCreatedBetween(ArchiveSegment.toLocalDateTime(start), ArchiveSegment.toLocalDateTime(end),
+                    writer::add);
+            ArchiveSegment segment = writer.write(archive.directory());
+            archive.add(segment);
+            written.add(segment);
+            rolledRows.addAndGet(segment.rows());
+            logger.info("Archived {} in {} ms", segment, (System.nanoTime() - began) / 1_000_000);
+            from = ArchiveSegment.toLocalDateTime(end);
+        }
+        return written;
+    }
+
+    /**
+     * Deletes the hot copies of the rows in {@code segment}, in chunks.
+     */
+    private long deleteArchived(ArchiveSegment segment) {
+        long[] ids = archive.ids(segment);
+        LocalDateTime from = ArchiveSegment.toLocalDateTime(segment.startNanos());
+        LocalDateTime to = ArchiveSegment.toLocalDateTime(segment.endNanos());
+        int chunkSize = properties.getPurgeChunkSize();
+        long total = 0;
+        for (int offset = 0; offset < ids.length; offset += chunkSize) {
+            if (offset > 0 && !pause()) {
+                break;
+            }
+            total += partitions.deleteArchived(ids, offset, Math.min(chunkSize, ids.length - offset), from, to);
+        }
+        return total;
+    }
+
+    /**
+     * Counts the hot rows behind the archive boundary once the archived ones are gone, and reports a change.
+     */
+    private void countUnarchived() {
+        LocalDateTime boundary = archive.boundary();
+        long count = boundary != null ? partitions.countCreatedBefore(boundary) : 0;
+        if (count != unarchivedRows && count > 0) {
+            logger.warn("{} hot rows were created before the archive boundary {} after their period was archived; "
+                    + "they stay in the hot table, where reads do not see them", count, boundary);
+        }
+        unarchivedRows = count;
+    }
+
+    private long deleteInChunks(LocalDateTime before) {
+        int chunkSize = properties.getPurgeChunkSize();
+        long total = 0;
+        while (true) {
+            int deleted = partitions.deleteChunkCreatedBefore(before, chunkSize);
+            total += deleted;
+            if (deleted < chunkSize || !pause()) {
+                return total;
+            }
+        }
+    }
+
+    /** Sleeps {@code purge-pause} between delete chunks; {@code false} if the archiver is stopping. */
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPurgePause());
+            return true;
+        } catch (InterruptedException e) {
+            // Stopping; the next run picks up where this one left off
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runQuietly() {
+        try {
+            runOnce();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Feedback archiving failed, retrying in {}: {}", properties.getInterval(), e.getMessage());
+            logger.debug("Error details: ", e);
+        }
+    }
+
+    public long getRolledRows() {
+        return rolledRows.get();
+    }
+
+    public long getPurgedRows() {
+        return purgedRows.get();
+    }
+
+    /** Hot rows older than the archive boundary that no segment holds, as of the last run. */
+    public long getUnarchivedRows() {
+        return unarchivedRows;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("feedback-archiver").daemon().factory());
+        long intervalNanos = properties.getInterval().toNanos();
+        scheduler.scheduleWithFixedDelay(this::runQuietly, 0, intervalNanos, TimeUnit.NANOSECONDS);
+        logger.info("Feedback archiver started (period: {}, hot period: {}, retention: {})", properties.getPeriod(),
+                properties.getHotPeriod(), properties.getRetention().isZero() ? "forever" : properties.getRetention());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Feedback archiver stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.feedback.archive;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.FeedbackStore;
+
+/**
+ * {@link FeedbackStore} over the hot table and the {@link FeedbackArchive}. Writes always go to the hot table;
+ * reads split at the archive {@link FeedbackArchive#boundary() boundary}, taken once per call: newer rows come
+ * from the hot table, older ones from the archive.
+ * <p>
+ * The archiver deletes archived rows from the hot table one run after rolling them, so while a read is in
+ * flight the rows on its side of the boundary are still where it looks. Rows left in the hot table behind
+ * the boundary are never read from it.
+ */
+public class PartitionedFeedbackStore implements FeedbackStore {
+
+    private final FeedbackStore hot;
+    private final FeedbackArchive archive;
+
+    public PartitionedFeedbackStore(FeedbackStore hot, FeedbackArchive archive) {
+        this.hot = hot;
+        this.archive = archive;
+    }
+
+    @Override
+    public Feedback save(Feedback feedback) {
+        return hot.save(feedback);
+    }
+
+    @Override
+    public List<Feedback> insertAll(List<Feedback> feedbacks) {
+        return hot.insertAll(feedbacks);
+    }
+
+    @Override
+    public Optional<Feedback> findById(long id) {
+        Optional<Feedback> found = hot.findById(id);
+        return found.isPresent() ? found : archive.findById(id);
+    }
+
+    @Override
+    public List<Feedback> findAllById(Iterable<Long> ids) {
+        List<Feedback> found = new ArrayList<>(hot.findAllById(ids));
+        Set<Long> missing = new HashSet<>();
+        ids.forEach(missing::add);
+        found.forEach(feedback -> missing.remove(feedback.getId()));
+        if (!missing.isEmpty()) {
+            found.addAll(archive.findAllById(missing));
+        }
+        return found;
+    }
+
+    /**
+     * The hot table is read first, as every hot row is newer than every archived one; the archive only fills
+     * whatever the hot rows leave of the page.
+     */
+    @Override
+    public Slice<Feedback> findPage(FeedbackQuery query, FeedbackCursor after, int limit) {
+        LocalDateTime boundary = archive.boundary();
+        if (boundary == null) {
+            return hot.findPage(query, after, limit);
+        }
+
+        List<Feedback> content = new ArrayList<>(limit);
+        boolean beforeBoundary = after != null && after.createdAt().isBefore(boundary)
+                || query.to() != null && !query.to().isAfter(boundary);
+        if (!beforeBoundary) {
+            Slice<Feedback> hotPage = hot.findPage(
+                    new FeedbackQuery(query.email(), later(query.from(), boundary), query.to()), after, limit);
+            if (hotPage.hasNext()) {
+                return hotPage;
+            }
+            content.addAll(hotPage.getContent());
+        }
+        if (query.from() != null && !query.from().isBefore(boundary)) {
+            return new SliceImpl<>(content, PageRequest.ofSize(limit), false);
+        }
+
+        int wanted = limit - content.size();
+        List<Feedback> archived = archive.findNewest(
+                new FeedbackQuery(query.email(), query.from(), earlier(query.to(), boundary)), after, wanted + 1);
+        boolean hasNext = archived.size() > wanted;
+        content.addAll(hasNext ? archived.subList(0, wanted) : archived);
+        return new SliceImpl<>(content, PageRequest.ofSize(limit), hasNext);
+    }
+
+    @Override
+    public long scan(LocalDateTime since, FeedbackConsumer consumer) throws IOException {
+        LocalDateTime boundary = archive.boundary();
+        if (boundary == null) {
+            return hot.scan(since, consumer);
+        }
+        long count = archive.scan(since, boundary, consumer);
+        return count + hot.scan(later(since, boundary), consumer);
+    }
+
+    private static LocalDateTime later(LocalDateTime time, LocalDateTime boundary) {
+        return time == null || time.isBefore(boundary) ? boundary : time;
+    }
+
+    private static LocalDateTime earlier(LocalDateTime time, LocalDateTime boundary) {
+        return time == null || time.isAfter(boundary) ? boundary : time;
+    }
+}
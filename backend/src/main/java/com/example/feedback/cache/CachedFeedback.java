@@ -0,0 +1,11 @@
+package com.example.feedback.cache;
+
+/**
+ * A feedback item as served by {@code GET /api/feedback/{id}}: the JSON body, already encoded, and its
+ * strong entity tag.
+ *
+ * @param body UTF-8 JSON; callers must not modify it
+ * @param etag quoted entity tag, derived from the body bytes
+ */
+public record CachedFeedback(byte[] body, String etag) {
+}
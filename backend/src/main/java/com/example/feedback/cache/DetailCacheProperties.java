@@ -0,0 +1,21 @@
+package com.example.feedback.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the read-through cache behind {@code GET /api/feedback/{id}}.
+ */
+@ConfigurationProperties(prefix = "feedback.detail-cache")
+public class DetailCacheProperties {
+
+    /** Items kept at most; {@code 0} turns caching off and every lookup goes to the store. */
+    private long maximumSize = 10_000;
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(long maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.feedback.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import com.example.feedback.controller.FeedbackResponses;
+import com.example.feedback.store.FeedbackStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Read-through cache of single feedback items, keyed by id.
+ * <p>
+ * Feedback never changes once stored, so entries never go stale and need no expiry or invalidation. They are
+ * kept already encoded, with their entity tag, so a hit costs neither a store lookup nor JSON serialization.
+ * <p>
+ * The cache is a Caffeine cache bounded by {@code maximum-size}. Its W-TinyLFU policy only admits a new item
+ * in place of an old one when the new one has been asked for more often, so a client paging once through
+ * every id does not push out the items the moderation UI keeps coming back to. Unknown ids are not cached,
+ * so feedback stored after a miss is found on the next lookup.
+ */
+public class FeedbackDetailCache {
+
+    private final FeedbackStore store;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedFeedback> cache;
+
+    public FeedbackDetailCache(FeedbackStore store, ObjectMapper objectMapper, DetailCacheProperties properties) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The item with the given id, from the cache or else from the store.
+     *
+     * @return {@code null} when there is no such item
+     */
+    public CachedFeedback get(long id) {
+        return cache.get(id, this::load);
+    }
+
+    /** Reads and encodes an item without the cache; {@code null} when there is no such item. */
+    public CachedFeedback load(long id) {
+        return store.findById(id).map(feedback -> {
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(FeedbackResponses.detail(feedback));
+                return new CachedFeedback(body, etag(body));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to encode feedback " + id, e);
+            }
+        }).orElse(null);
+    }
+
+    /** A strong tag: the first 128 bits of the body's SHA-256, which changes whenever a byte of the body does. */
+    static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public Cache<Long, CachedFeedback> cache() {
+        return cache;
+    }
+}
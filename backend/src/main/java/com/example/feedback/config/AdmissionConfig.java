@@ -0,0 +1,39 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.admission.AdaptiveConcurrencyLimiter;
+import com.example.feedback.admission.AdmissionMetrics;
+import com.example.feedback.admission.AdmissionProperties;
+import com.example.feedback.admission.ConcurrencyLimitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@ConditionalOnProperty(prefix = "feedback.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(AdmissionProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public AdmissionMetrics admissionMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return new AdmissionMetrics(limiter);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+            ObjectMapper objectMapper, AdmissionProperties properties) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, objectMapper, properties));
+        registration.addUrlPatterns("/api/feedback", "/api/feedback/*");
+        registration.setOrder(SubmissionFilterOrder.CONCURRENCY_LIMIT);
+        return registration;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.feedback.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.example.feedback.archive.ArchiveMetrics;
+import com.example.feedback.archive.ArchiveProperties;
+import com.example.feedback.archive.FeedbackArchive;
+import com.example.feedback.archive.FeedbackArchiver;
+import com.example.feedback.archive.PartitionedFeedbackStore;
+import com.example.feedback.repository.FeedbackPartitionRepository;
+import com.example.feedback.store.JpaFeedbackStore;
+
+/**
+ * Time partitioning of the feedback table, with {@code feedback.archive.enabled=true}: the JPA store becomes the
+ * hot partition behind a {@link PartitionedFeedbackStore}, and the archiver rolls old periods out of it.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "feedback.archive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class ArchiveConfig {
+
+    @Bean
+    public FeedbackArchive feedbackArchive(ArchiveProperties properties) throws IOException {
+        return new FeedbackArchive(properties);
+    }
+
+    @Bean
+    @Primary
+    public PartitionedFeedbackStore partitionedFeedbackStore(ObjectProvider<JpaFeedbackStore> jpaFeedbackStore,
+            FeedbackArchive archive) {
+        JpaFeedbackStore hot = jpaFeedbackStore.getIfAvailable();
+        if (hot == null) {
+            // The segment log is append-only and has no hot table to roll out of
+            throw new IllegalStateException("feedback.archive.enabled requires feedback.store.type=jpa");
+        }
+        return new PartitionedFeedbackStore(hot, archive);
+    }
+
+    @Bean
+    public FeedbackArchiver feedbackArchiver(FeedbackArchive archive, FeedbackPartitionRepository partitions,
+            ArchiveProperties properties) {
+        return new FeedbackArchiver(archive, partitions, properties);
+    }
+
+    @Bean
+    public ArchiveMetrics archiveMetrics(FeedbackArchive archive, FeedbackArchiver archiver) {
+        return new ArchiveMetrics(archive, archiver);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.ingest.BatchSubmissionProperties;
+
+@Configuration
+@EnableConfigurationProperties(BatchSubmissionProperties.class)
+public class BatchSubmissionConfig {
+}
@@ -0,0 +1,14 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.load.BulkLoadProperties;
+
+/**
+ * Settings of the command-line bulk loader; see {@link com.example.feedback.load.BulkLoadRunner}.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkLoadProperties.class)
+public class BulkLoadConfig {
+}
@@ -0,0 +1,30 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.dedup.DeduplicationProperties;
+import com.example.feedback.dedup.SubmissionDeduplicator;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(DeduplicationProperties.class)
+public class DeduplicationConfig {
+
+    @Bean
+    public SubmissionDeduplicator submissionDeduplicator(DeduplicationProperties properties) {
+        return new SubmissionDeduplicator(properties);
+    }
+
+    @Bean
+    public MeterBinder idempotencyKeyMetrics(SubmissionDeduplicator deduplicator) {
+        return registry -> {
+            if (deduplicator.idempotencyKeys() != null) {
+                CaffeineCacheMetrics.monitor(registry, deduplicator.idempotencyKeys(), "feedback.idempotency.keys");
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.cache.DetailCacheProperties;
+import com.example.feedback.cache.FeedbackDetailCache;
+import com.example.feedback.store.FeedbackStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(DetailCacheProperties.class)
+public class DetailCacheConfig {
+
+    @Bean
+    public FeedbackDetailCache feedbackDetailCache(FeedbackStore feedbackStore, ObjectMapper objectMapper,
+            DetailCacheProperties properties) {
+        return new FeedbackDetailCache(feedbackStore, objectMapper, properties);
+    }
+
+    /** Hits, misses, evictions and size as {@code cache.*} meters tagged {@code cache=feedback.detail}. */
+    @Bean
+    public MeterBinder feedbackDetailCacheMetrics(FeedbackDetailCache cache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, cache.cache(), "feedback.detail");
+    }
+}
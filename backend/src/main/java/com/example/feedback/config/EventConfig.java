@@ -0,0 +1,24 @@
+package com.example.feedback.config;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.scheduling.support.TaskUtils;
+
+@Configuration
+public class EventConfig {
+
+    /**
+     * Listeners maintain in-memory views of data that is already committed, so a failing listener is
+     * logged rather than turned into an error for the request that saved the feedback.
+     */
+    @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public ApplicationEventMulticaster applicationEventMulticaster(BeanFactory beanFactory) {
+        SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster(beanFactory);
+        multicaster.setErrorHandler(TaskUtils.LOG_AND_SUPPRESS_ERROR_HANDLER);
+        return multicaster;
+    }
+}
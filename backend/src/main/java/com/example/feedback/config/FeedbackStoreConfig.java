@@ -0,0 +1,38 @@
+package com.example.feedback.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.store.log.SegmentLogFeedbackStore;
+import com.example.feedback.store.log.SegmentLogProperties;
+import com.example.feedback.store.shard.ShardedFeedbackStore;
+import com.example.feedback.store.shard.ShardingProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces the default JPA store with the segment log when {@code feedback.store.type=segment-log}, or with
+ * the sharded store when {@code feedback.store.type=sharded}.
+ */
+@Configuration
+@EnableConfigurationProperties({ SegmentLogProperties.class, ShardingProperties.class })
+public class FeedbackStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "feedback.store", name = "type", havingValue = "segment-log")
+    public SegmentLogFeedbackStore segmentLogFeedbackStore(SegmentLogProperties properties) throws IOException {
+        return new SegmentLogFeedbackStore(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "feedback.store", name = "type", havingValue = "sharded")
+    public ShardedFeedbackStore shardedFeedbackStore(ShardingProperties properties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ShardedFeedbackStore(properties, meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.stream.FeedbackStreamBroadcaster;
+import com.example.feedback.stream.FeedbackStreamMetrics;
+import com.example.feedback.stream.FeedbackStreamProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableConfigurationProperties(FeedbackStreamProperties.class)
+public class FeedbackStreamConfig {
+
+    @Bean
+    public FeedbackStreamBroadcaster feedbackStreamBroadcaster(ObjectMapper objectMapper,
+            FeedbackStreamProperties properties) {
+        return new FeedbackStreamBroadcaster(objectMapper, properties);
+    }
+
+    @Bean
+    public FeedbackStreamMetrics feedbackStreamMetrics(FeedbackStreamBroadcaster broadcaster) {
+        return new FeedbackStreamMetrics(broadcaster);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.feedback.config;
+
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.feedback.jfr.CommitRecorder;
+import com.example.feedback.jfr.RecordingValidator;
+import com.example.feedback.jfr.SubmissionRecordingFilter;
+
+/**
+ * Traces {@code POST /api/feedback} for Java Flight Recorder: the request id filter, the {@code @Valid} and
+ * commit hooks. The parse, save and serialization events are recorded in place and stay silent without the
+ * filter. Events are only written while a recording runs, so this is on by default.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "feedback.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private Validator validator;
+
+    @Bean
+    public FilterRegistrationBean<SubmissionRecordingFilter> submissionRecordingFilter() {
+        FilterRegistrationBean<SubmissionRecordingFilter> registration =
+                new FilterRegistrationBean<>(new SubmissionRecordingFilter());
+        registration.addUrlPatterns("/api/feedback");
+        registration.setOrder(SubmissionFilterOrder.RECORDING);
+        return registration;
+    }
+
+    @Bean
+    public CommitRecorder commitRecorder() {
+        return new CommitRecorder();
+    }
+
+    /** Used by Spring MVC for {@code @Valid} instead of the plain adapter around the same validator. */
+    @Override
+    public org.springframework.validation.Validator getValidator() {
+        return new RecordingValidator(new SpringValidatorAdapter(validator));
+    }
+}
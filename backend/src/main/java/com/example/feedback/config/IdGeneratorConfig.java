@@ -0,0 +1,30 @@
+package com.example.feedback.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.id.FeedbackIds;
+import com.example.feedback.id.IdGeneratorProperties;
+import com.example.feedback.id.SnowflakeIdGenerator;
+
+/**
+ * Creates the feedback id generator from {@code feedback.id.*} and installs it for Hibernate and the batch writer.
+ */
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorConfig.class);
+
+    @Bean
+    public SnowflakeIdGenerator feedbackIdGenerator(IdGeneratorProperties properties) {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(properties);
+        FeedbackIds.use(generator);
+        logger.info("Feedback ids are generated as node {} of {}", properties.getNodeId(),
+                1L << properties.getNodeBits());
+        return generator;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.ratelimit.ClientRateLimiter;
+import com.example.feedback.ratelimit.RateLimitFilter;
+import com.example.feedback.ratelimit.RateLimitMetrics;
+import com.example.feedback.ratelimit.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@ConditionalOnProperty(prefix = "feedback.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+            ObjectMapper objectMapper) {
+        RateLimitFilter filter = new RateLimitFilter(limiter(properties.getPerIp(), properties),
+                limiter(properties.getPerEmail(), properties), objectMapper);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/feedback");
+        registration.setOrder(SubmissionFilterOrder.RATE_LIMIT);
+        return registration;
+    }
+
+    @Bean
+    public RateLimitMetrics rateLimitMetrics(FilterRegistrationBean<RateLimitFilter> rateLimitFilter) {
+        return new RateLimitMetrics(rateLimitFilter.getFilter());
+    }
+
+    private static ClientRateLimiter limiter(RateLimitProperties.Limit limit, RateLimitProperties properties) {
+        if (limit.getRequests() <= 0) {
+            return null;
+        }
+        return new ClientRateLimiter(limit, properties.getMaxTrackedClients(), properties.getIdleTimeout());
+    }
+}
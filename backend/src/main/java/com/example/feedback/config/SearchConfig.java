@@ -0,0 +1,18 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.search.FeedbackSearchIndex;
+import com.example.feedback.search.SearchProperties;
+
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+
+    @Bean
+    public FeedbackSearchIndex feedbackSearchIndex(SearchProperties properties) {
+        return new FeedbackSearchIndex(properties);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.similar.FeedbackSimilarityIndex;
+import com.example.feedback.similar.SimilarityProperties;
+
+@Configuration
+@EnableConfigurationProperties(SimilarityProperties.class)
+public class SimilarityConfig {
+
+    @Bean
+    public FeedbackSimilarityIndex feedbackSimilarityIndex(SimilarityProperties properties) {
+        return new FeedbackSimilarityIndex(properties);
+    }
+}
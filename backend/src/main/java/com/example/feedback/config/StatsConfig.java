@@ -0,0 +1,18 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.stats.FeedbackStatistics;
+import com.example.feedback.stats.StatsProperties;
+
+@Configuration
+@EnableConfigurationProperties(StatsProperties.class)
+public class StatsConfig {
+
+    @Bean
+    public FeedbackStatistics feedbackStatistics(StatsProperties properties) {
+        return new FeedbackStatistics(properties);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.feedback.config;
+
+import org.springframework.core.Ordered;
+
+/**
+ * Registration order of the servlet filters in front of the feedback API, outermost first.
+ * <ol>
+ * <li>{@link #RECORDING}: the flight recorder's request event, so the refusals below are part of it.</li>
+ * <li>{@link #FAST_REJECT}: malformed, invalid and oversized bodies, answered before any other work.</li>
+ * <li>{@link #RATE_LIMIT}: per-IP and per-email buckets, reading the email found by fast rejection.</li>
+ * <li>{@link #CONCURRENCY_LIMIT}: the adaptive limit, so only requests that passed the checks above take a
+ * slot or add to its latency samples.</li>
+ * </ol>
+ * The first three only cover {@code /api/feedback} itself; the other feedback paths meet the concurrency
+ * limit first.
+ */
+public final class SubmissionFilterOrder {
+
+    public static final int RECORDING = Ordered.HIGHEST_PRECEDENCE + 1;
+    public static final int FAST_REJECT = Ordered.HIGHEST_PRECEDENCE + 5;
+    public static final int RATE_LIMIT = Ordered.HIGHEST_PRECEDENCE + 7;
+    public static final int CONCURRENCY_LIMIT = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private SubmissionFilterOrder() {
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.feedback.config;
+
+import jakarta.validation.Validator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.rejection.FastRejectFilter;
+import com.example.feedback.rejection.SubmissionLimitsProperties;
+import com.example.feedback.rejection.SubmissionPrecheck;
+
+@Configuration
+@ConditionalOnProperty(prefix = "feedback.submission", name = "fast-reject", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SubmissionLimitsProperties.class)
+public class SubmissionLimitsConfig {
+
+    @Bean
+    public SubmissionPrecheck submissionPrecheck(Validator validator) {
+        return new SubmissionPrecheck(validator);
+    }
+
+    @Bean
+    public FilterRegistrationBean<FastRejectFilter> fastRejectFilter(SubmissionPrecheck precheck,
+            SubmissionLimitsProperties properties) {
+        FilterRegistrationBean<FastRejectFilter> registration =
+                new FilterRegistrationBean<>(new FastRejectFilter(precheck, properties));
+        registration.addUrlPatterns("/api/feedback");
+        registration.setOrder(SubmissionFilterOrder.FAST_REJECT);
+        return registration;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.feedback.config;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.feedback.store.JpaFeedbackStore;
+import com.example.feedback.webhook.WebhookDispatcher;
+import com.example.feedback.webhook.WebhookMetrics;
+import com.example.feedback.webhook.WebhookOutbox;
+import com.example.feedback.webhook.WebhookProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Webhook fan-out of new feedback, with {@code feedback.webhook.enabled=true}: the outbox is written in every
+ * insert transaction of the JPA store, and, unless {@code feedback.webhook.dispatch=false}, delivered from this
+ * instance.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "feedback.webhook", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WebhookProperties.class)
+public class WebhookConfig {
+
+    @Bean
+    public WebhookOutbox webhookOutbox(ObjectProvider<JpaFeedbackStore> jpaFeedbackStore, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper, WebhookProperties properties) {
+        if (jpaFeedbackStore.getIfAvailable() == null) {
+            // The outbox shares the insert transaction, which only the datasource store has
+            throw new IllegalStateException("feedback.webhook.enabled requires feedback.store.type=jpa");
+        }
+        Set<String> names = new HashSet<>();
+        for (WebhookProperties.Endpoint endpoint : properties.getEndpoints()) {
+            if (endpoint.getName() == null || endpoint.getUrl() == null || !names.add(endpoint.getName())) {
+                throw new IllegalStateException("Every feedback.webhook.endpoints entry needs a url and a unique name");
+            }
+        }
+        return new WebhookOutbox(jdbcTemplate, transactionManager, objectMapper, names.stream().sorted().toList());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "feedback.webhook", name = "dispatch", havingValue = "true", matchIfMissing = true)
+    public WebhookDispatcher webhookDispatcher(WebhookOutbox outbox, WebhookProperties properties) {
+        return new WebhookDispatcher(outbox, properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "feedback.webhook", name = "dispatch", havingValue = "true", matchIfMissing = true)
+    public WebhookMetrics webhookMetrics(WebhookOutbox outbox, WebhookDispatcher dispatcher) {
+        return new WebhookMetrics(outbox, dispatcher);
+    }
+}
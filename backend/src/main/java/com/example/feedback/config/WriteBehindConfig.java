@@ -0,0 +1,23 @@
+package com.example.feedback.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.feedback.ingest.WriteBehindIngestor;
+import com.example.feedback.ingest.WriteBehindProperties;
+import com.example.feedback.store.FeedbackStore;
+
+@Configuration
+@ConditionalOnProperty(prefix = "feedback.ingest.write-behind", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WriteBehindProperties.class)
+public class WriteBehindConfig {
+
+    @Bean
+    public WriteBehindIngestor writeBehindIngestor(FeedbackStore feedbackStore,
+            ApplicationEventPublisher eventPublisher, WriteBehindProperties properties) {
+        return new WriteBehindIngestor(feedbackStore, eventPublisher, properties);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.feedback.controller;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.feedback.ingest.BatchSubmissionProperties;
+import com.example.feedback.ingest.BatchSubmissionResult;
+import com.example.feedback.ingest.BatchSubmissionService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Bulk submission endpoint for clients replaying buffered feedback.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackBatchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackBatchController.class);
+
+    @Autowired
+    private BatchSubmissionService batchSubmissionService;
+
+    @Autowired
+    private BatchSubmissionProperties properties;
+
+    /**
+     * Submit many feedback items at once, as a JSON array or as NDJSON (one object per line).
+     * Every item is validated independently; the response lists the outcome of each item by index.
+     */
+    @PostMapping(path = "/batch", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<Map<String, Object>> submitBatch(HttpServletRequest request) throws IOException {
+        long maxBytes = properties.getMaxBytes().toBytes();
+        logger.info("Received batch feedback submission, content length: {}", request.getContentLengthLong());
+
+        if (request.getContentLengthLong() > maxBytes) {
+            logger.warn("Rejected batch submission of {} bytes, limit is {}", request.getContentLengthLong(), maxBytes);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(FeedbackResponses.error(
+                    "Payload too large", "Batch exceeds the maximum size of " + maxBytes + " bytes"));
+        }
+
+        BatchSubmissionResult result = batchSubmissionService.process(request.getInputStream());
+
+        logger.info("Batch processed: {} created, {} rejected, {} failed{}", result.getCreated(),
+                result.getRejected(), result.getFailed(), result.isTruncated() ? " (truncated)" : "");
+        return ResponseEntity.ok(FeedbackResponses.batch(result));
+    }
+}
@@ -1,20 +1,38 @@
 package com.example.feedback.controller;
 
-import java.util.HashMap;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.feedback.dedup.SubmissionDeduplicator;
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.ingest.PendingFeedback;
+import com.example.feedback.ingest.WriteBehindIngestor;
+import com.example.feedback.jfr.NotifyEvent;
+import com.example.feedback.jfr.SaveEvent;
+import com.example.feedback.metrics.FeedbackMetrics;
 import com.example.feedback.model.Feedback;
-import com.example.feedback.repository.FeedbackRepository;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.FeedbackStore;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 
 @RestController
@@ -23,31 +41,60 @@ public class FeedbackController {
 
     private static final Logger logger = LoggerFactory.getLogger(FeedbackController.class);
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private FeedbackStore feedbackStore;
+
     @Autowired
-    private FeedbackRepository feedbackRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    /** Present only when {@code feedback.ingest.write-behind.enabled=true}. */
+    @Autowired(required = false)
+    private WriteBehindIngestor writeBehindIngestor;
+
+    @Autowired(required = false)
+    private SubmissionDeduplicator deduplicator;
 
     /**
      * Submit new feedback.
      * Logs incoming requests and responses as required by the exercise.
+     * A retry carrying the same {@code Idempotency-Key} gets the original response back without a second insert.
      */
     @PostMapping
-    public ResponseEntity<Map<String, Object>> submitFeedback(@Valid @RequestBody FeedbackRequest request) {
+    @Timed(value = FeedbackMetrics.SUBMISSION, histogram = true,
+            description = "Handling of a bound and validated submission")
+    public ResponseEntity<Map<String, Object>> submitFeedback(@Valid @RequestBody FeedbackRequest request,
+            @RequestHeader(name = SubmissionDeduplicator.IDEMPOTENCY_KEY_HEADER, required = false)
+            String idempotencyKey) {
         logger.info("Received feedback submission request for user: [REDACTED]");
         logger.debug("Request details - Name length: {}, Email length: {}, Message length: {}",
                 request.getName() != null ? request.getName().length() : 0,
                 request.getEmail() != null ? request.getEmail().length() : 0,
                 request.getMessage() != null ? request.getMessage().length() : 0);
 
+        if (deduplicator == null) {
+            return store(request);
+        }
+        return deduplicator.submit(idempotencyKey, request.getEmail(), request.getMessage(), () -> store(request));
+    }
+
+    private ResponseEntity<Map<String, Object>> store(FeedbackRequest request) {
         try {
             // Create and save feedback
             Feedback feedback = new Feedback(request.getName(), request.getEmail(), request.getMessage());
-            Feedback savedFeedback = feedbackRepository.save(feedback);
+            if (writeBehindIngestor != null) {
+                return submitWriteBehind(feedback);
+            }
+            Feedback savedFeedback = save(feedback);
+            NotifyEvent notifyEvent = new NotifyEvent();
+            notifyEvent.begin();
+            eventPublisher.publishEvent(FeedbackSavedEvent.of(savedFeedback));
+            notifyEvent.record("notified");
 
             // Create response
-            Map<String, Object> response = new HashMap<>();
-            response.put("id", savedFeedback.getId());
-            response.put("name", savedFeedback.getName());
-            response.put("message", savedFeedback.getMessage());
+            Map<String, Object> response = FeedbackResponses.created(savedFeedback);
 
             logger.info("Feedback submitted successfully with ID: {}", savedFeedback.getId());
             logger.debug("Response created for feedback ID: {}", savedFeedback.getId());
@@ -61,18 +108,103 @@ public class FeedbackController {
         }
     }
 
+    /** Saves through the store, recorded as a {@link SaveEvent} of the submission. */
+    private Feedback save(Feedback feedback) {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        Feedback savedFeedback = null;
+        try {
+            savedFeedback = feedbackStore.save(feedback);
+            return savedFeedback;
+        } finally {
+            if (savedFeedback != null && savedFeedback.getId() != null) {
+                event.feedbackId = savedFeedback.getId();
+            }
+            event.record(savedFeedback != null ? "stored" : "failed");
+        }
+    }
+
+    /**
+     * List feedback, newest first, with keyset pagination.
+     * Pass the {@code nextCursor} of a response as {@code cursor} to get the following page;
+     * every page costs the same index seek regardless of how deep it is.
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> listFeedback(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        FeedbackCursor after;
+        try {
+            after = cursor != null ? FeedbackCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected feedback listing with invalid cursor");
+            return ResponseEntity.badRequest().body(FeedbackResponses.error("Invalid request", "Invalid cursor"));
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Slice<Feedback> slice = feedbackStore.findPage(new FeedbackQuery(email, from, to), after, pageSize);
+        logger.debug("Listed {} feedback items, hasNext: {}", slice.getNumberOfElements(), slice.hasNext());
+
+        return ResponseEntity.ok(FeedbackResponses.page(slice));
+    }
+
+    /**
+     * Hands the entity to the write-behind queue. Answers 200 once the batch commits (SYNC mode),
+     * or 202 with a ticket to poll when running ASYNC or when the commit outlasts the sync timeout.
+     */
+    private ResponseEntity<Map<String, Object>> submitWriteBehind(Feedback feedback) {
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        Optional<Feedback> committed = null;
+        PendingFeedback pending;
+        try {
+            pending = writeBehindIngestor.submit(feedback);
+            committed = writeBehindIngestor.awaitIfSynchronous(pending);
+        } finally {
+            if (committed != null && committed.isPresent() && committed.get().getId() != null) {
+                event.feedbackId = committed.get().getId();
+            }
+            event.record(committed == null ? "failed" : committed.isPresent() ? "stored" : "queued");
+        }
+
+        if (committed.isPresent()) {
+            logger.info("Feedback submitted successfully with ID: {}", committed.get().getId());
+            return ResponseEntity.ok(FeedbackResponses.created(committed.get()));
+        }
+
+        logger.info("Feedback queued for write-behind with ticket: {}", pending.getTicket());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/feedback/ingest/" + pending.getTicket()))
+                .body(FeedbackResponses.pending(pending.getTicket()));
+    }
+
     public static class FeedbackRequest {
-        @jakarta.validation.constraints.NotBlank(message = "Name is required")
-        @jakarta.validation.constraints.Size(max = 100, message = "Name must not exceed 100 characters")
+        public static final int MAX_NAME_LENGTH = 100;
+        public static final int MAX_EMAIL_LENGTH = 255;
+        public static final int MAX_MESSAGE_LENGTH = 1000;
+
+        public static final String NAME_REQUIRED = "Name is required";
+        public static final String NAME_TOO_LONG = "Name must not exceed 100 characters";
+        public static final String EMAIL_REQUIRED = "Email is required";
+        public static final String EMAIL_INVALID = "Please enter a valid email address";
+        public static final String EMAIL_TOO_LONG = "Email must not exceed 255 characters";
+        public static final String MESSAGE_REQUIRED = "Message is required";
+        public static final String MESSAGE_TOO_LONG = "Message must not exceed 1000 characters";
+
+        @jakarta.validation.constraints.NotBlank(message = NAME_REQUIRED)
+        @jakarta.validation.constraints.Size(max = MAX_NAME_LENGTH, message = NAME_TOO_LONG)
         private String name;
 
-        @jakarta.validation.constraints.NotBlank(message = "Email is required")
-        @jakarta.validation.constraints.Email(message = "Please enter a valid email address")
-        @jakarta.validation.constraints.Size(max = 255, message = "Email must not exceed 255 characters")
+        @jakarta.validation.constraints.NotBlank(message = EMAIL_REQUIRED)
+        @jakarta.validation.constraints.Email(message = EMAIL_INVALID)
+        @jakarta.validation.constraints.Size(max = MAX_EMAIL_LENGTH, message = EMAIL_TOO_LONG)
         private String email;
 
-        @jakarta.validation.constraints.NotBlank(message = "Message is required")
-        @jakarta.validation.constraints.Size(max = 1000, message = "Message must not exceed 1000 characters")
+        @jakarta.validation.constraints.NotBlank(message = MESSAGE_REQUIRED)
+        @jakarta.validation.constraints.Size(max = MAX_MESSAGE_LENGTH, message = MESSAGE_TOO_LONG)
         private String message;
 
         // Constructors, getters and setters
@@ -0,0 +1,46 @@
+package com.example.feedback.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.feedback.cache.CachedFeedback;
+import com.example.feedback.cache.FeedbackDetailCache;
+
+/**
+ * Single feedback items by id, served through {@link FeedbackDetailCache}.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackDetailController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackDetailController.class);
+
+    @Autowired
+    private FeedbackDetailCache feedbackDetailCache;
+
+    /**
+     * One feedback item. The response carries a strong {@code ETag}; a request whose {@code If-None-Match}
+     * lists it is answered with 304 and no body, which Spring handles for {@link ResponseEntity} return values.
+     */
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<?> getFeedback(@PathVariable long id) {
+        CachedFeedback feedback = feedbackDetailCache.get(id);
+        if (feedback == null) {
+            logger.debug("Feedback {} not found", id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(FeedbackResponses.error("Not found", "Feedback " + id + " does not exist"));
+        }
+        return ResponseEntity.ok()
+                .eTag(feedback.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(feedback.body());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.feedback.controller;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.feedback.export.ExportFormat;
+import com.example.feedback.export.FeedbackExportService;
+
+/**
+ * Full and incremental feedback dumps for offline analysis.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackExportController.class);
+
+    @Autowired
+    private FeedbackExportService feedbackExportService;
+
+    /**
+     * Stream feedback as NDJSON or CSV, oldest first.
+     * {@code since} (inclusive) limits the dump to rows created at or after that instant, so an incremental
+     * export can resume from the last {@code createdAt} it saw. The body is gzip-compressed on the fly when
+     * {@code gzip=true} or the client accepts gzip.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "ndjson") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Boolean gzip,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean compress = gzip != null ? gzip : acceptEncoding != null && acceptEncoding.contains("gzip");
+        logger.info("Starting feedback export (format: {}, since: {}, gzip: {})", format, since, compress);
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = compress ? new GZIPOutputStream(out, 8192) : out;
+            feedbackExportService.export(format, since, target);
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("feedback-export." + format.getFileExtension())
+                        .build()
+                        .toString());
+        if (compress) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.feedback.controller;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Slice;
+
+import com.example.feedback.ingest.BatchSubmissionResult;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+
+/**
+ * Builds the JSON bodies returned by the feedback endpoints.
+ * Kept in one place so every submission path answers with the same shape.
+ */
+public final class FeedbackResponses {
+
+    private FeedbackResponses() {
+    }
+
+    /**
+     * Body returned after a feedback item has been stored.
+     */
+    public static Map<String, Object> created(Feedback feedback) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", feedback.getId());
+        response.put("name", feedback.getName());
+        response.put("message", feedback.getMessage());
+        return response;
+    }
+
+    /**
+     * Full representation of a stored feedback item, used by the read endpoints.
+     */
+    public static Map<String, Object> detail(Feedback feedback) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", feedback.getId());
+        response.put("name", feedback.getName());
+        response.put("email", feedback.getEmail());
+        response.put("message", feedback.getMessage());
+        response.put("createdAt", feedback.getCreatedAt());
+        return response;
+    }
+
+    /**
+     * One page of a keyset-paginated listing. {@code nextCursor} is {@code null} on the last page.
+     */
+    public static Map<String, Object> page(Slice<Feedback> slice) {
+        List<Map<String, Object>> items = new ArrayList<>(slice.getNumberOfElements());
+        for (Feedback feedback : slice) {
+            items.add(detail(feedback));
+        }
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            nextCursor = FeedbackCursor.of(slice.getContent().get(items.size() - 1)).encode();
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("items", items);
+        response.put("hasNext", slice.hasNext());
+        response.put("nextCursor", nextCursor);
+        return response;
+    }
+
+    /**
+     * Error body in the same shape as the one produced by {@link GlobalExceptionHandler}.
+     */
+    public static Map<String, Object> error(String error, String details) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", error);
+        response.put("details", details);
+        response.put("timestamp", LocalDateTime.now());
+        return response;
+    }
+
+    /**
+     * Body returned when a submission was queued but is not committed yet.
+     */
+    public static Map<String, Object> pending(String ticket) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("ticket", ticket);
+        response.put("status", "PENDING");
+        return response;
+    }
+
+    /**
+     * Body returned by the bulk endpoint: totals followed by one entry per item, in request order.
+     */
+    public static Map<String, Object> batch(BatchSubmissionResult result) {
+        List<Map<String, Object>> items = new ArrayList<>(result.getReceived());
+        for (BatchSubmissionResult.ItemResult item : result.getItems()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("index", item.index());
+            entry.put("status", item.status().name());
+            if (item.id() != null) {
+                entry.put("id", item.id());
+            }
+            if (item.error() != null) {
+                entry.put("error", item.error());
+                entry.put("details", item.details());
+            }
+            items.add(entry);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("received", result.getReceived());
+        response.put("created", result.getCreated());
+        response.put("rejected", result.getRejected());
+        response.put("failed", result.getFailed());
+        response.put("truncated", result.isTruncated());
+        if (result.isTruncated()) {
+            response.put("details", result.getTruncation());
+        }
+        response.put("results", items);
+        return response;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.feedback.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.search.FeedbackSearchIndex;
+import com.example.feedback.search.InvertedIndex;
+import com.example.feedback.search.SearchHit;
+import com.example.feedback.search.SearchProperties;
+import com.example.feedback.store.FeedbackStore;
+
+/**
+ * Keyword search over feedback messages, served from the in-process index.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackSearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackSearchController.class);
+
+    @Autowired
+    private FeedbackSearchIndex feedbackSearchIndex;
+
+    @Autowired
+    private FeedbackStore feedbackStore;
+
+    @Autowired
+    private SearchProperties properties;
+
+    /**
+     * Search feedback messages by keyword. Results are ranked by relevance; {@code complete} is
+     * {@code false} when the index ran out of its memory budget and newer feedback may be missing.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> search(@RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        int resultLimit = Math.max(1, Math.min(limit, properties.getMaxResults()));
+        List<SearchHit> hits = feedbackSearchIndex.search(query, resultLimit);
+        logger.debug("Search matched {} feedback items", hits.size());
+
+        Map<Long, Feedback> byId = new HashMap<>();
+        for (Feedback feedback : feedbackStore.findAllById(hits.stream().map(SearchHit::id).toList())) {
+            byId.put(feedback.getId(), feedback);
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            Feedback feedback = byId.get(hit.id());
+            if (feedback != null) {
+                Map<String, Object> item = FeedbackResponses.detail(feedback);
+                item.put("score", hit.score());
+                results.add(item);
+            }
+        }
+
+        InvertedIndex.Stats stats = feedbackSearchIndex.stats();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("query", query);
+        response.put("complete", stats.complete());
+        response.put("results", results);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.feedback.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.similar.FeedbackSimilarityIndex;
+import com.example.feedback.similar.LshIndex;
+import com.example.feedback.similar.SimilarHit;
+import com.example.feedback.similar.SimilarityProperties;
+import com.example.feedback.store.FeedbackStore;
+
+/**
+ * Near-duplicate feedback, served from the in-process MinHash/LSH index.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackSimilarityController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackSimilarityController.class);
+
+    @Autowired
+    private FeedbackSimilarityIndex feedbackSimilarityIndex;
+
+    @Autowired
+    private FeedbackStore feedbackStore;
+
+    @Autowired
+    private SimilarityProperties properties;
+
+    /**
+     * Feedback whose message is a near-duplicate of the given item's, most similar first. {@code complete} is
+     * {@code false} when the index ran out of its memory budget and newer feedback may be missing.
+     */
+    @GetMapping("/{id:\\d+}/similar")
+    public ResponseEntity<Map<String, Object>> similar(@PathVariable long id,
+            @RequestParam(defaultValue = "20") int limit) {
+        Optional<Feedback> feedback = feedbackStore.findById(id);
+        if (feedback.isEmpty()) {
+            logger.debug("Feedback {} not found", id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(FeedbackResponses.error("Not found", "Feedback " + id + " does not exist"));
+        }
+        int resultLimit = Math.max(1, Math.min(limit, properties.getMaxResults()));
+        List<SimilarHit> hits = feedbackSimilarityIndex.similar(feedback.get(), resultLimit);
+
+        Map<Long, Feedback> byId = findAllById(hits.stream().map(SimilarHit::id).toList());
+        List<Map<String, Object>> results = new ArrayList<>(hits.size());
+        for (SimilarHit hit : hits) {
+            Feedback similar = byId.get(hit.id());
+            if (similar != null) {
+                Map<String, Object> item = FeedbackResponses.detail(similar);
+                item.put("similarity", hit.similarity());
+                results.add(item);
+            }
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", id);
+        response.put("complete", feedbackSimilarityIndex.stats().complete());
+        response.put("results", results);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * The largest groups of near-duplicate feedback, each with its size, its oldest member as representative
+     * and the ids of its first members.
+     */
+    @GetMapping("/clusters")
+    public ResponseEntity<Map<String, Object>> clusters(@RequestParam(defaultValue = "2") int minSize,
+            @RequestParam(defaultValue = "20") int limit) {
+        int resultLimit = Math.max(1, Math.min(limit, properties.getMaxResults()));
+        List<LshIndex.Cluster> clusters = feedbackSimilarityIndex.clusters(minSize, resultLimit);
+
+        Map<Long, Feedback> representatives =
+                findAllById(clusters.stream().map(cluster -> cluster.ids().get(0)).toList());
+        List<Map<String, Object>> items = new ArrayList<>(clusters.size());
+        for (LshIndex.Cluster cluster : clusters) {
+            Feedback representative = representatives.get(cluster.ids().get(0));
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("size", cluster.size());
+            item.put("representative", representative != null ? FeedbackResponses.detail(representative) : null);
+            item.put("memberIds", cluster.ids());
+            items.add(item);
+        }
+
+        LshIndex.Stats stats = feedbackSimilarityIndex.stats();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("documents", stats.documents());
+        response.put("clusters", stats.clusters());
+        response.put("complete", stats.complete());
+        response.put("items", items);
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<Long, Feedback> findAllById(List<Long> ids) {
+        Map<Long, Feedback> byId = new HashMap<>();
+        for (Feedback feedback : feedbackStore.findAllById(ids)) {
+            byId.put(feedback.getId(), feedback);
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.feedback.controller;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.feedback.stats.FeedbackStatistics;
+
+/**
+ * Live submission statistics, served from in-memory aggregates rather than queries on the table.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackStatsController {
+
+    @Autowired
+    private FeedbackStatistics feedbackStatistics;
+
+    /**
+     * Submission counts over the last minute, hour and day, the most common email domains and the
+     * distribution of message lengths. Domain counts may overestimate by up to {@code maxOverestimate}.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        FeedbackStatistics.Snapshot snapshot = feedbackStatistics.snapshot();
+
+        Map<String, Object> submissions = new LinkedHashMap<>();
+        submissions.put("total", snapshot.submissions().total());
+        submissions.put("lastMinute", snapshot.submissions().lastMinute());
+        submissions.put("lastHour", snapshot.submissions().lastHour());
+        submissions.put("lastDay", snapshot.submissions().lastDay());
+
+        List<Map<String, Object>> domains = new ArrayList<>(snapshot.topDomains().size());
+        for (FeedbackStatistics.DomainCount domain : snapshot.topDomains()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("domain", domain.domain());
+            item.put("count", domain.count());
+            item.put("maxOverestimate", domain.maxOverestimate());
+            domains.add(item);
+        }
+
+        FeedbackStatistics.MessageLengths lengths = snapshot.messageLengths();
+        List<Map<String, Object>> buckets = new ArrayList<>(lengths.buckets().length);
+        for (int i = 0; i < lengths.buckets().length; i++) {
+            Map<String, Object> bucket = new LinkedHashMap<>();
+            bucket.put("from", i * lengths.bucketWidth());
+            bucket.put("to", i == lengths.buckets().length - 1 ? null : (i + 1) * lengths.bucketWidth() - 1);
+            bucket.put("count", lengths.buckets()[i]);
+            buckets.add(bucket);
+        }
+        Map<String, Object> messageLength = new LinkedHashMap<>();
+        messageLength.put("count", lengths.count());
+        messageLength.put("mean", lengths.mean());
+        messageLength.put("max", lengths.max());
+        messageLength.put("buckets", buckets);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("submissions", submissions);
+        response.put("topEmailDomains", domains);
+        response.put("messageLength", messageLength);
+        response.put("timestamp", LocalDateTime.now());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.feedback.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.feedback.stream.FeedbackStreamBroadcaster;
+
+/**
+ * Live feed of newly saved feedback as Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackStreamController.class);
+
+    @Autowired
+    private FeedbackStreamBroadcaster feedbackStreamBroadcaster;
+
+    /**
+     * Streams every item saved from now on as a {@code feedback} event whose id can be sent back as
+     * {@code Last-Event-ID} to resume after a reconnect. Browsers' {@code EventSource} does that on its own.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<?> stream(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = feedbackStreamBroadcaster.subscribe(lastEventId);
+        if (emitter == null) {
+            logger.warn("Refused live stream subscriber at {} connections",
+                    feedbackStreamBroadcaster.getSubscriberCount());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(FeedbackResponses.error("Service unavailable", "Too many live stream connections"));
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.feedback.controller;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -7,22 +8,38 @@ import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import com.example.feedback.ingest.IngestRejectedException;
+import com.example.feedback.metrics.FeedbackMetrics;
+import com.example.feedback.rejection.RateLimitedLogger;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
   private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+  /** Invalid input is client-driven, so its WARN lines are throttled to keep a flood from turning into log I/O. */
+  private static final RateLimitedLogger rejectLog = new RateLimitedLogger(logger, Duration.ofSeconds(10));
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<Map<String, Object>> handleValidationException(MethodArgumentNotValidException ex) {
-    logger.warn("Validation failed for feedback submission: {}", ex.getMessage());
+    rejectLog.warn("Validation failed for feedback submission: {} field error(s)", ex.getErrorCount());
     logger.debug("Validation error details: ", ex);
 
+    ex.getBindingResult().getFieldErrors()
+        .forEach(error -> FeedbackMetrics.validationFailure(error.getField()));
+
     Map<String, Object> response = new HashMap<>();
     response.put("error", "Validation failed");
 
@@ -38,10 +55,77 @@ public class GlobalExceptionHandler {
     return ResponseEntity.badRequest().body(response);
   }
 
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<Map<String, Object>> handleUnreadableBody(HttpMessageNotReadableException ex) {
+    rejectLog.warn("Unreadable request body: {}", ex.getMostSpecificCause().getClass().getSimpleName());
+    FeedbackMetrics.validationFailure("body");
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("error", "Malformed request");
+    response.put("details", "Request body must be a JSON object with name, email and message");
+    response.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.badRequest().body(response);
+  }
+
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+    logger.warn("Invalid value for request parameter: {}", ex.getName());
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("error", "Invalid request");
+    response.put("details", "Invalid value for parameter '" + ex.getName() + "'");
+    response.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.badRequest().body(response);
+  }
+
+  /** An unmapped path such as {@code /api/feedback/abc}; without this it would reach the catch-all as a 500. */
+  @ExceptionHandler(NoResourceFoundException.class)
+  public ResponseEntity<Map<String, Object>> handleNoResource(NoResourceFoundException ex) {
+    logger.debug("No handler for {}", ex.getResourcePath());
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("error", "Not found");
+    response.put("details", "No endpoint at /" + ex.getResourcePath());
+    response.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+  }
+
+  @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
+  public ResponseEntity<Map<String, Object>> handleMethodNotSupported(HttpRequestMethodNotSupportedException ex) {
+    logger.debug("Method {} not supported here", ex.getMethod());
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("error", "Method not allowed");
+    response.put("details", "Method " + ex.getMethod() + " is not supported for this endpoint");
+    response.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+        .allow(ex.getSupportedHttpMethods().toArray(HttpMethod[]::new))
+        .body(response);
+  }
+
+  @ExceptionHandler(IngestRejectedException.class)
+  public ResponseEntity<Map<String, Object>> handleIngestRejected(IngestRejectedException ex) {
+    logger.warn("Feedback submission rejected: {}", ex.getMessage());
+
+    Map<String, Object> response = new HashMap<>();
+    response.put("error", "Service unavailable");
+    response.put("details", "The service is busy. Please try again shortly.");
+    response.put("timestamp", LocalDateTime.now());
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .body(response);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<Map<String, Object>> handleGeneralException(Exception ex) {
     logger.error("Unexpected error occurred: {}", ex.getMessage());
     logger.debug("Error details: ", ex);
+    FeedbackMetrics.unexpectedError(ex);
 
     Map<String, Object> response = new HashMap<>();
     response.put("error", "Internal server error");
@@ -0,0 +1,46 @@
+package com.example.feedback.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.feedback.ingest.IngestTicket;
+import com.example.feedback.ingest.WriteBehindIngestor;
+
+/**
+ * Lets callers that received 202 Accepted from write-behind ingestion check whether their submission committed.
+ */
+@RestController
+@RequestMapping("/api/feedback/ingest")
+@ConditionalOnProperty(prefix = "feedback.ingest.write-behind", name = "enabled", havingValue = "true")
+public class IngestTicketController {
+
+    @Autowired
+    private WriteBehindIngestor writeBehindIngestor;
+
+    @GetMapping("/{ticket}")
+    public ResponseEntity<Map<String, Object>> getTicket(@PathVariable String ticket) {
+        return writeBehindIngestor.lookupTicket(ticket)
+                .map(this::toResponse)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(FeedbackResponses.error("Not found", "Unknown or expired ticket")));
+    }
+
+    private ResponseEntity<Map<String, Object>> toResponse(IngestTicket ticket) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("ticket", ticket.ticket());
+        response.put("status", ticket.status().name());
+        if (ticket.feedbackId() != null) {
+            response.put("id", ticket.feedbackId());
+        }
+        return ResponseEntity.ok(response);
+    }
+}
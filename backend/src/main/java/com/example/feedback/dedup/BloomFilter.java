@@ -0,0 +1,70 @@
+package com.example.feedback.dedup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed-size Bloom filter over {@link SubmissionFingerprint}s.
+ * <p>
+ * Lock-free: setting a bit is an atomic OR on its word, and readers see bits with opaque reads. A concurrent
+ * {@link #mightContain} may miss a fingerprint that is being added at the same moment, never the reverse.
+ * Bit positions come from double hashing the fingerprint's two halves.
+ */
+final class BloomFilter {
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = Math.toIntExact((bits + 63) / 64);
+        this.words = new long[wordCount];
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    boolean mightContain(SubmissionFingerprint fingerprint) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(fingerprint, i);
+            if (((long) WORDS.getOpaque(words, (int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void put(SubmissionFingerprint fingerprint) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bit(fingerprint, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            // Skip the write when the bit is already set, so popular words are not bounced between cores.
+            if (((long) WORDS.getOpaque(words, word) & mask) == 0) {
+                WORDS.getAndBitwiseOr(words, word, mask);
+            }
+        }
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long sizeInBytes() {
+        return words.length * 8L;
+    }
+
+    private long bit(SubmissionFingerprint fingerprint, int i) {
+        long combined = fingerprint.high() + i * (fingerprint.low() | 1);
+        return (combined & Long.MAX_VALUE) % bitCount;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.feedback.dedup;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for duplicate-submission suppression on {@code POST /api/feedback}.
+ */
+@ConfigurationProperties(prefix = "feedback.dedup")
+public class DeduplicationProperties {
+
+    private final Idempotency idempotency = new Idempotency();
+    private final Fingerprint fingerprint = new Fingerprint();
+
+    public Idempotency getIdempotency() {
+        return idempotency;
+    }
+
+    public Fingerprint getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Responses remembered per {@code Idempotency-Key} header.
+     */
+    public static class Idempotency {
+
+        private boolean enabled = true;
+        /** Keys remembered at most; the least recently used ones are dropped first. */
+        private int maxKeys = 10_000;
+        /** How long after the first request a key is still replayed. */
+        private Duration ttl = Duration.ofHours(24);
+        private int maxKeyLength = 255;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public int getMaxKeyLength() {
+            return maxKeyLength;
+        }
+
+        public void setMaxKeyLength(int maxKeyLength) {
+            this.maxKeyLength = maxKeyLength;
+        }
+    }
+
+    /**
+     * Bloom filter over (email, message) of recently stored submissions.
+     */
+    public static class Fingerprint {
+
+        /** Off unless asked for: it answers 409 to a legitimate repeat of the same message within the window. */
+        private boolean enabled = false;
+        /** Submissions are remembered for at least one window and at most two. */
+        private Duration window = Duration.ofMinutes(10);
+        /** Submissions per window the filter is sized for; beyond it false positives rise quickly. */
+        private int expectedInsertions = 100_000;
+        /** Chance that a new submission is mistaken for a duplicate while within the expected insertions. */
+        private double falsePositiveRate = 1e-6;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getExpectedInsertions() {
+            return expectedInsertions;
+        }
+
+        public void setExpectedInsertions(int expectedInsertions) {
+            this.expectedInsertions = expectedInsertions;
+        }
+
+        public double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.feedback.dedup;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+
+import com.example.feedback.controller.FeedbackResponses;
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.metrics.FeedbackMetrics;
+import com.example.feedback.model.Feedback;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * Keeps retried and repeated submissions away from the repository.
+ * <p>
+ * A request carrying an {@code Idempotency-Key} claims the key in a bounded, expiring Caffeine cache before
+ * anything is stored. Once the submission succeeds its response is kept under the key, and a retry with the
+ * same key and body is answered with that response, marked {@value #REPLAYED_HEADER}. A retry that arrives
+ * while the first request is still running gets 409; a key reused for a different body gets 422. Failed
+ * submissions release their key so the client can try again.
+ * <p>
+ * Independently, the (email, message) fingerprint of every stored submission goes into a
+ * {@link WindowedBloomFilter}, and a submission whose fingerprint is already there is answered with 409.
+ * The check runs before the submission, and fingerprints are only added from {@link FeedbackSavedEvent}s,
+ * which are published once rows are committed. A failed attempt therefore never blocks its retry, including
+ * a write-behind submission that was answered 202 and then failed with its batch. Items stored through the
+ * bulk endpoint are remembered as well. Two identical submissions racing each other can both get through;
+ * the key covers that case.
+ */
+public class SubmissionDeduplicator {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(SubmissionDeduplicator.class);
+
+    /** Claim on a key; {@code response} stays {@code null} until the first request succeeds. */
+    private static final class Entry {
+
+        private final SubmissionFingerprint fingerprint;
+        private volatile ResponseEntity<Map<String, Object>> response;
+
+        Entry(SubmissionFingerprint fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private final Cache<String, Entry> idempotencyKeys;
+    private final WindowedBloomFilter recentSubmissions;
+    private final int maxKeyLength;
+
+    public SubmissionDeduplicator(DeduplicationProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    SubmissionDeduplicator(DeduplicationProperties properties, Ticker ticker) {
+        DeduplicationProperties.Idempotency idempotency = properties.getIdempotency();
+        DeduplicationProperties.Fingerprint fingerprint = properties.getFingerprint();
+        this.maxKeyLength = idempotency.getMaxKeyLength();
+        this.idempotencyKeys = idempotency.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(idempotency.getMaxKeys())
+                        .expireAfterWrite(idempotency.getTtl())
+                        .ticker(ticker)
+                        .recordStats()
+                        .build()
+                : null;
+        this.recentSubmissions = fingerprint.isEnabled()
+                ? new WindowedBloomFilter(fingerprint.getWindow(), fingerprint.getExpectedInsertions(),
+                        fingerprint.getFalsePositiveRate(), ticker::read)
+                : null;
+    }
+
+    /**
+     * Runs {@code submission} unless the request is a repeat, in which case the stored or an error response is
+     * returned instead.
+     *
+     * @param idempotencyKey value of the {@value #IDEMPOTENCY_KEY_HEADER} header, or {@code null}
+     */
+    public ResponseEntity<Map<String, Object>> submit(String idempotencyKey, String email, String message,
+            Supplier<ResponseEntity<Map<String, Object>>> submission) {
+        if (idempotencyKeys == null || idempotencyKey == null) {
+            return submitOnce(SubmissionFingerprint.of(email, message), submission);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > maxKeyLength) {
+            return ResponseEntity.badRequest().body(FeedbackResponses.error("Invalid request",
+                    IDEMPOTENCY_KEY_HEADER + " must be between 1 and " + maxKeyLength + " characters"));
+        }
+
+        SubmissionFingerprint fingerprint = SubmissionFingerprint.of(email, message);
+        Entry claim = new Entry(fingerprint);
+        // get() rather than asMap().putIfAbsent() so the lookup shows up in the cache's hit and miss counts.
+        Entry existing = idempotencyKeys.get(idempotencyKey, key -> claim);
+        if (existing != claim) {
+            return repeat(existing, fingerprint);
+        }
+
+        ResponseEntity<Map<String, Object>> response;
+        try {
+            response = submitOnce(fingerprint, submission);
+        } catch (RuntimeException e) {
+            idempotencyKeys.asMap().remove(idempotencyKey, claim);
+            throw e;
+        }
+        if (response.getStatusCode().is2xxSuccessful()) {
+            claim.response = response;
+        } else {
+            idempotencyKeys.asMap().remove(idempotencyKey, claim);
+        }
+        return response;
+    }
+
+    private ResponseEntity<Map<String, Object>> submitOnce(SubmissionFingerprint fingerprint,
+            Supplier<ResponseEntity<Map<String, Object>>> submission) {
+        if (recentSubmissions == null) {
+            return submission.get();
+        }
+        if (recentSubmissions.mightContain(fingerprint)) {
+            logger.info("Rejected duplicate feedback submission");
+            FeedbackMetrics.duplicateSubmission("fingerprint");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(FeedbackResponses.error("Duplicate submission",
+                    "The same feedback was submitted a moment ago"));
+        }
+
+        return submission.get();
+    }
+
+    /**
+     * Remembers the fingerprints of newly committed feedback. Replayed rows are older than any window.
+     */
+    @EventListener
+    public void onFeedbackSaved(FeedbackSavedEvent event) {
+        if (recentSubmissions == null || event.replay()) {
+            return;
+        }
+        for (Feedback feedback : event.feedbacks()) {
+            recentSubmissions.put(SubmissionFingerprint.of(feedback.getEmail(), feedback.getMessage()));
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> repeat(Entry existing, SubmissionFingerprint fingerprint) {
+        if (!existing.fingerprint.equals(fingerprint)) {
+            FeedbackMetrics.duplicateSubmission("key-reused");
+            return ResponseEntity.unprocessableEntity().body(FeedbackResponses.error("Invalid request",
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different submission"));
+        }
+
+        ResponseEntity<Map<String, Object>> stored = existing.response;
+        if (stored == null) {
+            FeedbackMetrics.duplicateSubmission("in-progress");
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(FeedbackResponses.error("Request in progress",
+                    "A request with this " + IDEMPOTENCY_KEY_HEADER + " is still being processed"));
+        }
+
+        logger.info("Replayed stored response for a repeated {}", IDEMPOTENCY_KEY_HEADER);
+        FeedbackMetrics.duplicateSubmission("replayed");
+        return ResponseEntity.status(stored.getStatusCode())
+                .headers(headers -> {
+                    headers.addAll(stored.getHeaders());
+                    headers.set(REPLAYED_HEADER, "true");
+                })
+                .body(stored.getBody());
+    }
+
+    /** The idempotency cache, for metrics; {@code null} when keys are disabled. */
+    public Cache<String, ?> idempotencyKeys() {
+        return idempotencyKeys;
+    }
+}
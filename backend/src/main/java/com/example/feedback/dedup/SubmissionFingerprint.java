@@ -0,0 +1,48 @@
+package com.example.feedback.dedup;
+
+/**
+ * 128-bit hash of a submission's email and message. The name is left out on purpose: a resubmission with a
+ * corrected name is still the same feedback.
+ */
+record SubmissionFingerprint(long high, long low) {
+
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW = 0xC2B2AE3D27D4EB4FL;
+    private static final long C1 = 0x87C37B91114253D5L;
+    private static final long C2 = 0x4CF5AD432745937FL;
+
+    static SubmissionFingerprint of(String email, String message) {
+        return new SubmissionFingerprint(hash(SEED_HIGH, email, message), hash(SEED_LOW, email, message));
+    }
+
+    private static long hash(long seed, String email, String message) {
+        long h = seed;
+        h = mix(h, email);
+        // The lengths keep ("ab", "c") and ("a", "bc") apart.
+        h = step(h, email.length());
+        h = mix(h, message);
+        h = step(h, message.length());
+        return finish(h);
+    }
+
+    private static long mix(long h, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            h = step(h, value.charAt(i));
+        }
+        return h;
+    }
+
+    private static long step(long h, long value) {
+        return Long.rotateLeft(h ^ (value * C1), 31) * C2;
+    }
+
+    /** Murmur3's 64-bit finalizer, so every input bit affects every output bit. */
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
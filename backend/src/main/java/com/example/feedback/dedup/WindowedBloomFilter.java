@@ -0,0 +1,68 @@
+package com.example.feedback.dedup;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers fingerprints for a sliding time window with two Bloom filter generations.
+ * <p>
+ * New fingerprints go into the current generation and lookups check both. Once the current generation is a
+ * window old it becomes the previous one and the old previous one is dropped, so a fingerprint is remembered
+ * for at least one window and at most two. Rotation is a compare-and-set, so there is no lock on either path.
+ */
+final class WindowedBloomFilter {
+
+    private record Generations(BloomFilter current, BloomFilter previous, long startedAt) {
+    }
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final AtomicReference<Generations> generations;
+
+    WindowedBloomFilter(Duration window, long expectedInsertions, double falsePositiveRate, LongSupplier clock) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+        this.generations = new AtomicReference<>(new Generations(newFilter(), null, clock.getAsLong()));
+    }
+
+    boolean mightContain(SubmissionFingerprint fingerprint) {
+        Generations current = current();
+        return current.current().mightContain(fingerprint)
+                || (current.previous() != null && current.previous().mightContain(fingerprint));
+    }
+
+    void put(SubmissionFingerprint fingerprint) {
+        current().current().put(fingerprint);
+    }
+
+    /** Memory held by both generations, in bytes. */
+    long sizeInBytes() {
+        Generations current = generations.get();
+        return current.current().sizeInBytes()
+                + (current.previous() != null ? current.previous().sizeInBytes() : 0);
+    }
+
+    private Generations current() {
+        long now = clock.getAsLong();
+        Generations current = generations.get();
+        while (now - current.startedAt() >= windowNanos) {
+            // After two idle windows even the current generation is stale.
+            BloomFilter previous = now - current.startedAt() >= 2 * windowNanos ? null : current.current();
+            Generations rotated = new Generations(newFilter(), previous, now);
+            if (generations.compareAndSet(current, rotated)) {
+                return rotated;
+            }
+            current = generations.get();
+        }
+        return current;
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.feedback.event;
+
+import java.util.List;
+
+import com.example.feedback.model.Feedback;
+
+/**
+ * Published by the JPA store inside the transaction that inserts feedback, after the rows are written but before
+ * they commit. Listeners that must write alongside the rows, such as the webhook outbox, use
+ * {@code @TransactionalEventListener(phase = BEFORE_COMMIT)}: what they write commits or rolls back with them.
+ * Everything else listens to {@link FeedbackSavedEvent}, which follows the commit.
+ *
+ * @param feedbacks the inserted items, with their ids and timestamps; listeners must treat them as read-only
+ */
+public record FeedbackInsertedEvent(List<Feedback> feedbacks) {
+}
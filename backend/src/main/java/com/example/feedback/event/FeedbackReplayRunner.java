@@ -0,0 +1,62 @@
+package com.example.feedback.event;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.FeedbackStore;
+
+/**
+ * Rebuilds the in-memory views at startup by streaming the whole store once and publishing it as
+ * {@link FeedbackSavedEvent#replay(List) replay} events. Runs before the application reports itself ready.
+ */
+@Component
+@ConditionalOnProperty(prefix = "feedback.replay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FeedbackReplayRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackReplayRunner.class);
+
+    static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private FeedbackStore feedbackStore;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        List<Feedback> chunk = new ArrayList<>(CHUNK_SIZE);
+        long replayed;
+        try {
+            replayed = feedbackStore.scan(null, feedback -> {
+                chunk.add(feedback);
+                if (chunk.size() == CHUNK_SIZE) {
+                    eventPublisher.publishEvent(FeedbackSavedEvent.replay(chunk));
+                    chunk.clear();
+                }
+            });
+        } catch (IOException e) {
+            // The consumer never throws, so this only comes from reading the store itself.
+            throw new UncheckedIOException("Failed to replay feedback", e);
+        }
+        if (!chunk.isEmpty()) {
+            eventPublisher.publishEvent(FeedbackSavedEvent.replay(chunk));
+        }
+
+        logger.info("Replayed {} feedback rows into in-memory views in {} ms", replayed,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.feedback.event;
+
+import java.util.List;
+
+import com.example.feedback.model.Feedback;
+
+/**
+ * Published after feedback has been committed, once per stored batch.
+ * In-memory views (search index, statistics, ...) keep themselves up to date by listening to it.
+ *
+ * @param feedbacks the stored items, in commit order; listeners must treat them as read-only
+ * @param replay    {@code true} when the rows are being re-read from the table at startup rather than newly
+ *                  saved, so listeners with outside side effects should ignore the event
+ */
+public record FeedbackSavedEvent(List<Feedback> feedbacks, boolean replay) {
+
+    public static FeedbackSavedEvent of(Feedback feedback) {
+        return new FeedbackSavedEvent(List.of(feedback), false);
+    }
+
+    public static FeedbackSavedEvent of(List<Feedback> feedbacks) {
+        return new FeedbackSavedEvent(List.copyOf(feedbacks), false);
+    }
+
+    public static FeedbackSavedEvent replay(List<Feedback> feedbacks) {
+        return new FeedbackSavedEvent(List.copyOf(feedbacks), true);
+    }
+}
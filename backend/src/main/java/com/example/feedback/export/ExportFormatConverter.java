@@ -0,0 +1,16 @@
+package com.example.feedback.export;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the {@code format} request parameter case-insensitively ({@code ndjson}, {@code csv}).
+ */
+@Component
+public class ExportFormatConverter implements Converter<String, ExportFormat> {
+
+    @Override
+    public ExportFormat convert(String source) {
+        return ExportFormat.parse(source);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.feedback.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.FeedbackStore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streams feedback straight from {@link FeedbackStore#scan} to an output stream, one item at a time, so the
+ * heap stays flat however large the store is.
+ */
+@Service
+public class FeedbackExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackExportService.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private FeedbackStore feedbackStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Writes all feedback created at or after {@code since} (everything when {@code null}) in
+     * {@code (created_at, id)} order. The stream is flushed but not closed.
+     *
+     * @return number of rows written
+     */
+    public long export(ExportFormat format, LocalDateTime since, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        RowWriter rows = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        rows.begin();
+        long count = feedbackStore.scan(since, rows::write);
+        writer.flush();
+
+        logger.info("Exported {} feedback rows as {}", count, format);
+        return count;
+    }
+
+    private interface RowWriter {
+
+        default void begin() throws IOException {
+        }
+
+        void write(Feedback feedback) throws IOException;
+    }
+
+    /**
+     * One JSON object per line, fields in a fixed order.
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+
+        @Override
+        public void write(Feedback feedback) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", feedback.getId());
+            generator.writeStringField("name", feedback.getName());
+            generator.writeStringField("email", feedback.getEmail());
+            generator.writeStringField("message", feedback.getMessage());
+            generator.writeStringField("createdAt", String.valueOf(feedback.getCreatedAt()));
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; text fields are always quoted.
+     */
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write("id,name,email,message,created_at\r\n");
+        }
+
+        @Override
+        public void write(Feedback feedback) throws IOException {
+            writer.write(Long.toString(feedback.getId()));
+            writer.write(',');
+            writeQuoted(feedback.getName());
+            writer.write(',');
+            writeQuoted(feedback.getEmail());
+            writer.write(',');
+            writeQuoted(feedback.getMessage());
+            writer.write(',');
+            writer.write(String.valueOf(feedback.getCreatedAt()));
+            writer.write("\r\n");
+        }
+
+        private void writeQuoted(String value) throws IOException {
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.feedback.id;
+
+/**
+ * The generator feedback ids come from. Hibernate creates {@link SnowflakeIdentifierGenerator} itself, outside
+ * the context, and the JDBC batch writer has to draw from the same sequence, so the configured generator is
+ * installed here at startup. Until then, and in tests without the context, it is node 0 of the default layout.
+ */
+public final class FeedbackIds {
+
+    private static volatile SnowflakeIdGenerator generator = new SnowflakeIdGenerator(new IdGeneratorProperties());
+
+    private FeedbackIds() {
+    }
+
+    public static long next() {
+        return generator.nextId();
+    }
+
+    public static SnowflakeIdGenerator generator() {
+        return generator;
+    }
+
+    /**
+     * Installs {@code next}, continuing from the ids the current generator has handed out, so none is issued
+     * twice within the millisecond of the switch.
+     */
+    public static synchronized void use(SnowflakeIdGenerator next) {
+        SnowflakeIdGenerator previous = generator;
+        next.continueAfter(previous);
+        generator = next;
+        // Callers that fetched the previous generator just before the switch may have used it since
+        next.continueAfter(previous);
+    }
+}
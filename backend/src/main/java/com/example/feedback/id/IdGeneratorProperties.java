@@ -0,0 +1,41 @@
+package com.example.feedback.id;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the feedback id generator. Every instance writing to the same table needs its own node id;
+ * the bit layout has to be the same on all of them.
+ */
+@ConfigurationProperties(prefix = "feedback.id")
+public class IdGeneratorProperties {
+
+    private long nodeId = 0;
+    /** Bits of the id holding the node id, so up to {@code 2^node-bits} instances. */
+    private int nodeBits = 5;
+    /** Bits of the id counting within a millisecond, so up to {@code 2^sequence-bits} ids per millisecond. */
+    private int sequenceBits = 7;
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public int getNodeBits() {
+        return nodeBits;
+    }
+
+    public void setNodeBits(int nodeBits) {
+        this.nodeBits = nodeBits;
+    }
+
+    public int getSequenceBits() {
+        return sequenceBits;
+    }
+
+    public void setSequenceBits(int sequenceBits) {
+        this.sequenceBits = sequenceBits;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.feedback.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered 64-bit ids made on the client, so an insert does not wait for the database to number its row
+ * and several instances can write without coordinating. An id is, from the high bits down, the milliseconds
+ * since {@link #EPOCH} ({@value #TIMESTAMP_BITS} bits, until 2093), the node id and a per-millisecond sequence.
+ * <p>
+ * The last id handed out is one {@link AtomicLong} of millisecond and sequence, advanced by compare-and-set,
+ * so callers never block each other. Time comes from {@link System#nanoTime()} anchored to the wall clock
+ * once, at construction: when the system clock is stepped back, ids keep increasing instead of repeating.
+ * A node that used up a millisecond's sequence spins until the next one.
+ * <p>
+ * With the default layout of 5 node and 7 sequence bits, ids stay below 2<sup>53</sup> and survive a
+ * JavaScript {@code Number}; 32 nodes can each make 128 ids per millisecond.
+ */
+public final class SnowflakeIdGenerator {
+
+    /** Start of the timestamp field, 2024-01-01T00:00:00Z. */
+    public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+    public static final int TIMESTAMP_BITS = 41;
+    /** Node and sequence bits together; more would not leave the timestamp its bits in a positive long. */
+    public static final int MAX_NODE_AND_SEQUENCE_BITS = 63 - TIMESTAMP_BITS;
+
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+    private final long nodeId;
+    private final int nodeBits;
+    private final int sequenceBits;
+    private final long sequenceMask;
+    private final LongSupplier clock;
+
+    /** {@code (milliseconds since the epoch << sequenceBits) | sequence} of the last id handed out. */
+    private final AtomicLong last = new AtomicLong(-1);
+
+    public SnowflakeIdGenerator(IdGeneratorProperties properties) {
+        this(properties.getNodeId(), properties.getNodeBits(), properties.getSequenceBits(), monotonicClock());
+    }
+
+    /**
+     * @param clock current time in milliseconds since 1970, must not go backwards for ids to stay ordered
+     */
+    SnowflakeIdGenerator(long nodeId, int nodeBits, int sequenceBits, LongSupplier clock) {
+        if (nodeBits < 0 || sequenceBits < 1 || nodeBits + sequenceBits > MAX_NODE_AND_SEQUENCE_BITS) {
+            throw new IllegalArgumentException("Node and sequence bits must add up to at most "
+                    + MAX_NODE_AND_SEQUENCE_BITS + " with at least one sequence bit, got " + nodeBits + " and "
+                    + sequenceBits);
+        }
+        if (nodeId < 0 || nodeId >= 1L << nodeBits) {
+            throw new IllegalArgumentException(
+                    "Node id must be between 0 and " + ((1L << nodeBits) - 1) + ", got " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.nodeBits = nodeBits;
+        this.sequenceBits = sequenceBits;
+        this.sequenceMask = (1L << sequenceBits) - 1;
+        this.clock = clock;
+    }
+
+    /**
+     * Wall-clock milliseconds that only move forward, whatever happens to the system clock after the call.
+     */
+    static LongSupplier monotonicClock() {
+        long originMillis = System.currentTimeMillis();
+        long originNanos = System.nanoTime();
+        return () -> originMillis + (System.nanoTime() - originNanos) / 1_000_000;
+    }
+
+    /**
+     * A new id, greater than every id this generator returned before.
+     *
+     * @throws IllegalStateException when the clock is before {@link #EPOCH} or past the timestamp field
+     */
+    public long nextId() {
+        while (true) {
+            long now = millisSinceEpoch();
+            long previous = last.get();
+            long next;
+            if (now > previous >> sequenceBits) {
+                next = now << sequenceBits;
+            } else if ((previous & sequenceMask) != sequenceMask) {
+                // Same millisecond, or a clock that is behind the last id: count on from the last id
+                next = previous + 1;
+            } else {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (last.compareAndSet(previous, next)) {
+                return ((next >> sequenceBits) << (nodeBits + sequenceBits))
+                        | (nodeId << sequenceBits)
+                        | (next & sequenceMask);
+            }
+        }
+    }
+
+    /**
+     * Carries on from where {@code previous} stopped, so that ids made by this generator for the same node
+     * never repeat one of its ids, even within the millisecond it last used.
+     *
+     * @throws IllegalStateException when {@code previous} has handed out ids in a different layout, where the
+     *         two could collide whatever the state carried over
+     */
+    void continueAfter(SnowflakeIdGenerator previous) {
+        long previousLast = previous.last.get();
+        if (previousLast < 0) {
+            return;
+        }
+        if (previous.nodeBits != nodeBits || previous.sequenceBits != sequenceBits) {
+            throw new IllegalStateException("Ids were already generated with " + previous.nodeBits
+                    + " node and " + previous.sequenceBits + " sequence bits; cannot switch to " + nodeBits
+                    + " and " + sequenceBits);
+        }
+        last.accumulateAndGet(previousLast, Math::max);
+    }
+
+    private long millisSinceEpoch() {
+        long millis = clock.getAsLong() - EPOCH.toEpochMilli();
+        if (millis < 0 || millis > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Clock at " + Instant.ofEpochMilli(clock.getAsLong())
+                    + " is outside the id timestamp range starting " + EPOCH);
+        }
+        return millis;
+    }
+
+    /** When the id was made, to the millisecond. */
+    public Instant timestampOf(long id) {
+        return EPOCH.plusMillis(id >>> (nodeBits + sequenceBits));
+    }
+
+    /** Node that made the id. */
+    public long nodeOf(long id) {
+        return (id >>> sequenceBits) & ((1L << nodeBits) - 1);
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+}
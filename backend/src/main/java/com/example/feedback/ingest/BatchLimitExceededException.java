@@ -0,0 +1,13 @@
+package com.example.feedback.ingest;
+
+import java.io.IOException;
+
+/**
+ * Raised from inside the body stream once a batch goes over its byte limit, which aborts parsing.
+ */
+public class BatchLimitExceededException extends IOException {
+
+    public BatchLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.feedback.ingest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Limits for {@code POST /api/feedback/batch}.
+ */
+@ConfigurationProperties(prefix = "feedback.ingest.batch")
+public class BatchSubmissionProperties {
+
+    private int maxItems = 1000;
+    private DataSize maxBytes = DataSize.ofMegabytes(2);
+    private int jdbcBatchSize = 100;
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public DataSize getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(DataSize maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public int getJdbcBatchSize() {
+        return jdbcBatchSize;
+    }
+
+    public void setJdbcBatchSize(int jdbcBatchSize) {
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+}
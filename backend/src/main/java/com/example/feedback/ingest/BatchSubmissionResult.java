@@ -0,0 +1,79 @@
+package com.example.feedback.ingest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-item outcome of a bulk submission, in request order.
+ */
+public class BatchSubmissionResult {
+
+    public enum Status {
+        CREATED, REJECTED, FAILED
+    }
+
+    public record ItemResult(int index, Status status, Long id, String error, String details) {
+    }
+
+    private final List<ItemResult> items = new ArrayList<>();
+    private int created;
+    private int rejected;
+    private int failed;
+    private String truncation;
+
+    void created(int index, Long id) {
+        items.add(new ItemResult(index, Status.CREATED, id, null, null));
+        created++;
+    }
+
+    void rejected(int index, String error, String details) {
+        items.add(new ItemResult(index, Status.REJECTED, null, error, details));
+        rejected++;
+    }
+
+    void failed(int index) {
+        items.add(new ItemResult(index, Status.FAILED, null, "Internal server error",
+                "An unexpected error occurred. Please try again later."));
+        failed++;
+    }
+
+    void truncate(String reason) {
+        this.truncation = reason;
+    }
+
+    /**
+     * Item results ordered by their index in the request.
+     */
+    public List<ItemResult> getItems() {
+        items.sort((a, b) -> Integer.compare(a.index(), b.index()));
+        return Collections.unmodifiableList(items);
+    }
+
+    public int getReceived() {
+        return items.size();
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public boolean isTruncated() {
+        return truncation != null;
+    }
+
+    /**
+     * Why processing stopped early, or {@code null} if the whole body was read.
+     */
+    public String getTruncation() {
+        return truncation;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.feedback.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.metrics.FeedbackMetrics;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.FeedbackStore;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Processes bulk submissions sent as a JSON array or as newline-delimited JSON.
+ * The body is read one item at a time, each item is validated against the {@link FeedbackRequest}
+ * constraints on its own, and valid items are stored in batches. A rejected item never
+ * affects the others.
+ */
+@Service
+public class BatchSubmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchSubmissionService.class);
+
+    private static final List<String> FIELD_ORDER = List.of("name", "email", "message");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private FeedbackStore feedbackStore;
+
+    @Autowired
+    private BatchSubmissionProperties properties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public BatchSubmissionResult process(InputStream body) throws IOException {
+        BatchSubmissionResult result = new BatchSubmissionResult();
+        PendingBatch pending = new PendingBatch(properties.getJdbcBatchSize());
+        int index = 0;
+
+        try (JsonParser parser = objectMapper.getFactory()
+                .createParser(new LimitedInputStream(body, properties.getMaxBytes().toBytes()))) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && !(array && token == JsonToken.END_ARRAY)) {
+                if (index >= properties.getMaxItems()) {
+                    result.truncate("Batch exceeds the maximum of " + properties.getMaxItems()
+                            + " items; remaining items were not processed");
+                    break;
+                }
+                JsonNode node = parser.readValueAsTree();
+                processItem(index++, node, pending, result);
+                token = parser.nextToken();
+            }
+        } catch (BatchLimitExceededException e) {
+            result.truncate(e.getMessage() + "; remaining items were not processed");
+        } catch (JsonProcessingException e) {
+            logger.debug("Malformed batch body after item {}: {}", index, e.getOriginalMessage());
+            result.truncate("Malformed JSON at item " + index + "; remaining items were not processed");
+        }
+
+        pending.flush(result);
+        return result;
+    }
+
+    private void processItem(int index, JsonNode node, PendingBatch pending, BatchSubmissionResult result) {
+        FeedbackRequest request = null;
+        if (node != null && node.isObject()) {
+            try {
+                request = objectMapper.treeToValue(node, FeedbackRequest.class);
+            } catch (JsonProcessingException e) {
+                logger.debug("Could not bind batch item {}: {}", index, e.getOriginalMessage());
+            }
+        }
+        if (request == null) {
+            result.rejected(index, "Malformed item", "Item must be a JSON object with name, email and message");
+            return;
+        }
+
+        Set<ConstraintViolation<FeedbackRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            violations.forEach(v -> FeedbackMetrics.validationFailure(v.getPropertyPath().toString()));
+            result.rejected(index, "Validation failed", violationDetails(violations));
+            return;
+        }
+
+        pending.add(index, new Feedback(request.getName(), request.getEmail(), request.getMessage()));
+        if (pending.isFull()) {
+            pending.flush(result);
+        }
+    }
+
+    /**
+     * The messages of {@code violations} in field order, joined the way a rejected item reports them.
+     */
+    public static String violationDetails(Set<ConstraintViolation<FeedbackRequest>> violations) {
+        return violations.stream()
+                .sorted(Comparator.comparingInt(
+                        (ConstraintViolation<FeedbackRequest> v) -> FIELD_ORDER.indexOf(v.getPropertyPath().toString()))
+                        .thenComparing(ConstraintViolation::getMessage))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Valid items waiting for the next batch insert, with their positions in the request.
+     */
+    private final class PendingBatch {
+
+        private final int capacity;
+        private final List<Feedback> feedbacks;
+        private final List<Integer> indexes;
+
+        PendingBatch(int capacity) {
+            this.capacity = capacity;
+            this.feedbacks = new ArrayList<>(capacity);
+            this.indexes = new ArrayList<>(capacity);
+        }
+
+        void add(int index, Feedback feedback) {
+            indexes.add(index);
+            feedbacks.add(feedback);
+        }
+
+        boolean isFull() {
+            return feedbacks.size() >= capacity;
+        }
+
+        void flush(BatchSubmissionResult result) {
+            if (feedbacks.isEmpty()) {
+                return;
+            }
+            try {
+                feedbackStore.insertAll(feedbacks);
+            } catch (RuntimeException e) {
+                logger.error("Failed to store batch of {} feedback items: {}", feedbacks.size(), e.getMessage());
+                logger.debug("Error details: ", e);
+                indexes.forEach(result::failed);
+                feedbacks.clear();
+                indexes.clear();
+                return;
+            }
+            for (int i = 0; i < feedbacks.size(); i++) {
+                result.created(indexes.get(i), feedbacks.get(i).getId());
+            }
+            eventPublisher.publishEvent(FeedbackSavedEvent.of(feedbacks));
+            feedbacks.clear();
+            indexes.clear();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.feedback.ingest;
+
+/**
+ * Thrown when a submission cannot be queued, either because the queue is full or the ingestor is shutting down.
+ * Raised on the overload path, so it skips stack trace capture.
+ */
+public class IngestRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public IngestRejectedException(String message, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
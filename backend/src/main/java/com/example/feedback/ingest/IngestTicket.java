@@ -0,0 +1,11 @@
+package com.example.feedback.ingest;
+
+/**
+ * State of a write-behind submission as seen by a caller polling its ticket.
+ */
+public record IngestTicket(String ticket, Status status, Long feedbackId) {
+
+    public enum Status {
+        PENDING, COMMITTED, FAILED
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.feedback.ingest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.feedback.ingest.IngestTicket.Status;
+
+/**
+ * Remembers the outcome of the most recent write-behind submissions so 202 callers can poll their ticket.
+ * Bounded: once {@code capacity} tickets are tracked, the oldest is forgotten.
+ */
+class IngestTicketRegistry {
+
+    private final Map<String, IngestTicket> tickets;
+
+    IngestTicketRegistry(int capacity) {
+        this.tickets = new LinkedHashMap<>(Math.min(capacity, 1024), 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IngestTicket> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized void pending(String ticket) {
+        tickets.put(ticket, new IngestTicket(ticket, Status.PENDING, null));
+    }
+
+    synchronized void committed(String ticket, Long feedbackId) {
+        tickets.replace(ticket, new IngestTicket(ticket, Status.COMMITTED, feedbackId));
+    }
+
+    synchronized void failed(String ticket) {
+        tickets.replace(ticket, new IngestTicket(ticket, Status.FAILED, null));
+    }
+
+    synchronized Optional<IngestTicket> lookup(String ticket) {
+        return Optional.ofNullable(tickets.get(ticket));
+    }
+}
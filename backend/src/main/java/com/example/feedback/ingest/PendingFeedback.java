@@ -0,0 +1,53 @@
+package com.example.feedback.ingest;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.example.feedback.model.Feedback;
+
+/**
+ * A queued submission together with the future completed when its batch commits.
+ */
+public final class PendingFeedback {
+
+    private final String ticket;
+    private final Feedback feedback;
+    private final CompletableFuture<Feedback> result = new CompletableFuture<>();
+
+    PendingFeedback(String ticket, Feedback feedback) {
+        this.ticket = ticket;
+        this.feedback = feedback;
+    }
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    Feedback getFeedback() {
+        return feedback;
+    }
+
+    public CompletableFuture<Feedback> getResult() {
+        return result;
+    }
+
+    /**
+     * Waits for the batch holding this submission to commit.
+     *
+     * @return the stored feedback, or empty if the commit did not happen within {@code timeout}
+     * @throws IllegalStateException if the batch failed to commit
+     */
+    public Optional<Feedback> awaitCommit(Duration timeout) throws InterruptedException {
+        try {
+            return Optional.of(result.get(timeout.toNanos(), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch commit failed for ticket " + ticket, e.getCause());
+        }
+    }
+}
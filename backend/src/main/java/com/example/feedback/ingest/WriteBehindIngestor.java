@@ -0,0 +1,230 @@
+package com.example.feedback.ingest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.FeedbackStore;
+
+/**
+ * Group-commit ingestion for feedback submissions.
+ * Validated entities are put on a bounded queue and a single flusher thread drains them into
+ * multi-row inserts, one transaction per batch. A batch is written once it reaches {@code batch-size}
+ * or once the first queued item has waited {@code linger}, whichever comes first.
+ */
+public class WriteBehindIngestor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindIngestor.class);
+
+    /** Stop after the web server so requests still in flight can hand over their submissions. */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final FeedbackStore store;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteBehindProperties properties;
+    private final BlockingQueue<PendingFeedback> queue;
+    private final IngestTicketRegistry tickets;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public WriteBehindIngestor(FeedbackStore store, ApplicationEventPublisher eventPublisher,
+            WriteBehindProperties properties) {
+        if (properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("feedback.ingest.write-behind.batch-size must be at least 1");
+        }
+        this.store = store;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.tickets = new IngestTicketRegistry(properties.getTicketRetention());
+    }
+
+    /**
+     * Queues a validated submission for the next batch.
+     *
+     * @throws IngestRejectedException if the queue is full (and the overflow policy rejects) or the ingestor is stopping
+     */
+    public PendingFeedback submit(Feedback feedback) {
+        if (!accepting) {
+            throw new IngestRejectedException("Feedback ingestion is shutting down", 1);
+        }
+        PendingFeedback pending = new PendingFeedback(UUID.randomUUID().toString(), feedback);
+        tickets.pending(pending.getTicket());
+
+        if (enqueue(pending)) {
+            return pending;
+        }
+        if (properties.getOverflow() == WriteBehindProperties.Overflow.CALLER_RUNS) {
+            logger.debug("Write-behind queue full, writing submission on the calling thread");
+            flush(List.of(pending));
+            return pending;
+        }
+        tickets.failed(pending.getTicket());
+        throw new IngestRejectedException("Submission queue is full", 1);
+    }
+
+    /**
+     * Waits for the commit when running in {@code SYNC} mode.
+     *
+     * @return the stored feedback, or empty if the caller should be answered with the pending ticket instead
+     */
+    public Optional<Feedback> awaitIfSynchronous(PendingFeedback pending) {
+        if (pending.getResult().isDone() || properties.getMode() == WriteBehindProperties.Mode.SYNC) {
+            try {
+                return pending.awaitCommit(properties.getSyncTimeout());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<IngestTicket> lookupTicket(String ticket) {
+        return tickets.lookup(ticket);
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private boolean enqueue(PendingFeedback pending) {
+        if (properties.getOverflow() != WriteBehindProperties.Overflow.BLOCK) {
+            return queue.offer(pending);
+        }
+        try {
+            return queue.offer(pending, properties.getOverflowTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runFlusher() {
+        int batchSize = properties.getBatchSize();
+        long lingerNanos = properties.getLinger().toNanos();
+        List<PendingFeedback> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingFeedback first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingFeedback next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                // Only the lifecycle interrupts us, after the shutdown timeout; leftovers are drained by stop()
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingFeedback> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Feedback> entities = new ArrayList<>(batch.size());
+        for (PendingFeedback pending : batch) {
+            entities.add(pending.getFeedback());
+        }
+
+        try {
+            store.insertAll(entities);
+        } catch (RuntimeException e) {
+            logger.error("Failed to commit write-behind batch of {} submissions: {}", batch.size(), e.getMessage());
+            logger.debug("Error details: ", e);
+            for (PendingFeedback pending : batch) {
+                tickets.failed(pending.getTicket());
+                pending.getResult().completeExceptionally(e);
+            }
+            return;
+        }
+
+        logger.debug("Committed write-behind batch of {} submissions", batch.size());
+        for (PendingFeedback pending : batch) {
+            tickets.committed(pending.getTicket(), pending.getFeedback().getId());
+            pending.getResult().complete(pending.getFeedback());
+        }
+        eventPublisher.publishEvent(FeedbackSavedEvent.of(entities));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        accepting = true;
+        flusher = new Thread(this::runFlusher, "feedback-write-behind");
+        flusher.start();
+        logger.info("Write-behind ingestion started (mode: {}, batch size: {}, linger: {}, queue capacity: {})",
+                properties.getMode(), properties.getBatchSize(), properties.getLinger(), properties.getQueueCapacity());
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        try {
+            flusher.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            logger.warn("Write-behind flusher did not drain within {}, interrupting", properties.getShutdownTimeout());
+            flusher.interrupt();
+            try {
+                flusher.join(properties.getShutdownTimeout().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Catch submissions that raced past the accepting check while the flusher was finishing
+        List<PendingFeedback> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        for (int from = 0; from < leftovers.size(); from += properties.getBatchSize()) {
+            flush(leftovers.subList(from, Math.min(from + properties.getBatchSize(), leftovers.size())));
+        }
+        logger.info("Write-behind ingestion stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.feedback.ingest;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the opt-in write-behind ingestion mode of {@code POST /api/feedback}.
+ */
+@ConfigurationProperties(prefix = "feedback.ingest.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * How the caller is answered once its submission is queued.
+     */
+    public enum Mode {
+        /** Wait for the batch commit (up to {@code sync-timeout}) and answer 200 with the stored item. */
+        SYNC,
+        /** Answer 202 Accepted with a pending ticket right away. */
+        ASYNC
+    }
+
+    /**
+     * What happens when the queue is full.
+     */
+    public enum Overflow {
+        /** Fail fast with 503 and a Retry-After hint. */
+        REJECT,
+        /** Wait up to {@code overflow-timeout} for space, then reject. */
+        BLOCK,
+        /** Write the submission on the calling thread in its own transaction. */
+        CALLER_RUNS
+    }
+
+    private boolean enabled = false;
+    private Mode mode = Mode.SYNC;
+    private int batchSize = 100;
+    private Duration linger = Duration.ofMillis(5);
+    private int queueCapacity = 10_000;
+    private Overflow overflow = Overflow.REJECT;
+    private Duration overflowTimeout = Duration.ofMillis(50);
+    private Duration syncTimeout = Duration.ofSeconds(2);
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+    private int ticketRetention = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getLinger() {
+        return linger;
+    }
+
+    public void setLinger(Duration linger) {
+        this.linger = linger;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Overflow getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(Overflow overflow) {
+        this.overflow = overflow;
+    }
+
+    public Duration getOverflowTimeout() {
+        return overflowTimeout;
+    }
+
+    public void setOverflowTimeout(Duration overflowTimeout) {
+        this.overflowTimeout = overflowTimeout;
+    }
+
+    public Duration getSyncTimeout() {
+        return syncTimeout;
+    }
+
+    public void setSyncTimeout(Duration syncTimeout) {
+        this.syncTimeout = syncTimeout;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    public int getTicketRetention() {
+        return ticketRetention;
+    }
+
+    public void setTicketRetention(int ticketRetention) {
+        this.ticketRetention = ticketRetention;
+    }
+}
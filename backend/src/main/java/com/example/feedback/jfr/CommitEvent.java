@@ -0,0 +1,14 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Commit")
+@Label("Submission Commit")
+@Description("Commit of a Spring-managed transaction while a submission is handled")
+public class CommitEvent extends StageEvent {
+
+    @Label("Transaction")
+    public String transactionName;
+}
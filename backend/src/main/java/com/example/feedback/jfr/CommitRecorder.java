@@ -0,0 +1,37 @@
+package com.example.feedback.jfr;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Records transaction commits made while a submission is handled as {@link CommitEvent}s. Spring Boot adds
+ * every {@link TransactionExecutionListener} bean to the auto-configured transaction manager.
+ * <p>
+ * The event is only created when a recording wants it, and kept per thread between the two callbacks.
+ */
+public class CommitRecorder implements TransactionExecutionListener {
+
+    private static final ThreadLocal<CommitEvent> PENDING = new ThreadLocal<>();
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (SubmissionTrace.requestId() == null) {
+            return;
+        }
+        CommitEvent event = new CommitEvent();
+        if (event.isEnabled()) {
+            event.transactionName = transaction.getTransactionName();
+            event.begin();
+            PENDING.set(event);
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        CommitEvent event = PENDING.get();
+        if (event != null) {
+            PENDING.remove();
+            event.record(commitFailure == null ? "committed" : "failed");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Notify")
+@Label("Submission Notify")
+@Description("Synchronous FeedbackSavedEvent listeners: search index, statistics and the live stream")
+public class NotifyEvent extends StageEvent {
+}
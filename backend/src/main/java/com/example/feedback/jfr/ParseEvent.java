@@ -0,0 +1,16 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Parse")
+@Label("Submission Parse")
+@Description("Jackson reading the request body into a FeedbackRequest")
+public class ParseEvent extends StageEvent {
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+}
@@ -0,0 +1,16 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Precheck")
+@Label("Submission Precheck")
+@Description("The fast-rejection filter reading the raw body from the connection and scanning it")
+public class PrecheckEvent extends StageEvent {
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+}
@@ -0,0 +1,51 @@
+package com.example.feedback.jfr;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * The MVC validator behind {@code @Valid}, timing each validation as a {@link ValidationEvent}.
+ */
+public class RecordingValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    public RecordingValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        validate(target, errors, new Object[0]);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        boolean completed = false;
+        try {
+            delegate.validate(target, errors, validationHints);
+            completed = true;
+        } finally {
+            event.violations = errors.getErrorCount();
+            event.record(!completed ? "failed" : errors.hasErrors() ? "invalid" : "valid");
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+            Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return delegate.unwrap(type);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Save")
+@Label("Submission Save")
+@Description("FeedbackStore.save, or the hand-off to the write-behind queue; includes the commit")
+public class SaveEvent extends StageEvent {
+
+    @Label("Feedback Id")
+    public long feedbackId;
+}
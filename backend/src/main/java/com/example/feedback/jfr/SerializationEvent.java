@@ -0,0 +1,16 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Serialization")
+@Label("Submission Serialization")
+@Description("Jackson writing the response body")
+public class SerializationEvent extends StageEvent {
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseBytes;
+}
@@ -0,0 +1,40 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the flight recorder events that time one stage of a {@code POST /api/feedback} request.
+ * <p>
+ * Callers {@link #begin()} the event, run the stage and hand its outcome to {@link #record(String)}. Nothing is
+ * written unless a recording with the event enabled is running and the request is being traced by
+ * {@link SubmissionRecordingFilter}, which is what keeps the stages free when nobody records: a disabled event
+ * is a few inlined no-ops. Stack traces are off, as every stage is always called from the same place.
+ */
+@Category({ "Feedback", "Submission" })
+@StackTrace(false)
+public abstract class StageEvent extends Event {
+
+    @Label("Request Id")
+    String requestId;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Ends the event and commits it with the current request id, if it is to be recorded at all.
+     */
+    public void record(String outcome) {
+        end();
+        if (shouldCommit()) {
+            String id = SubmissionTrace.requestId();
+            if (id != null) {
+                this.requestId = id;
+                this.outcome = outcome;
+                commit();
+            }
+        }
+    }
+}
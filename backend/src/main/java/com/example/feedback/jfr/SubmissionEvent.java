@@ -0,0 +1,19 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Submission")
+@Label("Submission")
+@Description("A whole POST /api/feedback request, from the first filter to the response status")
+public class SubmissionEvent extends StageEvent {
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestBytes;
+
+    @Label("Status")
+    public int status;
+}
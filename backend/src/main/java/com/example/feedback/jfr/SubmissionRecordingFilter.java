@@ -0,0 +1,72 @@
+package com.example.feedback.jfr;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Outermost filter of {@code POST /api/feedback}: gives the request an id, makes it the
+ * {@link SubmissionTrace} of the thread so that every stage event carries it, and records the whole request
+ * as a {@link SubmissionEvent}.
+ * <p>
+ * The id is taken from the {@value #REQUEST_ID_HEADER} header when the client sends a usable one, and
+ * generated otherwise; either way it is echoed in the response so a slow request seen by the client can be
+ * found in the recording.
+ */
+public class SubmissionRecordingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    /** Random per process, so generated ids of different instances and restarts do not collide. */
+    private final String idPrefix = Long.toHexString(ThreadLocalRandom.current().nextLong() >>> 16) + "-";
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            requestId = idPrefix + sequence.incrementAndGet();
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+
+        SubmissionEvent event = new SubmissionEvent();
+        event.begin();
+        SubmissionTrace.enter(requestId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int status = response.getStatus();
+            event.requestBytes = request.getContentLengthLong();
+            event.status = status;
+            event.record(outcome(status));
+            SubmissionTrace.exit();
+        }
+    }
+
+    static String outcome(int status) {
+        return switch (status) {
+            case 200, 201 -> "stored";
+            case 202 -> "queued";
+            case 400, 413, 415, 422 -> "rejected";
+            case 429 -> "throttled";
+            case 503 -> "shed";
+            default -> status >= 500 ? "error" : "status-" + status;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.feedback.jfr;
+
+/**
+ * Id of the submission the current thread is handling, set by {@link SubmissionRecordingFilter} for the
+ * duration of the request and carried by every {@link StageEvent} it records.
+ */
+public final class SubmissionTrace {
+
+    private static final ThreadLocal<String> REQUEST_ID = new ThreadLocal<>();
+
+    private SubmissionTrace() {
+    }
+
+    /** Request id of the submission on this thread, or {@code null} outside one. */
+    public static String requestId() {
+        return REQUEST_ID.get();
+    }
+
+    static void enter(String requestId) {
+        REQUEST_ID.set(requestId);
+    }
+
+    static void exit() {
+        REQUEST_ID.remove();
+    }
+}
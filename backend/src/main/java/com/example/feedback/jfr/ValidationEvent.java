@@ -0,0 +1,14 @@
+package com.example.feedback.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.feedback.Validation")
+@Label("Submission Validation")
+@Description("Bean validation of the bound request (@Valid)")
+public class ValidationEvent extends StageEvent {
+
+    @Label("Violations")
+    public int violations;
+}
@@ -0,0 +1,84 @@
+package com.example.feedback.load;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the offline bulk loader, which runs instead of the server when {@code feedback.load.file} is set.
+ */
+@ConfigurationProperties(prefix = "feedback.load")
+public class BulkLoadProperties {
+
+    /** CSV or NDJSON file to import; the loader only runs when this is set. */
+    private String file;
+    /** {@code csv} or {@code ndjson}; taken from the file extension when not set. */
+    private String format;
+    /** Where rejected rows are written as NDJSON; defaults to the input file with {@code .rejects.ndjson} appended. */
+    private String rejectsFile;
+    /** Bytes of input per chunk; each chunk is parsed by one thread and committed in one transaction. */
+    private DataSize chunkSize = DataSize.ofMegabytes(8);
+    /** Rows per JDBC batch within a chunk. */
+    private int batchSize = 1000;
+    /** Chunks loaded at once; 0 means one per core. Each holds a database connection while it commits. */
+    private int parallelism = 0;
+    /** How often progress is logged. */
+    private Duration progressInterval = Duration.ofSeconds(5);
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public String getRejectsFile() {
+        return rejectsFile;
+    }
+
+    public void setRejectsFile(String rejectsFile) {
+        this.rejectsFile = rejectsFile;
+    }
+
+    public DataSize getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(DataSize chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public Duration getProgressInterval() {
+        return progressInterval;
+    }
+
+    public void setProgressInterval(Duration progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.feedback.load;
+
+import java.io.IOException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validator;
+
+/**
+ * Command-line loader mode: with {@code feedback.load.file} set, the application imports that file with
+ * {@link BulkLoader} and exits, with status 0 once the whole file is loaded and 1 otherwise. Runs before the
+ * other runners, so the startup replay is not waited for; the {@code load} profile turns it and the web server off.
+ * <p>
+ * The file is read at run time rather than through {@code @ConditionalOnProperty}: AOT processing fixes
+ * conditions at build time, where no file is given.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BulkLoadRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkLoadRunner.class);
+
+    @Autowired
+    private BulkLoadProperties properties;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!StringUtils.hasText(properties.getFile())) {
+            return;
+        }
+        int status;
+        try {
+            load(environment, new BulkLoader(dataSource, validator, objectMapper, properties));
+            status = 0;
+        } catch (IOException | RuntimeException e) {
+            logger.error("Bulk load of {} failed: {}", properties.getFile(), e.getMessage());
+            logger.debug("Error details: ", e);
+            status = 1;
+        }
+        int exitCode = status;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    /**
+     * Runs the load if the configuration lets imported rows stay where they are written.
+     *
+     * @throws IllegalStateException if the store is not the datasource, or time partitioning is on
+     */
+    static LoadResult load(Environment environment, BulkLoader loader) throws IOException, InterruptedException {
+        if (!"jpa".equals(environment.getProperty("feedback.store.type", "jpa"))) {
+            // The loader writes to the datasource; other stores keep their rows elsewhere
+            throw new IllegalStateException("feedback.load.file requires feedback.store.type=jpa");
+        }
+        if (environment.getProperty("feedback.archive.enabled", Boolean.class, false)) {
+            // Imported rows keep their old created_at, and the archiver never rolls a period twice
+            throw new IllegalStateException("feedback.load.file cannot be used with feedback.archive.enabled=true: "
+                    + "imported rows older than the archive boundary would stay out of the archive and unread");
+        }
+        return loader.load();
+    }
+}
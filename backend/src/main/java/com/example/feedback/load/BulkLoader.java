@@ -0,0 +1,314 @@
+package com.example.feedback.load;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.example.feedback.export.ExportFormat;
+import com.example.feedback.id.FeedbackIds;
+import com.example.feedback.ingest.BatchSubmissionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports a CSV or NDJSON file of historical feedback straight into the feedback table.
+ * <p>
+ * The file is memory-mapped and cut into chunks on record boundaries ({@link LoadInput}); chunks are parsed,
+ * validated and inserted in parallel, each by one thread. Rows are checked against the same {@link FeedbackRequest}
+ * constraints as submissions and written with JDBC batch inserts, bypassing the JPA persistence context. They keep
+ * their {@code created_at} when the file has one, and get new ids from {@link FeedbackIds}.
+ * <p>
+ * Each chunk commits in one transaction together with its row in {@code feedback_load_chunk}, the checkpoint:
+ * a load that is interrupted, by a crash or a failed chunk, is resumed by running it again, and skips the chunks
+ * already committed without loading any row twice. Rejected rows go to an NDJSON file with their line number,
+ * reason and raw text; they are written before their chunk commits, so a chunk retried after a crash may list
+ * its rejects twice.
+ * <p>
+ * Nothing is published as {@link com.example.feedback.event.FeedbackSavedEvent}: the in-memory views of a
+ * running server pick loaded rows up when it next starts. One instance runs one load.
+ */
+public class BulkLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkLoader.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO feedback (id, name, email, message, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String CHECKPOINT_SQL = "INSERT INTO feedback_load_chunk "
+            + "(load_id, chunk_index, chunk_size, rows_loaded, rows_rejected) VALUES (?, ?, ?, ?, ?)";
+    private static final String COMMITTED_SQL =
+            "SELECT chunk_index, chunk_size FROM feedback_load_chunk WHERE load_id = ?";
+
+    static final String VALIDATION_FAILED = "Validation failed";
+
+    private static final long MAX_CHUNK_SIZE = DataSize.ofGigabytes(1).toBytes();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final BulkLoadProperties properties;
+
+    private final AtomicLong rowsLoaded = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong bytesDone = new AtomicLong();
+    private final AtomicInteger chunksDone = new AtomicInteger();
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private final Lock rejectsLock = new ReentrantLock();
+
+    public BulkLoader(DataSource dataSource, Validator validator, ObjectMapper objectMapper,
+            BulkLoadProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Loads {@code feedback.load.file}, resuming an earlier run of the same load if there was one.
+     *
+     * @throws IllegalArgumentException for invalid settings or an input that cannot be read as its format
+     * @throws IllegalStateException when a chunk failed, the chunks committed so far staying committed, or when
+     *         an earlier run of the load used another chunk size
+     */
+    public LoadResult load() throws IOException, InterruptedException {
+        long chunkSize = properties.getChunkSize().toBytes();
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE || properties.getBatchSize() < 1) {
+            throw new IllegalArgumentException("feedback.load.chunk-size must be between 1B and 1GB "
+                    + "and feedback.load.batch-size positive");
+        }
+        Path file = Path.of(properties.getFile());
+        ExportFormat format = properties.getFormat() != null ? ExportFormat.parse(properties.getFormat()) : null;
+        long start = System.nanoTime();
+
+        try (LoadInput input = LoadInput.open(file, format, chunkSize)) {
+            Set<Integer> committed = committedChunks(input, chunkSize);
+            List<LoadInput.Chunk> pending = new ArrayList<>();
+            for (LoadInput.Chunk chunk : input.chunks()) {
+                if (committed.contains(chunk.index())) {
+                    bytesDone.addAndGet(chunk.length());
+                } else {
+                    pending.add(chunk);
+                }
+            }
+            int skipped = input.chunks().size() - pending.size();
+            int threads = properties.getParallelism() > 0 ? properties.getParallelism()
+                    : Runtime.getRuntime().availableProcessors();
+            Path rejectsFile = properties.getRejectsFile() != null ? Path.of(properties.getRejectsFile())
+                    : file.resolveSibling(file.getFileName() + ".rejects.ndjson");
+
+            if (skipped > 0) {
+                logger.info("Resuming load {} of {}: {} of {} chunks already committed", input.loadId(), file,
+                        skipped, input.chunks().size());
+            } else {
+                logger.info("Loading {} as {} ({} bytes in {} chunks, {} threads), load id {}", file,
+                        input.format(), input.size(), input.chunks().size(), threads, input.loadId());
+            }
+
+            // A fresh load starts a fresh rejects file; a resumed one adds to it
+            try (BufferedWriter rejects = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    skipped > 0 ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+                LocalDateTime loadedAt = LocalDateTime.now();
+                ExecutorService executor = Executors.newFixedThreadPool(threads, threadFactory());
+                try {
+                    for (LoadInput.Chunk chunk : pending) {
+                        executor.execute(() -> loadChunkUnlessFailed(input, chunk, loadedAt, rejects));
+                    }
+                    executor.shutdown();
+                    long interval = Math.max(1, properties.getProgressInterval().toMillis());
+                    while (!executor.awaitTermination(interval, TimeUnit.MILLISECONDS)) {
+                        logProgress(input, skipped, start);
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            Exception failed = failure.get();
+            if (failed != null) {
+                throw new IllegalStateException("Bulk load of " + file + " stopped after " + chunksDone.get()
+                        + " chunks; run it again to resume: " + failed.getMessage(), failed);
+            }
+            LoadResult result = new LoadResult(input.loadId(), input.chunks().size(), skipped, rowsLoaded.get(),
+                    rowsRejected.get(), Duration.ofNanos(System.nanoTime() - start));
+            logger.info("Loaded {} rows from {} and rejected {} (see {}) in {} ms, {} rows/s", result.rowsLoaded(),
+                    file, result.rowsRejected(), rejectsFile, result.elapsed().toMillis(),
+                    Math.round(result.rowsPerSecond()));
+            return result;
+        }
+    }
+
+    private void loadChunkUnlessFailed(LoadInput input, LoadInput.Chunk chunk, LocalDateTime loadedAt,
+            BufferedWriter rejects) {
+        if (failure.get() != null) {
+            return;
+        }
+        try {
+            loadChunk(input, chunk, loadedAt, rejects);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Chunk {} (line {}) of {} failed: {}", chunk.index(), chunk.firstLine(), input.path(),
+                    e.getMessage());
+            logger.debug("Error details: ", e);
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void loadChunk(LoadInput input, LoadInput.Chunk chunk, LocalDateTime loadedAt, BufferedWriter rejects)
+            throws IOException {
+        ByteBuffer buffer = input.map(chunk);
+        RecordParser parser = new RecordParser(input.format(), input.columns(), objectMapper);
+        List<Object[]> rows = new ArrayList<>();
+        StringBuilder rejected = new StringBuilder();
+        int[] rejectedCount = { 0 };
+        parser.parse(buffer, chunk.firstLine(), record -> {
+            String error = record.error();
+            String details = record.details();
+            Timestamp createdAt = null;
+            if (error == null) {
+                try {
+                    createdAt = Timestamp.valueOf(createdAt(record.createdAt(), loadedAt));
+                } catch (DateTimeParseException e) {
+                    error = RecordParser.MALFORMED;
+                    details = "created_at must be an ISO-8601 date-time, got " + record.createdAt();
+                }
+            }
+            if (error == null) {
+                FeedbackRequest request = new FeedbackRequest(record.name(), record.email(), record.message());
+                Set<ConstraintViolation<FeedbackRequest>> violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    error = VALIDATION_FAILED;
+                    details = BatchSubmissionService.violationDetails(violations);
+                }
+            }
+            if (error != null) {
+                rejected.append(rejectLine(record.line(), error, details, RecordParser.raw(buffer, record)))
+                        .append('\n');
+                rejectedCount[0]++;
+            } else {
+                rows.add(new Object[] { record.name(), record.email(), record.message(), createdAt });
+            }
+        });
+
+        if (!rejected.isEmpty()) {
+            rejectsLock.lock();
+            try {
+                rejects.write(rejected.toString());
+                rejects.flush();
+            } finally {
+                rejectsLock.unlock();
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, properties.getBatchSize(), (statement, row) -> {
+                statement.setLong(1, FeedbackIds.next());
+                statement.setString(2, (String) row[0]);
+                statement.setString(3, (String) row[1]);
+                statement.setString(4, (String) row[2]);
+                statement.setTimestamp(5, (Timestamp) row[3]);
+            });
+            jdbcTemplate.update(CHECKPOINT_SQL, input.loadId(), chunk.index(), properties.getChunkSize().toBytes(),
+                    rows.size(), rejectedCount[0]);
+        });
+
+        rowsLoaded.addAndGet(rows.size());
+        rowsRejected.addAndGet(rejectedCount[0]);
+        bytesDone.addAndGet(chunk.length());
+        chunksDone.incrementAndGet();
+    }
+
+    /**
+     * Chunks an earlier run of this load committed. Chunk indexes only match under the chunk size they were
+     * planned with, so a resume with another one is refused rather than loading the file again.
+     */
+    private Set<Integer> committedChunks(LoadInput input, long chunkSize) {
+        Set<Integer> committed = new HashSet<>();
+        jdbcTemplate.query(COMMITTED_SQL, rs -> {
+            long committedChunkSize = rs.getLong("chunk_size");
+            if (committedChunkSize != chunkSize) {
+                throw new IllegalStateException("Load " + input.loadId() + " of " + input.path()
+                        + " was started with feedback.load.chunk-size=" + committedChunkSize
+                        + "B; resume it with the same chunk size");
+            }
+            committed.add(rs.getInt("chunk_index"));
+        }, input.loadId());
+        return committed;
+    }
+
+    /** The row's own time stamp, ISO-8601 with a {@code T} or a space, or the load's when it has none. */
+    static LocalDateTime createdAt(String value, LocalDateTime loadedAt) {
+        if (value == null || value.isBlank()) {
+            return loadedAt;
+        }
+        return LocalDateTime.parse(value.strip().replace(' ', 'T'));
+    }
+
+    private String rejectLine(long line, String error, String details, String raw) {
+        Map<String, Object> reject = new LinkedHashMap<>();
+        reject.put("line", line);
+        reject.put("error", error);
+        reject.put("details", details);
+        reject.put("record", raw);
+        try {
+            return objectMapper.writeValueAsString(reject);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void logProgress(LoadInput input, int skipped, long start) {
+        double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1e9);
+        long loaded = rowsLoaded.get();
+        long rejected = rowsRejected.get();
+        logger.info("Loaded {} rows, rejected {}, {} of {} chunks ({}% of {}), {} rows/s", loaded, rejected,
+                skipped + chunksDone.get(), input.chunks().size(),
+                input.size() == 0 ? 100 : bytesDone.get() * 100 / input.size(), input.path(),
+                Math.round((loaded + rejected) / seconds));
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "bulk-load-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
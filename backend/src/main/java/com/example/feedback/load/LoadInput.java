@@ -0,0 +1,256 @@
+package com.example.feedback.load;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.feedback.export.ExportFormat;
+
+/**
+ * An input file, memory-mapped and cut into chunks that end on record boundaries.
+ * <p>
+ * Planning is one sequential pass over the mapped bytes that only looks at newlines and, in CSV, quotes: a
+ * newline ends a record unless it falls inside a quoted field. The chunks depend only on the file and the chunk
+ * size, so a restarted load cuts the same chunks and can skip those already committed. Each chunk knows the line
+ * its first record starts on, for reporting rejected rows.
+ * <p>
+ * The same pass digests the content, which identifies the load: a copy, a renamed file or a touched one resumes
+ * the load of the original, while any change to the bytes makes a new load.
+ */
+final class LoadInput implements AutoCloseable {
+
+    /** Bytes mapped at a time while planning; chunks are mapped on their own when loaded. */
+    private static final long SCAN_WINDOW = 64L << 20;
+    /** Longest CSV header row accepted. */
+    private static final int MAX_HEADER_BYTES = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ExportFormat format;
+    private final long size;
+    private final CsvColumns columns;
+    private final List<Chunk> chunks;
+    private final String loadId;
+
+    private LoadInput(Path path, FileChannel channel, ExportFormat format, long size, CsvColumns columns,
+            List<Chunk> chunks, String loadId) {
+        this.path = path;
+        this.channel = channel;
+        this.format = format;
+        this.size = size;
+        this.columns = columns;
+        this.chunks = chunks;
+        this.loadId = loadId;
+    }
+
+    /**
+     * Opens and plans {@code path}. {@code format} may be {@code null} to take it from the file extension.
+     *
+     * @throws IllegalArgumentException when the format cannot be told or a CSV header lacks a required column
+     */
+    static LoadInput open(Path path, ExportFormat format, long chunkSize) throws IOException {
+        ExportFormat resolved = format != null ? format : formatOf(path);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            MessageDigest digest = sha256();
+            long dataStart = startAfterBom(channel, size);
+            CsvColumns columns = null;
+            long firstLine = 1;
+            if (resolved == ExportFormat.CSV) {
+                int headerLength = headerLength(channel, dataStart, size);
+                columns = CsvColumns.parse(path, readString(channel, dataStart, headerLength));
+                dataStart += headerLength;
+                firstLine = 2;
+            }
+            if (dataStart > 0) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, dataStart));
+            }
+            List<Chunk> chunks = plan(channel, resolved, dataStart, size, firstLine, chunkSize, digest);
+            return new LoadInput(path, channel, resolved, size, columns, chunks, loadIdOf(size, digest));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static ExportFormat formatOf(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return ExportFormat.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ExportFormat.NDJSON;
+        }
+        throw new IllegalArgumentException(
+                "Cannot tell the format of " + path + "; set feedback.load.format to csv or ndjson");
+    }
+
+    private static long startAfterBom(FileChannel channel, long size) throws IOException {
+        if (size < 3) {
+            return 0;
+        }
+        ByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, 3);
+        return head.get(0) == (byte) 0xEF && head.get(1) == (byte) 0xBB && head.get(2) == (byte) 0xBF ? 3 : 0;
+    }
+
+    /** Length of the header row including its line end. */
+    private static int headerLength(FileChannel channel, long start, long size) throws IOException {
+        int window = (int) Math.min(MAX_HEADER_BYTES, size - start);
+        ByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, start, window);
+        for (int i = 0; i < window; i++) {
+            if (head.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        if (window == size - start && window > 0) {
+            // A header row and nothing else
+            return window;
+        }
+        throw new IllegalArgumentException(window == 0 ? "CSV input is empty, expected a header row"
+                : "CSV header row is longer than " + MAX_HEADER_BYTES + " bytes");
+    }
+
+    private static String readString(FileChannel channel, long start, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        channel.map(FileChannel.MapMode.READ_ONLY, start, length).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<Chunk> plan(FileChannel channel, ExportFormat format, long dataStart, long size,
+            long firstLine, long chunkSize, MessageDigest digest) throws IOException {
+        boolean csv = format == ExportFormat.CSV;
+        List<Chunk> chunks = new ArrayList<>();
+        long chunkStart = dataStart;
+        long chunkLine = firstLine;
+        long line = firstLine;
+        boolean quoted = false;
+        for (long windowStart = dataStart; windowStart < size; windowStart += SCAN_WINDOW) {
+            int length = (int) Math.min(SCAN_WINDOW, size - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+            // Advances the position only; the scan below reads by index
+            digest.update(window);
+            for (int i = 0; i < length; i++) {
+                byte b = window.get(i);
+                if (b == '"' && csv) {
+                    quoted = !quoted;
+                } else if (b == '\n') {
+                    line++;
+                    long next = windowStart + i + 1;
+                    if (!quoted && next - chunkStart >= chunkSize) {
+                        chunks.add(new Chunk(chunks.size(), chunkStart, next, chunkLine));
+                        chunkStart = next;
+                        chunkLine = line;
+                    }
+                }
+            }
+        }
+        if (chunkStart < size) {
+            chunks.add(new Chunk(chunks.size(), chunkStart, size, chunkLine));
+        }
+        return List.copyOf(chunks);
+    }
+
+    /**
+     * Identifies a load in the checkpoint table by the file's size and content, whatever its name or timestamps.
+     */
+    private static String loadIdOf(long size, MessageDigest content) {
+        MessageDigest identity = sha256();
+        identity.update(Long.toString(size).getBytes(StandardCharsets.UTF_8));
+        identity.update(content.digest());
+        return HexFormat.of().formatHex(identity.digest(), 0, 16);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    MappedByteBuffer map(Chunk chunk) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length());
+    }
+
+    Path path() {
+        return path;
+    }
+
+    ExportFormat format() {
+        return format;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /** Column positions of a CSV input, {@code null} for NDJSON. */
+    CsvColumns columns() {
+        return columns;
+    }
+
+    List<Chunk> chunks() {
+        return chunks;
+    }
+
+    String loadId() {
+        return loadId;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Bytes {@code [start, end)} of the file, whose first record starts on line {@code firstLine}.
+     */
+    record Chunk(int index, long start, long end, long firstLine) {
+
+        long length() {
+            return end - start;
+        }
+    }
+
+    /**
+     * Positions of the loaded fields in a CSV record of {@code fields} fields; {@code createdAt} is -1 when the
+     * file has no {@code created_at} column. Other columns, such as the export's {@code id}, are ignored.
+     */
+    record CsvColumns(int fields, int name, int email, int message, int createdAt) {
+
+        static CsvColumns parse(Path path, String header) {
+            String[] names = header.strip().split(",", -1);
+            int name = -1;
+            int email = -1;
+            int message = -1;
+            int createdAt = -1;
+            for (int i = 0; i < names.length; i++) {
+                String column = names[i].strip().replace("\"", "").toLowerCase(Locale.ROOT);
+                switch (column) {
+                    case "name" -> name = i;
+                    case "email" -> email = i;
+                    case "message" -> message = i;
+                    case "created_at", "createdat" -> createdAt = i;
+                    default -> {
+                    }
+                }
+            }
+            if (name < 0 || email < 0 || message < 0) {
+                throw new IllegalArgumentException("CSV header of " + path
+                        + " must name the columns name, email and message, got: " + header.strip());
+            }
+            return new CsvColumns(names.length, name, email, message, createdAt);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.feedback.load;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one run of the bulk loader. Counts cover this run only; {@code skippedChunks} were committed by an
+ * earlier, interrupted run of the same load.
+ */
+public record LoadResult(String loadId, int chunks, int skippedChunks, long rowsLoaded, long rowsRejected,
+        Duration elapsed) {
+
+    /** Rows read per second, loaded or rejected. */
+    public double rowsPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return (rowsLoaded + rowsRejected) * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.feedback.load;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.example.feedback.export.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Parses the records of one chunk straight from its mapped bytes; one instance per thread.
+ * <p>
+ * CSV is read as RFC 4180, as the export writes it: fields optionally quoted, quotes doubled inside quoted fields,
+ * records ending in LF or CRLF. NDJSON has one JSON object per line. Blank lines are skipped. A record that cannot
+ * be parsed is passed on with an error instead of fields, so one bad row never stops the chunk.
+ */
+final class RecordParser {
+
+    /** Longest raw record text kept for the rejects file. */
+    static final int MAX_RAW_BYTES = 4096;
+
+    static final String MALFORMED = "Malformed row";
+
+    private final ExportFormat format;
+    private final LoadInput.CsvColumns columns;
+    private final ObjectMapper objectMapper;
+    private byte[] scratch = new byte[1024];
+
+    RecordParser(ExportFormat format, LoadInput.CsvColumns columns, ObjectMapper objectMapper) {
+        this.format = format;
+        this.columns = columns;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Parses {@code buffer} from position 0 to its limit; its first record starts on line {@code firstLine}.
+     */
+    void parse(ByteBuffer buffer, long firstLine, Consumer<SourceRecord> records) {
+        if (format == ExportFormat.CSV) {
+            parseCsv(buffer, firstLine, records);
+        } else {
+            parseNdjson(buffer, firstLine, records);
+        }
+    }
+
+    private void parseCsv(ByteBuffer buffer, long firstLine, Consumer<SourceRecord> records) {
+        int limit = buffer.limit();
+        int pos = 0;
+        long line = firstLine;
+        List<String> fields = new ArrayList<>(columns.fields());
+        while (pos < limit) {
+            int start = pos;
+            long startLine = line;
+            if (isLineEnd(buffer, pos, limit)) {
+                pos = skipLineEnd(buffer, pos, limit);
+                line++;
+                continue;
+            }
+            fields.clear();
+            String error = null;
+            while (true) {
+                if (pos < limit && buffer.get(pos) == '"') {
+                    int length = 0;
+                    boolean closed = false;
+                    pos++;
+                    while (pos < limit) {
+                        byte b = buffer.get(pos++);
+                        if (b == '"') {
+                            if (pos < limit && buffer.get(pos) == '"') {
+                                pos++;
+                            } else {
+                                closed = true;
+                                break;
+                            }
+                        } else if (b == '\n') {
+                            line++;
+                        }
+                        length = append(length, b);
+                    }
+                    if (!closed) {
+                        error = "Unterminated quoted field";
+                        break;
+                    }
+                    fields.add(new String(scratch, 0, length, StandardCharsets.UTF_8));
+                    if (pos < limit && buffer.get(pos) != ',' && !isLineEnd(buffer, pos, limit)) {
+                        error = "Unexpected character after a quoted field";
+                        while (pos < limit && buffer.get(pos) != '\n') {
+                            pos++;
+                        }
+                        break;
+                    }
+                } else {
+                    int from = pos;
+                    while (pos < limit && buffer.get(pos) != ',' && buffer.get(pos) != '\n') {
+                        pos++;
+                    }
+                    int to = pos > from && buffer.get(pos - 1) == '\r' && (pos == limit || buffer.get(pos) == '\n')
+                            ? pos - 1 : pos;
+                    fields.add(decode(buffer, from, to));
+                }
+                if (pos < limit && buffer.get(pos) == ',') {
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+            int end = pos;
+            if (pos < limit) {
+                pos = skipLineEnd(buffer, pos, limit);
+                line++;
+            }
+
+            if (error == null && fields.size() != columns.fields()) {
+                error = "Expected " + columns.fields() + " fields, found " + fields.size();
+            }
+            if (error != null) {
+                records.accept(SourceRecord.malformed(startLine, start, end, error));
+            } else {
+                records.accept(new SourceRecord(startLine, start, end, fields.get(columns.name()),
+                        fields.get(columns.email()), fields.get(columns.message()),
+                        columns.createdAt() >= 0 ? fields.get(columns.createdAt()) : null, null, null));
+            }
+        }
+    }
+
+    private void parseNdjson(ByteBuffer buffer, long firstLine, Consumer<SourceRecord> records) {
+        int limit = buffer.limit();
+        int pos = 0;
+        long line = firstLine;
+        while (pos < limit) {
+            int start = pos;
+            while (pos < limit && buffer.get(pos) != '\n') {
+                pos++;
+            }
+            int end = pos > start && buffer.get(pos - 1) == '\r' ? pos - 1 : pos;
+            long recordLine = line++;
+            pos++;
+
+            int length = end - start;
+            if (length == 0) {
+                continue;
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            buffer.get(start, scratch, 0, length);
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(scratch, 0, length);
+            } catch (IOException e) {
+                node = null;
+            }
+            if (node == null || node.isMissingNode()) {
+                // Whitespace only
+                if (new String(scratch, 0, length, StandardCharsets.UTF_8).isBlank()) {
+                    continue;
+                }
+                records.accept(SourceRecord.malformed(recordLine, start, end, "Row is not valid JSON"));
+            } else if (!node.isObject() || !scalar(node, "name") || !scalar(node, "email")
+                    || !scalar(node, "message") || !scalar(node, "createdAt") || !scalar(node, "created_at")) {
+                records.accept(SourceRecord.malformed(recordLine, start, end,
+                        "Row must be a JSON object with name, email and message"));
+            } else {
+                String createdAt = text(node, "createdAt");
+                records.accept(new SourceRecord(recordLine, start, end, text(node, "name"), text(node, "email"),
+                        text(node, "message"), createdAt != null ? createdAt : text(node, "created_at"), null, null));
+            }
+        }
+    }
+
+    private static boolean scalar(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isValueNode();
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private int append(int length, byte b) {
+        if (length == scratch.length) {
+            scratch = Arrays.copyOf(scratch, length * 2);
+        }
+        scratch[length] = b;
+        return length + 1;
+    }
+
+    private String decode(ByteBuffer buffer, int from, int to) {
+        int length = to - from;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(from, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isLineEnd(ByteBuffer buffer, int pos, int limit) {
+        byte b = buffer.get(pos);
+        return b == '\n' || (b == '\r' && (pos + 1 == limit || buffer.get(pos + 1) == '\n'));
+    }
+
+    private static int skipLineEnd(ByteBuffer buffer, int pos, int limit) {
+        if (pos < limit && buffer.get(pos) == '\r') {
+            pos++;
+        }
+        return pos < limit && buffer.get(pos) == '\n' ? pos + 1 : pos;
+    }
+
+    /**
+     * The raw text of a record, cut at {@value #MAX_RAW_BYTES} bytes, for the rejects file.
+     */
+    static String raw(ByteBuffer buffer, SourceRecord record) {
+        int end = record.end() > record.start() && buffer.get(record.end() - 1) == '\r'
+                ? record.end() - 1 : record.end();
+        byte[] bytes = new byte[Math.min(end - record.start(), MAX_RAW_BYTES)];
+        buffer.get(record.start(), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * One record of the input: its fields as text, or an {@code error} with {@code details} when it could not
+     * be parsed. {@code start} and {@code end} are its bytes within the chunk, without the line end.
+     */
+    record SourceRecord(long line, int start, int end, String name, String email, String message, String createdAt,
+            String error, String details) {
+
+        static SourceRecord malformed(long line, int start, int end, String details) {
+            return new SourceRecord(line, start, end, null, null, null, null, MALFORMED, details);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.feedback.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Names and recording helpers for the feedback pipeline's own meters.
+ * Counters go through Micrometer's global registry, which Spring Boot wires to the configured registries,
+ * so they can be recorded from code that is also used outside a Spring context.
+ */
+public final class FeedbackMetrics {
+
+    /** Timer around {@code POST /api/feedback} once the body is bound and validated, until the response is built. */
+    public static final String SUBMISSION = "feedback.submission";
+    /** Timer around multi-row JDBC inserts of the bulk and write-behind paths. */
+    public static final String BATCH_INSERT = "feedback.batch.insert";
+    /** Timer around JSON request reading and response writing, tagged with {@code operation}. */
+    public static final String SERIALIZATION = "feedback.serialization";
+    /** Counter of rejected fields, tagged with {@code field}. */
+    public static final String VALIDATION_FAILURES = "feedback.validation.failures";
+    /** Counter of errors that reached the catch-all handler, tagged with {@code exception}. */
+    public static final String UNEXPECTED_ERRORS = "feedback.errors.unexpected";
+    /** Counter of submissions answered without being stored again, tagged with {@code reason}. */
+    public static final String DUPLICATE_SUBMISSIONS = "feedback.submission.duplicates";
+    /** Timer around segment-log appends, including the wait for fsync where the policy requires one. */
+    public static final String STORE_APPEND = "feedback.store.append";
+
+    /** Counters per tag value; the global registry's composite meters pick up registries added later. */
+    private static final Map<String, Counter> VALIDATION_FAILURE_COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> UNEXPECTED_ERROR_COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> DUPLICATE_SUBMISSION_COUNTERS = new ConcurrentHashMap<>();
+
+    private FeedbackMetrics() {
+    }
+
+    public static void validationFailure(String field) {
+        VALIDATION_FAILURE_COUNTERS
+                .computeIfAbsent(field, key -> Metrics.counter(VALIDATION_FAILURES, "field", key))
+                .increment();
+    }
+
+    public static void unexpectedError(Throwable ex) {
+        UNEXPECTED_ERROR_COUNTERS
+                .computeIfAbsent(ex.getClass().getSimpleName(),
+                        key -> Metrics.counter(UNEXPECTED_ERRORS, "exception", key))
+                .increment();
+    }
+
+    public static void duplicateSubmission(String reason) {
+        DUPLICATE_SUBMISSION_COUNTERS
+                .computeIfAbsent(reason, key -> Metrics.counter(DUPLICATE_SUBMISSIONS, "reason", key))
+                .increment();
+    }
+}
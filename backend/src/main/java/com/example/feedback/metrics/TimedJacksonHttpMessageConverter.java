@@ -0,0 +1,121 @@
+package com.example.feedback.metrics;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.example.feedback.jfr.ParseEvent;
+import com.example.feedback.jfr.SerializationEvent;
+import com.example.feedback.jfr.SubmissionTrace;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The regular Jackson converter, timing every request body read and response body write so that
+ * serialization shows up separately from controller and database time. Within a traced submission both are
+ * also recorded as flight recorder events, the response write with the number of bytes it produced.
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Timer readTimer;
+    private final Timer writeTimer;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.readTimer = timer(meterRegistry, "read");
+        this.writeTimer = timer(meterRegistry, "write");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(FeedbackMetrics.SERIALIZATION)
+                .description("JSON body conversion of API requests and responses")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean parsed = false;
+        try {
+            Object body = super.read(type, contextClass, inputMessage);
+            parsed = true;
+            return body;
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.requestBytes = inputMessage.getHeaders().getContentLength();
+            event.record(parsed ? "parsed" : "failed");
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        SerializationEvent event = new SerializationEvent();
+        CountingOutputMessage counted = event.isEnabled() && SubmissionTrace.requestId() != null
+                ? new CountingOutputMessage(outputMessage) : null;
+        event.begin();
+        long start = System.nanoTime();
+        boolean written = false;
+        try {
+            super.writeInternal(object, type, counted != null ? counted : outputMessage);
+            written = true;
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (counted != null) {
+                event.responseBytes = counted.count;
+            }
+            event.record(written ? "written" : "failed");
+        }
+    }
+
+    /**
+     * Counts the bytes written to the body of the wrapped message.
+     */
+    private static final class CountingOutputMessage implements HttpOutputMessage {
+
+        private final HttpOutputMessage delegate;
+        private long count;
+
+        CountingOutputMessage(HttpOutputMessage delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(delegate.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    count++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    count += len;
+                }
+            };
+        }
+    }
+}
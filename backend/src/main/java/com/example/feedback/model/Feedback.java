@@ -3,14 +3,20 @@ package com.example.feedback.model;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 
+import com.example.feedback.id.SnowflakeId;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "feedback")
+@Table(name = "feedback", indexes = {
+        @Index(name = "idx_feedback_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_feedback_email_created_at_id", columnList = "email, created_at, id")
+})
 public class Feedback {
 
+    // Assigned before the insert (see SnowflakeIdGenerator), so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, length = 100)
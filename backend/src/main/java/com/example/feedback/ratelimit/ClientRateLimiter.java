@@ -0,0 +1,83 @@
+package com.example.feedback.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/**
+ * One token bucket per client key, e.g. per IP address.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the bucket's <em>theoretical arrival time</em>: the moment
+ * at which it would be full again. Taking a token moves that moment forward by one emission interval; a
+ * request is refused when that would put it more than {@code burst - 1} intervals ahead of now. This is the
+ * token bucket written as the generic cell rate algorithm, so refilling needs no timer and taking a token is
+ * one compare-and-set.
+ * <p>
+ * Buckets live in a Caffeine cache bounded by {@code maxClients} and dropped after {@code idleTimeout} without
+ * access. The idle timeout is never shorter than the time a bucket needs to refill, so dropping an idle
+ * bucket and starting a full one later makes no difference to the client.
+ */
+public class ClientRateLimiter {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final Ticker ticker;
+    private final Cache<String, AtomicLong> buckets;
+    private final LongAdder rejected = new LongAdder();
+
+    public ClientRateLimiter(RateLimitProperties.Limit limit, int maxClients, Duration idleTimeout) {
+        this(limit, maxClients, idleTimeout, Ticker.systemTicker());
+    }
+
+    ClientRateLimiter(RateLimitProperties.Limit limit, int maxClients, Duration idleTimeout, Ticker ticker) {
+        if (limit.getRequests() < 1 || limit.getBurst() < 1) {
+            throw new IllegalArgumentException("requests and burst must be positive");
+        }
+        this.intervalNanos = Math.max(1, limit.getPeriod().toNanos() / limit.getRequests());
+        this.toleranceNanos = intervalNanos * (limit.getBurst() - 1);
+        this.ticker = ticker;
+        long refillNanos = intervalNanos * limit.getBurst();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Math.max(idleTimeout.toNanos(), refillNanos), TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                // Evict on the calling thread: the work is small and stays off the common pool.
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Takes a token from {@code client}'s bucket.
+     *
+     * @return {@code 0} when the request may proceed, otherwise how many nanoseconds until a token is available
+     */
+    public long tryAcquire(String client) {
+        AtomicLong bucket = buckets.get(client, key -> new AtomicLong(Long.MIN_VALUE));
+        long now = ticker.read();
+        while (true) {
+            long current = bucket.get();
+            long fullAt = Math.max(current, now);
+            long wait = fullAt - toleranceNanos - now;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(current, fullAt + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public long getTrackedClients() {
+        return buckets.estimatedSize();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
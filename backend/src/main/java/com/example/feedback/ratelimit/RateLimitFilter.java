@@ -0,0 +1,93 @@
+package com.example.feedback.ratelimit;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.feedback.controller.FeedbackResponses;
+import com.example.feedback.rejection.FastRejectFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Applies the per-IP and per-email token buckets to {@code POST /api/feedback} and answers 429 with
+ * Retry-After once a bucket is empty.
+ * <p>
+ * The email is the one {@link FastRejectFilter} found in the body, so the body is not parsed twice. With fast
+ * rejection turned off only the per-IP limit applies. The IP is {@link HttpServletRequest#getRemoteAddr()};
+ * behind a proxy, set {@code server.forward-headers-strategy} so it is the client's address.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final ClientRateLimiter perIp;
+    private final ClientRateLimiter perEmail;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param perIp    limiter keyed by remote address, or {@code null} for no per-IP limit
+     * @param perEmail limiter keyed by submitted email, or {@code null} for no per-email limit
+     */
+    public RateLimitFilter(ClientRateLimiter perIp, ClientRateLimiter perEmail, ObjectMapper objectMapper) {
+        this.perIp = perIp;
+        this.perEmail = perEmail;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (perIp != null) {
+            long wait = perIp.tryAcquire(request.getRemoteAddr());
+            if (wait > 0) {
+                reject(response, "ip", wait);
+                return;
+            }
+        }
+        Object email = request.getAttribute(FastRejectFilter.EMAIL_ATTRIBUTE);
+        if (perEmail != null && email != null) {
+            long wait = perEmail.tryAcquire(email.toString().trim().toLowerCase(Locale.ROOT));
+            if (wait > 0) {
+                reject(response, "email", wait);
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    ClientRateLimiter perIp() {
+        return perIp;
+    }
+
+    ClientRateLimiter perEmail() {
+        return perEmail;
+    }
+
+    private void reject(HttpServletResponse response, String limit, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        logger.debug("Rejected feedback submission over the per-{} rate limit", limit);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), FeedbackResponses.error("Too many requests",
+                "Too many submissions. Please try again in " + retryAfterSeconds + " seconds."));
+    }
+}
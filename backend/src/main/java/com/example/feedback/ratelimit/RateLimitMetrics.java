@@ -0,0 +1,40 @@
+package com.example.feedback.ratelimit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes how many clients each {@link ClientRateLimiter} tracks and how many requests it refused.
+ */
+public class RateLimitMetrics implements MeterBinder {
+
+    private final ClientRateLimiter perIp;
+    private final ClientRateLimiter perEmail;
+
+    public RateLimitMetrics(RateLimitFilter filter) {
+        this.perIp = filter.perIp();
+        this.perEmail = filter.perEmail();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, perIp, "ip");
+        bind(registry, perEmail, "email");
+    }
+
+    private static void bind(MeterRegistry registry, ClientRateLimiter limiter, String limit) {
+        if (limiter == null) {
+            return;
+        }
+        Gauge.builder("feedback.ratelimit.clients", limiter, ClientRateLimiter::getTrackedClients)
+                .description("Clients with a token bucket")
+                .tag("limit", limit)
+                .register(registry);
+        FunctionCounter.builder("feedback.ratelimit.rejected", limiter, ClientRateLimiter::getRejectedCount)
+                .description("Requests refused with 429 because the client's bucket was empty")
+                .tag("limit", limit)
+                .register(registry);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.feedback.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the per-client rate limits on {@code POST /api/feedback}.
+ */
+@ConfigurationProperties(prefix = "feedback.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private final Limit perIp = new Limit(120, Duration.ofMinutes(1), 30);
+    private final Limit perEmail = new Limit(10, Duration.ofMinutes(1), 5);
+    /** Clients tracked per limit at most; the least recently seen ones are dropped first. */
+    private int maxTrackedClients = 100_000;
+    /** Buckets untouched this long are dropped; never before they would have refilled completely. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Limit getPerIp() {
+        return perIp;
+    }
+
+    public Limit getPerEmail() {
+        return perEmail;
+    }
+
+    public int getMaxTrackedClients() {
+        return maxTrackedClients;
+    }
+
+    public void setMaxTrackedClients(int maxTrackedClients) {
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * A token bucket: {@code requests} tokens are added per {@code period}, and at most {@code burst} are kept.
+     * Setting {@code requests} to 0 turns the limit off.
+     */
+    public static class Limit {
+
+        private int requests;
+        private Duration period;
+        private int burst;
+
+        public Limit() {
+        }
+
+        Limit(int requests, Duration period, int burst) {
+            this.requests = requests;
+            this.period = period;
+            this.burst = burst;
+        }
+
+        public int getRequests() {
+            return requests;
+        }
+
+        public void setRequests(int requests) {
+            this.requests = requests;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.feedback.rejection;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.feedback.jfr.PrecheckEvent;
+import com.example.feedback.metrics.FeedbackMetrics;
+
+/**
+ * Rejects invalid {@code POST /api/feedback} bodies before Spring MVC sees them.
+ * <p>
+ * The body is read once, up to the configured maximum, and checked by {@link SubmissionPrecheck}.
+ * Failures are answered directly from {@link RejectionResponses}: no binding, no exception, no map and no
+ * per-request log line. Valid bodies continue down the chain from the buffered copy, so the controller
+ * and its {@code @Valid} check still see exactly what the client sent. The email found by the scan is left
+ * in {@link #EMAIL_ATTRIBUTE} for filters further down.
+ */
+public class FastRejectFilter extends OncePerRequestFilter {
+
+    /** Request attribute holding the submitted email of a body that passed the check. */
+    public static final String EMAIL_ATTRIBUTE = FastRejectFilter.class.getName() + ".email";
+
+    private static final Logger logger = LoggerFactory.getLogger(FastRejectFilter.class);
+
+    private final SubmissionPrecheck precheck;
+    private final RejectionResponses responses;
+    private final int maxBodyBytes;
+    private final RateLimitedLogger rejectLog;
+
+    public FastRejectFilter(SubmissionPrecheck precheck, SubmissionLimitsProperties properties) {
+        this.precheck = precheck;
+        this.maxBodyBytes = (int) properties.getMaxBodySize().toBytes();
+        this.responses = new RejectionResponses(maxBodyBytes);
+        this.rejectLog = new RateLimitedLogger(logger, properties.getRejectLogInterval());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !isJson(request.getContentType());
+    }
+
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return MediaType.APPLICATION_JSON.includes(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long declared = request.getContentLengthLong();
+        if (declared > maxBodyBytes) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, responses.tooLargeHead(), "body", "oversized");
+            return;
+        }
+
+        PrecheckEvent event = new PrecheckEvent();
+        event.begin();
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        event.requestBytes = body.length;
+        if (body.length > maxBodyBytes) {
+            event.record("oversized");
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, responses.tooLargeHead(), "body", "oversized");
+            return;
+        }
+
+        SubmissionPrecheck.Result result = precheck.scan(body, body.length);
+        int verdict = result.verdict();
+        event.record(verdict == 0 ? "valid" : verdict == SubmissionPrecheck.MALFORMED ? "malformed" : "invalid");
+        if (verdict == SubmissionPrecheck.MALFORMED) {
+            reject(response, HttpStatus.BAD_REQUEST, responses.malformedHead(), "body", "malformed");
+            return;
+        }
+        if (verdict != 0) {
+            for (Violation violation : Violation.values()) {
+                if ((verdict & violation.bit()) != 0) {
+                    FeedbackMetrics.validationFailure(violation.field());
+                }
+            }
+            reject(response, HttpStatus.BAD_REQUEST, responses.validationHead(verdict), null, "invalid");
+            return;
+        }
+
+        request.setAttribute(EMAIL_ATTRIBUTE, result.email());
+        chain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, byte[] head, String countedField,
+            String reason) throws IOException {
+        if (countedField != null) {
+            FeedbackMetrics.validationFailure(countedField);
+        }
+        rejectLog.warn("Rejected feedback submission before binding: {}", reason);
+
+        byte[] tail = responses.timestampTail();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(head.length + tail.length);
+        response.getOutputStream().write(head);
+        response.getOutputStream().write(tail);
+    }
+
+    /**
+     * Replays the buffered body to everything further down the chain.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The whole body is already in memory, so it is available at once and read in one go
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null
+                    ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
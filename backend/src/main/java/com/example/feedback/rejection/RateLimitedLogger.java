@@ -0,0 +1,49 @@
+package com.example.feedback.rejection;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+
+/**
+ * Writes at most one WARN line per interval and counts the ones it drops, so a flood of bad requests
+ * cannot turn into a flood of log I/O. The next line that gets through reports how many were suppressed.
+ */
+public final class RateLimitedLogger {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final AtomicLong nextAllowed;
+    private final LongAdder suppressed = new LongAdder();
+
+    public RateLimitedLogger(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+        this.nextAllowed = new AtomicLong(System.nanoTime());
+    }
+
+    public void warn(String format, Object argument) {
+        if (acquire()) {
+            long dropped = suppressed.sumThenReset();
+            if (dropped > 0) {
+                logger.warn(format + " ({} similar messages suppressed)", argument, dropped);
+            } else {
+                logger.warn(format, argument);
+            }
+        }
+    }
+
+    private boolean acquire() {
+        if (!logger.isWarnEnabled()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long next = nextAllowed.get();
+        if (now - next >= 0 && nextAllowed.compareAndSet(next, now + intervalNanos)) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+}
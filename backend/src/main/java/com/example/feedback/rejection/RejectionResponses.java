@@ -0,0 +1,86 @@
+package com.example.feedback.rejection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * Pre-encoded JSON bodies for fast rejections, in the same shape as the ones built by
+ * {@code GlobalExceptionHandler}. Everything up to the timestamp is encoded once per distinct set of
+ * violations; the timestamp has second resolution and is re-encoded at most once a second.
+ */
+public final class RejectionResponses {
+
+    private static final byte[] TIMESTAMP_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicReferenceArray<byte[]> validationHeads =
+            new AtomicReferenceArray<>(1 << Violation.values().length);
+    private final byte[] malformedHead = head("Malformed request",
+            "Request body must be a JSON object with name, email and message");
+    private final byte[] tooLargeHead;
+
+    private volatile Timestamp timestamp = new Timestamp(-1, new byte[0]);
+
+    public RejectionResponses(long maxBodyBytes) {
+        this.tooLargeHead = head("Payload too large",
+                "Request body exceeds the maximum size of " + maxBodyBytes + " bytes");
+    }
+
+    /** Body start for a 400 listing the messages of every violation in {@code violations}, in enum order. */
+    public byte[] validationHead(int violations) {
+        byte[] head = validationHeads.get(violations);
+        if (head == null) {
+            StringBuilder details = new StringBuilder();
+            for (Violation violation : Violation.values()) {
+                if ((violations & violation.bit()) != 0) {
+                    if (details.length() > 0) {
+                        details.append(", ");
+                    }
+                    details.append(violation.message());
+                }
+            }
+            head = head("Validation failed", details.toString());
+            validationHeads.set(violations, head);
+        }
+        return head;
+    }
+
+    public byte[] malformedHead() {
+        return malformedHead;
+    }
+
+    public byte[] tooLargeHead() {
+        return tooLargeHead;
+    }
+
+    /** The current timestamp followed by the closing of the body. */
+    public byte[] timestampTail() {
+        long second = System.currentTimeMillis() / 1000;
+        Timestamp current = timestamp;
+        if (current.second != second) {
+            String text = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            byte[] textBytes = text.getBytes(StandardCharsets.US_ASCII);
+            byte[] tail = new byte[textBytes.length + TIMESTAMP_SUFFIX.length];
+            System.arraycopy(textBytes, 0, tail, 0, textBytes.length);
+            System.arraycopy(TIMESTAMP_SUFFIX, 0, tail, textBytes.length, TIMESTAMP_SUFFIX.length);
+            current = new Timestamp(second, tail);
+            timestamp = current;
+        }
+        return current.tail;
+    }
+
+    private static byte[] head(String error, String details) {
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        String json = "{\"error\":\"" + new String(encoder.quoteAsString(error))
+                + "\",\"details\":\"" + new String(encoder.quoteAsString(details))
+                + "\",\"timestamp\":\"";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Timestamp(long second, byte[] tail) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.feedback.rejection;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the fast rejection of invalid {@code POST /api/feedback} bodies.
+ */
+@ConfigurationProperties(prefix = "feedback.submission")
+public class SubmissionLimitsProperties {
+
+    /** Check bodies in a filter before Spring MVC binds them; when off, only Bean Validation applies. */
+    private boolean fastReject = true;
+    /** Largest accepted body. A maximal valid submission is well under 10KB even with every character escaped. */
+    private DataSize maxBodySize = DataSize.ofKilobytes(16);
+    /** At most one rejection log line per interval; the rest are counted and summarised in the next one. */
+    private Duration rejectLogInterval = Duration.ofSeconds(10);
+
+    public boolean isFastReject() {
+        return fastReject;
+    }
+
+    public void setFastReject(boolean fastReject) {
+        this.fastReject = fastReject;
+    }
+
+    public DataSize getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    public Duration getRejectLogInterval() {
+        return rejectLogInterval;
+    }
+
+    public void setRejectLogInterval(Duration rejectLogInterval) {
+        this.rejectLogInterval = rejectLogInterval;
+    }
+}
@@ -0,0 +1,424 @@
+package com.example.feedback.rejection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+
+/**
+ * Checks a submission body against the {@link FeedbackRequest} rules in a single pass over its bytes.
+ * <p>
+ * The scanner reads the body as strict JSON. It does not build a tree, and strings count towards the
+ * field limits as they are decoded. A name or message that is too long is reported without being
+ * materialised. Malformed input ends the scan with a flag instead of an exception. The email is always
+ * turned into a string, whatever its length, so Bean Validation can apply the {@code @Email} rule next to
+ * the size rule exactly as the controller would.
+ * <p>
+ * Keys other than name, email and message are skipped, like Spring's default {@code ObjectMapper} does.
+ * Numbers and booleans count as their text, which matches Jackson's scalar coercion.
+ */
+public class SubmissionPrecheck {
+
+    /** Verdict bit for a body that is not a JSON object; combined with no other bits. */
+    public static final int MALFORMED = 1 << 30;
+
+    private static final int MAX_DEPTH = 256;
+    /** Longer keys cannot be one of the three fields, so they are not captured. */
+    private static final int MAX_KEY_LENGTH = 16;
+
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int MESSAGE = 2;
+    private static final int[] LIMITS = {
+            FeedbackRequest.MAX_NAME_LENGTH, FeedbackRequest.MAX_EMAIL_LENGTH, FeedbackRequest.MAX_MESSAGE_LENGTH };
+
+    private final Validator validator;
+
+    public SubmissionPrecheck(Validator validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Verdict of a check, with the email as sent when the body is well-formed.
+     */
+    public record Result(int verdict, String email) {
+
+        private static final Result MALFORMED_BODY = new Result(MALFORMED, null);
+    }
+
+    /**
+     * @return {@code 0} when the body is valid, {@link #MALFORMED}, or the {@link Violation#bit()}s of every
+     *         failed rule
+     */
+    public int check(byte[] body, int length) {
+        return scan(body, length).verdict();
+    }
+
+    /**
+     * Like {@link #check}, but also hands back the email, so later steps need not parse the body again.
+     */
+    public Result scan(byte[] body, int length) {
+        Scan scan = new Scan(body, length);
+        if (!scan.object()) {
+            return Result.MALFORMED_BODY;
+        }
+
+        int violations = 0;
+        violations |= lengthRules(scan, NAME, Violation.NAME_REQUIRED, Violation.NAME_TOO_LONG);
+        violations |= lengthRules(scan, EMAIL, Violation.EMAIL_REQUIRED, Violation.EMAIL_TOO_LONG);
+        violations |= lengthRules(scan, MESSAGE, Violation.MESSAGE_REQUIRED, Violation.MESSAGE_TOO_LONG);
+        if (scan.email != null && !validEmail(scan.email)) {
+            violations |= Violation.EMAIL_INVALID.bit();
+        }
+        return new Result(violations, scan.email);
+    }
+
+    private static int lengthRules(Scan scan, int field, Violation required, Violation tooLong) {
+        int violations = 0;
+        if (!scan.present[field] || scan.blank[field]) {
+            violations |= required.bit();
+        }
+        if (scan.units[field] > LIMITS[field]) {
+            violations |= tooLong.bit();
+        }
+        return violations;
+    }
+
+    private boolean validEmail(String email) {
+        Set<ConstraintViolation<FeedbackRequest>> violations =
+                validator.validateValue(FeedbackRequest.class, "email", email);
+        for (ConstraintViolation<FeedbackRequest> violation : violations) {
+            if (FeedbackRequest.EMAIL_INVALID.equals(violation.getMessage())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One pass over a body. Every method returns {@code false} as soon as the input stops being valid JSON.
+     */
+    private static final class Scan {
+
+        private final byte[] buf;
+        private final int end;
+        private int pos;
+
+        private final boolean[] present = new boolean[3];
+        private final boolean[] blank = new boolean[3];
+        private final int[] units = new int[3];
+        private String email;
+
+        /** Results of the last {@link #string} call. */
+        private int stringUnits;
+        private boolean stringBlank;
+        private StringBuilder captured;
+
+        Scan(byte[] buf, int end) {
+            this.buf = buf;
+            this.end = end;
+        }
+
+        boolean object() {
+            skipWhitespace();
+            if (!consume('{')) {
+                return false;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return true;
+            }
+            do {
+                skipWhitespace();
+                if (!string(MAX_KEY_LENGTH, true)) {
+                    return false;
+                }
+                int field = stringUnits <= MAX_KEY_LENGTH ? field(captured) : -1;
+                skipWhitespace();
+                if (!consume(':')) {
+                    return false;
+                }
+                skipWhitespace();
+                if (!(field < 0 ? value(1) : fieldValue(field))) {
+                    return false;
+                }
+                skipWhitespace();
+            } while (consume(','));
+            return consume('}');
+        }
+
+        private static int field(CharSequence key) {
+            return switch (key.toString()) {
+                case "name" -> NAME;
+                case "email" -> EMAIL;
+                case "message" -> MESSAGE;
+                default -> -1;
+            };
+        }
+
+        private boolean fieldValue(int field) {
+            if (pos >= end) {
+                return false;
+            }
+            byte b = buf[pos];
+            if (b == '"') {
+                boolean capture = field == EMAIL;
+                if (!string(capture ? Integer.MAX_VALUE : LIMITS[field], capture)) {
+                    return false;
+                }
+                record(field, stringUnits, stringBlank);
+                if (capture) {
+                    email = captured.toString();
+                }
+                return true;
+            }
+            if (literal("null")) {
+                present[field] = false;
+                blank[field] = false;
+                units[field] = 0;
+                if (field == EMAIL) {
+                    email = null;
+                }
+                return true;
+            }
+            // Scalars are coerced to their text by Jackson; objects and arrays fail binding.
+            int start = pos;
+            if (!(literal("true") || literal("false") || number())) {
+                return false;
+            }
+            record(field, pos - start, false);
+            if (field == EMAIL) {
+                email = new String(buf, start, pos - start, StandardCharsets.US_ASCII);
+            }
+            return true;
+        }
+
+        private void record(int field, int length, boolean isBlank) {
+            present[field] = true;
+            blank[field] = isBlank;
+            units[field] = length;
+        }
+
+        private boolean value(int depth) {
+            if (depth > MAX_DEPTH || pos >= end) {
+                return false;
+            }
+            byte b = buf[pos];
+            if (b == '"') {
+                return string(0, false);
+            }
+            if (b == '{' || b == '[') {
+                byte close = b == '{' ? (byte) '}' : (byte) ']';
+                pos++;
+                skipWhitespace();
+                if (consume(close)) {
+                    return true;
+                }
+                do {
+                    skipWhitespace();
+                    if (b == '{') {
+                        if (!string(0, false)) {
+                            return false;
+                        }
+                        skipWhitespace();
+                        if (!consume(':')) {
+                            return false;
+                        }
+                        skipWhitespace();
+                    }
+                    if (!value(depth + 1)) {
+                        return false;
+                    }
+                    skipWhitespace();
+                } while (consume(','));
+                return consume(close);
+            }
+            return literal("true") || literal("false") || literal("null") || number();
+        }
+
+        /**
+         * Reads a string starting at the opening quote, counting UTF-16 units as {@code String.length()} would
+         * and tracking whether every character is one that {@code String.trim()} removes. Up to {@code limit}
+         * units are kept in {@link #captured} when {@code capture} is set.
+         */
+        private boolean string(int limit, boolean capture) {
+            if (!consume('"')) {
+                return false;
+            }
+            if (capture) {
+                captured = new StringBuilder(Math.min(limit, 64));
+            }
+            int count = 0;
+            boolean isBlank = true;
+            while (pos < end) {
+                int b = buf[pos++] & 0xff;
+                int cp;
+                if (b == '"') {
+                    stringUnits = count;
+                    stringBlank = isBlank;
+                    return true;
+                } else if (b == '\\') {
+                    cp = escape();
+                    if (cp < 0) {
+                        return false;
+                    }
+                } else if (b < 0x20) {
+                    return false;
+                } else if (b < 0x80) {
+                    cp = b;
+                } else {
+                    cp = utf8(b);
+                    if (cp < 0) {
+                        return false;
+                    }
+                }
+                int width = Character.charCount(cp);
+                count += width;
+                isBlank &= cp <= ' ';
+                if (capture && count <= limit) {
+                    captured.appendCodePoint(cp);
+                }
+            }
+            return false;
+        }
+
+        /** Decodes the escape after a backslash; a {@code \\u} escape yields one UTF-16 unit. */
+        private int escape() {
+            if (pos >= end) {
+                return -1;
+            }
+            byte b = buf[pos++];
+            return switch (b) {
+                case '"', '\\', '/' -> b;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> hex4();
+                default -> -1;
+            };
+        }
+
+        private int hex4() {
+            if (end - pos < 4) {
+                return -1;
+            }
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(buf[pos++], 16);
+                if (digit < 0) {
+                    return -1;
+                }
+                value = (value << 4) | digit;
+            }
+            return value;
+        }
+
+        /** Decodes a multi-byte UTF-8 sequence whose lead byte was already read; -1 when it is invalid. */
+        private int utf8(int lead) {
+            int extra;
+            int cp;
+            int min;
+            if (lead >= 0xC2 && lead <= 0xDF) {
+                extra = 1;
+                cp = lead & 0x1F;
+                min = 0x80;
+            } else if (lead >= 0xE0 && lead <= 0xEF) {
+                extra = 2;
+                cp = lead & 0x0F;
+                min = 0x800;
+            } else if (lead >= 0xF0 && lead <= 0xF4) {
+                extra = 3;
+                cp = lead & 0x07;
+                min = 0x10000;
+            } else {
+                return -1;
+            }
+            if (end - pos < extra) {
+                return -1;
+            }
+            for (int i = 0; i < extra; i++) {
+                int b = buf[pos++] & 0xff;
+                if ((b & 0xC0) != 0x80) {
+                    return -1;
+                }
+                cp = (cp << 6) | (b & 0x3F);
+            }
+            if (cp < min || cp > Character.MAX_CODE_POINT || (cp >= 0xD800 && cp <= 0xDFFF)) {
+                return -1;
+            }
+            return cp;
+        }
+
+        private boolean number() {
+            int start = pos;
+            consume('-');
+            if (consume('0')) {
+                // no further integer digits after a leading zero
+            } else if (!digits()) {
+                return false;
+            }
+            if (consume('.') && !digits()) {
+                return false;
+            }
+            if (pos < end && (buf[pos] == 'e' || buf[pos] == 'E')) {
+                pos++;
+                if (!consume('+')) {
+                    consume('-');
+                }
+                if (!digits()) {
+                    return false;
+                }
+            }
+            return pos > start;
+        }
+
+        private boolean digits() {
+            int start = pos;
+            while (pos < end && buf[pos] >= '0' && buf[pos] <= '9') {
+                pos++;
+            }
+            return pos > start;
+        }
+
+        private boolean literal(String literal) {
+            int length = literal.length();
+            if (end - pos < length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (buf[pos + i] != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            pos += length;
+            return true;
+        }
+
+        private boolean consume(char expected) {
+            if (pos < end && buf[pos] == expected) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean consume(byte expected) {
+            return consume((char) expected);
+        }
+
+        private void skipWhitespace() {
+            while (pos < end) {
+                byte b = buf[pos];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.feedback.rejection;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+
+/**
+ * The rule failures the fast path can report, one bit each, in the order their messages are listed.
+ * The order matches the bulk endpoint: by field, then by message.
+ */
+public enum Violation {
+    NAME_REQUIRED("name", FeedbackRequest.NAME_REQUIRED),
+    NAME_TOO_LONG("name", FeedbackRequest.NAME_TOO_LONG),
+    EMAIL_REQUIRED("email", FeedbackRequest.EMAIL_REQUIRED),
+    EMAIL_TOO_LONG("email", FeedbackRequest.EMAIL_TOO_LONG),
+    EMAIL_INVALID("email", FeedbackRequest.EMAIL_INVALID),
+    MESSAGE_REQUIRED("message", FeedbackRequest.MESSAGE_REQUIRED),
+    MESSAGE_TOO_LONG("message", FeedbackRequest.MESSAGE_TOO_LONG);
+
+    private final String field;
+    private final String message;
+
+    Violation(String field, String message) {
+        this.field = field;
+        this.message = message;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
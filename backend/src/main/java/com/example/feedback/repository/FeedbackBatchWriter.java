@@ -0,0 +1,152 @@
+package com.example.feedback.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.feedback.id.FeedbackIds;
+import com.example.feedback.metrics.FeedbackMetrics;
+import com.example.feedback.model.Feedback;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Writes feedback rows with plain JDBC multi-row inserts, bypassing the JPA persistence context.
+ * Used by the bulk submission paths where one transaction per row would dominate the cost.
+ * Ids come from {@link FeedbackIds}, like those of entities saved through JPA.
+ */
+@Repository
+public class FeedbackBatchWriter {
+
+    /** Upper bound on rows per INSERT statement, keeps the parameter count well inside driver limits. */
+    static final int MAX_ROWS_PER_STATEMENT = 250;
+
+    private static final String INSERT_PREFIX = "INSERT INTO feedback (id, name, email, message, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final String GENERATED_INSERT_PREFIX =
+            "INSERT INTO feedback (name, email, message, created_at) VALUES ";
+    private static final String GENERATED_ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Whether the database numbers the rows, in which case their ids are read back as generated keys. */
+    private final boolean generatedIds;
+
+    /**
+     * The context's writer, assigning ids from {@link FeedbackIds}.
+     */
+    public FeedbackBatchWriter() {
+        this.generatedIds = false;
+    }
+
+    private FeedbackBatchWriter(JdbcTemplate jdbcTemplate, boolean generatedIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.generatedIds = generatedIds;
+    }
+
+    /**
+     * A writer on a database of its own, created outside the context, that numbers rows with its identity
+     * column. {@link Transactional} does not apply to it, so the caller wraps {@link #insertAll} in a
+     * transaction of that database.
+     */
+    public static FeedbackBatchWriter withGeneratedIds(JdbcTemplate jdbcTemplate) {
+        return new FeedbackBatchWriter(jdbcTemplate, true);
+    }
+
+    /**
+     * Inserts all given entities in a single transaction.
+     * Generated ids and the creation timestamp are written back onto the passed entities.
+     */
+    @Transactional
+    @Timed(value = FeedbackMetrics.BATCH_INSERT, histogram = true, description = "Multi-row feedback inserts")
+    public List<Feedback> insertAll(List<Feedback> feedbacks) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        for (int from = 0; from < feedbacks.size(); from += MAX_ROWS_PER_STATEMENT) {
+            int to = Math.min(from + MAX_ROWS_PER_STATEMENT, feedbacks.size());
+            if (generatedIds) {
+                insertChunkWithGeneratedIds(feedbacks.subList(from, to), createdAt);
+            } else {
+                insertChunk(feedbacks.subList(from, to), createdAt);
+            }
+        }
+        return feedbacks;
+    }
+
+    private void insertChunk(List<Feedback> chunk, LocalDateTime createdAt) {
+        String sql = insertSql(INSERT_PREFIX, ROW_PLACEHOLDER, chunk.size());
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        long[] ids = new long[chunk.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = FeedbackIds.next();
+        }
+
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (int i = 0; i < ids.length; i++) {
+                Feedback feedback = chunk.get(i);
+                ps.setLong(index++, ids[i]);
+                ps.setString(index++, feedback.getName());
+                ps.setString(index++, feedback.getEmail());
+                ps.setString(index++, feedback.getMessage());
+                ps.setTimestamp(index++, timestamp);
+            }
+        });
+
+        for (int i = 0; i < ids.length; i++) {
+            Feedback feedback = chunk.get(i);
+            feedback.setId(ids[i]);
+            feedback.setCreatedAt(createdAt);
+        }
+    }
+
+    private void insertChunkWithGeneratedIds(List<Feedback> chunk, LocalDateTime createdAt) {
+        String sql = insertSql(GENERATED_INSERT_PREFIX, GENERATED_ROW_PLACEHOLDER, chunk.size());
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, new String[] { "id" });
+            int index = 1;
+            for (Feedback feedback : chunk) {
+                ps.setString(index++, feedback.getName());
+                ps.setString(index++, feedback.getEmail());
+                ps.setString(index++, feedback.getMessage());
+                ps.setTimestamp(index++, timestamp);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new IllegalStateException(
+                    "Expected " + chunk.size() + " generated keys but driver returned " + keys.size());
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            Feedback feedback = chunk.get(i);
+            feedback.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            feedback.setCreatedAt(createdAt);
+        }
+    }
+
+    private static String insertSql(String prefix, String rowPlaceholder, int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (rowPlaceholder.length() + 2));
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+        return sql.toString();
+    }
+}
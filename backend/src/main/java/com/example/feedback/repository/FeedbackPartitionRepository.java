@@ -0,0 +1,119 @@
+package com.example.feedback.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.feedback.model.Feedback;
+
+/**
+ * Plain JDBC access to the hot feedback table for the archiver: reading a period out in order, deleting the
+ * rows it archived and purging expired ones in chunks. None of it runs in a surrounding transaction, so each delete statement commits on its
+ * own and holds its row locks only for as long as one chunk takes.
+ */
+@Repository
+public class FeedbackPartitionRepository {
+
+    /** Rows the driver fetches per round trip while a period is streamed. */
+    static final int FETCH_SIZE = 500;
+
+    private static final String SELECT_OLDEST = "SELECT MIN(created_at) FROM feedback WHERE created_at >= ?";
+    private static final String SELECT_OLDEST_ANY = "SELECT MIN(created_at) FROM feedback";
+    private static final String SELECT_BETWEEN = "SELECT id, name, email, message, created_at FROM feedback "
+            + "WHERE created_at >= ? AND created_at < ? ORDER BY created_at, id";
+    private static final String COUNT_BEFORE = "SELECT COUNT(*) FROM feedback WHERE created_at < ?";
+    private static final String DELETE_CHUNK = "DELETE FROM feedback WHERE id IN "
+            + "(SELECT id FROM feedback WHERE created_at < ? FETCH FIRST ? ROWS ONLY)";
+    private static final String DELETE_ARCHIVED =
+            "DELETE FROM feedback WHERE id = ? AND created_at >= ? AND created_at < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creation time of the oldest row created at or after {@code from} (of any row when {@code null}), or
+     * {@code null} if there is none. A seek on {@code idx_feedback_created_at_id}.
+     */
+    public LocalDateTime oldestCreatedAt(LocalDateTime from) {
+        Timestamp oldest = from != null
+                ? jdbcTemplate.queryForObject(SELECT_OLDEST, Timestamp.class, Timestamp.valueOf(from))
+                : jdbcTemplate.queryForObject(SELECT_OLDEST_ANY, Timestamp.class);
+        return oldest != null ? oldest.toLocalDateTime() : null;
+    }
+
+    /**
+     * Hands every row created in {@code [from, to)} to {@code consumer} in {@code (created_at, id)} order.
+     *
+     * @return number of rows read
+     */
+    public int streamCreatedBetween(LocalDateTime from, LocalDateTime to, Consumer<Feedback> consumer) {
+        int[] count = { 0 };
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_BETWEEN);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setTimestamp(1, Timestamp.valueOf(from));
+            statement.setTimestamp(2, Timestamp.valueOf(to));
+            return statement;
+        }, rs -> {
+            Feedback feedback = new Feedback(rs.getString("name"), rs.getString("email"), rs.getString("message"));
+            feedback.setId(rs.getLong("id"));
+            feedback.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+            consumer.accept(feedback);
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    /**
+     * Deletes at most {@code chunkSize} rows created before {@code before}.
+     *
+     * @return number of rows deleted; fewer than {@code chunkSize} means none are left
+     */
+    public int deleteChunkCreatedBefore(LocalDateTime before, int chunkSize) {
+        return jdbcTemplate.update(DELETE_CHUNK, Timestamp.valueOf(before), chunkSize);
+    }
+
+    /**
+     * Deletes the rows {@code ids[offset, offset + length)} that were created in {@code [from, to)}: the rows
+     * of one archive segment. A row with one of these ids but another creation time is not the archived copy
+     * and stays.
+     *
+     * @return number of rows deleted
+     */
+    public int deleteArchived(long[] ids, int offset, int length, LocalDateTime from, LocalDateTime to) {
+        Timestamp fromTimestamp = Timestamp.valueOf(from);
+        Timestamp toTimestamp = Timestamp.valueOf(to);
+        int[] counts = jdbcTemplate.batchUpdate(DELETE_ARCHIVED, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                statement.setLong(1, ids[offset + i]);
+                statement.setTimestamp(2, fromTimestamp);
+                statement.setTimestamp(3, toTimestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return length;
+            }
+        });
+        int deleted = 0;
+        for (int count : counts) {
+            deleted += Math.max(0, count);
+        }
+        return deleted;
+    }
+
+    /**
+     * Number of rows created before {@code before}.
+     */
+    public long countCreatedBefore(LocalDateTime before) {
+        return jdbcTemplate.queryForObject(COUNT_BEFORE, Long.class, Timestamp.valueOf(before));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.feedback.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional filters for listing feedback. {@code from} is inclusive, {@code to} is exclusive;
+ * any field may be {@code null}.
+ */
+public record FeedbackQuery(String email, LocalDateTime from, LocalDateTime to) {
+
+    public static FeedbackQuery all() {
+        return new FeedbackQuery(null, null, null);
+    }
+}
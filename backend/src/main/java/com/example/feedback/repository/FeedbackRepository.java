@@ -1,10 +1,45 @@
 package com.example.feedback.repository;
 
 import com.example.feedback.model.Feedback;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
-    // Basic CRUD operations provided by JpaRepository
-}
\ No newline at end of file
+public interface FeedbackRepository extends JpaRepository<Feedback, Long>, FeedbackRepositoryCustom {
+    // Basic CRUD operations provided by JpaRepository, keyset paging by FeedbackRepositoryCustom
+
+    /** Rows fetched per JDBC round trip when streaming. */
+    int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Streams every feedback row in {@code (created_at, id)} order.
+     * Must be consumed inside a transaction and closed; callers should detach entities as they go.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select f from Feedback f order by f.createdAt asc, f.id asc")
+    Stream<Feedback> streamAll();
+
+    /**
+     * Streams feedback created at or after {@code since} in {@code (created_at, id)} order.
+     * Same consumption rules as {@link #streamAll()}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select f from Feedback f where f.createdAt >= :since order by f.createdAt asc, f.id asc")
+    Stream<Feedback> streamCreatedSince(@Param("since") LocalDateTime since);
+}
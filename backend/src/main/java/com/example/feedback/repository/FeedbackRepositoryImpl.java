@@ -0,0 +1,69 @@
+package com.example.feedback.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.example.feedback.model.Feedback;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Implementation of {@link FeedbackRepositoryCustom}, picked up by Spring Data through the {@code Impl} suffix.
+ */
+class FeedbackRepositoryImpl implements FeedbackRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Feedback> findPage(FeedbackQuery query, FeedbackCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Feedback> criteria = cb.createQuery(Feedback.class);
+        Root<Feedback> feedback = criteria.from(Feedback.class);
+        Path<LocalDateTime> createdAt = feedback.get("createdAt");
+        Path<Long> id = feedback.get("id");
+
+        // Only add the predicates that apply so the planner can use idx_feedback_email_created_at_id
+        // or idx_feedback_created_at_id as a plain range scan.
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (query.email() != null) {
+            predicates.add(cb.equal(feedback.get("email"), query.email()));
+        }
+        if (query.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, query.from()));
+        }
+        if (query.to() != null) {
+            predicates.add(cb.lessThan(createdAt, query.to()));
+        }
+        if (after != null) {
+            // (created_at, id) < (:createdAt, :id), written with a leading range term the index can seek on
+            predicates.add(cb.lessThanOrEqualTo(createdAt, after.createdAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.lessThan(id, after.id())));
+        }
+
+        criteria.select(feedback)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        List<Feedback> rows = entityManager.createQuery(criteria)
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > limit;
+        List<Feedback> content = hasNext ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(limit), hasNext);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.feedback.search;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+
+/**
+ * Full-text index over {@link Feedback#getMessage()}, kept current from {@link FeedbackSavedEvent}s.
+ */
+public class FeedbackSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackSearchIndex.class);
+
+    private final InvertedIndex index;
+    private volatile boolean budgetWarningLogged;
+
+    public FeedbackSearchIndex(SearchProperties properties) {
+        this.index = new InvertedIndex(properties.getMemoryBudget().toBytes());
+    }
+
+    @EventListener
+    public void onFeedbackSaved(FeedbackSavedEvent event) {
+        Map<Long, String> documents = new LinkedHashMap<>();
+        for (Feedback feedback : event.feedbacks()) {
+            documents.put(feedback.getId(), feedback.getMessage());
+        }
+        int refused = index.addAll(documents);
+        if (refused > 0 && !budgetWarningLogged) {
+            budgetWarningLogged = true;
+            logger.warn("Search index memory budget of {} bytes exhausted, new feedback is no longer indexed",
+                    index.stats().memoryBudgetBytes());
+        }
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    public InvertedIndex.Stats stats() {
+        return index.stats();
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.feedback.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from terms to sorted posting lists of document ids.
+ * <p>
+ * Results are ranked with TF-IDF: each query term present in a document contributes
+ * {@code (1 + ln tf) * ln(1 + N / df)}. Scoring walks the posting lists of the query terms in a single
+ * k-way merge, so a query costs O(sum of posting list lengths). A hit is only allocated for a document
+ * that enters the current top {@code limit}.
+ * <p>
+ * Memory use is estimated as documents are added; once {@code memoryBudgetBytes} is reached further
+ * documents are refused and the index reports itself as incomplete.
+ */
+public class InvertedIndex {
+
+    /** Long id plus int frequency, with headroom for array growth. */
+    static final long BYTES_PER_POSTING = 16;
+    /** Map entry, term string, posting list object and its two initial arrays. */
+    static final long BYTES_PER_TERM = 176;
+
+    static final int MAX_QUERY_TERMS = 16;
+
+    private static final Comparator<SearchHit> WORST_FIRST =
+            Comparator.comparingDouble(SearchHit::score).thenComparingLong(SearchHit::id);
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long memoryBudgetBytes;
+
+    private long documentCount;
+    private long estimatedBytes;
+    private long refusedDocuments;
+
+    public InvertedIndex(long memoryBudgetBytes) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * Indexes one document. Adding an id that is already indexed has no effect.
+     *
+     * @return {@code false} if the document was refused because the memory budget is exhausted
+     */
+    public boolean add(long id, String text) {
+        Map<String, Integer> frequencies = termFrequencies(text);
+        lock.writeLock().lock();
+        try {
+            return addLocked(id, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes several documents under a single lock acquisition.
+     *
+     * @return number of documents refused because the memory budget is exhausted
+     */
+    public int addAll(Map<Long, String> documents) {
+        List<Map<String, Integer>> frequencies = new ArrayList<>(documents.size());
+        for (String text : documents.values()) {
+            frequencies.add(termFrequencies(text));
+        }
+        int refused = 0;
+        lock.writeLock().lock();
+        try {
+            int i = 0;
+            for (Long id : documents.keySet()) {
+                if (!addLocked(id, frequencies.get(i++))) {
+                    refused++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return refused;
+    }
+
+    private boolean addLocked(long id, Map<String, Integer> frequencies) {
+        if (estimatedBytes >= memoryBudgetBytes) {
+            refusedDocuments++;
+            return false;
+        }
+        boolean added = false;
+        for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+            PostingList list = postings.get(term.getKey());
+            if (list == null) {
+                list = new PostingList();
+                postings.put(term.getKey(), list);
+                estimatedBytes += BYTES_PER_TERM + term.getKey().length();
+            }
+            if (list.add(id, term.getValue())) {
+                estimatedBytes += BYTES_PER_POSTING;
+                added = true;
+            }
+        }
+        if (added) {
+            documentCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns up to {@code limit} documents matching any query term, best first; ties go to the newer id.
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<SearchHit> best = new PriorityQueue<>(limit, WORST_FIRST);
+        lock.readLock().lock();
+        try {
+            PostingList[] lists = new PostingList[terms.size()];
+            double[] idf = new double[terms.size()];
+            int count = 0;
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list != null && list.size() > 0) {
+                    lists[count] = list;
+                    idf[count] = Math.log(1.0 + (double) documentCount / list.size());
+                    count++;
+                }
+            }
+
+            int[] positions = new int[count];
+            while (true) {
+                long current = Long.MAX_VALUE;
+                for (int i = 0; i < count; i++) {
+                    if (positions[i] < lists[i].size()) {
+                        current = Math.min(current, lists[i].idAt(positions[i]));
+                    }
+                }
+                if (current == Long.MAX_VALUE) {
+                    break;
+                }
+                double score = 0;
+                for (int i = 0; i < count; i++) {
+                    if (positions[i] < lists[i].size() && lists[i].idAt(positions[i]) == current) {
+                        score += (1 + Math.log(lists[i].frequencyAt(positions[i]))) * idf[i];
+                        positions[i]++;
+                    }
+                }
+                if (best.size() == limit) {
+                    // Ids arrive in ascending order, so an equal score beats the worst hit on the newer id
+                    if (score < best.peek().score()) {
+                        continue;
+                    }
+                    best.poll();
+                }
+                best.offer(new SearchHit(current, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchHit> hits = new ArrayList<>(best);
+        hits.sort(WORST_FIRST.reversed());
+        return hits;
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(documentCount, postings.size(), estimatedBytes, memoryBudgetBytes, refusedDocuments);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : Tokenizer.tokenize(text)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    /**
+     * Size of the index. {@code complete} is {@code false} once a document has been refused for lack of memory.
+     */
+    public record Stats(long documents, long terms, long estimatedBytes, long memoryBudgetBytes,
+            long refusedDocuments) {
+
+        public boolean complete() {
+            return refusedDocuments == 0;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.feedback.search;
+
+import java.util.Arrays;
+
+/**
+ * Ids of the documents containing one term, kept sorted ascending in a primitive array,
+ * together with the term frequency in each document. Not thread-safe; guarded by {@link InvertedIndex}.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] frequencies = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds a posting. Ids normally arrive in increasing order and are appended; older ids are inserted in place.
+     *
+     * @return {@code false} if the document was already present
+     */
+    boolean add(long id, int frequency) {
+        int position;
+        if (size == 0 || ids[size - 1] < id) {
+            position = size;
+        } else {
+            int found = Arrays.binarySearch(ids, 0, size, id);
+            if (found >= 0) {
+                return false;
+            }
+            position = -found - 1;
+        }
+
+        if (size == ids.length) {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        if (position < size) {
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+        }
+        ids[position] = id;
+        frequencies[position] = frequency;
+        size++;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long idAt(int index) {
+        return ids[index];
+    }
+
+    int frequencyAt(int index) {
+        return frequencies[index];
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.feedback.search;
+
+/**
+ * A matching feedback id and its relevance score; higher is better.
+ */
+public record SearchHit(long id, double score) {
+}
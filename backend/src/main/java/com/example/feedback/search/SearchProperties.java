@@ -0,0 +1,30 @@
+package com.example.feedback.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the in-process full-text index behind {@code GET /api/feedback/search}.
+ */
+@ConfigurationProperties(prefix = "feedback.search")
+public class SearchProperties {
+
+    private DataSize memoryBudget = DataSize.ofMegabytes(64);
+    private int maxResults = 100;
+
+    public DataSize getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public void setMemoryBudget(DataSize memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    public void setMaxResults(int maxResults) {
+        this.maxResults = maxResults;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.feedback.similar;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+
+/**
+ * Near-duplicate index over {@link Feedback#getMessage()}, kept current from {@link FeedbackSavedEvent}s.
+ * <p>
+ * Signatures are the expensive part, so those of a replayed chunk or a bulk submission are computed in
+ * parallel on a pool of {@code rebuild-parallelism} threads; they are then added under one lock.
+ */
+public class FeedbackSimilarityIndex implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackSimilarityIndex.class);
+
+    /** Smaller batches are hashed on the calling thread, where handing them to the pool costs more than it saves. */
+    static final int PARALLEL_BATCH_SIZE = 64;
+
+    private final MinHasher hasher;
+    private final LshIndex index;
+    private final ForkJoinPool pool;
+    private final int clusterSampleSize;
+    private volatile boolean budgetWarningLogged;
+
+    public FeedbackSimilarityIndex(SimilarityProperties properties) {
+        this.hasher = new MinHasher(properties.getHashes(), properties.getShingleLength());
+        this.index = new LshIndex(properties.getHashes(), properties.getBands(), properties.getThreshold(),
+                properties.getMemoryBudget().toBytes());
+        int parallelism = properties.getRebuildParallelism() > 0 ? properties.getRebuildParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        this.clusterSampleSize = properties.getClusterSampleSize();
+    }
+
+    @EventListener
+    public void onFeedbackSaved(FeedbackSavedEvent event) {
+        List<Feedback> feedbacks = event.feedbacks();
+        long[] ids = new long[feedbacks.size()];
+        int[][] signatures = new int[feedbacks.size()][];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = feedbacks.get(i).getId();
+        }
+        if (feedbacks.size() < PARALLEL_BATCH_SIZE) {
+            for (int i = 0; i < ids.length; i++) {
+                signatures[i] = hasher.signature(feedbacks.get(i).getMessage());
+            }
+        } else {
+            // A parallel stream started inside the pool runs on the pool's threads, not the common pool
+            pool.submit(() -> IntStream.range(0, ids.length).parallel()
+                    .forEach(i -> signatures[i] = hasher.signature(feedbacks.get(i).getMessage()))).join();
+        }
+        int refused = index.addAll(ids, signatures);
+        if (refused > 0 && !budgetWarningLogged) {
+            budgetWarningLogged = true;
+            logger.warn("Similarity index memory budget of {} bytes exhausted, new feedback is no longer indexed",
+                    index.stats().memoryBudgetBytes());
+        }
+    }
+
+    /**
+     * Near-duplicates of {@code feedback}, most similar first. Feedback that is not indexed, because it came
+     * after the memory budget ran out, is compared by a signature computed on the spot.
+     */
+    public List<SimilarHit> similar(Feedback feedback, int limit) {
+        int[] signature = index.signatureOf(feedback.getId());
+        if (signature == null) {
+            signature = hasher.signature(feedback.getMessage());
+        }
+        return index.similar(signature, feedback.getId(), limit);
+    }
+
+    public List<LshIndex.Cluster> clusters(int minSize, int limit) {
+        return index.clusters(minSize, limit, clusterSampleSize);
+    }
+
+    public LshIndex.Stats stats() {
+        return index.stats();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.feedback.similar;
+
+/**
+ * Open-addressing hash map from {@code long} to non-negative {@code int}, without boxing or entry objects:
+ * one {@code long[]} of keys and one {@code int[]} of values, probed linearly. Not thread-safe; guarded by
+ * {@link LshIndex}.
+ */
+final class LongIntHashMap {
+
+    /** Returned by {@link #get} for absent keys. */
+    static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    /** Value plus one, so the default 0 marks a free slot. */
+    private int[] values;
+    private int mask;
+    private int size;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    int get(long key) {
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            if (values[i] == 0) {
+                return MISSING;
+            }
+            if (keys[i] == key) {
+                return values[i] - 1;
+            }
+        }
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any previous value.
+     */
+    void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values must not be negative, got " + value);
+        }
+        int i = index(key);
+        while (values[i] != 0) {
+            if (keys[i] == key) {
+                values[i] = value + 1;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value + 1;
+        if (++size > (mask + 1) * 3 / 4) {
+            grow();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Number of slots; each costs 12 bytes whether used or not. */
+    int capacity() {
+        return mask + 1;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                int j = index(oldKeys[i]);
+                while (values[j] != 0) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+}
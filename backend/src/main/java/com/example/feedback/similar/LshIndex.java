@@ -0,0 +1,346 @@
+package com.example.feedback.similar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Locality-sensitive hashing over MinHash signatures, in primitive arrays.
+ * <p>
+ * A signature of {@code hashes} values is cut into {@code bands} of {@code hashes / bands} rows. Documents
+ * whose signatures agree on all rows of any band share that band's bucket and become candidates; a candidate
+ * is similar when the estimated Jaccard similarity, the share of equal signature positions, reaches
+ * {@code threshold}. Finding similar documents costs the size of the document's buckets instead of a pass
+ * over all documents.
+ * <p>
+ * Buckets are chains in two {@code int[]}s, headed from a {@link LongIntHashMap} keyed by band hash.
+ * Near-duplicates are grouped as they are added: similar candidates are merged in a union-find over the
+ * document slots, so the clusters are always current. Only the newest {@value #MAX_BUCKET_SCAN} entries of
+ * a bucket are compared, which bounds the cost of adding to a bucket of many identical messages.
+ * <p>
+ * The footprint is counted from the arrays rather than measured: each document is charged its signature and
+ * {@value #BYTES_PER_DOCUMENT} bytes of bookkeeping, each band entry {@value #BYTES_PER_BUCKET_ENTRY}, and each
+ * slot of the two hash maps {@value #BYTES_PER_MAP_SLOT}, whether used or not. A document arriving once that
+ * sum has reached {@code memoryBudgetBytes} is not added, and {@link Stats#complete()} turns false.
+ */
+public class LshIndex {
+
+    static final int MAX_BUCKET_SCAN = 256;
+    /** Id, union-find parent and cluster size, on top of the signature. */
+    static final long BYTES_PER_DOCUMENT = 16;
+    /** Slot and next entry of a bucket chain. */
+    static final long BYTES_PER_BUCKET_ENTRY = 8;
+    /** Key and value of a hash map slot, used or not. */
+    static final long BYTES_PER_MAP_SLOT = 12;
+
+    private static final int INITIAL_DOCUMENTS = 64;
+
+    private final int hashes;
+    private final int bands;
+    private final int rows;
+    private final double threshold;
+    private final long memoryBudgetBytes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongIntHashMap slotsById = new LongIntHashMap(INITIAL_DOCUMENTS);
+    private final LongIntHashMap bucketHeads;
+    private long[] ids = new long[INITIAL_DOCUMENTS];
+    private int[] signatures;
+    private int[] parents = new int[INITIAL_DOCUMENTS];
+    private int[] clusterSizes = new int[INITIAL_DOCUMENTS];
+    private int[] entrySlots;
+    private int[] entryNext;
+    private int documents;
+    private int entries;
+    private long clusters;
+    private long refusedDocuments;
+
+    public LshIndex(int hashes, int bands, double threshold, long memoryBudgetBytes) {
+        if (bands < 1 || hashes % bands != 0) {
+            throw new IllegalArgumentException(
+                    "Hashes must split evenly into bands, got " + hashes + " hashes and " + bands + " bands");
+        }
+        this.hashes = hashes;
+        this.bands = bands;
+        this.rows = hashes / bands;
+        this.threshold = threshold;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.signatures = new int[INITIAL_DOCUMENTS * hashes];
+        this.entrySlots = new int[INITIAL_DOCUMENTS * bands];
+        this.entryNext = new int[INITIAL_DOCUMENTS * bands];
+        this.bucketHeads = new LongIntHashMap(INITIAL_DOCUMENTS * bands);
+    }
+
+    /**
+     * Adds a document's signature to its band buckets and merges it into the clusters of the similar documents
+     * found there. An id that is already present, or a {@code null} signature, is skipped.
+     *
+     * @return {@code false} when the estimated footprint had already reached the budget
+     */
+    public boolean add(long id, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            return addLocked(id, signature);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the signatures of a replayed chunk or bulk submission, {@code ids[i]} with {@code signatures[i]}, so
+     * that readers wait for the write lock once per batch rather than once per document.
+     *
+     * @return how many of them found the budget already spent and were left out
+     */
+    public int addAll(long[] ids, int[][] signatures) {
+        int refused = 0;
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                if (!addLocked(ids[i], signatures[i])) {
+                    refused++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return refused;
+    }
+
+    private boolean addLocked(long id, int[] signature) {
+        if (signature == null || slotsById.get(id) != LongIntHashMap.MISSING) {
+            return true;
+        }
+        if (estimatedBytes() >= memoryBudgetBytes) {
+            refusedDocuments++;
+            return false;
+        }
+        if (signature.length != hashes) {
+            throw new IllegalArgumentException(
+                    "Expected a signature of " + hashes + " values, got " + signature.length);
+        }
+        int slot = documents++;
+        if (slot == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            parents = Arrays.copyOf(parents, capacity);
+            clusterSizes = Arrays.copyOf(clusterSizes, capacity);
+            signatures = Arrays.copyOf(signatures, capacity * hashes);
+        }
+        ids[slot] = id;
+        parents[slot] = slot;
+        clusterSizes[slot] = 1;
+        System.arraycopy(signature, 0, signatures, slot * hashes, hashes);
+        slotsById.put(id, slot);
+
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(signature, band);
+            int head = bucketHeads.get(key);
+            int scanned = 0;
+            for (int entry = head; entry >= 0 && scanned < MAX_BUCKET_SCAN; entry = entryNext[entry], scanned++) {
+                int other = entrySlots[entry];
+                if (find(other) != find(slot) && similarity(other, signature) >= threshold) {
+                    union(slot, other);
+                }
+            }
+            if (entries == entrySlots.length) {
+                entrySlots = Arrays.copyOf(entrySlots, entries * 2);
+                entryNext = Arrays.copyOf(entryNext, entries * 2);
+            }
+            entrySlots[entries] = slot;
+            entryNext[entries] = head;
+            bucketHeads.put(key, entries);
+            entries++;
+        }
+        return true;
+    }
+
+    /**
+     * The indexed signature of {@code id}, or {@code null} if it is not indexed.
+     */
+    public int[] signatureOf(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slotsById.get(id);
+            return slot == LongIntHashMap.MISSING ? null
+                    : Arrays.copyOfRange(signatures, slot * hashes, (slot + 1) * hashes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} indexed documents at least {@code threshold} similar to {@code signature}, most
+     * similar first; ties go to the newer id. {@code excludeId} is left out, so a document does not find itself.
+     */
+    public List<SimilarHit> similar(int[] signature, long excludeId, int limit) {
+        if (signature == null || limit <= 0) {
+            return List.of();
+        }
+        List<SimilarHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int[] candidates = new int[bands * MAX_BUCKET_SCAN];
+            int count = 0;
+            for (int band = 0; band < bands; band++) {
+                int scanned = 0;
+                for (int entry = bucketHeads.get(bandKey(signature, band)); entry >= 0 && scanned < MAX_BUCKET_SCAN;
+                        entry = entryNext[entry], scanned++) {
+                    candidates[count++] = entrySlots[entry];
+                }
+            }
+            Arrays.sort(candidates, 0, count);
+            for (int i = 0; i < count; i++) {
+                int slot = candidates[i];
+                if ((i > 0 && candidates[i - 1] == slot) || ids[slot] == excludeId) {
+                    continue;
+                }
+                double similarity = similarity(slot, signature);
+                if (similarity >= threshold) {
+                    hits.add(new SimilarHit(ids[slot], similarity));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(SimilarHit::similarity).thenComparingLong(SimilarHit::id).reversed());
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    /**
+     * The {@code limit} largest groups of near-duplicates with at least {@code minSize} members, largest first.
+     * Each lists the ids of its {@code sampleSize} first indexed members, the first being its representative.
+     */
+    public List<Cluster> clusters(int minSize, int limit, int sampleSize) {
+        lock.readLock().lock();
+        try {
+            List<int[]> roots = new ArrayList<>();
+            for (int slot = 0; slot < documents; slot++) {
+                if (parents[slot] == slot && clusterSizes[slot] >= Math.max(2, minSize)) {
+                    roots.add(new int[] { slot, clusterSizes[slot] });
+                }
+            }
+            roots.sort(Comparator.comparingInt((int[] root) -> root[1]).reversed()
+                    .thenComparingInt(root -> root[0]));
+            if (roots.size() > limit) {
+                roots = roots.subList(0, limit);
+            }
+
+            LongIntHashMap positions = new LongIntHashMap(roots.size());
+            List<List<Long>> members = new ArrayList<>(roots.size());
+            for (int i = 0; i < roots.size(); i++) {
+                positions.put(roots.get(i)[0], i);
+                members.add(new ArrayList<>(Math.min(sampleSize, roots.get(i)[1])));
+            }
+            for (int slot = 0; slot < documents && !roots.isEmpty(); slot++) {
+                int position = positions.get(root(slot));
+                if (position != LongIntHashMap.MISSING && members.get(position).size() < sampleSize) {
+                    members.get(position).add(ids[slot]);
+                }
+            }
+
+            List<Cluster> result = new ArrayList<>(roots.size());
+            for (int i = 0; i < roots.size(); i++) {
+                result.add(new Cluster(roots.get(i)[1], List.copyOf(members.get(i))));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            return new Stats(documents, bucketHeads.size(), clusters, estimatedBytes(), memoryBudgetBytes,
+                    refusedDocuments);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long estimatedBytes() {
+        return documents * (BYTES_PER_DOCUMENT + 4L * hashes)
+                + entries * BYTES_PER_BUCKET_ENTRY
+                + (slotsById.capacity() + (long) bucketHeads.capacity()) * BYTES_PER_MAP_SLOT;
+    }
+
+    private double similarity(int slot, int[] signature) {
+        int offset = slot * hashes;
+        int equal = 0;
+        for (int i = 0; i < hashes; i++) {
+            if (signatures[offset + i] == signature[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / hashes;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long hash = 0xCBF29CE484222325L ^ band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = (hash ^ signature[i]) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /** Root of a slot's cluster, halving the path on the way; only under the write lock. */
+    private int find(int slot) {
+        while (parents[slot] != slot) {
+            parents[slot] = parents[parents[slot]];
+            slot = parents[slot];
+        }
+        return slot;
+    }
+
+    /** Root of a slot's cluster without changing the tree, for readers. */
+    private int root(int slot) {
+        while (parents[slot] != slot) {
+            slot = parents[slot];
+        }
+        return slot;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (clusterSizes[rootA] > 1 && clusterSizes[rootB] > 1) {
+            clusters--;
+        } else if (clusterSizes[rootA] == 1 && clusterSizes[rootB] == 1) {
+            clusters++;
+        }
+        if (clusterSizes[rootA] < clusterSizes[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parents[rootB] = rootA;
+        clusterSizes[rootA] += clusterSizes[rootB];
+    }
+
+    /**
+     * A group of near-duplicates.
+     *
+     * @param ids the first indexed members, oldest first; the first is the cluster's representative
+     */
+    public record Cluster(int size, List<Long> ids) {
+    }
+
+    /**
+     * Size of the index. {@code clusters} counts groups of two or more near-duplicates; {@code complete} is
+     * {@code false} once a document has been refused for lack of memory.
+     */
+    public record Stats(long documents, long buckets, long clusters, long estimatedBytes, long memoryBudgetBytes,
+            long refusedDocuments) {
+
+        public boolean complete() {
+            return refusedDocuments == 0;
+        }
+    }
+}
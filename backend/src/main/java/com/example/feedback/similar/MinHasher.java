@@ -0,0 +1,103 @@
+package com.example.feedback.similar;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures of messages: the share of equal positions in two signatures estimates the Jaccard
+ * similarity of the messages' character shingles.
+ * <p>
+ * Text is lower-cased and every run of characters that are not letters or digits becomes one space, so
+ * punctuation and spacing do not tell near-duplicates apart. Each shingle of {@code shingleLength} characters
+ * is hashed to 64 bits once; the {@code hashes} hash functions are then {@code (a * x + b) >>> 32} with odd
+ * random {@code a}, one multiply-add per shingle and function. Seeded, so signatures are the same on every
+ * instance and across restarts.
+ */
+public final class MinHasher {
+
+    private static final long SEED = 0x5EED_F00D_CAFEL;
+
+    private final int hashes;
+    private final int shingleLength;
+    private final long[] multipliers;
+    private final long[] increments;
+
+    public MinHasher(int hashes, int shingleLength) {
+        if (hashes < 1 || shingleLength < 1) {
+            throw new IllegalArgumentException(
+                    "Hashes and shingle length must be positive, got " + hashes + " and " + shingleLength);
+        }
+        this.hashes = hashes;
+        this.shingleLength = shingleLength;
+        this.multipliers = new long[hashes];
+        this.increments = new long[hashes];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < hashes; i++) {
+            multipliers[i] = random.nextLong() | 1;
+            increments[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * The signature of {@code text}, or {@code null} when it has no letters or digits to compare.
+     * A text shorter than one shingle is a single shingle.
+     */
+    public int[] signature(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[hashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, normalized.length() - shingleLength + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = hash(normalized, start, Math.min(normalized.length(), start + shingleLength));
+            for (int i = 0; i < hashes; i++) {
+                int value = (int) ((multipliers[i] * shingle + increments[i]) >>> 32);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public int getHashes() {
+        return hashes;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /** FNV-1a over the characters, then the MurmurHash3 finalizer so nearby shingles spread over all bits. */
+    private static long hash(String text, int from, int to) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
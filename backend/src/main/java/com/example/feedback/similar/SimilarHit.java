@@ -0,0 +1,7 @@
+package com.example.feedback.similar;
+
+/**
+ * A near-duplicate feedback id and its estimated Jaccard similarity, from 0 to 1.
+ */
+public record SimilarHit(long id, double similarity) {
+}
@@ -0,0 +1,91 @@
+package com.example.feedback.similar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the near-duplicate index behind {@code GET /api/feedback/{id}/similar} and
+ * {@code GET /api/feedback/clusters}.
+ */
+@ConfigurationProperties(prefix = "feedback.similarity")
+public class SimilarityProperties {
+
+    /** Characters per shingle; shorter finds more overlap between unrelated messages. */
+    private int shingleLength = 5;
+    /** MinHash values per signature. */
+    private int hashes = 128;
+    /** LSH bands the signature is cut into; must divide {@code hashes}. More bands find less similar pairs. */
+    private int bands = 32;
+    /** Estimated Jaccard similarity from which two messages count as near-duplicates. */
+    private double threshold = 0.6;
+    private DataSize memoryBudget = DataSize.ofMegabytes(64);
+    private int maxResults = 100;
+    /** Member ids listed per cluster. */
+    private int clusterSampleSize = 10;
+    /** Threads computing signatures for replayed and bulk-saved feedback; 0 means one per core. */
+    private int rebuildParallelism = 0;
+
+    public int getShingleLength() {
+        return shingleLength;
+    }
+
+    public void setShingleLength(int shingleLength) {
+        this.shingleLength = shingleLength;
+    }
+
+    public int getHashes() {
+        return hashes;
+    }
+
+    public void setHashes(int hashes) {
+        this.hashes = hashes;
+    }
+
+    public int getBands() {
+        return bands;
+    }
+
+    public void setBands(int bands) {
+        this.bands = bands;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public DataSize getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public void setMemoryBudget(DataSize memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    public void setMaxResults(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    public int getClusterSampleSize() {
+        return clusterSampleSize;
+    }
+
+    public void setClusterSampleSize(int clusterSampleSize) {
+        this.clusterSampleSize = clusterSampleSize;
+    }
+
+    public int getRebuildParallelism() {
+        return rebuildParallelism;
+    }
+
+    public void setRebuildParallelism(int rebuildParallelism) {
+        this.rebuildParallelism = rebuildParallelism;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.feedback.startup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Training run for the AppCDS archive of the {@code fast-start} build. With {@code feedback.startup.training=true}
+ * it sends the requests a fresh instance serves first through the real server, then shuts the application
+ * down, so the JVM's class list covers the request path and not just the context refresh.
+ * <p>
+ * The switch is read at run time rather than through {@code @ConditionalOnProperty}: AOT processing fixes
+ * conditions at build time, where training is off.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CdsTrainingRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CdsTrainingRunner.class);
+
+    static final String TRAINING_PROPERTY = "feedback.startup.training";
+
+    private static final String VALID = "{\"name\":\"Training Run\",\"email\":\"training@example.com\","
+            + "\"message\":\"Loads the classes of a successful submission\"}";
+    private static final String INVALID = "{\"name\":\"\",\"email\":\"not-an-email\",\"message\":\"\"}";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException, InterruptedException {
+        if (!environment.getProperty(TRAINING_PROPERTY, Boolean.class, false)) {
+            return;
+        }
+        URI base = URI.create("http://localhost:" + environment.getRequiredProperty("local.server.port"));
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+        send(client, post(base, VALID));
+        send(client, post(base, INVALID));
+        send(client, HttpRequest.newBuilder(base.resolve("/api/feedback?limit=10")).build());
+        send(client, HttpRequest.newBuilder(base.resolve("/api/feedback/1")).build());
+
+        logger.info("CDS training requests sent, shutting down");
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private static HttpRequest post(URI base, String body) {
+        return HttpRequest.newBuilder(base.resolve("/api/feedback"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static void send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        logger.info("Training request {} {} answered {}", request.method(), request.uri().getPath(), status);
+    }
+}
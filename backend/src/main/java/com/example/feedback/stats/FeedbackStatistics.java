@@ -0,0 +1,104 @@
+package com.example.feedback.stats;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.event.EventListener;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+
+/**
+ * Live submission statistics, kept current from {@link FeedbackSavedEvent}s so that reading them never
+ * touches the table. Filled from the store at startup by the replay events and updated after every save.
+ * <p>
+ * Recording is lock-free apart from the small domain sketch; reading costs the same however much feedback
+ * there is. Submissions are counted at their creation time, so replayed feedback lands in the right windows.
+ */
+public class FeedbackStatistics {
+
+    private static final long SECOND = Duration.ofSeconds(1).toMillis();
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long QUARTER_HOUR = Duration.ofMinutes(15).toMillis();
+
+    /**
+     * Counts over the last minute, hour and day. Windows move in whole buckets of a second, a minute and a
+     * quarter hour, so e.g. the last day covers between 23.75 and 24 hours.
+     */
+    public record Submissions(long total, long lastMinute, long lastHour, long lastDay) {
+    }
+
+    /** An email domain with its count; the true count is at least {@code count - maxOverestimate}. */
+    public record DomainCount(String domain, long count, long maxOverestimate) {
+    }
+
+    /** Message-length distribution; {@code buckets[i]} counts lengths from {@code i * bucketWidth}. */
+    public record MessageLengths(long count, double mean, long max, int bucketWidth, long[] buckets) {
+    }
+
+    public record Snapshot(Submissions submissions, List<DomainCount> topDomains, MessageLengths messageLengths) {
+    }
+
+    private final Clock clock;
+    private final int topDomains;
+    private final LongAdder total = new LongAdder();
+    private final TimeBucketRing lastMinute = new TimeBucketRing(60, SECOND);
+    private final TimeBucketRing lastHour = new TimeBucketRing(60, MINUTE);
+    private final TimeBucketRing lastDay = new TimeBucketRing(96, QUARTER_HOUR);
+    private final SpaceSavingSketch domains;
+    private final LengthHistogram lengths;
+
+    public FeedbackStatistics(StatsProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    FeedbackStatistics(StatsProperties properties, Clock clock) {
+        this.clock = clock;
+        this.topDomains = properties.getTopDomains();
+        this.domains = new SpaceSavingSketch(properties.getTrackedDomains());
+        this.lengths = new LengthHistogram(properties.getLengthBucketWidth(), FeedbackRequest.MAX_MESSAGE_LENGTH);
+    }
+
+    @EventListener
+    public void onFeedbackSaved(FeedbackSavedEvent event) {
+        for (Feedback feedback : event.feedbacks()) {
+            record(feedback);
+        }
+    }
+
+    void record(Feedback feedback) {
+        long createdAt = feedback.getCreatedAt() != null
+                ? feedback.getCreatedAt().atZone(clock.getZone()).toInstant().toEpochMilli()
+                : clock.millis();
+        total.increment();
+        lastMinute.record(createdAt);
+        lastHour.record(createdAt);
+        lastDay.record(createdAt);
+
+        String email = feedback.getEmail();
+        int at = email != null ? email.lastIndexOf('@') : -1;
+        if (at >= 0 && at < email.length() - 1) {
+            domains.add(email.substring(at + 1).toLowerCase(Locale.ROOT));
+        }
+        if (feedback.getMessage() != null) {
+            lengths.record(feedback.getMessage().length());
+        }
+    }
+
+    public Snapshot snapshot() {
+        long now = clock.millis();
+        Submissions submissions = new Submissions(total.sum(), lastMinute.sum(now), lastHour.sum(now),
+                lastDay.sum(now));
+        List<DomainCount> top = domains.top(topDomains).stream()
+                .map(entry -> new DomainCount(entry.key(), entry.count(), entry.error()))
+                .toList();
+        long count = lengths.count();
+        MessageLengths messageLengths = new MessageLengths(count, count > 0 ? (double) lengths.sum() / count : 0,
+                lengths.max(), lengths.bucketWidth(), lengths.bucketCounts());
+        return new Snapshot(submissions, top, messageLengths);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.feedback.stats;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-width histogram of message lengths. Buckets are {@link LongAdder}s, so recording never contends;
+ * lengths beyond the last bucket are counted in it.
+ */
+final class LengthHistogram {
+
+    private final int bucketWidth;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LengthHistogram(int bucketWidth, int maxLength) {
+        if (bucketWidth < 1) {
+            throw new IllegalArgumentException("bucketWidth must be at least 1");
+        }
+        this.bucketWidth = bucketWidth;
+        this.buckets = new LongAdder[Math.max(1, (maxLength + bucketWidth - 1) / bucketWidth)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(int length) {
+        buckets[Math.min(length / bucketWidth, buckets.length - 1)].increment();
+        count.increment();
+        sum.add(length);
+        max.accumulate(length);
+    }
+
+    int bucketWidth() {
+        return bucketWidth;
+    }
+
+    long[] bucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    long sum() {
+        return sum.sum();
+    }
+
+    long max() {
+        return max.get();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.feedback.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Heavy-hitters sketch (Space-Saving, Metwally et al.): tracks at most {@code capacity} keys. A key that
+ * is not tracked while the sketch is full takes over the slot of the least counted key and inherits its
+ * count, so memory stays fixed however many distinct keys there are.
+ * <p>
+ * Any key seen more than {@code total / capacity} times is guaranteed to be tracked. A reported count is
+ * never lower than the true count and overestimates it by at most the reported {@code error}.
+ */
+final class SpaceSavingSketch {
+
+    /** A tracked key: its count lies between {@code count - error} and {@code count}. */
+    record Entry(String key, long count, long error) {
+    }
+
+    private static final class Counter {
+        long count;
+        long error;
+    }
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    /** Guards {@link #counters}: saves add keys while the statistics endpoint reads the top entries. */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    SpaceSavingSketch(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    void add(String key) {
+        lock.lock();
+        try {
+            Counter counter = counters.get(key);
+            if (counter == null) {
+                counter = counters.size() < capacity ? new Counter() : evictMinimum();
+                counters.put(key, counter);
+            }
+            counter.count++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Removes the least counted key and returns its counter, primed to be taken over by a new key. */
+    private Counter evictMinimum() {
+        Map.Entry<String, Counter> minimum = null;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            if (minimum == null || entry.getValue().count < minimum.getValue().count) {
+                minimum = entry;
+            }
+        }
+        counters.remove(minimum.getKey());
+        Counter counter = minimum.getValue();
+        counter.error = counter.count;
+        return counter;
+    }
+
+    /** The {@code limit} most counted keys, highest count first. */
+    List<Entry> top(int limit) {
+        List<Entry> entries;
+        lock.lock();
+        try {
+            entries = new ArrayList<>(counters.size());
+            counters.forEach((key, counter) -> entries.add(new Entry(key, counter.count, counter.error)));
+        } finally {
+            lock.unlock();
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed().thenComparing(Entry::key));
+        return entries.size() > limit ? List.copyOf(entries.subList(0, limit)) : entries;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.feedback.stats;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the in-memory aggregates behind {@code GET /api/feedback/stats}.
+ */
+@ConfigurationProperties(prefix = "feedback.stats")
+public class StatsProperties {
+
+    /** Email domains listed in the response. */
+    private int topDomains = 10;
+    /** Domains the heavy-hitters sketch tracks; more makes the counts of rarer domains exact for longer. */
+    private int trackedDomains = 200;
+    /** Width in characters of each message-length bucket. */
+    private int lengthBucketWidth = 100;
+
+    public int getTopDomains() {
+        return topDomains;
+    }
+
+    public void setTopDomains(int topDomains) {
+        this.topDomains = topDomains;
+    }
+
+    public int getTrackedDomains() {
+        return trackedDomains;
+    }
+
+    public void setTrackedDomains(int trackedDomains) {
+        this.trackedDomains = trackedDomains;
+    }
+
+    public int getLengthBucketWidth() {
+        return lengthBucketWidth;
+    }
+
+    public void setLengthBucketWidth(int lengthBucketWidth) {
+        this.lengthBucketWidth = lengthBucketWidth;
+    }
+}
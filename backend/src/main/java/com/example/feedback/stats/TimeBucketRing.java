@@ -0,0 +1,62 @@
+package com.example.feedback.stats;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sliding-window event counter: a ring of {@code buckets} slots of {@code bucketMillis} each, so the window
+ * covers {@code buckets * bucketMillis} and moves forward one bucket at a time.
+ * <p>
+ * Each slot holds the number of the time bucket it currently counts for and a {@link LongAdder}. A writer
+ * that finds a slot still holding an older bucket swaps in a fresh one with a compare-and-set, so recording
+ * never locks and never loses a count to a reset. Readers only add up slots whose bucket lies inside the
+ * window, so slots nobody has written to for a while simply drop out.
+ */
+final class TimeBucketRing {
+
+    private record Bucket(long number, LongAdder count) {
+    }
+
+    private final long bucketMillis;
+    private final AtomicReferenceArray<Bucket> slots;
+
+    TimeBucketRing(int buckets, long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        this.slots = new AtomicReferenceArray<>(buckets);
+    }
+
+    /** Counts one event that happened at {@code timeMillis}; events older than the ring are ignored. */
+    void record(long timeMillis) {
+        long number = Math.floorDiv(timeMillis, bucketMillis);
+        int slot = (int) Math.floorMod(number, (long) slots.length());
+        while (true) {
+            Bucket bucket = slots.get(slot);
+            if (bucket != null && bucket.number() == number) {
+                bucket.count().increment();
+                return;
+            }
+            if (bucket != null && bucket.number() > number) {
+                return;
+            }
+            Bucket fresh = new Bucket(number, new LongAdder());
+            fresh.count().increment();
+            if (slots.compareAndSet(slot, bucket, fresh)) {
+                return;
+            }
+        }
+    }
+
+    /** Events in the window ending with the bucket that contains {@code nowMillis}. */
+    long sum(long nowMillis) {
+        long newest = Math.floorDiv(nowMillis, bucketMillis);
+        long oldest = newest - slots.length() + 1;
+        long sum = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            Bucket bucket = slots.get(i);
+            if (bucket != null && bucket.number() >= oldest && bucket.number() <= newest) {
+                sum += bucket.count().sum();
+            }
+        }
+        return sum;
+    }
+}
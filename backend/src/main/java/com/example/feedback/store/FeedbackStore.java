@@ -0,0 +1,68 @@
+package com.example.feedback.store;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Slice;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+
+/**
+ * The storage operations the feedback endpoints rely on. Feedback is write-once, so there is no update or delete.
+ * <p>
+ * The implementation is picked with {@code feedback.store.type}: {@code jpa} (the default) keeps using
+ * {@code FeedbackRepository} and the JDBC batch writer, {@code segment-log} writes to an append-only
+ * memory-mapped log on disk, {@code sharded} spreads it over several databases by email hash.
+ */
+public interface FeedbackStore {
+
+    /**
+     * Stores one item and fills in its id and creation timestamp.
+     */
+    Feedback save(Feedback feedback);
+
+    /**
+     * Stores all items in order and fills in their ids and creation timestamps. The JPA store writes them in one
+     * transaction; after a crash the segment log may keep only a leading part of a batch that had not returned.
+     * The sharded store commits each shard's part separately.
+     */
+    List<Feedback> insertAll(List<Feedback> feedbacks);
+
+    /**
+     * The item with the given id, if it exists.
+     */
+    Optional<Feedback> findById(long id);
+
+    /**
+     * Items with the given ids, in no particular order; unknown ids are skipped.
+     */
+    List<Feedback> findAllById(Iterable<Long> ids);
+
+    /**
+     * Next page of feedback, newest first, by keyset pagination on {@code (created_at, id)}.
+     *
+     * @param after position of the last item of the previous page, or {@code null} for the first page
+     */
+    Slice<Feedback> findPage(FeedbackQuery query, FeedbackCursor after, int limit);
+
+    /**
+     * Hands every item created at or after {@code since} (everything when {@code null}) to {@code consumer}
+     * in {@code (created_at, id)} order, without holding them all in memory.
+     *
+     * @return number of items passed to the consumer
+     */
+    long scan(LocalDateTime since, FeedbackConsumer consumer) throws IOException;
+
+    /**
+     * Receives items from {@link #scan}; may fail with the I/O error of wherever it writes them.
+     */
+    @FunctionalInterface
+    interface FeedbackConsumer {
+
+        void accept(Feedback feedback) throws IOException;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.feedback.store;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.feedback.event.FeedbackInsertedEvent;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackBatchWriter;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.repository.FeedbackRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * {@link FeedbackStore} on the relational database: single saves and reads through {@link FeedbackRepository},
+ * bulk inserts through {@link FeedbackBatchWriter}. Both publish a {@link FeedbackInsertedEvent} before
+ * their transaction commits.
+ */
+@Component
+@ConditionalOnProperty(prefix = "feedback.store", name = "type", havingValue = "jpa", matchIfMissing = true)
+public class JpaFeedbackStore implements FeedbackStore {
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private FeedbackBatchWriter feedbackBatchWriter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Flushes before the commit, a single INSERT either way, so the row's timestamp is set for the listeners of
+     * the {@link FeedbackInsertedEvent}.
+     */
+    @Override
+    @Transactional
+    public Feedback save(Feedback feedback) {
+        Feedback saved = feedbackRepository.saveAndFlush(feedback);
+        eventPublisher.publishEvent(new FeedbackInsertedEvent(List.of(saved)));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public List<Feedback> insertAll(List<Feedback> feedbacks) {
+        List<Feedback> inserted = feedbackBatchWriter.insertAll(feedbacks);
+        eventPublisher.publishEvent(new FeedbackInsertedEvent(List.copyOf(inserted)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<Feedback> findById(long id) {
+        return feedbackRepository.findById(id);
+    }
+
+    @Override
+    public List<Feedback> findAllById(Iterable<Long> ids) {
+        return feedbackRepository.findAllById(ids);
+    }
+
+    @Override
+    public Slice<Feedback> findPage(FeedbackQuery query, FeedbackCursor after, int limit) {
+        return feedbackRepository.findPage(query, after, limit);
+    }
+
+    /**
+     * Streams from a JDBC cursor inside a read-only transaction. Each entity is detached once the consumer has
+     * it, so the persistence context, and with it the heap, stays flat however large the table is.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long scan(LocalDateTime since, FeedbackConsumer consumer) throws IOException {
+        long count = 0;
+        try (Stream<Feedback> rows = since != null
+                ? feedbackRepository.streamCreatedSince(since)
+                : feedbackRepository.streamAll()) {
+            Iterator<Feedback> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Feedback feedback = iterator.next();
+                consumer.accept(feedback);
+                entityManager.detach(feedback);
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.feedback.store.log;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File-system steps shared by the segment log and the archive.
+ */
+public final class Directories {
+
+    private static final Logger logger = LoggerFactory.getLogger(Directories.class);
+
+    private Directories() {
+    }
+
+    /**
+     * Forces a directory's entries to disk, making files created or renamed in it durable; until then a
+     * power loss can take the new name away even though the file's own contents were forced.
+     */
+    public static void sync(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms cannot open a directory as a channel; there the file system orders this itself.
+            logger.debug("Could not sync directory {}", directory, e);
+        }
+    }
+}
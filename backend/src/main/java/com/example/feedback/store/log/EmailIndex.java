@@ -0,0 +1,65 @@
+package com.example.feedback.store.log;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index from email address to the {@link SegmentIndex} entries of its records, so a page filtered by
+ * email reads only matching records instead of the email of every record in range.
+ * <p>
+ * Each address has an ascending array of entries, about 8 bytes per record plus one map entry per distinct
+ * address. It is rebuilt with the segment index on startup. One writer appends; readers see every entry below
+ * the size they read first, as the size of a list is published after its array.
+ */
+final class EmailIndex {
+
+    private final Map<String, Postings> postings = new ConcurrentHashMap<>();
+
+    /** Adds {@code entry}, which is greater than every entry added before. Only called by the store's writer. */
+    void add(String email, long entry) {
+        postings.computeIfAbsent(email, key -> new Postings()).add(entry);
+    }
+
+    /**
+     * Entries of {@code email} in {@code [start, end)}, newest first, passed to {@code visitor} until it returns
+     * {@code false}.
+     */
+    void forEachDescending(String email, long start, long end, EntryVisitor visitor) {
+        Postings list = postings.get(email);
+        if (list == null) {
+            return;
+        }
+        int size = list.size;
+        long[] entries = list.entries;
+        int i = Arrays.binarySearch(entries, 0, size, end);
+        for (i = (i >= 0 ? i : -i - 1) - 1; i >= 0 && entries[i] >= start; i--) {
+            if (!visitor.visit(entries[i])) {
+                return;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface EntryVisitor {
+
+        /** @return whether to go on to the next older entry */
+        boolean visit(long entry);
+    }
+
+    private static final class Postings {
+
+        private volatile long[] entries = new long[4];
+        private volatile int size;
+
+        void add(long entry) {
+            long[] current = entries;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+                entries = current;
+            }
+            current[size] = entry;
+            size = size + 1;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.feedback.store.log;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+import com.example.feedback.model.Feedback;
+
+/**
+ * Binary layout of one feedback record in a segment.
+ *
+ * <pre>
+ * int    payload length (bytes after the 8-byte header; 0 marks the end of the written part)
+ * int    CRC32C of the payload
+ * long   id
+ * long   created_at, seconds since the epoch (as UTC)
+ * int    created_at, nanoseconds
+ * short  name length, then the name in UTF-8
+ * short  email length, then the email in UTF-8
+ * short  message length, then the message in UTF-8
+ * </pre>
+ *
+ * Lengths are unsigned; all numbers are little-endian.
+ */
+final class RecordCodec {
+
+    static final int HEADER_SIZE = 8;
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private static final int FIXED_PAYLOAD = 8 + 8 + 4 + 3 * 2;
+    private static final int MAX_FIELD_BYTES = 0xFFFF;
+
+    private RecordCodec() {
+    }
+
+    /** Encodes a whole record, header included. */
+    static byte[] encode(long id, LocalDateTime createdAt, Feedback feedback) {
+        byte[] name = utf8(feedback.getName());
+        byte[] email = utf8(feedback.getEmail());
+        byte[] message = utf8(feedback.getMessage());
+        int payloadLength = FIXED_PAYLOAD + name.length + email.length + message.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payloadLength).order(ORDER);
+        buffer.putInt(payloadLength).putInt(0);
+        buffer.putLong(id);
+        buffer.putLong(createdAt.toEpochSecond(ZoneOffset.UTC)).putInt(createdAt.getNano());
+        buffer.putShort((short) name.length).put(name);
+        buffer.putShort((short) email.length).put(email);
+        buffer.putShort((short) message.length).put(message);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), HEADER_SIZE, payloadLength);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    /** Payload length of the record at {@code position}, or 0 when nothing was written there. */
+    static int payloadLength(ByteBuffer segment, int position) {
+        return segment.getInt(position);
+    }
+
+    /** Whether the record at {@code position} is complete and its payload matches its checksum. */
+    static boolean isIntact(ByteBuffer segment, int position, int payloadLength) {
+        if (payloadLength < FIXED_PAYLOAD || position + HEADER_SIZE + payloadLength > segment.limit()) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(segment.slice(position + HEADER_SIZE, payloadLength));
+        return segment.getInt(position + 4) == (int) crc.getValue();
+    }
+
+    static long id(ByteBuffer segment, int position) {
+        return segment.getLong(position + HEADER_SIZE);
+    }
+
+    /** Creation time as nanoseconds since the epoch (as UTC), the unit the index sorts by. */
+    static long createdAtNanos(ByteBuffer segment, int position) {
+        return segment.getLong(position + HEADER_SIZE + 8) * 1_000_000_000L + segment.getInt(position + HEADER_SIZE + 16);
+    }
+
+    static long epochNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    /** Just the email of the record at {@code position}, for filtering without decoding the rest. */
+    static String email(ByteBuffer segment, int position) {
+        int at = position + HEADER_SIZE + 20;
+        at += 2 + Short.toUnsignedInt(segment.getShort(at));
+        return string(segment, at + 2, Short.toUnsignedInt(segment.getShort(at)));
+    }
+
+    static Feedback decode(ByteBuffer segment, int position) {
+        int at = position + HEADER_SIZE;
+        Feedback feedback = new Feedback();
+        feedback.setId(segment.getLong(at));
+        feedback.setCreatedAt(LocalDateTime.ofEpochSecond(segment.getLong(at + 8), segment.getInt(at + 16),
+                ZoneOffset.UTC));
+        at += 20;
+        int length = Short.toUnsignedInt(segment.getShort(at));
+        feedback.setName(string(segment, at + 2, length));
+        at += 2 + length;
+        length = Short.toUnsignedInt(segment.getShort(at));
+        feedback.setEmail(string(segment, at + 2, length));
+        at += 2 + length;
+        length = Short.toUnsignedInt(segment.getShort(at));
+        feedback.setMessage(string(segment, at + 2, length));
+        return feedback;
+    }
+
+    private static String string(ByteBuffer segment, int position, int length) {
+        byte[] bytes = new byte[length];
+        segment.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_FIELD_BYTES) {
+            throw new IllegalArgumentException("Field exceeds " + MAX_FIELD_BYTES + " bytes");
+        }
+        return bytes;
+    }
+}
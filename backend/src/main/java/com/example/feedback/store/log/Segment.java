@@ -0,0 +1,123 @@
+package com.example.feedback.store.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One fixed-size, memory-mapped file of the log. Records are appended back to back from offset 0; the
+ * unwritten rest of the file is zero, which is how the end of the data is recognised.
+ * <p>
+ * Only the store's writer appends. Readers use absolute reads on the shared mapping and only look at records
+ * the index has published, so they need no locking.
+ */
+final class Segment {
+
+    private final Path path;
+    private final long firstId;
+    private final MappedByteBuffer buffer;
+    private volatile int writePosition;
+    /** Everything before this offset has been forced to disk; only touched under the store's sync lock. */
+    private int syncedPosition;
+
+    private Segment(Path path, long firstId, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstId = firstId;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps the segment file, creating it at {@code size} bytes when it does not exist yet.
+     */
+    static Segment open(Path path, long firstId, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long length = Math.max(channel.size(), size);
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Segment " + path + " is larger than 2 GB");
+            }
+            boolean grown = length > channel.size();
+            // The mapping stays valid after the channel is closed.
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            if (grown) {
+                // Forcing the mapping later only writes data pages, so make the new file length durable now.
+                channel.force(true);
+            }
+            buffer.order(RecordCodec.ORDER);
+            return new Segment(path, firstId, buffer);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long firstId() {
+        return firstId;
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    /**
+     * Sets where the next record goes, after recovery found the end of the intact records. Whatever a crash
+     * left beyond it is zeroed: pages of a mapping reach the disk in any order, so later records may have
+     * survived an earlier torn one, and they must not reappear once new records fill the gap.
+     */
+    void recoverTo(int position) {
+        int end = buffer.limit();
+        // Unwritten pages of the sparse file read as zeros without I/O, so this backwards scan is cheap.
+        while (end > position && buffer.get(end - 1) == 0) {
+            end--;
+        }
+        if (end > position) {
+            for (int i = position; i < end; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force(position, end - position);
+        }
+        writePosition = position;
+        syncedPosition = position;
+    }
+
+    /**
+     * Copies {@code record} to the end of the segment.
+     *
+     * @return offset of the record, or -1 when it does not fit
+     */
+    int append(byte[] record) {
+        int position = writePosition;
+        if (position + record.length + RecordCodec.HEADER_SIZE > buffer.limit()) {
+            // Keep room for a zero header after the last record, so the end stays recognisable.
+            return -1;
+        }
+        buffer.put(position, record);
+        writePosition = position + record.length;
+        return position;
+    }
+
+    /** Forces everything appended since the last call to disk. */
+    void sync() {
+        int end = writePosition;
+        if (end > syncedPosition) {
+            try {
+                buffer.force(syncedPosition, end - syncedPosition);
+            } catch (UncheckedIOException e) {
+                throw new IllegalStateException("Failed to sync segment " + path, e);
+            }
+            syncedPosition = end;
+        }
+    }
+
+    boolean isSynced() {
+        return syncedPosition >= writePosition;
+    }
+}
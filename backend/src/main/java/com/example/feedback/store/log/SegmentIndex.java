@@ -0,0 +1,95 @@
+package com.example.feedback.store.log;
+
+import java.util.Arrays;
+
+/**
+ * In-memory index of the log: for each record, where it is and when it was created. Ids are dense and start at
+ * 1, so the record with id {@code n} is entry {@code n - 1} and no id lookup is needed.
+ * <p>
+ * Entries are appended in id order, and the store never hands out a creation time earlier than the previous
+ * one, so the entries are also sorted by {@code (created_at, id)} and time ranges are found by binary search.
+ * <p>
+ * Entries live in fixed-size pages of two primitive arrays, about 16 bytes per record and nothing per object.
+ * One writer appends; readers see every entry below {@link #size()}, which is published last.
+ */
+final class SegmentIndex {
+
+    private static final int PAGE_SHIFT = 16;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    /** {@code segment number << 32 | offset in segment} per entry. */
+    private volatile long[][] locations = new long[16][];
+    /** Creation time in epoch nanoseconds per entry. */
+    private volatile long[][] createdAt = new long[16][];
+    private volatile long size;
+
+    static long location(int segment, int position) {
+        return (long) segment << 32 | position;
+    }
+
+    static int segment(long location) {
+        return (int) (location >>> 32);
+    }
+
+    static int position(long location) {
+        return (int) location;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /** Adds the entry for id {@code size() + 1}. Only called by the store's writer. */
+    void add(long location, long createdAtNanos) {
+        long index = size;
+        int page = (int) (index >>> PAGE_SHIFT);
+        int slot = (int) (index & PAGE_MASK);
+        if (slot == 0) {
+            addPage(page);
+        }
+        locations[page][slot] = location;
+        createdAt[page][slot] = createdAtNanos;
+        size = index + 1;
+    }
+
+    private void addPage(int page) {
+        long[][] newLocations = locations;
+        long[][] newCreatedAt = createdAt;
+        if (page == newLocations.length) {
+            newLocations = Arrays.copyOf(newLocations, page * 2);
+            newCreatedAt = Arrays.copyOf(newCreatedAt, page * 2);
+        }
+        newLocations[page] = new long[PAGE_SIZE];
+        newCreatedAt[page] = new long[PAGE_SIZE];
+        locations = newLocations;
+        createdAt = newCreatedAt;
+    }
+
+    long location(long index) {
+        return locations[(int) (index >>> PAGE_SHIFT)][(int) (index & PAGE_MASK)];
+    }
+
+    long createdAtNanos(long index) {
+        return createdAt[(int) (index >>> PAGE_SHIFT)][(int) (index & PAGE_MASK)];
+    }
+
+    /**
+     * First entry below {@code limit} whose {@code (created_at, id)} is not before {@code (createdAtNanos, id)},
+     * or {@code limit} when there is none.
+     */
+    long lowerBound(long createdAtNanos, long id, long limit) {
+        long low = 0;
+        long high = limit;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            long midCreatedAt = createdAtNanos(mid);
+            if (midCreatedAt < createdAtNanos || (midCreatedAt == createdAtNanos && mid + 1 < id)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
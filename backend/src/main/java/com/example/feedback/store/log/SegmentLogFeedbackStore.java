@@ -0,0 +1,370 @@
+package com.example.feedback.store.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.example.feedback.metrics.FeedbackMetrics;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.FeedbackStore;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * {@link FeedbackStore} on an append-only log of memory-mapped segment files.
+ * <p>
+ * Records are CRC-checked (see {@link RecordCodec}) and written back to back; a segment is named after the
+ * first id it holds, and a new one is started when a record does not fit. Ids are assigned here, densely from
+ * 1, and creation times never go backwards, so the log is in {@code (created_at, id)} order and a
+ * {@link SegmentIndex} kept in memory answers every lookup with at most a binary search. An {@link EmailIndex}
+ * lists the records of each email address, so a page filtered by email reads matching records only.
+ * <p>
+ * On startup every segment is scanned and the index rebuilt. The scan stops at the first record that is
+ * missing, torn or fails its checksum; in the last segment everything from there on is the unfinished tail of
+ * a crash and is cut off, in an earlier segment it is corruption and startup fails.
+ * <p>
+ * Appends are serialized by one lock. When they reach the disk is set by {@link SegmentLogProperties.Fsync}.
+ * A process crash loses nothing either way, since the written pages belong to the OS page cache once copied
+ * into the mapping; the policy only matters for power loss or a kernel crash.
+ */
+public class SegmentLogFeedbackStore implements FeedbackStore, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentLogFeedbackStore.class);
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final SegmentLogProperties.Fsync fsync;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final SegmentIndex index = new SegmentIndex();
+    private final EmailIndex emailIndex = new EmailIndex();
+    /** Serializes appends, so ids, segment positions and the single-writer email index advance together. */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /** Serializes forcing the log, so concurrent waiters share one fsync. */
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final ScheduledExecutorService syncScheduler;
+
+    /** Number of records known to be on disk. */
+    private volatile long durableSize;
+    private long lastCreatedAtNanos = Long.MIN_VALUE;
+    private volatile boolean closed;
+
+    public SegmentLogFeedbackStore(SegmentLogProperties properties) throws IOException {
+        this.directory = Paths.get(properties.getDirectory());
+        this.segmentSize = Math.toIntExact(properties.getSegmentSize().toBytes());
+        this.fsync = properties.getFsync();
+        Files.createDirectories(directory);
+        recover();
+        if (fsync == SegmentLogProperties.Fsync.INTERVAL) {
+            long intervalNanos = properties.getFsyncInterval().toNanos();
+            syncScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("segment-log-sync").daemon().factory());
+            syncScheduler.scheduleWithFixedDelay(this::syncQuietly, intervalNanos, intervalNanos,
+                    TimeUnit.NANOSECONDS);
+        } else {
+            syncScheduler = null;
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            long firstId = firstId(file);
+            if (firstId != index.size() + 1) {
+                throw new IllegalStateException("Segment " + file + " starts at id " + firstId + " but "
+                        + (index.size() + 1) + " was expected");
+            }
+            Segment segment = Segment.open(file, firstId, segmentSize);
+            segments.add(segment);
+            int end = scan(segment, segments.size() - 1);
+            boolean last = i == files.size() - 1;
+            if (end + RecordCodec.HEADER_SIZE <= segment.buffer().limit()
+                    && RecordCodec.payloadLength(segment.buffer(), end) != 0) {
+                if (!last) {
+                    throw new IllegalStateException("Corrupt record in segment " + file + " at offset " + end);
+                }
+                logger.warn("Discarding unfinished records at the end of {} from offset {}", file, end);
+            }
+            segment.recoverTo(end);
+        }
+        if (segments.isEmpty()) {
+            createSegment(1);
+        }
+        durableSize = index.size();
+        if (index.size() > 0) {
+            lastCreatedAtNanos = index.createdAtNanos(index.size() - 1);
+        }
+        logger.info("Opened segment log in {} with {} records in {} segments", directory, index.size(),
+                segments.size());
+    }
+
+    /** Indexes the intact records of a segment and returns the offset after the last one. */
+    private int scan(Segment segment, int segmentNumber) {
+        ByteBuffer buffer = segment.buffer();
+        int position = 0;
+        while (position + RecordCodec.HEADER_SIZE <= buffer.limit()) {
+            int payloadLength = RecordCodec.payloadLength(buffer, position);
+            if (payloadLength == 0
+                    || !RecordCodec.isIntact(buffer, position, payloadLength)
+                    || RecordCodec.id(buffer, position) != index.size() + 1) {
+                break;
+            }
+            emailIndex.add(RecordCodec.email(buffer, position), index.size());
+            index.add(SegmentIndex.location(segmentNumber, position), RecordCodec.createdAtNanos(buffer, position));
+            position += RecordCodec.HEADER_SIZE + payloadLength;
+        }
+        return position;
+    }
+
+    private static long firstId(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Unexpected file in segment log directory: " + file, e);
+        }
+    }
+
+    private Segment createSegment(long firstId) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", firstId, SEGMENT_SUFFIX));
+        Segment segment = Segment.open(file, firstId, segmentSize);
+        segments.add(segment);
+        // Otherwise the whole new segment can vanish on power loss
+        Directories.sync(directory);
+        return segment;
+    }
+
+    @Override
+    @Timed(value = FeedbackMetrics.STORE_APPEND, histogram = true, description = "Segment-log appends")
+    public Feedback save(Feedback feedback) {
+        long size;
+        writeLock.lock();
+        try {
+            size = append(feedback);
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(size);
+        return feedback;
+    }
+
+    @Override
+    @Timed(value = FeedbackMetrics.STORE_APPEND, histogram = true, description = "Segment-log appends")
+    public List<Feedback> insertAll(List<Feedback> feedbacks) {
+        long size = index.size();
+        writeLock.lock();
+        try {
+            for (Feedback feedback : feedbacks) {
+                size = append(feedback);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        awaitDurable(size);
+        return feedbacks;
+    }
+
+    /** Appends one record under the write lock and returns the new record count. */
+    private long append(Feedback feedback) {
+        if (closed) {
+            throw new IllegalStateException("Segment log is closed");
+        }
+        long id = index.size() + 1;
+        LocalDateTime createdAt = LocalDateTime.now();
+        long createdAtNanos = RecordCodec.epochNanos(createdAt);
+        if (createdAtNanos < lastCreatedAtNanos) {
+            // The clock stepped back; keep the log in time order.
+            createdAtNanos = lastCreatedAtNanos;
+            createdAt = LocalDateTime.ofEpochSecond(Math.floorDiv(createdAtNanos, 1_000_000_000L),
+                    (int) Math.floorMod(createdAtNanos, 1_000_000_000L), ZoneOffset.UTC);
+        }
+        byte[] record = RecordCodec.encode(id, createdAt, feedback);
+
+        Segment segment = segments.get(segments.size() - 1);
+        int position = segment.append(record);
+        if (position < 0) {
+            segment = roll(segment, id);
+            position = segment.append(record);
+            if (position < 0) {
+                throw new IllegalArgumentException("Record of " + record.length + " bytes does not fit in a segment");
+            }
+        }
+        emailIndex.add(feedback.getEmail(), id - 1);
+        index.add(SegmentIndex.location(segments.size() - 1, position), createdAtNanos);
+        lastCreatedAtNanos = createdAtNanos;
+        feedback.setId(id);
+        feedback.setCreatedAt(createdAt);
+
+        if (fsync == SegmentLogProperties.Fsync.PER_WRITE) {
+            sync();
+        }
+        return id;
+    }
+
+    /**
+     * Starts a new segment. The full one is forced first, so only the last segment can ever hold records that
+     * are not on disk yet.
+     */
+    private Segment roll(Segment full, long firstId) {
+        syncLock.lock();
+        try {
+            full.sync();
+            return createSegment(firstId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start a new segment at id " + firstId, e);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void awaitDurable(long size) {
+        if (fsync == SegmentLogProperties.Fsync.GROUP && durableSize < size) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces every record appended so far. A caller that finds its records already covered by a concurrent
+     * call returns without an fsync of its own.
+     */
+    void sync() {
+        long target = index.size();
+        if (durableSize >= target) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durableSize >= target) {
+                return;
+            }
+            // Read the size before the segment: records published by then are either in this segment or in
+            // one that roll() already forced.
+            long size = index.size();
+            segments.get(segments.size() - 1).sync();
+            durableSize = size;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            logger.error("Background sync of segment log failed", e);
+        }
+    }
+
+    @Override
+    public Optional<Feedback> findById(long id) {
+        return id >= 1 && id <= index.size() ? Optional.of(read(id - 1)) : Optional.empty();
+    }
+
+    @Override
+    public List<Feedback> findAllById(Iterable<Long> ids) {
+        long size = index.size();
+        List<Feedback> found = new ArrayList<>();
+        for (Long id : ids) {
+            if (id != null && id >= 1 && id <= size) {
+                found.add(read(id - 1));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Slice<Feedback> findPage(FeedbackQuery query, FeedbackCursor after, int limit) {
+        long end = index.size();
+        if (query.to() != null) {
+            end = index.lowerBound(RecordCodec.epochNanos(query.to()), Long.MIN_VALUE, end);
+        }
+        if (after != null) {
+            end = index.lowerBound(RecordCodec.epochNanos(after.createdAt()), after.id(), end);
+        }
+        long start = query.from() != null
+                ? index.lowerBound(RecordCodec.epochNanos(query.from()), Long.MIN_VALUE, end)
+                : 0;
+
+        List<Feedback> rows = new ArrayList<>(Math.min(limit + 1, 64));
+        if (query.email() != null) {
+            emailIndex.forEachDescending(query.email(), start, end, entry -> {
+                rows.add(read(entry));
+                return rows.size() <= limit;
+            });
+        } else {
+            for (long i = end - 1; i >= start && rows.size() <= limit; i--) {
+                rows.add(read(i));
+            }
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<Feedback> content = hasNext ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(limit), hasNext);
+    }
+
+    @Override
+    public long scan(LocalDateTime since, FeedbackConsumer consumer) throws IOException {
+        long end = index.size();
+        long start = since != null ? index.lowerBound(RecordCodec.epochNanos(since), Long.MIN_VALUE, end) : 0;
+        for (long i = start; i < end; i++) {
+            consumer.accept(read(i));
+        }
+        return end - start;
+    }
+
+    private Feedback read(long entry) {
+        long location = index.location(entry);
+        return RecordCodec.decode(segments.get(SegmentIndex.segment(location)).buffer(),
+                SegmentIndex.position(location));
+    }
+
+    /** Number of records in the log. */
+    public long size() {
+        return index.size();
+    }
+
+    /**
+     * Forces what is still unsynced and stops the background sync. The mappings are released when the store
+     * is garbage collected.
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            closed = true;
+        } finally {
+            writeLock.unlock();
+        }
+        if (syncScheduler != null) {
+            syncScheduler.shutdownNow();
+        }
+        sync();
+    }
+}
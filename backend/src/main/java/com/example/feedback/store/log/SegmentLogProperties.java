@@ -0,0 +1,63 @@
+package com.example.feedback.store.log;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the segment-log store, used when {@code feedback.store.type=segment-log}.
+ */
+@ConfigurationProperties(prefix = "feedback.store.segment-log")
+public class SegmentLogProperties {
+
+    /**
+     * When appended records are forced to disk.
+     */
+    public enum Fsync {
+        /** Before every save returns; nothing acknowledged is lost on power failure. */
+        PER_WRITE,
+        /** Like per-write, but callers waiting at the same moment share one fsync. */
+        GROUP,
+        /** Every {@code fsync-interval} in the background; a power failure loses at most that much. */
+        INTERVAL
+    }
+
+    private String directory = "data/feedback-log";
+    /** Size of each memory-mapped segment file; a new one is started when a record does not fit. */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private Fsync fsync = Fsync.GROUP;
+    private Duration fsyncInterval = Duration.ofMillis(100);
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public Fsync getFsync() {
+        return fsync;
+    }
+
+    public void setFsync(Fsync fsync) {
+        this.fsync = fsync;
+    }
+
+    public Duration getFsyncInterval() {
+        return fsyncInterval;
+    }
+
+    public void setFsyncInterval(Duration fsyncInterval) {
+        this.fsyncInterval = fsyncInterval;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.feedback.store.shard;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackBatchWriter;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * One database of the sharded store, with its own connection pool and transactions. It holds the regular
+ * feedback table from {@code schema.sql}, with the identity column set to hand out only ids whose low
+ * {@link ShardedFeedbackStore#SHARD_BITS} bits are this shard's number.
+ */
+final class FeedbackShard implements AutoCloseable {
+
+    /** Rows the driver fetches per round trip while a shard is scanned. */
+    static final int SCAN_FETCH_SIZE = 500;
+
+    private static final String SELECT = "SELECT id, name, email, message, created_at FROM feedback";
+    private static final String SCAN_ALL = SELECT + " ORDER BY created_at, id";
+    private static final String SCAN_SINCE = SELECT + " WHERE created_at >= ? ORDER BY created_at, id";
+
+    static final RowMapper<Feedback> ROW_MAPPER = (rs, row) -> read(rs);
+
+    private final int index;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FeedbackBatchWriter batchWriter;
+
+    FeedbackShard(int index, ShardingProperties properties, MeterRegistry meterRegistry) {
+        this.index = index;
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("feedback-shard-" + index);
+        config.setJdbcUrl(properties.getUrl().replace("{shard}", String.valueOf(index)));
+        config.setUsername(properties.getUsername());
+        config.setPassword(properties.getPassword());
+        config.setMaximumPoolSize(properties.getPoolSize());
+        if (meterRegistry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        this.dataSource = new HikariDataSource(config);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.batchWriter = FeedbackBatchWriter.withGeneratedIds(jdbcTemplate);
+        try {
+            initialize();
+        } catch (RuntimeException e) {
+            dataSource.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the table if needed and points its identity at the next id of this shard: ids step by
+     * {@link ShardedFeedbackStore#MAX_SHARDS}, so they all keep the shard number in their low bits.
+     */
+    private void initialize() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM feedback", Long.class);
+        if (maxId != null && ShardedFeedbackStore.shardOf(maxId) != index) {
+            throw new IllegalStateException("Shard " + index + " holds id " + maxId + ", which belongs to shard "
+                    + ShardedFeedbackStore.shardOf(maxId) + "; is it another shard's database?");
+        }
+        long next = maxId != null ? maxId + ShardedFeedbackStore.MAX_SHARDS : ShardedFeedbackStore.MAX_SHARDS + index;
+        jdbcTemplate.execute("ALTER TABLE feedback ALTER COLUMN id RESTART WITH " + next);
+        jdbcTemplate.execute("ALTER TABLE feedback ALTER COLUMN id SET INCREMENT BY " + ShardedFeedbackStore.MAX_SHARDS);
+    }
+
+    int index() {
+        return index;
+    }
+
+    /** Inserts the items in one transaction of this shard. */
+    List<Feedback> insertAll(List<Feedback> feedbacks) {
+        return transactionTemplate.execute(status -> batchWriter.insertAll(feedbacks));
+    }
+
+    Optional<Feedback> findById(long id) {
+        return jdbcTemplate.query(SELECT + " WHERE id = ?", ROW_MAPPER, id).stream().findFirst();
+    }
+
+    List<Feedback> findAllById(Collection<Long> ids) {
+        StringJoiner placeholders = new StringJoiner(", ", " WHERE id IN (", ")");
+        ids.forEach(id -> placeholders.add("?"));
+        return jdbcTemplate.query(SELECT + placeholders, ROW_MAPPER, ids.toArray());
+    }
+
+    /**
+     * Up to {@code max} rows after {@code after}, newest first: the keyset query of
+     * {@code FeedbackRepositoryImpl}, written out in SQL.
+     */
+    List<Feedback> findNewest(FeedbackQuery query, FeedbackCursor after, int max) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        List<Object> args = new ArrayList<>(7);
+        if (query.email() != null) {
+            where.add("email = ?");
+            args.add(query.email());
+        }
+        if (query.from() != null) {
+            where.add("created_at >= ?");
+            args.add(Timestamp.valueOf(query.from()));
+        }
+        if (query.to() != null) {
+            where.add("created_at < ?");
+            args.add(Timestamp.valueOf(query.to()));
+        }
+        if (after != null) {
+            where.add("created_at <= ?");
+            where.add("(created_at < ? OR id < ?)");
+            Timestamp createdAt = Timestamp.valueOf(after.createdAt());
+            args.add(createdAt);
+            args.add(createdAt);
+            args.add(after.id());
+        }
+        args.add(max);
+        return jdbcTemplate.query(SELECT + where + " ORDER BY created_at DESC, id DESC FETCH FIRST ? ROWS ONLY",
+                ROW_MAPPER, args.toArray());
+    }
+
+    /** Opens a cursor over the rows created at or after {@code since} (all when {@code null}), oldest first. */
+    Scan scan(LocalDateTime since) {
+        String sql = since != null ? SCAN_SINCE : SCAN_ALL;
+        try {
+            Connection connection = dataSource.getConnection();
+            try {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(SCAN_FETCH_SIZE);
+                if (since != null) {
+                    statement.setTimestamp(1, Timestamp.valueOf(since));
+                }
+                return new Scan(connection, statement.executeQuery(), sql);
+            } catch (SQLException | RuntimeException e) {
+                connection.close();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw translate(sql, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+    private DataAccessException translate(String sql, SQLException e) {
+        return jdbcTemplate.getExceptionTranslator().translate("Scanning feedback shard " + index, sql, e);
+    }
+
+    private static Feedback read(ResultSet rs) throws SQLException {
+        Feedback feedback = new Feedback(rs.getString("name"), rs.getString("email"), rs.getString("message"));
+        feedback.setId(rs.getLong("id"));
+        feedback.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        return feedback;
+    }
+
+    /**
+     * An open cursor on one shard; {@link #current()} is the row the last {@link #next()} moved to.
+     */
+    final class Scan implements AutoCloseable {
+        private final Connection connection;
+        private final ResultSet resultSet;
+        private final String sql;
+        private Feedback current;
+
+        private Scan(Connection connection, ResultSet resultSet, String sql) {
+            this.connection = connection;
+            this.resultSet = resultSet;
+            this.sql = sql;
+        }
+
+        boolean next() {
+            try {
+                current = resultSet.next() ? read(resultSet) : null;
+                return current != null;
+            } catch (SQLException e) {
+                throw translate(sql, e);
+            }
+        }
+
+        Feedback current() {
+            return current;
+        }
+
+        @Override
+        public void close() {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                throw translate(sql, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.feedback.store.shard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.FeedbackStore;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@link FeedbackStore} spread over independent databases, each with its own connection pool.
+ * <p>
+ * A submission goes to the shard picked by a hash of its email, so all feedback of one address lives together
+ * and a list filtered by email reads one shard. Ids carry their shard in the low {@link #SHARD_BITS} bits, which
+ * sends lookups by id straight to it. Unfiltered lists and exports ask every shard in parallel and k-way merge
+ * the answers on {@code (created_at, id)}; each shard already returns its rows in that order.
+ * <p>
+ * There are no cross-shard transactions: {@link #insertAll} commits each shard's part on its own, so a failure
+ * can leave the parts on other shards stored. Changing the shard count moves emails to other shards, so it
+ * needs the data to be redistributed first; ids stay valid as long as their shard exists.
+ */
+public class ShardedFeedbackStore implements FeedbackStore, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedFeedbackStore.class);
+
+    /** Bits of an id that hold the shard number. */
+    static final int SHARD_BITS = 8;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final Comparator<Feedback> OLDEST_FIRST =
+            Comparator.comparing(Feedback::getCreatedAt).thenComparingLong(Feedback::getId);
+
+    private final List<FeedbackShard> shards = new ArrayList<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardedFeedbackStore(ShardingProperties properties) {
+        this(properties, null);
+    }
+
+    /**
+     * @param meterRegistry registry for the connection pool metrics of every shard, or {@code null} for none
+     */
+    public ShardedFeedbackStore(ShardingProperties properties, MeterRegistry meterRegistry) {
+        if (properties.getCount() < 1 || properties.getCount() > MAX_SHARDS) {
+            throw new IllegalArgumentException("feedback.store.sharded.count must be between 1 and " + MAX_SHARDS
+                    + ", was " + properties.getCount());
+        }
+        try {
+            for (int i = 0; i < properties.getCount(); i++) {
+                shards.add(new FeedbackShard(i, properties, meterRegistry));
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        logger.info("Opened sharded feedback store with {} shards", shards.size());
+    }
+
+    /** Shard number encoded in an id. */
+    static int shardOf(long id) {
+        return (int) (id & (MAX_SHARDS - 1));
+    }
+
+    /** Shard that stores the feedback of an email: 64-bit FNV-1a of its UTF-8 bytes, modulo the shard count. */
+    int shardFor(String email) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : email.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return (int) Math.floorMod(hash, (long) shards.size());
+    }
+
+    int shardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public Feedback save(Feedback feedback) {
+        return shards.get(shardFor(feedback.getEmail())).insertAll(List.of(feedback)).get(0);
+    }
+
+    /**
+     * Writes each shard's part of the batch in parallel, one transaction per shard.
+     */
+    @Override
+    public List<Feedback> insertAll(List<Feedback> feedbacks) {
+        List<List<Feedback>> parts = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            parts.add(new ArrayList<>());
+        }
+        for (Feedback feedback : feedbacks) {
+            parts.get(shardFor(feedback.getEmail())).add(feedback);
+        }
+        List<Callable<List<Feedback>>> tasks = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            if (!parts.get(i).isEmpty()) {
+                FeedbackShard shard = shards.get(i);
+                List<Feedback> part = parts.get(i);
+                tasks.add(() -> shard.insertAll(part));
+            }
+        }
+        // The batch writer fills in the given instances, so the input list is the result in its own order
+        invokeAll(tasks);
+        return feedbacks;
+    }
+
+    @Override
+    public Optional<Feedback> findById(long id) {
+        if (id <= 0 || shardOf(id) >= shards.size()) {
+            return Optional.empty();
+        }
+        return shards.get(shardOf(id)).findById(id);
+    }
+
+    @Override
+    public List<Feedback> findAllById(Iterable<Long> ids) {
+        List<List<Long>> parts = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            parts.add(new ArrayList<>());
+        }
+        for (long id : ids) {
+            if (id > 0 && shardOf(id) < shards.size()) {
+                parts.get(shardOf(id)).add(id);
+            }
+        }
+        List<Callable<List<Feedback>>> tasks = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            if (!parts.get(i).isEmpty()) {
+                FeedbackShard shard = shards.get(i);
+                List<Long> part = parts.get(i);
+                tasks.add(() -> shard.findAllById(part));
+            }
+        }
+        List<Feedback> found = new ArrayList<>();
+        invokeAll(tasks).forEach(found::addAll);
+        return found;
+    }
+
+    /**
+     * Every shard returns up to {@code limit + 1} rows of its own after the cursor; the newest {@code limit + 1}
+     * of their union are the next page plus the row that tells whether there is another one.
+     */
+    @Override
+    public Slice<Feedback> findPage(FeedbackQuery query, FeedbackCursor after, int limit) {
+        List<Feedback> rows;
+        if (query.email() != null) {
+            rows = shards.get(shardFor(query.email())).findNewest(query, after, limit + 1);
+        } else {
+            List<Callable<List<Feedback>>> tasks = new ArrayList<>(shards.size());
+            for (FeedbackShard shard : shards) {
+                tasks.add(() -> shard.findNewest(query, after, limit + 1));
+            }
+            rows = mergeNewest(invokeAll(tasks), limit + 1);
+        }
+        boolean hasNext = rows.size() > limit;
+        return new SliceImpl<>(hasNext ? rows.subList(0, limit) : rows, PageRequest.ofSize(limit), hasNext);
+    }
+
+    /** The first {@code max} rows of lists that are each sorted newest first, merged in the same order. */
+    static List<Feedback> mergeNewest(List<List<Feedback>> lists, int max) {
+        // Heap of [list, position] pairs, on the row at that position
+        PriorityQueue<int[]> heads = new PriorityQueue<>(Math.max(1, lists.size()),
+                Comparator.comparing((int[] head) -> lists.get(head[0]).get(head[1]), OLDEST_FIRST.reversed()));
+        for (int i = 0; i < lists.size(); i++) {
+            if (!lists.get(i).isEmpty()) {
+                heads.add(new int[] { i, 0 });
+            }
+        }
+        List<Feedback> merged = new ArrayList<>(max);
+        while (merged.size() < max && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<Feedback> list = lists.get(head[0]);
+            merged.add(list.get(head[1]));
+            if (++head[1] < list.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Streams every shard through its own cursor and hands the rows on in one merged order, holding one
+     * row per shard plus what the drivers prefetch.
+     */
+    @Override
+    public long scan(LocalDateTime since, FeedbackConsumer consumer) throws IOException {
+        List<FeedbackShard.Scan> scans = new ArrayList<>(shards.size());
+        try {
+            PriorityQueue<FeedbackShard.Scan> heads = new PriorityQueue<>(shards.size(),
+                    Comparator.comparing(FeedbackShard.Scan::current, OLDEST_FIRST));
+            for (FeedbackShard shard : shards) {
+                FeedbackShard.Scan scan = shard.scan(since);
+                scans.add(scan);
+                if (scan.next()) {
+                    heads.add(scan);
+                }
+            }
+            long count = 0;
+            while (!heads.isEmpty()) {
+                FeedbackShard.Scan scan = heads.poll();
+                consumer.accept(scan.current());
+                count++;
+                if (scan.next()) {
+                    heads.add(scan);
+                }
+            }
+            return count;
+        } finally {
+            for (FeedbackShard.Scan scan : scans) {
+                scan.close();
+            }
+        }
+    }
+
+    /** Runs the tasks in parallel and returns their results in order, rethrowing the first failure. */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        try {
+            if (tasks.size() == 1) {
+                return List.of(tasks.get(0).call());
+            }
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the shards", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Shard operation failed", e.getCause());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Shard operation failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+        for (FeedbackShard shard : shards) {
+            shard.close();
+        }
+    }
+}
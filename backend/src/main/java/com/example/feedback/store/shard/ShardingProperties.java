@@ -0,0 +1,59 @@
+package com.example.feedback.store.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the sharded store, used when {@code feedback.store.type=sharded}.
+ */
+@ConfigurationProperties(prefix = "feedback.store.sharded")
+public class ShardingProperties {
+
+    /** Number of independent databases; at most {@link ShardedFeedbackStore#MAX_SHARDS}. */
+    private int count = 4;
+    /** JDBC URL of each shard; {@code {shard}} is replaced by its number, from 0. */
+    private String url = "jdbc:h2:mem:feedback-shard-{shard};DB_CLOSE_DELAY=-1";
+    private String username = "sa";
+    private String password = "";
+    /** Connections in each shard's own pool. */
+    private int poolSize = 10;
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.feedback.stream;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size ring of the most recent events, numbered from 1. Each new event overwrites the oldest one.
+ * <p>
+ * Publishing takes a short lock, so there is one writer at a time, and never waits for readers. Readers
+ * keep their own position and read slots without locking, checking the number in the slot to detect that
+ * they were overwritten. Waking readers that wait for new events is left to a notifier thread: a publish
+ * only unparks that thread, so the cost of waking thousands of subscribers stays off the publishing thread.
+ */
+final class EventRing {
+
+    record Event(long id, String data) {
+    }
+
+    private final AtomicReferenceArray<Event> slots;
+    private final int mask;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile long head;
+
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition advanced = waitLock.newCondition();
+    private final Thread notifier;
+    private volatile boolean closed;
+
+    EventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.notifier = Thread.ofVirtual().name("feedback-stream-notifier").start(this::notifyWaiters);
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    /** Number of the newest event, {@code 0} before the first one. */
+    long head() {
+        return head;
+    }
+
+    /** Appends an event and returns its number. */
+    long publish(String data) {
+        long id;
+        writeLock.lock();
+        try {
+            id = head + 1;
+            slots.set((int) (id & mask), new Event(id, data));
+            head = id;
+        } finally {
+            writeLock.unlock();
+        }
+        LockSupport.unpark(notifier);
+        return id;
+    }
+
+    /** The event with number {@code id}, or {@code null} when it is not published yet or already overwritten. */
+    Event get(long id) {
+        Event event = slots.get((int) (id & mask));
+        return event != null && event.id() == id ? event : null;
+    }
+
+    /**
+     * Waits until an event newer than {@code id} is published, at most {@code timeoutNanos}.
+     *
+     * @return whether there is one
+     * @throws InterruptedException if the waiting thread is interrupted, e.g. because its client went away
+     */
+    boolean awaitAfter(long id, long timeoutNanos) throws InterruptedException {
+        if (head > id) {
+            return true;
+        }
+        long remaining = timeoutNanos;
+        waitLock.lock();
+        try {
+            while (head <= id && remaining > 0 && !closed) {
+                remaining = advanced.awaitNanos(remaining);
+            }
+        } finally {
+            waitLock.unlock();
+        }
+        return head > id;
+    }
+
+    private void notifyWaiters() {
+        long signalled = 0;
+        while (!closed) {
+            long current = head;
+            if (current == signalled) {
+                LockSupport.park(this);
+                continue;
+            }
+            signalled = current;
+            waitLock.lock();
+            try {
+                advanced.signalAll();
+            } finally {
+                waitLock.unlock();
+            }
+        }
+    }
+
+    /** Stops the notifier and releases every waiting reader. */
+    void close() {
+        closed = true;
+        LockSupport.unpark(notifier);
+        waitLock.lock();
+        try {
+            advanced.signalAll();
+        } finally {
+            waitLock.unlock();
+        }
+        try {
+            notifier.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
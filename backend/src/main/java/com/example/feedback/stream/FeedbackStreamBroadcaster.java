@@ -0,0 +1,198 @@
+package com.example.feedback.stream;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.feedback.controller.FeedbackResponses;
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pushes newly saved feedback to Server-Sent Events subscribers.
+ * <p>
+ * Saves append the encoded item to an {@link EventRing} and return; they never touch a connection. Every
+ * subscriber has its own virtual thread that follows the ring at its own pace and blocks only on its own
+ * socket, so a slow client delays nobody else. An idle subscriber is a parked virtual thread plus an async
+ * servlet request, which is what makes thousands of open connections cheap.
+ * <p>
+ * A subscriber that falls more than {@code max-lag} events behind is disconnected. Its client reconnects
+ * with {@code Last-Event-ID} and resumes from the ring, replaying at most the newest {@code max-lag} events;
+ * if it asks for older ones, the first event is {@code gap}, carrying how many items were skipped.
+ */
+public class FeedbackStreamBroadcaster implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackStreamBroadcaster.class);
+
+    static final String FEEDBACK_EVENT = "feedback";
+    static final String GAP_EVENT = "gap";
+
+    private final ObjectMapper objectMapper;
+    private final EventRing ring;
+    private final int maxSubscribers;
+    private final int maxLag;
+    private final long heartbeatNanos;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicInteger ids = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    public FeedbackStreamBroadcaster(ObjectMapper objectMapper, FeedbackStreamProperties properties) {
+        if (properties.getMaxLag() < 1 || properties.getMaxLag() >= properties.getBufferSize()) {
+            throw new IllegalArgumentException("feedback.stream.max-lag must be between 1 and buffer-size - 1");
+        }
+        this.objectMapper = objectMapper;
+        this.ring = new EventRing(properties.getBufferSize());
+        this.maxSubscribers = properties.getMaxSubscribers();
+        this.maxLag = properties.getMaxLag();
+        this.heartbeatNanos = properties.getHeartbeat().toNanos();
+        this.timeoutMillis = properties.getTimeout().toMillis();
+    }
+
+    /**
+     * Appends newly saved feedback to the ring. Replayed rows are ignored: they are not new, and subscribers
+     * connect only after startup anyway.
+     */
+    @EventListener
+    public void onFeedbackSaved(FeedbackSavedEvent event) {
+        if (event.replay()) {
+            return;
+        }
+        for (Feedback feedback : event.feedbacks()) {
+            try {
+                ring.publish(objectMapper.writeValueAsString(FeedbackResponses.detail(feedback)));
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to encode feedback {} for the live stream", feedback.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * Opens a subscription.
+     *
+     * @param lastEventId value of the client's {@code Last-Event-ID} header, or {@code null} to start with the
+     *                    next new item
+     * @return the emitter to return from the handler, or {@code null} when {@code max-subscribers} is reached
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, startAfter(lastEventId));
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::stop);
+        emitter.onTimeout(subscriber::stop);
+        emitter.onError(error -> subscriber.stop());
+        subscriber.thread = Thread.ofVirtual().name("feedback-stream-" + ids.incrementAndGet()).start(subscriber);
+        return emitter;
+    }
+
+    /** Position to resume after; ids from before a restart or from the future mean "only new items". */
+    private long startAfter(String lastEventId) {
+        long head = ring.head();
+        if (lastEventId == null) {
+            return head;
+        }
+        try {
+            long id = Long.parseLong(lastEventId.trim());
+            return id >= 0 && id <= head ? id : head;
+        } catch (NumberFormatException e) {
+            return head;
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /** Subscribers disconnected for falling behind. */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** Number of the newest event, which is also the number of items published so far. */
+    public long getPublishedCount() {
+        return ring.head();
+    }
+
+    @Override
+    public void close() {
+        ring.close();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+            subscriber.stop();
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private long cursor;
+        private volatile boolean running = true;
+        private volatile Thread thread;
+
+        Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void run() {
+            try {
+                // Resuming further back would count as lagging and disconnect the client before it got anything
+                long resumeAfter = ring.head() - maxLag;
+                if (cursor < resumeAfter) {
+                    emitter.send(SseEmitter.event().name(GAP_EVENT).data(resumeAfter - cursor));
+                    cursor = resumeAfter;
+                }
+                while (running) {
+                    long head = ring.head();
+                    EventRing.Event event = cursor < head ? ring.get(cursor + 1) : null;
+                    if (head - cursor > maxLag || (cursor < head && event == null)) {
+                        dropped.increment();
+                        logger.debug("Disconnecting live stream subscriber {} events behind", head - cursor);
+                        emitter.complete();
+                        return;
+                    }
+                    if (event != null) {
+                        emitter.send(SseEmitter.event().id(Long.toString(event.id())).name(FEEDBACK_EVENT)
+                                .data(event.data()));
+                        cursor = event.id();
+                    } else if (!ring.awaitAfter(cursor, heartbeatNanos) && running) {
+                        emitter.send(SseEmitter.event().comment(""));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed.
+                logger.debug("Live stream subscriber disconnected: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                // Stopped from a completion callback or on shutdown.
+            } finally {
+                stop();
+            }
+        }
+
+        void stop() {
+            if (subscribers.remove(this)) {
+                subscriberCount.decrementAndGet();
+            }
+            running = false;
+            Thread current = thread;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.feedback.stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the live stream's open connections, published items and subscribers dropped for lagging.
+ */
+public class FeedbackStreamMetrics implements MeterBinder {
+
+    private final FeedbackStreamBroadcaster broadcaster;
+
+    public FeedbackStreamMetrics(FeedbackStreamBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("feedback.stream.subscribers", broadcaster, FeedbackStreamBroadcaster::getSubscriberCount)
+                .description("Open live stream connections")
+                .register(registry);
+        FunctionCounter.builder("feedback.stream.published", broadcaster,
+                FeedbackStreamBroadcaster::getPublishedCount)
+                .description("Items pushed into the live stream")
+                .register(registry);
+        FunctionCounter.builder("feedback.stream.dropped", broadcaster, FeedbackStreamBroadcaster::getDroppedCount)
+                .description("Subscribers disconnected for falling too far behind")
+                .register(registry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.feedback.stream;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the live feed behind {@code GET /api/feedback/stream}.
+ */
+@ConfigurationProperties(prefix = "feedback.stream")
+public class FeedbackStreamProperties {
+
+    /** Events kept in the ring, more than {@code max-lag} allows a reader to need; rounded up to a power of two. */
+    private int bufferSize = 1024;
+    /** Connections served at once; further subscribers get 503. */
+    private int maxSubscribers = 10_000;
+    /** Events a subscriber may fall behind the newest one before it is disconnected; also the most replayed. */
+    private int maxLag = 512;
+    /** Comment line sent on an idle connection, so proxies keep it open and dead clients are noticed. */
+    private Duration heartbeat = Duration.ofSeconds(15);
+    /** Connections are closed after this long; clients reconnect and resume with {@code Last-Event-ID}. */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public int getMaxSubscribers() {
+        return maxSubscribers;
+    }
+
+    public void setMaxSubscribers(int maxSubscribers) {
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    public int getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(int maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getHeartbeat() {
+        return heartbeat;
+    }
+
+    public void setHeartbeat(Duration heartbeat) {
+        this.heartbeat = heartbeat;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
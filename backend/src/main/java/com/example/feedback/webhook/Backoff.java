@@ -0,0 +1,45 @@
+package com.example.feedback.webhook;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Exponential backoff with jitter: after the {@code n}th consecutive failure the wait is {@code initial * 2^(n-1)},
+ * capped at {@code max}, of which a random half is taken off. Endpoints that fail together, after an outage say,
+ * then spread their retries instead of coming back in lockstep, while every wait stays at least half the
+ * exponential step.
+ */
+class Backoff {
+
+    private final long initialNanos;
+    private final long maxNanos;
+    private final SplittableRandom random;
+    private final Lock lock = new ReentrantLock();
+
+    Backoff(Duration initial, Duration max) {
+        this(initial, max, new SplittableRandom());
+    }
+
+    Backoff(Duration initial, Duration max, SplittableRandom random) {
+        this.initialNanos = Math.max(1, initial.toNanos());
+        this.maxNanos = Math.max(initialNanos, max.toNanos());
+        this.random = random;
+    }
+
+    /**
+     * The wait after {@code failures} consecutive failures, at least 1.
+     */
+    Duration delay(int failures) {
+        int doublings = Math.min(Math.max(0, failures - 1), 62);
+        long step = initialNanos > maxNanos >> doublings ? maxNanos : initialNanos << doublings;
+        long half = step / 2;
+        lock.lock();
+        try {
+            return Duration.ofNanos(step - half + random.nextLong(half + 1));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.feedback.webhook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+
+/**
+ * Delivers the webhook outbox.
+ * <p>
+ * One thread walks the endpoints whenever new feedback commits, a request completes, or {@code poll-interval}
+ * passes. An endpoint that is idle, out of its backoff and not behind an open circuit gets its oldest
+ * {@code batch-size} outbox rows POSTed as one JSON array. Requests go out asynchronously on one
+ * {@link HttpClient} that prefers HTTP/2, at most {@code max-concurrent-requests} at a time and one per endpoint,
+ * so each endpoint receives its items in order.
+ * <p>
+ * A 2xx response acknowledges the batch. Connection failures, timeouts, 408, 429 and 5xx count a failed attempt
+ * against every item, back the endpoint off exponentially with jitter (longer if the endpoint asks so with
+ * {@code Retry-After}) and feed its {@link CircuitBreaker}. Any other status is a refusal that retrying would
+ * not change, and the batch is dead-lettered at once. Delivery is at least once: a batch whose answer is lost
+ * is sent again, and receivers deduplicate by feedback id.
+ */
+public class WebhookDispatcher implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+    private final WebhookOutbox outbox;
+    private final WebhookProperties properties;
+    private final HttpClient client;
+    private final List<EndpointState> endpoints = new ArrayList<>();
+    private final Backoff backoff;
+    private final Semaphore permits;
+    private final Lock lock = new ReentrantLock();
+    private final Condition wakeUp = lock.newCondition();
+
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    private boolean signalled;
+    private volatile boolean running;
+    private Thread thread;
+
+    public WebhookDispatcher(WebhookOutbox outbox, WebhookProperties properties) {
+        if (properties.getBatchSize() < 1 || properties.getMaxConcurrentRequests() < 1
+                || properties.getMaxAttempts() < 1) {
+            throw new IllegalArgumentException("feedback.webhook.batch-size, max-concurrent-requests and "
+                    + "max-attempts must be at least 1");
+        }
+        this.outbox = outbox;
+        this.properties = properties;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.backoff = new Backoff(properties.getInitialBackoff(), properties.getMaxBackoff());
+        this.permits = new Semaphore(properties.getMaxConcurrentRequests());
+        for (WebhookProperties.Endpoint endpoint : properties.getEndpoints()) {
+            endpoints.add(new EndpointState(endpoint.getName(), URI.create(endpoint.getUrl()),
+                    new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration())));
+        }
+    }
+
+    /**
+     * Looks at the outbox right away instead of at the next poll.
+     */
+    @EventListener
+    public void onFeedbackSaved(FeedbackSavedEvent event) {
+        if (!event.replay()) {
+            wake();
+        }
+    }
+
+    void wake() {
+        lock.lock();
+        try {
+            signalled = true;
+            wakeUp.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        long pollNanos = properties.getPollInterval().toNanos();
+        while (running) {
+            long wait = pollNanos;
+            for (EndpointState endpoint : endpoints) {
+                try {
+                    wait = Math.min(wait, dispatch(endpoint));
+                } catch (RuntimeException e) {
+                    // The outbox could not be read; the next round tries again
+                    logger.warn("Could not read the webhook outbox for {}: {}", endpoint.name, e.getMessage());
+                    logger.debug("Error details: ", e);
+                }
+            }
+            lock.lock();
+            try {
+                long remaining = Math.max(1, wait);
+                while (!signalled && running && remaining > 0) {
+                    remaining = wakeUp.awaitNanos(remaining);
+                }
+                signalled = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Sends the endpoint's next batch if it may have one.
+     *
+     * @return how long until the endpoint's backoff ends, for the dispatcher's next wake-up
+     */
+    private long dispatch(EndpointState endpoint) {
+        if (endpoint.inFlight) {
+            return Long.MAX_VALUE;
+        }
+        long untilRetry = endpoint.retryAt - System.nanoTime();
+        if (untilRetry > 0) {
+            return untilRetry;
+        }
+        if (endpoint.breaker.isOpen()) {
+            return Long.MAX_VALUE;
+        }
+        if (!permits.tryAcquire()) {
+            // Woken again when a request completes
+            return Long.MAX_VALUE;
+        }
+        List<WebhookOutbox.Entry> batch;
+        try {
+            batch = outbox.next(endpoint.name, properties.getBatchSize());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        if (batch.isEmpty() || !endpoint.breaker.tryAcquire()) {
+            permits.release();
+            return Long.MAX_VALUE;
+        }
+
+        endpoint.inFlight = true;
+        HttpRequest request = HttpRequest.newBuilder(endpoint.uri)
+                .timeout(properties.getRequestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(batch)))
+                .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> complete(endpoint, batch, response, error));
+        return Long.MAX_VALUE;
+    }
+
+    private static String body(List<WebhookOutbox.Entry> batch) {
+        int length = 2;
+        for (WebhookOutbox.Entry entry : batch) {
+            length += entry.payload().length() + 1;
+        }
+        StringBuilder body = new StringBuilder(length).append('[');
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(batch.get(i).payload());
+        }
+        return body.append(']').toString();
+    }
+
+    private void complete(EndpointState endpoint, List<WebhookOutbox.Entry> batch, HttpResponse<Void> response,
+            Throwable failure) {
+        Throwable error = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        try {
+            int status = response != null ? response.statusCode() : 0;
+            if (status >= 200 && status < 300) {
+                outbox.delivered(batch);
+                endpoint.breaker.onSuccess();
+                endpoint.failures = 0;
+                delivered.addAndGet(batch.size());
+                logger.debug("Delivered {} feedback items to {}", batch.size(), endpoint.name);
+            } else if (error != null || status == 408 || status == 429 || status >= 500) {
+                String reason = error != null ? error.getClass().getSimpleName() + ": " + error.getMessage()
+                        : "HTTP " + status;
+                failedRequests.incrementAndGet();
+                endpoint.breaker.onFailure();
+                endpoint.failures++;
+                long delay = Math.max(backoff.delay(endpoint.failures).toNanos(), retryAfterNanos(response));
+                endpoint.retryAt = System.nanoTime() + delay;
+                int exhausted = outbox.failed(batch, reason, properties.getMaxAttempts());
+                deadLettered.addAndGet(exhausted);
+                logger.warn("Webhook {} failed ({}), retrying {} items in {} ms{}", endpoint.name, reason,
+                        batch.size() - exhausted, delay / 1_000_000,
+                        exhausted > 0 ? "; " + exhausted + " dead-lettered after " + properties.getMaxAttempts()
+                                + " attempts" : "");
+            } else {
+                // The endpoint answered, so it is healthy; it just will not take these items
+                endpoint.breaker.onSuccess();
+                endpoint.failures = 0;
+                outbox.deadLetter(batch, "HTTP " + status);
+                deadLettered.addAndGet(batch.size());
+                logger.warn("Webhook {} refused {} items with HTTP {}; moved to the dead-letter table",
+                        endpoint.name, batch.size(), status);
+            }
+        } catch (RuntimeException e) {
+            // The outcome could not be recorded; the batch stays in the outbox and is sent again
+            logger.error("Could not record the webhook outcome for {}: {}", endpoint.name, e.getMessage());
+            logger.debug("Error details: ", e);
+            endpoint.retryAt = System.nanoTime() + backoff.delay(1).toNanos();
+        } finally {
+            endpoint.inFlight = false;
+            permits.release();
+            wake();
+        }
+    }
+
+    /** The wait a 429 or 503 asks for in whole seconds, 0 when there is none. */
+    private static long retryAfterNanos(HttpResponse<Void> response) {
+        if (response == null) {
+            return 0;
+        }
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return TimeUnit.SECONDS.toNanos(Long.parseLong(value.trim()));
+                    } catch (NumberFormatException e) {
+                        // An HTTP date; the exponential backoff stands in for it
+                        return 0L;
+                    }
+                })
+                .orElse(0L);
+    }
+
+    public long getDelivered() {
+        return delivered.get();
+    }
+
+    public long getFailedRequests() {
+        return failedRequests.get();
+    }
+
+    public long getDeadLettered() {
+        return deadLettered.get();
+    }
+
+    /**
+     * Circuit state of the named endpoint.
+     *
+     * @throws IllegalArgumentException for an unknown endpoint
+     */
+    public CircuitBreaker.State circuitState(String endpoint) {
+        for (EndpointState state : endpoints) {
+            if (state.name.equals(endpoint)) {
+                return state.breaker.getState();
+            }
+        }
+        throw new IllegalArgumentException("Unknown webhook endpoint " + endpoint);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "feedback-webhooks");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Webhook dispatcher started for {} endpoints (batch size: {}, concurrency: {})",
+                endpoints.size(), properties.getBatchSize(), properties.getMaxConcurrentRequests());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wake();
+        try {
+            thread.join(properties.getShutdownTimeout().toMillis());
+            // Every permit back means no request is in flight
+            if (permits.tryAcquire(properties.getMaxConcurrentRequests(),
+                    properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                permits.release(properties.getMaxConcurrentRequests());
+            } else {
+                logger.warn("Webhook requests still in flight at shutdown; their items stay in the outbox");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Webhook dispatcher stopped ({} items delivered, {} dead-lettered)", delivered.get(),
+                deadLettered.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Delivery state of one endpoint. {@code inFlight}, {@code failures} and {@code retryAt} are written by the
+     * completion of the endpoint's single request in flight and read by the dispatcher thread.
+     */
+    private static final class EndpointState {
+
+        private final String name;
+        private final URI uri;
+        private final CircuitBreaker breaker;
+        private volatile boolean inFlight;
+        private volatile int failures;
+        private volatile long retryAt = System.nanoTime();
+
+        EndpointState(String name, URI uri, CircuitBreaker breaker) {
+            this.name = name;
+            this.uri = uri;
+            this.breaker = breaker;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.feedback.webhook;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the outbox backlog, the dead letters, delivery counts and the circuit state of each endpoint.
+ */
+public class WebhookMetrics implements MeterBinder {
+
+    private final WebhookOutbox outbox;
+    private final WebhookDispatcher dispatcher;
+
+    public WebhookMetrics(WebhookOutbox outbox, WebhookDispatcher dispatcher) {
+        this.outbox = outbox;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("feedback.webhook.pending", outbox, WebhookOutbox::pending)
+                .description("Outbox rows waiting for delivery, over all endpoints")
+                .register(registry);
+        Gauge.builder("feedback.webhook.dead.letters", outbox, WebhookOutbox::deadLetters)
+                .description("Deliveries given up on and kept in the dead-letter table")
+                .register(registry);
+        FunctionCounter.builder("feedback.webhook.delivered", dispatcher, WebhookDispatcher::getDelivered)
+                .description("Feedback items acknowledged by an endpoint")
+                .register(registry);
+        FunctionCounter.builder("feedback.webhook.failed.requests", dispatcher, WebhookDispatcher::getFailedRequests)
+                .description("Webhook requests that failed and will be retried")
+                .register(registry);
+        for (String endpoint : outbox.getEndpoints()) {
+            Gauge.builder("feedback.webhook.circuit.open", dispatcher,
+                    d -> d.circuitState(endpoint) == CircuitBreaker.State.CLOSED ? 0 : 1)
+                    .description("1 while the endpoint's circuit is open or half-open")
+                    .tag("endpoint", endpoint)
+                    .register(registry);
+        }
+    }
+}
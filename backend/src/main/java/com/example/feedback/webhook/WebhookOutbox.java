@@ -0,0 +1,170 @@
+package com.example.feedback.webhook;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.feedback.controller.FeedbackResponses;
+import com.example.feedback.event.FeedbackInsertedEvent;
+import com.example.feedback.model.Feedback;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The webhook outbox and dead-letter tables.
+ * <p>
+ * New feedback is recorded in the transaction that inserts it, one row per endpoint, so an item is forwarded
+ * if and only if it was stored: a rolled-back insert leaves no outbox rows, and a committed one cannot lose them
+ * to a crash. Each row holds the event exactly as it is sent, so delivery never reads the feedback table.
+ * <p>
+ * A row leaves the outbox when its endpoint acknowledges it, or moves to {@code webhook_dead_letter} with the
+ * last error once the endpoint rejects it or {@code max-attempts} deliveries have failed.
+ */
+public class WebhookOutbox {
+
+    static final String EVENT_TYPE = "feedback.created";
+    /** Longest error kept in the dead-letter table. */
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO webhook_outbox (endpoint, feedback_id, payload) VALUES (?, ?, ?)";
+    private static final String NEXT_SQL = "SELECT id, feedback_id, payload, attempts FROM webhook_outbox "
+            + "WHERE endpoint = ? ORDER BY id FETCH FIRST ? ROWS ONLY";
+    private static final String DELETE_SQL = "DELETE FROM webhook_outbox WHERE id = ?";
+    private static final String ATTEMPT_SQL = "UPDATE webhook_outbox SET attempts = attempts + 1 WHERE id = ?";
+    private static final String DEAD_LETTER_SQL = "INSERT INTO webhook_dead_letter "
+            + "(id, endpoint, feedback_id, payload, attempts, last_error, created_at) "
+            + "SELECT id, endpoint, feedback_id, payload, attempts, ?, created_at FROM webhook_outbox WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<String> endpoints;
+
+    public WebhookOutbox(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, List<String> endpoints) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.endpoints = List.copyOf(endpoints);
+    }
+
+    /**
+     * Records inserted feedback before its transaction commits; a failure here rolls the insert back.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFeedbackInserted(FeedbackInsertedEvent event) {
+        append(event.feedbacks());
+    }
+
+    /**
+     * Adds one row per endpoint for each item, in the caller's transaction.
+     */
+    public void append(List<Feedback> feedbacks) {
+        if (endpoints.isEmpty() || feedbacks.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(feedbacks.size() * endpoints.size());
+        for (Feedback feedback : feedbacks) {
+            String payload = payload(feedback);
+            for (String endpoint : endpoints) {
+                rows.add(new Object[] { endpoint, feedback.getId(), payload });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String payload(Feedback feedback) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", EVENT_TYPE);
+        event.put("feedback", FeedbackResponses.detail(feedback));
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize feedback " + feedback.getId(), e);
+        }
+    }
+
+    /**
+     * The oldest {@code limit} rows waiting for {@code endpoint}.
+     */
+    public List<Entry> next(String endpoint, int limit) {
+        return jdbcTemplate.query(NEXT_SQL,
+                (rs, rowNum) -> new Entry(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getInt(4)),
+                endpoint, limit);
+    }
+
+    /**
+     * Removes acknowledged rows.
+     */
+    public void delivered(List<Entry> entries) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids(entries));
+    }
+
+    /**
+     * Counts a failed delivery of each row; rows that have now failed {@code maxAttempts} times are dead-lettered.
+     *
+     * @return number of rows dead-lettered
+     */
+    public int failed(List<Entry> entries, String error, int maxAttempts) {
+        List<Entry> exhausted = entries.stream().filter(entry -> entry.attempts() + 1 >= maxAttempts).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(ATTEMPT_SQL, ids(entries));
+            moveToDeadLetter(exhausted, error);
+        });
+        return exhausted.size();
+    }
+
+    /**
+     * Moves rows the endpoint refused for good to the dead-letter table.
+     */
+    public void deadLetter(List<Entry> entries, String error) {
+        transactionTemplate.executeWithoutResult(status -> moveToDeadLetter(entries, error));
+    }
+
+    private void moveToDeadLetter(List<Entry> entries, String error) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String lastError = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            rows.add(new Object[] { lastError, entry.id() });
+        }
+        jdbcTemplate.batchUpdate(DEAD_LETTER_SQL, rows);
+        jdbcTemplate.batchUpdate(DELETE_SQL, ids(entries));
+    }
+
+    public long pending() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM webhook_outbox", Long.class);
+    }
+
+    public long deadLetters() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM webhook_dead_letter", Long.class);
+    }
+
+    public List<String> getEndpoints() {
+        return endpoints;
+    }
+
+    private static List<Object[]> ids(List<Entry> entries) {
+        List<Object[]> ids = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            ids.add(new Object[] { entry.id() });
+        }
+        return ids;
+    }
+
+    /**
+     * One outbox row: the serialized event for one feedback item and endpoint, and how often it failed so far.
+     */
+    public record Entry(long id, long feedbackId, String payload, int attempts) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.feedback.webhook;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for forwarding new feedback to webhook endpoints, enabled with {@code feedback.webhook.enabled=true}.
+ */
+@ConfigurationProperties(prefix = "feedback.webhook")
+public class WebhookProperties {
+
+    private boolean enabled = false;
+    /** Whether this instance delivers the outbox; with several instances, turn it on for one of them only. */
+    private boolean dispatch = true;
+    private List<Endpoint> endpoints = new ArrayList<>();
+    /** Feedback items per request at most. */
+    private int batchSize = 100;
+    /** Requests in flight at once, over all endpoints; each endpoint has at most one, so it sees items in order. */
+    private int maxConcurrentRequests = 8;
+    /** How often the outbox is checked when no new feedback wakes the dispatcher. */
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration requestTimeout = Duration.ofSeconds(10);
+    /** Deliveries of an item before it goes to the dead-letter table. */
+    private int maxAttempts = 10;
+    /** Wait after the first failed request to an endpoint; doubled with every further failure, then jittered. */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+    /** Consecutive failed requests that open an endpoint's circuit. */
+    private int failureThreshold = 5;
+    /** How long an open circuit sends nothing before one trial request. */
+    private Duration openDuration = Duration.ofSeconds(30);
+    /** How long shutdown waits for requests in flight; unanswered items stay in the outbox. */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isDispatch() {
+        return dispatch;
+    }
+
+    public void setDispatch(boolean dispatch) {
+        this.dispatch = dispatch;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public void setRequestTimeout(Duration requestTimeout) {
+        this.requestTimeout = requestTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public Duration getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * A receiver of new feedback. {@code name} keys its outbox rows, so renaming an endpoint orphans its backlog.
+     */
+    public static class Endpoint {
+
+        private String name;
+        private String url;
+
+        public Endpoint() {
+        }
+
+        public Endpoint(String name, String url) {
+            this.name = name;
+            this.url = url;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+    }
+}
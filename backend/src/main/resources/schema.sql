@@ -1,10 +1,48 @@
--- Schema definition for Feedback table
--- This will be executed before data.sql
+-- Schema definition for Feedback table, the only place it is created (Hibernate runs with ddl-auto=none)
+-- The application assigns ids itself (SnowflakeIdGenerator); the identity default serves the sharded store
 
 CREATE TABLE IF NOT EXISTS feedback (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(100) NOT NULL,
     email VARCHAR(255) NOT NULL,
     message VARCHAR(1000) NOT NULL,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- Keyset pagination indexes for GET /api/feedback (newest first, optionally per email)
+CREATE INDEX IF NOT EXISTS idx_feedback_created_at_id ON feedback (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_feedback_email_created_at_id ON feedback (email, created_at, id);
+
+-- Checkpoint of the offline bulk loader (BulkLoader): one row per input chunk, committed with the chunk's rows
+CREATE TABLE IF NOT EXISTS feedback_load_chunk (
+    load_id VARCHAR(32) NOT NULL,
+    chunk_index INT NOT NULL,
+    chunk_size BIGINT NOT NULL,
+    rows_loaded INT NOT NULL,
+    rows_rejected INT NOT NULL,
+    committed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    PRIMARY KEY (load_id, chunk_index)
+);
+
+-- Webhook outbox (WebhookOutbox): one row per new feedback item and endpoint, written in the item's transaction
+CREATE TABLE IF NOT EXISTS webhook_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    endpoint VARCHAR(100) NOT NULL,
+    feedback_id BIGINT NOT NULL,
+    payload VARCHAR(8000) NOT NULL,
+    attempts INT DEFAULT 0 NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_webhook_outbox_endpoint_id ON webhook_outbox (endpoint, id);
+
+-- Deliveries given up on: rejected by the endpoint, or still failing after the maximum number of attempts
+CREATE TABLE IF NOT EXISTS webhook_dead_letter (
+    id BIGINT PRIMARY KEY,
+    endpoint VARCHAR(100) NOT NULL,
+    feedback_id BIGINT NOT NULL,
+    payload VARCHAR(8000) NOT NULL,
+    attempts INT NOT NULL,
+    last_error VARCHAR(1000) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    failed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
@@ -0,0 +1,140 @@
+package com.example.feedback.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ * Drives the limiter with a manual clock so every window sees exactly the latency the test chooses.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private AdmissionProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(50);
+        properties.setWindow(Duration.ofMillis(100));
+        properties.setMinWindowSamples(5);
+    }
+
+    @Test
+    void tryAcquire_RefusesOnceLimitIsReached() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+
+        // When
+        List<Long> permits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+        long refused = limiter.tryAcquire();
+
+        // Then
+        assertThat(permits).allMatch(start -> start >= 0);
+        assertThat(refused).isEqualTo(-1);
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+
+        limiter.release(permits.get(0), false);
+        assertThat(limiter.tryAcquire()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void limit_GrowsWhileLatencyStaysFlatUnderLoad() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+
+        // When
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, limiter.getLimit(), 2);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+        assertThat(limiter.getLimitChangeCount()).isPositive();
+    }
+
+    @Test
+    void limit_ShrinksWhenLatencyRises() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, limiter.getLimit(), 2);
+        }
+        int before = limiter.getLimit();
+
+        // When
+        for (int window = 0; window < 5; window++) {
+            runWindow(limiter, limiter.getLimit(), 20);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isLessThan(before);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(properties.getMinLimit());
+    }
+
+    @Test
+    void limit_DoesNotGrowWhenTrafficStaysFarBelowIt() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+
+        // When
+        for (int window = 0; window < 20; window++) {
+            runWindow(limiter, 2, 2);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getLimitChangeCount()).isZero();
+    }
+
+    @Test
+    void release_WithoutSampleDoesNotMoveTheLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, clock::get);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            long start = limiter.tryAcquire();
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+            limiter.release(start, false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    /**
+     * Admits {@code concurrency} requests together, lets them all take {@code latencyMillis} and then
+     * keeps repeating until the window has closed.
+     */
+    private void runWindow(AdaptiveConcurrencyLimiter limiter, int concurrency, long latencyMillis) {
+        long windowEnd = clock.get() + properties.getWindow().toNanos();
+        while (clock.get() < windowEnd) {
+            long[] starts = new long[concurrency];
+            for (int i = 0; i < concurrency; i++) {
+                starts[i] = limiter.tryAcquire();
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+            for (long start : starts) {
+                if (start >= 0) {
+                    limiter.release(start, true);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.feedback.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.feedback.archive.ArchiveSegment.Column;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+
+/**
+ * Unit tests for FeedbackArchive and the segment format underneath it.
+ */
+class FeedbackArchiveTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private FeedbackArchive open() throws IOException {
+        ArchiveProperties properties = new ArchiveProperties();
+        properties.setDirectory(directory.toString());
+        return new FeedbackArchive(properties);
+    }
+
+    /** Writes one day of {@code rows} items, an hour apart, with ids from {@code firstId}. */
+    private ArchiveSegment writeDay(LocalDateTime day, long firstId, int rows) throws IOException {
+        ArchiveSegmentWriter writer = new ArchiveSegmentWriter(ArchiveSegment.epochNanos(day),
+                ArchiveSegment.epochNanos(day.plusDays(1)));
+        for (int i = 0; i < rows; i++) {
+            writer.add(feedback(firstId + i, day.plusHours(i)));
+        }
+        return writer.write(directory);
+    }
+
+    private static Feedback feedback(long id, LocalDateTime createdAt) {
+        Feedback feedback = new Feedback("User " + id, "user" + (id % 2) + "@example.com",
+                "Message " + id + " été 😀");
+        feedback.setId(id);
+        feedback.setCreatedAt(createdAt);
+        return feedback;
+    }
+
+    @Test
+    void write_RoundTripsEveryColumn() throws IOException {
+        // Given
+        ArchiveSegment segment = writeDay(DAY, 100, 5);
+
+        // When
+        ArchiveSegment reopened = ArchiveSegment.open(segment.file());
+        long[] ids = reopened.decodeLongs(reopened.readColumn(Column.ID));
+        long[] createdAt = reopened.decodeLongs(reopened.readColumn(Column.CREATED_AT));
+        String[] messages = reopened.decodeStrings(reopened.readColumn(Column.MESSAGE));
+
+        // Then
+        assertThat(reopened.rows()).isEqualTo(5);
+        assertThat(ids).containsExactly(100, 101, 102, 103, 104);
+        assertThat(ArchiveSegment.toLocalDateTime(createdAt[3])).isEqualTo(DAY.plusHours(3));
+        assertThat(messages[4]).isEqualTo(feedback(104, DAY).getMessage());
+        assertThat(reopened.mayContainId(99)).isFalse();
+        assertThat(reopened.mayContainId(104)).isTrue();
+    }
+
+    @Test
+    void writer_RejectsRowsOutOfOrderOrOutsideThePeriod() {
+        // Given
+        ArchiveSegmentWriter writer = new ArchiveSegmentWriter(ArchiveSegment.epochNanos(DAY),
+                ArchiveSegment.epochNanos(DAY.plusDays(1)));
+        writer.add(feedback(2, DAY.plusHours(2)));
+
+        // When / Then
+        assertThatThrownBy(() -> writer.add(feedback(1, DAY.plusHours(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> writer.add(feedback(3, DAY.plusDays(1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readColumn_DetectsCorruption() throws IOException {
+        // Given
+        ArchiveSegment segment = writeDay(DAY, 1, 10);
+        try (RandomAccessFile file = new RandomAccessFile(segment.file().toFile(), "rw")) {
+            file.seek(file.length() - 3);
+            int b = file.read();
+            file.seek(file.length() - 3);
+            file.write(b ^ 0xFF);
+        }
+
+        // When / Then
+        assertThat(segment.readColumn(Column.ID)).isNotEmpty();
+        assertThatThrownBy(() -> segment.readColumn(Column.MESSAGE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Corrupt column MESSAGE");
+    }
+
+    @Test
+    void findNewest_PagesAcrossSegmentsNewestFirst() throws IOException {
+        // Given
+        writeDay(DAY, 1, 4);
+        writeDay(DAY.plusDays(1), 5, 4);
+        FeedbackArchive archive = open();
+
+        // When
+        List<Feedback> first = archive.findNewest(FeedbackQuery.all(), null, 3);
+        List<Feedback> second = archive.findNewest(FeedbackQuery.all(), FeedbackCursor.of(first.get(2)), 3);
+        List<Feedback> odd = archive.findNewest(new FeedbackQuery("user1@example.com", null, null), null, 10);
+        List<Feedback> ranged = archive.findNewest(
+                new FeedbackQuery(null, DAY.plusHours(2), DAY.plusDays(1).plusHours(1)), null, 10);
+
+        // Then
+        assertThat(archive.boundary()).isEqualTo(DAY.plusDays(2));
+        assertThat(first).extracting(Feedback::getId).containsExactly(8L, 7L, 6L);
+        assertThat(second).extracting(Feedback::getId).containsExactly(5L, 4L, 3L);
+        assertThat(odd).extracting(Feedback::getId).containsExactly(7L, 5L, 3L, 1L);
+        assertThat(ranged).extracting(Feedback::getId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void findById_AndScan_ReadTheArchivedRows() throws IOException {
+        // Given
+        writeDay(DAY, 1, 3);
+        writeDay(DAY.plusDays(1), 4, 3);
+        FeedbackArchive archive = open();
+        List<Long> scanned = new ArrayList<>();
+
+        // When
+        long count = archive.scan(DAY.plusHours(1), archive.boundary(), feedback -> scanned.add(feedback.getId()));
+
+        // Then
+        assertThat(archive.findById(5)).hasValueSatisfying(found -> {
+            assertThat(found.getName()).isEqualTo("User 5");
+            assertThat(found.getCreatedAt()).isEqualTo(DAY.plusDays(1).plusHours(1));
+        });
+        assertThat(archive.findById(42)).isEmpty();
+        assertThat(archive.findAllById(List.of(6L, 1L, 42L))).extracting(Feedback::getId).containsExactly(6L, 1L);
+        assertThat(count).isEqualTo(5);
+        assertThat(scanned).containsExactly(2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void purgeBefore_DropsWholeSegmentsOnly() throws IOException {
+        // Given
+        ArchiveSegment oldest = writeDay(DAY, 1, 3);
+        writeDay(DAY.plusDays(1), 4, 3);
+        FeedbackArchive archive = open();
+
+        // When
+        long purged = archive.purgeBefore(DAY.plusDays(1).plusHours(12));
+
+        // Then
+        assertThat(purged).isEqualTo(3);
+        assertThat(oldest.file()).doesNotExist();
+        assertThat(archive.segmentCount()).isEqualTo(1);
+        assertThat(archive.findById(2)).isEmpty();
+        assertThat(open().rowCount()).isEqualTo(3);
+    }
+}
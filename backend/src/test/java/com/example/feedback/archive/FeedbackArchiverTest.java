@@ -0,0 +1,227 @@
+package com.example.feedback.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackBatchWriter;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackPartitionRepository;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.JpaFeedbackStore;
+
+/**
+ * Tests for FeedbackArchiver and PartitionedFeedbackStore against the embedded H2 database.
+ * Runs outside a test transaction, as the archiver commits every delete chunk on its own.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ JpaFeedbackStore.class, FeedbackBatchWriter.class, FeedbackPartitionRepository.class })
+class FeedbackArchiverTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+  private static final LocalDateTime MARCH_1 = LocalDateTime.of(2026, 3, 1, 0, 0);
+  private static final LocalDateTime MARCH_2 = MARCH_1.plusDays(1);
+  private static final LocalDateTime MARCH_9 = LocalDateTime.of(2026, 3, 9, 0, 0);
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JpaFeedbackStore jpaFeedbackStore;
+
+  @Autowired
+  private FeedbackPartitionRepository partitions;
+
+  @TempDir
+  Path directory;
+
+  private ArchiveProperties properties;
+  private FeedbackArchive archive;
+  private PartitionedFeedbackStore store;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    jdbcTemplate.update("DELETE FROM feedback");
+    properties = new ArchiveProperties();
+    properties.setDirectory(directory.toString());
+    properties.setHotPeriod(Duration.ofDays(2));
+    properties.setPurgeChunkSize(3);
+    properties.setPurgePause(Duration.ZERO);
+    archive = new FeedbackArchive(properties);
+    store = new PartitionedFeedbackStore(jpaFeedbackStore, archive);
+
+    // Four rows on March 1st, three on March 2nd, two on March 9th; alternating between two emails
+    insert(MARCH_1, 4);
+    insert(MARCH_2, 3);
+    insert(MARCH_9, 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM feedback");
+  }
+
+  private void insert(LocalDateTime day, int rows) {
+    for (int i = 0; i < rows; i++) {
+      jdbcTemplate.update("INSERT INTO feedback (name, email, message, created_at) VALUES (?, ?, ?, ?)",
+          "User " + i, "user" + (i % 2) + "@example.com", "Message " + i + " of " + day.toLocalDate(),
+          Timestamp.valueOf(day.plusHours(i)));
+    }
+  }
+
+  private FeedbackArchiver archiver(LocalDateTime now) {
+    return new FeedbackArchiver(archive, partitions, properties,
+        Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+  }
+
+  private int hotRows() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback", Integer.class);
+  }
+
+  @Test
+  void runOnce_RollsColdPeriodsAndDeletesThemFromTheHotTableOnTheNextRun() throws IOException {
+    // Given
+    FeedbackArchiver archiver = archiver(NOW);
+
+    // When
+    archiver.runOnce();
+
+    // Then
+    assertThat(archive.segmentCount()).isEqualTo(2);
+    assertThat(archive.boundary()).isEqualTo(MARCH_2.plusDays(1));
+    assertThat(archiver.getRolledRows()).isEqualTo(7);
+    assertThat(hotRows()).isEqualTo(9);
+
+    // When
+    archiver.runOnce();
+
+    // Then
+    assertThat(hotRows()).isEqualTo(2);
+    assertThat(archive.segmentCount()).isEqualTo(2);
+    assertThat(archiver.getRolledRows()).isEqualTo(7);
+  }
+
+  @Test
+  void runOnce_KeepsRowsBackdatedIntoAnArchivedPeriod() throws IOException {
+    // Given: March 1st and 2nd are rolled, then a row for March 1st arrives late
+    FeedbackArchiver archiver = archiver(NOW);
+    archiver.runOnce();
+    insert(MARCH_1.plusMinutes(30), 1);
+
+    // When
+    archiver.runOnce();
+
+    // Then: only the archived copies left the hot table
+    assertThat(hotRows()).isEqualTo(3);
+    assertThat(archive.rowCount()).isEqualTo(7);
+    assertThat(archiver.getUnarchivedRows()).isEqualTo(1);
+    assertThat(jdbcTemplate.queryForObject("SELECT created_at FROM feedback WHERE created_at < ?", Timestamp.class,
+        Timestamp.valueOf(MARCH_9)).toLocalDateTime()).isEqualTo(MARCH_1.plusMinutes(30));
+
+    // When: a restarted archiver finds the rows of the last roll by the oldest hot row
+    FeedbackArchiver restarted = archiver(NOW);
+    restarted.runOnce();
+
+    // Then
+    assertThat(hotRows()).isEqualTo(3);
+    assertThat(restarted.getUnarchivedRows()).isEqualTo(1);
+  }
+
+  @Test
+  void findPage_ContinuesFromTheHotTableIntoTheArchive() throws IOException {
+    // Given
+    FeedbackArchiver archiver = archiver(NOW);
+    archiver.runOnce();
+    archiver.runOnce();
+
+    // When
+    Slice<Feedback> first = store.findPage(FeedbackQuery.all(), null, 4);
+    Slice<Feedback> second = store.findPage(FeedbackQuery.all(), FeedbackCursor.of(first.getContent().get(3)), 4);
+    Slice<Feedback> third = store.findPage(FeedbackQuery.all(), FeedbackCursor.of(second.getContent().get(3)), 4);
+    Slice<Feedback> filtered = store.findPage(new FeedbackQuery("user1@example.com", null, MARCH_9), null, 10);
+
+    // Then
+    assertThat(first.getContent()).extracting(Feedback::getCreatedAt)
+        .containsExactly(MARCH_9.plusHours(1), MARCH_9, MARCH_2.plusHours(2), MARCH_2.plusHours(1));
+    assertThat(first.hasNext()).isTrue();
+    assertThat(second.getContent()).extracting(Feedback::getCreatedAt)
+        .containsExactly(MARCH_2, MARCH_1.plusHours(3), MARCH_1.plusHours(2), MARCH_1.plusHours(1));
+    assertThat(second.hasNext()).isTrue();
+    assertThat(third.getContent()).extracting(Feedback::getCreatedAt).containsExactly(MARCH_1);
+    assertThat(third.hasNext()).isFalse();
+    assertThat(filtered.getContent()).extracting(Feedback::getCreatedAt)
+        .containsExactly(MARCH_2.plusHours(1), MARCH_1.plusHours(3), MARCH_1.plusHours(1));
+  }
+
+  @Test
+  void findById_AndScan_SeeArchivedRowsExactlyOnce() throws IOException {
+    // Given
+    Feedback oldest = jpaFeedbackStore.findPage(new FeedbackQuery(null, null, MARCH_1.plusHours(1)), null, 1)
+        .getContent().get(0);
+    FeedbackArchiver archiver = archiver(NOW);
+    // Rolled but not yet deleted from the hot table: the boundary must keep both copies from showing
+    archiver.runOnce();
+    List<LocalDateTime> scanned = new ArrayList<>();
+
+    // When
+    long count = store.scan(null, feedback -> scanned.add(feedback.getCreatedAt()));
+
+    // Then
+    assertThat(count).isEqualTo(9);
+    assertThat(scanned).isSorted().doesNotHaveDuplicates();
+    archiver.runOnce();
+    assertThat(store.findById(oldest.getId())).hasValueSatisfying(found -> {
+      assertThat(found.getMessage()).isEqualTo(oldest.getMessage());
+      assertThat(found.getCreatedAt()).isEqualTo(MARCH_1);
+    });
+    assertThat(store.findAllById(List.of(oldest.getId(), -1L))).hasSize(1);
+  }
+
+  @Test
+  void runOnce_PurgesExpiredRowsInChunks() throws IOException {
+    // Given
+    properties.setRetention(Duration.ofDays(9));
+
+    // When
+    FeedbackArchiver archiver = archiver(NOW);
+    archiver.runOnce();
+
+    // Then: March 1st is gone from the hot table before it was ever archived
+    assertThat(archiver.getPurgedRows()).isEqualTo(4);
+    assertThat(archive.rowCount()).isEqualTo(3);
+
+    // When: two days later, the March 2nd segment expires as a whole and March 9th is rolled
+    FeedbackArchiver later = archiver(NOW.plusDays(2));
+    later.runOnce();
+
+    // Then
+    assertThat(later.getPurgedRows()).isEqualTo(3);
+    assertThat(archive.segmentCount()).isEqualTo(1);
+    assertThat(archive.boundary()).isEqualTo(MARCH_9.plusDays(1));
+    assertThat(store.scan(null, feedback -> { })).isEqualTo(2);
+  }
+}
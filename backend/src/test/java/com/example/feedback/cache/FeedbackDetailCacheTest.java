@@ -0,0 +1,78 @@
+package com.example.feedback.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.FeedbackStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for FeedbackDetailCache.
+ * Uses a mocked store, so the test can count how often the cache falls through to it.
+ */
+class FeedbackDetailCacheTest {
+
+    private FeedbackStore store;
+    private FeedbackDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(FeedbackStore.class);
+        Feedback feedback = new Feedback("John Doe", "john@example.com", "Great service!");
+        feedback.setId(7L);
+        feedback.setCreatedAt(LocalDateTime.of(2026, 3, 2, 12, 0));
+        when(store.findById(7L)).thenReturn(Optional.of(feedback));
+        when(store.findById(8L)).thenReturn(Optional.empty());
+        cache = new FeedbackDetailCache(store, new ObjectMapper().findAndRegisterModules(),
+                new DetailCacheProperties());
+    }
+
+    @Test
+    void get_LoadsOnceThenServesFromCache() {
+        // When
+        CachedFeedback first = cache.get(7L);
+        CachedFeedback second = cache.get(7L);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body(), StandardCharsets.UTF_8))
+                .contains("\"id\":7", "\"email\":\"john@example.com\"");
+        verify(store, times(1)).findById(7L);
+        assertThat(cache.cache().stats().hitCount()).isEqualTo(1);
+        assertThat(cache.cache().stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void get_DoesNotCacheUnknownIds() {
+        // When
+        CachedFeedback first = cache.get(8L);
+        CachedFeedback second = cache.get(8L);
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(store, times(2)).findById(8L);
+    }
+
+    @Test
+    void etag_IsQuotedAndFollowsTheBody() {
+        // When
+        String etag = cache.load(7L).etag();
+
+        // Then
+        assertThat(etag).startsWith("\"").endsWith("\"").hasSize(24);
+        assertThat(cache.load(7L).etag()).isEqualTo(etag);
+        assertThat(FeedbackDetailCache.etag("other".getBytes(StandardCharsets.UTF_8))).isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.feedback.controller;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the bulk submission endpoint against the embedded database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "feedback.ingest.batch.max-items=5",
+        "feedback.ingest.batch.max-bytes=4KB",
+        "feedback.ingest.batch.jdbc-batch-size=2"
+})
+class FeedbackBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testSubmitBatch_JsonArrayWithInvalidItem() throws Exception {
+        String body = """
+                [
+                  {"name": "John Doe", "email": "john@example.com", "message": "Great service!"},
+                  {"name": "", "email": "invalid-email", "message": "Bad item"},
+                  {"name": "Jane Smith", "email": "jane@example.com", "message": "Excellent app!"}
+                ]
+                """;
+
+        mockMvc.perform(post("/api/feedback/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.truncated").value(false))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").isNumber())
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].error").value("Validation failed"))
+                .andExpect(jsonPath("$.results[1].details")
+                        .value("Name is required, Please enter a valid email address"))
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+    }
+
+    @Test
+    void testSubmitBatch_Ndjson() throws Exception {
+        String body = """
+                {"name": "User One", "email": "user1@example.com", "message": "First"}
+                {"name": "User Two", "email": "user2@example.com", "message": "Second"}
+                "not an object"
+                """;
+
+        mockMvc.perform(post("/api/feedback/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.results[2].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[2].error").value("Malformed item"));
+    }
+
+    @Test
+    void testSubmitBatch_ItemLimitTruncates() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            body.append("{\"name\":\"User ").append(i).append("\",\"email\":\"user").append(i)
+                    .append("@example.com\",\"message\":\"Message\"}\n");
+        }
+
+        mockMvc.perform(post("/api/feedback/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(5))
+                .andExpect(jsonPath("$.created").value(5))
+                .andExpect(jsonPath("$.truncated").value(true))
+                .andExpect(jsonPath("$.details").value(startsWith("Batch exceeds the maximum of 5 items")));
+    }
+
+    @Test
+    void testSubmitBatch_MalformedJsonKeepsEarlierItems() throws Exception {
+        String body = """
+                {"name": "User One", "email": "user1@example.com", "message": "First"}
+                {"name": "User Two", "email":
+                """;
+
+        mockMvc.perform(post("/api/feedback/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.truncated").value(true))
+                .andExpect(jsonPath("$.details").value(startsWith("Malformed JSON at item 1")));
+    }
+
+    @Test
+    void testSubmitBatch_PayloadTooLarge() throws Exception {
+        String body = "[" + "{\"name\":\"a\",\"email\":\"a@example.com\",\"message\":\"x\"},".repeat(100) + "]";
+
+        mockMvc.perform(post("/api/feedback/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.error").value("Payload too large"));
+    }
+}
@@ -1,29 +1,37 @@
 package com.example.feedback.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.example.feedback.model.Feedback;
-import com.example.feedback.repository.FeedbackRepository;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.FeedbackStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Unit tests for FeedbackController.
- * Tests the simplified controller with mocked repository.
+ * Tests the simplified controller with a mocked store.
  */
 @WebMvcTest(FeedbackController.class)
 class FeedbackControllerTest {
@@ -32,7 +40,7 @@ class FeedbackControllerTest {
     private MockMvc mockMvc;
 
     @MockBean
-    private FeedbackRepository feedbackRepository;
+    private FeedbackStore feedbackStore;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -58,7 +66,7 @@ class FeedbackControllerTest {
     @Test
     void testSubmitFeedback_Success() throws Exception {
         // Given
-        when(feedbackRepository.save(any(Feedback.class))).thenReturn(savedFeedback);
+        when(feedbackStore.save(any(Feedback.class))).thenReturn(savedFeedback);
 
         // When & Then
         mockMvc.perform(post("/api/feedback")
@@ -158,7 +166,7 @@ class FeedbackControllerTest {
     @Test
     void testSubmitFeedback_RepositoryException() throws Exception {
         // Given
-        when(feedbackRepository.save(any(Feedback.class)))
+        when(feedbackStore.save(any(Feedback.class)))
                 .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
@@ -169,4 +177,54 @@ class FeedbackControllerTest {
                 .andExpect(jsonPath("$.error").value("Internal server error"))
                 .andExpect(jsonPath("$.details").value("An unexpected error occurred. Please try again later."));
     }
+
+    @Test
+    void testListFeedback_FirstPage() throws Exception {
+        // Given
+        when(feedbackStore.findPage(eq(FeedbackQuery.all()), isNull(), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(savedFeedback), PageRequest.ofSize(1), true));
+
+        // When & Then
+        mockMvc.perform(get("/api/feedback").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[0].email").value("john@example.com"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(FeedbackCursor.of(savedFeedback).encode()));
+    }
+
+    @Test
+    void testListFeedback_WithCursorAndFilters() throws Exception {
+        // Given
+        FeedbackCursor cursor = FeedbackCursor.of(savedFeedback);
+        FeedbackQuery query = new FeedbackQuery("john@example.com", LocalDateTime.of(2024, 1, 1, 0, 0), null);
+        when(feedbackStore.findPage(eq(query), eq(cursor), eq(FeedbackController.MAX_PAGE_SIZE)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(FeedbackController.MAX_PAGE_SIZE), false));
+
+        // When & Then
+        mockMvc.perform(get("/api/feedback")
+                .param("cursor", cursor.encode())
+                .param("limit", "5000")
+                .param("email", "john@example.com")
+                .param("from", "2024-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testListFeedback_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/feedback").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid request"))
+                .andExpect(jsonPath("$.details").value("Invalid cursor"));
+    }
+
+    @Test
+    void testListFeedback_InvalidTimestamp() throws Exception {
+        mockMvc.perform(get("/api/feedback").param("from", "yesterday"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details").value("Invalid value for parameter 'from'"));
+    }
 }
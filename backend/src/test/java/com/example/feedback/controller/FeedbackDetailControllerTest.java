@@ -0,0 +1,82 @@
+package com.example.feedback.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.feedback.cache.CachedFeedback;
+import com.example.feedback.cache.FeedbackDetailCache;
+
+/**
+ * Unit tests for FeedbackDetailController.
+ * Tests ETag handling and the not-found answers with a mocked cache.
+ */
+@WebMvcTest(FeedbackDetailController.class)
+class FeedbackDetailControllerTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FeedbackDetailCache feedbackDetailCache;
+
+    private void givenFeedback() {
+        byte[] body = "{\"id\":1,\"name\":\"John Doe\"}".getBytes(StandardCharsets.UTF_8);
+        when(feedbackDetailCache.get(1L)).thenReturn(new CachedFeedback(body, ETAG));
+    }
+
+    @Test
+    void getFeedback_ReturnsBodyWithEtag() throws Exception {
+        // Given
+        givenFeedback();
+
+        // When / Then
+        mockMvc.perform(get("/api/feedback/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.name").value("John Doe"));
+    }
+
+    @Test
+    void getFeedback_MatchingIfNoneMatch_Returns304() throws Exception {
+        // Given
+        givenFeedback();
+
+        // When / Then
+        mockMvc.perform(get("/api/feedback/1").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getFeedback_UnknownId_Returns404() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/feedback/2"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Not found"));
+    }
+
+    @Test
+    void getFeedback_NonNumericId_Returns404NotServerError() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/feedback/xx"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Not found"));
+    }
+}
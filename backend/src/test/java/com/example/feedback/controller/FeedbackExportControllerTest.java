@@ -0,0 +1,131 @@
+package com.example.feedback.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Integration tests for the streaming export endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class FeedbackExportControllerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        feedbackRepository.deleteAll();
+        saveAt(new Feedback("John Doe", "john@example.com", "Great service!"), BASE);
+        saveAt(new Feedback("Jane Smith", "jane@example.com", "Said \"hi\", then left\nsecond line"), BASE.plusHours(1));
+        saveAt(new Feedback("Bob", "bob@example.com", "Latest"), BASE.plusHours(2));
+    }
+
+    @Test
+    void testExportNdjson() throws Exception {
+        String body = export("/api/feedback/export");
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("name").asText()).isEqualTo("John Doe");
+        assertThat(first.get("email").asText()).isEqualTo("john@example.com");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-01-15T10:00");
+        assertThat(objectMapper.readTree(lines[1]).get("message").asText())
+                .isEqualTo("Said \"hi\", then left\nsecond line");
+    }
+
+    @Test
+    void testExportCsv() throws Exception {
+        String body = export("/api/feedback/export?format=csv");
+
+        assertThat(body).startsWith("id,name,email,message,created_at\r\n");
+        assertThat(body).contains("\"Jane Smith\",\"jane@example.com\",\"Said \"\"hi\"\", then left\nsecond line\"");
+        assertThat(body.split("\r\n")).hasSize(4);
+    }
+
+    @Test
+    void testExportSinceIsIncremental() throws Exception {
+        String body = export("/api/feedback/export?since=2024-01-15T11:00:00");
+
+        assertThat(body.split("\n")).hasSize(2);
+        assertThat(body).doesNotContain("John Doe");
+    }
+
+    @Test
+    void testExportGzip() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/feedback/export").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn();
+
+        byte[] compressed = result.getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(body.split("\n")).hasSize(3);
+        }
+    }
+
+    @Test
+    void testExportUnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/feedback/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details").value("Invalid value for parameter 'format'"));
+    }
+
+    private String export(String uri) throws Exception {
+        MvcResult started = mockMvc.perform(get(uri))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private void saveAt(Feedback feedback, LocalDateTime createdAt) {
+        Feedback saved = feedbackRepository.save(feedback);
+        jdbcTemplate.update("UPDATE feedback SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), saved.getId());
+    }
+}
@@ -17,6 +17,9 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Unit tests for GlobalExceptionHandler.
  * Tests the simplified exception handler.
@@ -86,4 +89,32 @@ class GlobalExceptionHandlerTest {
                 .isEqualTo("An unexpected error occurred. Please try again later.");
         assertThat(response.getBody().get("timestamp")).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHandlers_CountValidationFailuresByFieldAndUnexpectedErrors() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        MethodArgumentNotValidException ex = mock(MethodArgumentNotValidException.class);
+        BindingResult bindingResult = mock(BindingResult.class);
+        when(ex.getBindingResult()).thenReturn(bindingResult);
+        when(bindingResult.getFieldErrors()).thenReturn(Arrays.asList(
+                new FieldError("feedbackRequest", "email", "Email is required"),
+                new FieldError("feedbackRequest", "email", "Please enter a valid email address"),
+                new FieldError("feedbackRequest", "message", "Message is required")));
+
+        try {
+            // When
+            globalExceptionHandler.handleValidationException(ex);
+            globalExceptionHandler.handleGeneralException(new IllegalStateException("boom"));
+
+            // Then
+            assertThat(registry.counter("feedback.validation.failures", "field", "email").count()).isEqualTo(2.0);
+            assertThat(registry.counter("feedback.validation.failures", "field", "message").count()).isEqualTo(1.0);
+            assertThat(registry.counter("feedback.errors.unexpected", "exception", "IllegalStateException").count())
+                    .isEqualTo(1.0);
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.feedback.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+
+/**
+ * Unit tests for SubmissionDeduplicator.
+ * The submission is a counting stub standing in for the repository call.
+ */
+class SubmissionDeduplicatorTest {
+
+    private static final String EMAIL = "john@example.com";
+    private static final String MESSAGE = "Great service!";
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger stored = new AtomicInteger();
+    private DeduplicationProperties properties;
+    private SubmissionDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeduplicationProperties();
+        properties.getIdempotency().setTtl(Duration.ofMinutes(5));
+        properties.getFingerprint().setEnabled(true);
+        properties.getFingerprint().setWindow(Duration.ofMinutes(1));
+        properties.getFingerprint().setExpectedInsertions(1_000);
+    }
+
+    private SubmissionDeduplicator deduplicator() {
+        deduplicator = new SubmissionDeduplicator(properties, now::get);
+        return deduplicator;
+    }
+
+    /** Stores and commits the submission, then publishes it like the controller does. */
+    private Supplier<ResponseEntity<Map<String, Object>>> store(String message) {
+        return () -> {
+            Feedback feedback = new Feedback("John Doe", EMAIL, message);
+            feedback.setId((long) stored.incrementAndGet());
+            deduplicator.onFeedbackSaved(FeedbackSavedEvent.of(feedback));
+            return ResponseEntity.ok(Map.of("id", feedback.getId()));
+        };
+    }
+
+    /** Answers like a write-behind submission: accepted, but not committed yet. */
+    private Supplier<ResponseEntity<Map<String, Object>>> queue() {
+        return () -> ResponseEntity.accepted().body(Map.of("ticket", "t-" + stored.incrementAndGet()));
+    }
+
+    @Test
+    void submit_ReplaysStoredResponseForRepeatedKey() {
+        // Given
+        properties.getFingerprint().setEnabled(false);
+        SubmissionDeduplicator deduplicator = deduplicator();
+
+        // When
+        ResponseEntity<Map<String, Object>> first = deduplicator.submit("key-1", EMAIL, MESSAGE, store(MESSAGE));
+        ResponseEntity<Map<String, Object>> retry = deduplicator.submit("key-1", EMAIL, MESSAGE, store(MESSAGE));
+
+        // Then
+        assertThat(stored).hasValue(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(retry.getHeaders().getFirst(SubmissionDeduplicator.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeaders().containsKey(SubmissionDeduplicator.REPLAYED_HEADER)).isFalse();
+    }
+
+    @Test
+    void submit_RejectsKeyReusedForDifferentBodyOrStillInProgress() {
+        // Given
+        properties.getFingerprint().setEnabled(false);
+        SubmissionDeduplicator deduplicator = deduplicator();
+        deduplicator.submit("key-1", EMAIL, MESSAGE, store(MESSAGE));
+
+        // When
+        ResponseEntity<Map<String, Object>> reused = deduplicator.submit("key-1", EMAIL, "Other message",
+                store("Other message"));
+        ResponseEntity<Map<String, Object>> inProgress = deduplicator.submit("key-2", EMAIL, MESSAGE,
+                () -> deduplicator.submit("key-2", EMAIL, MESSAGE, store(MESSAGE)));
+
+        // Then
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(inProgress.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(inProgress.getBody()).containsEntry("error", "Request in progress");
+        assertThat(stored).hasValue(1);
+    }
+
+    @Test
+    void submit_ReleasesKeyWhenSubmissionFails() {
+        // Given
+        SubmissionDeduplicator deduplicator = deduplicator();
+
+        // When
+        assertThatThrownBy(() -> deduplicator.submit("key-1", EMAIL, MESSAGE, () -> {
+            throw new IllegalStateException("Database error");
+        })).isInstanceOf(IllegalStateException.class);
+        ResponseEntity<Map<String, Object>> retry = deduplicator.submit("key-1", EMAIL, MESSAGE, store(MESSAGE));
+
+        // Then
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(retry.getHeaders().containsKey(SubmissionDeduplicator.REPLAYED_HEADER)).isFalse();
+        assertThat(stored).hasValue(1);
+    }
+
+    @Test
+    void submit_ForgetsKeysAfterTtl() {
+        // Given
+        properties.getFingerprint().setEnabled(false);
+        SubmissionDeduplicator deduplicator = deduplicator();
+        deduplicator.submit("key-1", EMAIL, MESSAGE, store(MESSAGE));
+
+        // When
+        now.addAndGet(Duration.ofMinutes(6).toNanos());
+        deduplicator.submit("key-1", EMAIL, MESSAGE, store(MESSAGE));
+
+        // Then
+        assertThat(stored).hasValue(2);
+    }
+
+    @Test
+    void submit_DropsIdenticalSubmissionWithinFingerprintWindow() {
+        // Given
+        SubmissionDeduplicator deduplicator = deduplicator();
+        deduplicator.submit(null, EMAIL, MESSAGE, store(MESSAGE));
+
+        // When
+        ResponseEntity<Map<String, Object>> duplicate = deduplicator.submit(null, EMAIL, MESSAGE, store(MESSAGE));
+        ResponseEntity<Map<String, Object>> otherMessage = deduplicator.submit(null, EMAIL, "Another one",
+                store("Another one"));
+        now.addAndGet(Duration.ofMinutes(2).toNanos());
+        ResponseEntity<Map<String, Object>> afterWindow = deduplicator.submit(null, EMAIL, MESSAGE, store(MESSAGE));
+
+        // Then
+        assertThat(duplicate.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(duplicate.getBody()).containsEntry("error", "Duplicate submission");
+        assertThat(otherMessage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(afterWindow.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stored).hasValue(3);
+    }
+
+    @Test
+    void submit_QueuedSubmissionThatNeverCommits_DoesNotBlockItsRetry() {
+        // Given: a write-behind submission answered 202 whose batch then fails
+        SubmissionDeduplicator deduplicator = deduplicator();
+        ResponseEntity<Map<String, Object>> queued = deduplicator.submit(null, EMAIL, MESSAGE, queue());
+
+        // When
+        ResponseEntity<Map<String, Object>> retry = deduplicator.submit(null, EMAIL, MESSAGE, store(MESSAGE));
+        ResponseEntity<Map<String, Object>> repeat = deduplicator.submit(null, EMAIL, MESSAGE, store(MESSAGE));
+
+        // Then: the retry goes through, and only its commit makes later repeats duplicates
+        assertThat(queued.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(repeat.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(stored).hasValue(2);
+    }
+
+    @Test
+    void onFeedbackSaved_IgnoresReplayedRows() {
+        // Given
+        SubmissionDeduplicator deduplicator = deduplicator();
+        deduplicator.onFeedbackSaved(FeedbackSavedEvent.replay(List.of(new Feedback("John Doe", EMAIL, MESSAGE))));
+
+        // When
+        ResponseEntity<Map<String, Object>> response = deduplicator.submit(null, EMAIL, MESSAGE, store(MESSAGE));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void submit_RejectsOverlongKey() {
+        // When
+        ResponseEntity<Map<String, Object>> response = deduplicator().submit("k".repeat(256), EMAIL, MESSAGE,
+                store(MESSAGE));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(stored).hasValue(0);
+    }
+}
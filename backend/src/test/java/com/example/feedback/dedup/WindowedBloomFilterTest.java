@@ -0,0 +1,68 @@
+package com.example.feedback.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BloomFilter and WindowedBloomFilter.
+ */
+class WindowedBloomFilterTest {
+
+    @Test
+    void bloomFilter_HasNoFalseNegativesAndStaysNearTargetRate() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(SubmissionFingerprint.of("user" + i + "@example.com", "message " + i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(SubmissionFingerprint.of("user" + i + "@example.com", "message " + i)))
+                    .isTrue();
+            if (filter.mightContain(SubmissionFingerprint.of("other" + i + "@example.com", "message " + i))) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    @Test
+    void fingerprint_SeparatesFieldBoundaries() {
+        assertThat(SubmissionFingerprint.of("ab", "c")).isNotEqualTo(SubmissionFingerprint.of("a", "bc"));
+        assertThat(SubmissionFingerprint.of("a@b.c", "Hi")).isEqualTo(SubmissionFingerprint.of("a@b.c", "Hi"));
+    }
+
+    @Test
+    void windowedFilter_RemembersForOneToTwoWindows() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        WindowedBloomFilter filter = new WindowedBloomFilter(Duration.ofSeconds(10), 1_000, 1e-6, now::get);
+        SubmissionFingerprint early = SubmissionFingerprint.of("a@example.com", "early");
+        SubmissionFingerprint late = SubmissionFingerprint.of("b@example.com", "late");
+        filter.put(early);
+
+        // When
+        now.set(Duration.ofSeconds(9).toNanos());
+        filter.put(late);
+        now.set(Duration.ofSeconds(15).toNanos());
+        boolean earlyAfterOneRotation = filter.mightContain(early);
+        now.set(Duration.ofSeconds(26).toNanos());
+        boolean earlyAfterTwoRotations = filter.mightContain(early);
+        boolean lateAfterTwoRotations = filter.mightContain(late);
+
+        // Then
+        assertThat(earlyAfterOneRotation).isTrue();
+        assertThat(earlyAfterTwoRotations).isFalse();
+        assertThat(lateAfterTwoRotations).isFalse();
+        assertThat(filter.sizeInBytes()).isPositive();
+    }
+}
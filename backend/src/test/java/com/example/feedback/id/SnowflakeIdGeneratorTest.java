@@ -0,0 +1,189 @@
+package com.example.feedback.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SnowflakeIdGenerator.
+ * Most tests drive the generator with a manual clock in milliseconds since 1970.
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long START = SnowflakeIdGenerator.EPOCH.toEpochMilli() + 1_000_000;
+
+    private final AtomicLong clock = new AtomicLong(START);
+
+    @Test
+    void nextId_EncodesTimestampNodeAndSequence() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(21, 5, 7, clock::get);
+
+        // When
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        // Then
+        assertThat(first).isEqualTo((1_000_000L << 12) | (21L << 7));
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(generator.nodeOf(second)).isEqualTo(21);
+        assertThat(generator.timestampOf(second)).isEqualTo(SnowflakeIdGenerator.EPOCH.plusMillis(1_000_000));
+    }
+
+    @Test
+    void nextId_StaysBelowTwoToTheFiftyThreeWithTheDefaultLayoutUntilTheEndOfTheTimestamp() {
+        // Given
+        IdGeneratorProperties properties = new IdGeneratorProperties();
+        properties.setNodeId(31);
+        clock.set(SnowflakeIdGenerator.EPOCH.toEpochMilli() + (1L << SnowflakeIdGenerator.TIMESTAMP_BITS) - 1);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(properties.getNodeId(), properties.getNodeBits(),
+                properties.getSequenceBits(), clock::get);
+
+        // When
+        long last = generator.nextId();
+        clock.incrementAndGet();
+
+        // Then
+        assertThat(last).isPositive().isLessThan(1L << 53);
+        assertThatThrownBy(generator::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outside the id timestamp range");
+    }
+
+    @Test
+    void nextId_KeepsIncreasingWhenTheClockGoesBack() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5, 7, clock::get);
+        long before = generator.nextId();
+
+        // When
+        clock.addAndGet(-5_000);
+        long during = generator.nextId();
+        clock.addAndGet(5_001);
+        long after = generator.nextId();
+
+        // Then
+        assertThat(during).isEqualTo(before + 1);
+        assertThat(after).isGreaterThan(during);
+        assertThat(generator.timestampOf(after)).isEqualTo(generator.timestampOf(before).plusMillis(1));
+    }
+
+    @Test
+    void nextId_WaitsForTheNextMillisecondOnceItsSequenceIsUsedUp() {
+        // Given: 4 ids per millisecond, and a clock that moves on every tenth read
+        AtomicLong reads = new AtomicLong();
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, 2, 2, () -> START + reads.getAndIncrement() / 10);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // Then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(generator.nodeOf(id)).isEqualTo(3));
+        assertThat(generator.timestampOf(ids.get(49)))
+                .isAfterOrEqualTo(SnowflakeIdGenerator.EPOCH.plusMillis(1_000_000 + 49 / 4));
+    }
+
+    @Test
+    void nextId_IsUniqueAcrossThreadsAndNodes() throws Exception {
+        // Given
+        SnowflakeIdGenerator node0 = new SnowflakeIdGenerator(new IdGeneratorProperties());
+        IdGeneratorProperties other = new IdGeneratorProperties();
+        other.setNodeId(1);
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(other);
+        List<Callable<List<Long>>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            SnowflakeIdGenerator generator = t % 2 == 0 ? node0 : node1;
+            tasks.add(() -> {
+                List<Long> ids = new ArrayList<>(20_000);
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+                return ids;
+            });
+        }
+
+        // When
+        Set<Long> all = new HashSet<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<List<Long>> result : executor.invokeAll(tasks)) {
+                List<Long> ids = result.get();
+                assertThat(ids).isSorted();
+                all.addAll(ids);
+            }
+        }
+
+        // Then
+        assertThat(all).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void continueAfter_NeverRepeatsAnIdOfTheReplacedGenerator() {
+        // Given: a generator that used part of the current millisecond
+        SnowflakeIdGenerator previous = new SnowflakeIdGenerator(1, 5, 7, clock::get);
+        Set<Long> issued = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            issued.add(previous.nextId());
+        }
+        SnowflakeIdGenerator replacement = new SnowflakeIdGenerator(1, 5, 7, clock::get);
+
+        // When
+        replacement.continueAfter(previous);
+        long next = replacement.nextId();
+
+        // Then
+        assertThat(issued).doesNotContain(next);
+        assertThat(next).isGreaterThan(issued.stream().mapToLong(Long::longValue).max().orElseThrow());
+    }
+
+    @Test
+    void continueAfter_RefusesAnotherLayoutOnceIdsWereIssued() {
+        // Given
+        SnowflakeIdGenerator unused = new SnowflakeIdGenerator(0, 5, 7, clock::get);
+        SnowflakeIdGenerator used = new SnowflakeIdGenerator(0, 5, 7, clock::get);
+        used.nextId();
+        SnowflakeIdGenerator otherLayout = new SnowflakeIdGenerator(0, 4, 8, clock::get);
+
+        // When & Then
+        otherLayout.continueAfter(unused);
+        assertThatThrownBy(() -> otherLayout.continueAfter(used))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cannot switch");
+    }
+
+    @Test
+    void feedbackIdsUse_ContinuesAfterTheInstalledGenerator() {
+        // Given: ids drawn from the installed generator, as by an earlier context or the static default
+        long before = FeedbackIds.next();
+
+        // When
+        FeedbackIds.use(new SnowflakeIdGenerator(new IdGeneratorProperties()));
+
+        // Then
+        assertThat(FeedbackIds.next()).isGreaterThan(before);
+    }
+
+    @Test
+    void constructor_RejectsNodeIdsAndLayoutsThatDoNotFit() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(32, 5, 7, clock::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("between 0 and 31");
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(0, 11, 12, clock::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at most 22");
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.feedback.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.FeedbackStore;
+
+/**
+ * Unit tests for WriteBehindIngestor.
+ * Uses a mocked store that records the batches it receives.
+ */
+class WriteBehindIngestorTest {
+
+    private final AtomicLong ids = new AtomicLong();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private FeedbackStore store;
+    private WriteBehindProperties properties;
+    private WriteBehindIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(FeedbackStore.class);
+        when(store.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Feedback> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            batch.forEach(feedback -> feedback.setId(ids.incrementAndGet()));
+            return batch;
+        });
+
+        properties = new WriteBehindProperties();
+        properties.setBatchSize(4);
+        properties.setLinger(Duration.ofMillis(50));
+        properties.setQueueCapacity(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (ingestor != null && ingestor.isRunning()) {
+            ingestor.stop();
+        }
+    }
+
+    @Test
+    void testSubmissionsAreCommittedInBatches() throws Exception {
+        // Given
+        ingestor = new WriteBehindIngestor(store, event -> { }, properties);
+        ingestor.start();
+
+        // When
+        List<PendingFeedback> pending = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            pending.add(ingestor.submit(feedback(i)));
+        }
+
+        // Then
+        for (PendingFeedback p : pending) {
+            assertThat(p.getResult().get(5, TimeUnit.SECONDS).getId()).isNotNull();
+        }
+        assertThat(batchSizes).allMatch(size -> size <= 4);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(batchSizes.size()).isLessThan(10);
+    }
+
+    @Test
+    void testSyncModeReturnsCommittedFeedback() {
+        // Given
+        ingestor = new WriteBehindIngestor(store, event -> { }, properties);
+        ingestor.start();
+
+        // When
+        PendingFeedback pending = ingestor.submit(feedback(1));
+        Optional<Feedback> committed = ingestor.awaitIfSynchronous(pending);
+
+        // Then
+        assertThat(committed).isPresent();
+        assertThat(committed.get().getId()).isNotNull();
+        assertThat(ingestor.lookupTicket(pending.getTicket()))
+                .hasValueSatisfying(ticket -> assertThat(ticket.status()).isEqualTo(IngestTicket.Status.COMMITTED));
+    }
+
+    @Test
+    void testAsyncModeReturnsTicketWithoutWaiting() {
+        // Given
+        properties.setMode(WriteBehindProperties.Mode.ASYNC);
+        properties.setLinger(Duration.ofSeconds(1));
+        ingestor = new WriteBehindIngestor(store, event -> { }, properties);
+        ingestor.start();
+
+        // When
+        PendingFeedback pending = ingestor.submit(feedback(1));
+
+        // Then
+        assertThat(ingestor.awaitIfSynchronous(pending)).isEmpty();
+        assertThat(ingestor.lookupTicket(pending.getTicket())).isPresent();
+    }
+
+    @Test
+    void testOverflowRejectsWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch release = blockWriter();
+        properties.setQueueCapacity(2);
+        properties.setBatchSize(1);
+        ingestor = new WriteBehindIngestor(store, event -> { }, properties);
+        ingestor.start();
+
+        // When
+        ingestor.submit(feedback(0));
+        Thread.sleep(100); // flusher picks up the first item and blocks in the writer
+        ingestor.submit(feedback(1));
+        ingestor.submit(feedback(2));
+
+        // Then
+        assertThatThrownBy(() -> ingestor.submit(feedback(3)))
+                .isInstanceOf(IngestRejectedException.class)
+                .hasMessage("Submission queue is full");
+        release.countDown();
+    }
+
+    @Test
+    void testOverflowCallerRunsWritesOnCallingThread() throws Exception {
+        // Given
+        CountDownLatch release = blockWriter();
+        properties.setQueueCapacity(1);
+        properties.setBatchSize(1);
+        properties.setOverflow(WriteBehindProperties.Overflow.CALLER_RUNS);
+        ingestor = new WriteBehindIngestor(store, event -> { }, properties);
+        ingestor.start();
+        ingestor.submit(feedback(0));
+        Thread.sleep(100);
+        ingestor.submit(feedback(1));
+
+        // When
+        PendingFeedback overflowed = ingestor.submit(feedback(2));
+
+        // Then
+        assertThat(overflowed.getResult()).isDone();
+        assertThat(overflowed.getResult().get().getId()).isNotNull();
+        release.countDown();
+    }
+
+    @Test
+    void testStopDrainsQueuedSubmissions() throws Exception {
+        // Given
+        properties.setLinger(Duration.ofSeconds(5));
+        properties.setBatchSize(1000);
+        ingestor = new WriteBehindIngestor(store, event -> { }, properties);
+        ingestor.start();
+        List<PendingFeedback> pending = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            pending.add(ingestor.submit(feedback(i)));
+        }
+
+        // When
+        ingestor.stop();
+
+        // Then
+        assertThat(pending).allMatch(p -> p.getResult().isDone() && !p.getResult().isCompletedExceptionally());
+        assertThatThrownBy(() -> ingestor.submit(feedback(99)))
+                .isInstanceOf(IngestRejectedException.class);
+    }
+
+    @Test
+    void testFailedBatchFailsEveryCaller() {
+        // Given
+        when(store.insertAll(anyList())).thenThrow(new RuntimeException("Database error"));
+        ingestor = new WriteBehindIngestor(store, event -> { }, properties);
+        ingestor.start();
+
+        // When
+        PendingFeedback pending = ingestor.submit(feedback(1));
+
+        // Then
+        assertThatThrownBy(() -> ingestor.awaitIfSynchronous(pending))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(ingestor.lookupTicket(pending.getTicket()))
+                .hasValueSatisfying(ticket -> assertThat(ticket.status()).isEqualTo(IngestTicket.Status.FAILED));
+    }
+
+    private CountDownLatch blockWriter() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.insertAll(anyList())).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals("feedback-write-behind")) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            List<Feedback> batch = invocation.getArgument(0);
+            batch.forEach(feedback -> feedback.setId(ids.incrementAndGet()));
+            return batch;
+        });
+        return release;
+    }
+
+    private static Feedback feedback(int i) {
+        return new Feedback("User " + i, "user" + i + "@example.com", "Message " + i);
+    }
+}
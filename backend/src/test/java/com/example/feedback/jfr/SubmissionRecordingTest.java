@@ -0,0 +1,110 @@
+package com.example.feedback.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests for the submission flight recorder events, recorded with {@code jfr/feedback.jfc} against the
+ * embedded database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SubmissionRecordingTest {
+
+    private static final String VALID = """
+            {"name": "John Doe", "email": "john@example.com", "message": "Great service!"}
+            """;
+    private static final String INVALID = """
+            {"name": "", "email": "not-an-email", "message": "Great service!"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @TempDir
+    Path directory;
+
+    private List<RecordedEvent> record(String requestId, String body, int expectedStatus) throws Exception {
+        Path file = directory.resolve("submission.jfr");
+        try (Recording recording = new Recording(Configuration.create(Path.of("jfr/feedback.jfc")))) {
+            recording.start();
+            mockMvc.perform(post("/api/feedback")
+                    .header(SubmissionRecordingFilter.REQUEST_ID_HEADER, requestId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().is(expectedStatus))
+                    .andExpect(header().string(SubmissionRecordingFilter.REQUEST_ID_HEADER, requestId));
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.example.feedback."))
+                .filter(event -> requestId.equals(event.getString("requestId")))
+                .toList();
+    }
+
+    private static Map<String, String> outcomes(List<RecordedEvent> events) {
+        return events.stream().collect(Collectors.toMap(
+                event -> event.getEventType().getName().substring("com.example.feedback.".length()),
+                event -> event.getString("outcome")));
+    }
+
+    @Test
+    void validSubmission_RecordsEveryStageUnderItsRequestId() throws Exception {
+        // When
+        List<RecordedEvent> events = record("trace-valid", VALID, 200);
+
+        // Then
+        assertThat(outcomes(events)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "Precheck", "valid",
+                "Parse", "parsed",
+                "Validation", "valid",
+                "Save", "stored",
+                "Commit", "committed",
+                "Notify", "notified",
+                "Serialization", "written",
+                "Submission", "stored"));
+        RecordedEvent submission = events.stream()
+                .filter(event -> event.getEventType().getName().endsWith(".Submission"))
+                .findFirst().orElseThrow();
+        assertThat(submission.getLong("requestBytes")).isEqualTo(VALID.length());
+        assertThat(submission.getInt("status")).isEqualTo(200);
+        RecordedEvent serialization = events.stream()
+                .filter(event -> event.getEventType().getName().endsWith(".Serialization"))
+                .findFirst().orElseThrow();
+        assertThat(serialization.getLong("responseBytes")).isPositive();
+        assertThat(events).allSatisfy(event ->
+                assertThat(event.getDuration()).isLessThanOrEqualTo(submission.getDuration()));
+    }
+
+    @Test
+    void rejectedSubmission_StopsAtThePrecheck() throws Exception {
+        // When
+        List<RecordedEvent> events = record("trace-invalid", INVALID, 400);
+
+        // Then
+        assertThat(outcomes(events)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "Precheck", "invalid",
+                "Submission", "rejected"));
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.feedback.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.util.unit.DataSize;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.example.feedback.export.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Unit tests for BulkLoader. Every test loads into its own in-memory H2 database, with chunks small enough
+ * that even short files are loaded in parallel.
+ */
+class BulkLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:load-test-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(4);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+        validatorFactory.close();
+    }
+
+    private BulkLoadProperties properties(Path file) {
+        BulkLoadProperties properties = new BulkLoadProperties();
+        properties.setFile(file.toString());
+        properties.setChunkSize(DataSize.ofBytes(256));
+        properties.setBatchSize(7);
+        properties.setParallelism(3);
+        return properties;
+    }
+
+    private LoadResult load(BulkLoadProperties properties) throws IOException, InterruptedException {
+        return new BulkLoader(dataSource, validatorFactory.getValidator(), objectMapper, properties).load();
+    }
+
+    private List<JsonNode> rejects(Path file) throws IOException {
+        return Files.readAllLines(file.resolveSibling(file.getFileName() + ".rejects.ndjson")).stream()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    /** A CSV file as the export writes it, with {@code rows} valid rows. */
+    private Path csv(int rows) throws IOException {
+        StringBuilder csv = new StringBuilder("id,name,email,message,created_at\r\n");
+        for (int n = 1; n <= rows; n++) {
+            csv.append(n).append(",\"User ").append(n).append("\",\"user").append(n).append("@example.com\",")
+                    .append("\"Message ").append(n).append("\",2023-05-01T10:00:")
+                    .append(String.format("%02d", n % 60)).append("\r\n");
+        }
+        Path file = directory.resolve("feedback.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void load_CsvExport_LoadsValidRowsAndRejectsTheOthers() throws Exception {
+        // Given: quoted commas, quotes and line breaks, a row without created_at, and three bad rows
+        String longText = "x".repeat(300);
+        String csv = "\uFEFFid,name,email,message,created_at\r\n"
+                + "1,\"Ann, Smith\",\"ann@example.com\",\"She said \"\"great\"\"\",2023-05-01T10:15:30\r\n"
+                + "2,\"Bob\",\"bob@example.com\",\"Line one\r\nline two " + longText + "\",2023-05-02 08:00:00\r\n"
+                + "3,\"Cy\",\"not-an-email\",\"\",2023-05-03T00:00\r\n"
+                + "4,\"Dee\",\"dee@example.com\",\"No date\",\r\n"
+                + "5,\"Eve\",\"eve@example.com\"\r\n"
+                + "\r\n"
+                + "6,\"Fay\",\"fay@example.com\",\"Bad date\",yesterday\r\n";
+        Path file = directory.resolve("legacy.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+        // When
+        LoadResult result = load(properties(file));
+
+        // Then
+        assertThat(result.rowsLoaded()).isEqualTo(3);
+        assertThat(result.rowsRejected()).isEqualTo(3);
+        assertThat(result.chunks()).isGreaterThan(1);
+        assertThat(jdbcTemplate.queryForList("SELECT message FROM feedback ORDER BY created_at", String.class))
+                .containsExactly("She said \"great\"", "Line one\r\nline two " + longText, "No date");
+        assertThat(jdbcTemplate.queryForObject("SELECT created_at FROM feedback WHERE name = 'Ann, Smith'",
+                Timestamp.class).toLocalDateTime()).isEqualTo(LocalDateTime.of(2023, 5, 1, 10, 15, 30));
+        assertThat(jdbcTemplate.queryForObject("SELECT created_at FROM feedback WHERE name = 'Dee'",
+                Timestamp.class).toLocalDateTime()).isAfter(LocalDateTime.now().minusMinutes(1));
+
+        List<JsonNode> rejects = rejects(file);
+        assertThat(rejects).extracting(reject -> reject.get("line").asLong()).containsExactlyInAnyOrder(5L, 7L, 9L);
+        JsonNode invalid = rejects.stream().filter(reject -> reject.get("line").asLong() == 5).findFirst().get();
+        assertThat(invalid.get("error").asText()).isEqualTo(BulkLoader.VALIDATION_FAILED);
+        assertThat(invalid.get("details").asText())
+                .isEqualTo(FeedbackRequest.EMAIL_INVALID + ", " + FeedbackRequest.MESSAGE_REQUIRED);
+        assertThat(invalid.get("record").asText()).isEqualTo("3,\"Cy\",\"not-an-email\",\"\",2023-05-03T00:00");
+        assertThat(rejects).filteredOn(reject -> reject.get("line").asLong() != 5)
+                .extracting(reject -> reject.get("error").asText())
+                .containsOnly(RecordParser.MALFORMED);
+    }
+
+    @Test
+    void load_Ndjson_ReadsTheExportFieldsAndRejectsBadLines() throws Exception {
+        // Given
+        String ndjson = """
+                {"id":1,"name":"Ann","email":"ann@example.com","message":"Hello","createdAt":"2023-05-01T10:15:30"}
+                {"name":"Bob","email":"bob@example.com","message":"No date"}
+                {"name":"Cy","email":"cy@example.com","message":
+                [1,2,3]
+                {"name":{"first":"Dee"},"email":"dee@example.com","message":"Nested"}
+                {"name":"","email":"eve@example.com","message":"Blank name"}
+
+                {"name":"Fay","email":"fay@example.com","message":"Last line without a newline"}""";
+        Path file = directory.resolve("legacy.ndjson");
+        Files.writeString(file, ndjson, StandardCharsets.UTF_8);
+
+        // When
+        LoadResult result = load(properties(file));
+
+        // Then
+        assertThat(result.rowsLoaded()).isEqualTo(3);
+        assertThat(result.rowsRejected()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM feedback ORDER BY id", String.class))
+                .containsExactlyInAnyOrder("Ann", "Bob", "Fay");
+        assertThat(rejects(file)).extracting(reject -> reject.get("line").asLong() + " " + reject.get("error").asText())
+                .containsExactlyInAnyOrder("3 " + RecordParser.MALFORMED, "4 " + RecordParser.MALFORMED,
+                        "5 " + RecordParser.MALFORMED, "6 " + BulkLoader.VALIDATION_FAILED);
+    }
+
+    @Test
+    void load_ResumesAfterACrashWithoutLoadingAnyRowTwice() throws Exception {
+        // Given: a finished load, then the state a crash after the first three chunks would have left
+        Path file = csv(200);
+        BulkLoadProperties properties = properties(file);
+        assertThat(load(properties).rowsLoaded()).isEqualTo(200);
+        List<LoadInput.Chunk> chunks;
+        try (LoadInput input = LoadInput.open(file, null, properties.getChunkSize().toBytes())) {
+            chunks = input.chunks();
+        }
+        long firstLostRow = chunks.get(3).firstLine() - 1;
+        jdbcTemplate.update("DELETE FROM feedback_load_chunk WHERE chunk_index >= 3");
+        jdbcTemplate.update("DELETE FROM feedback WHERE CAST(SUBSTRING(name, 6) AS INT) >= ?", firstLostRow);
+
+        // When: the file was copied under another name and touched since
+        Path copy = Files.copy(file, directory.resolve("feedback-copy.csv"));
+        Files.setLastModifiedTime(copy, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+        properties.setFile(copy.toString());
+        LoadResult resumed = load(properties);
+
+        // Then
+        assertThat(resumed.skippedChunks()).isEqualTo(3);
+        assertThat(resumed.rowsLoaded()).isEqualTo(200 - firstLostRow + 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT message) FROM feedback", Long.class))
+                .isEqualTo(200);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback", Long.class)).isEqualTo(200);
+
+        // A finished load has nothing left to do
+        assertThat(load(properties).skippedChunks()).isEqualTo(chunks.size());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback", Long.class)).isEqualTo(200);
+
+        // Other chunk boundaries would not match the checkpoints, so the load refuses to go on with them
+        properties.setChunkSize(DataSize.ofBytes(512));
+        assertThatThrownBy(() -> load(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("feedback.load.chunk-size=256B");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback", Long.class)).isEqualTo(200);
+    }
+
+    @Test
+    void load_WithTimePartitioningEnabled_IsRefusedBeforeAnyRowIsWritten() throws Exception {
+        // Given
+        Path file = csv(20);
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of("feedback.archive.enabled", "true")));
+        BulkLoader loader = new BulkLoader(dataSource, validatorFactory.getValidator(), objectMapper,
+                properties(file));
+
+        // When / Then
+        assertThatThrownBy(() -> BulkLoadRunner.load(environment, loader))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("feedback.archive.enabled");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback_load_chunk", Long.class)).isZero();
+
+        // Without partitioning the same load goes through
+        environment.getPropertySources().remove("test");
+        assertThat(BulkLoadRunner.load(environment, loader).rowsLoaded()).isEqualTo(20);
+    }
+
+    @Test
+    void open_CutsChunksOnRecordBoundariesOnly() throws Exception {
+        // Given: records with quoted line breaks, so most newlines are not record ends
+        StringBuilder csv = new StringBuilder("name,email,message\n");
+        for (int n = 0; n < 50; n++) {
+            csv.append("\"User ").append(n).append("\",user@example.com,\"first\nsecond\nthird ").append(n)
+                    .append("\"\n");
+        }
+        Path file = directory.resolve("multiline.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+        // When
+        try (LoadInput input = LoadInput.open(file, ExportFormat.CSV, 100)) {
+
+            // Then
+            assertThat(input.chunks()).hasSizeGreaterThan(5);
+            assertThat(input.chunks()).allSatisfy(chunk ->
+                    assertThat((chunk.firstLine() - 2) % 3).isZero());
+            assertThat(input.chunks().get(input.chunks().size() - 1).end()).isEqualTo(Files.size(file));
+        }
+        assertThatThrownBy(() -> LoadInput.open(directory.resolve("feedback.txt"), null, 100).close())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("feedback.load.format");
+        Path headerless = directory.resolve("headerless.csv");
+        Files.writeString(headerless, "Ann,ann@example.com,Hello\n");
+        assertThatThrownBy(() -> LoadInput.open(headerless, null, 100).close())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must name the columns");
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.feedback.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ClientRateLimiter.
+ * Uses a manual clock, so refills happen exactly when the test moves time forward.
+ */
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    /** 60 requests a minute (one per second) with bursts of 5. */
+    private ClientRateLimiter limiter() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(60, Duration.ofMinutes(1), 5);
+        return new ClientRateLimiter(limit, 1_000, Duration.ofMinutes(10), clock::get);
+    }
+
+    @Test
+    void tryAcquire_AllowsBurstThenReportsWaitUntilNextToken() {
+        // Given
+        ClientRateLimiter limiter = limiter();
+
+        // When
+        List<Long> burst = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            burst.add(limiter.tryAcquire("10.0.0.1"));
+        }
+        long refused = limiter.tryAcquire("10.0.0.1");
+
+        // Then
+        assertThat(burst).containsOnly(0L);
+        assertThat(refused).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(limiter.getRejectedCount()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void tryAcquire_RefillsAtConfiguredRateUpToBurst() {
+        // Given
+        ClientRateLimiter limiter = limiter();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // When
+        clock.addAndGet(Duration.ofMillis(2500).toNanos());
+        int afterTwoAndAHalfSeconds = countAllowed(limiter, 10);
+        clock.addAndGet(Duration.ofHours(1).toNanos());
+        int afterAnHour = countAllowed(limiter, 10);
+
+        // Then
+        assertThat(afterTwoAndAHalfSeconds).isEqualTo(2);
+        assertThat(afterAnHour).isEqualTo(5);
+    }
+
+    @Test
+    void tryAcquire_NeverHandsOutMoreThanBurstUnderContention() throws InterruptedException {
+        // Given
+        ClientRateLimiter limiter = limiter();
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire("10.0.0.1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(allowed).hasValue(5);
+        assertThat(limiter.getRejectedCount()).isEqualTo(8 * 1_000 - 5);
+    }
+
+    @Test
+    void buckets_AreDroppedWhenIdleAndBoundedInNumber() {
+        // Given
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(60, Duration.ofMinutes(1), 5);
+        ClientRateLimiter limiter = new ClientRateLimiter(limit, 100, Duration.ofMinutes(10), clock::get);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("10.0." + (i / 256) + "." + (i % 256));
+        }
+        long trackedAfterFlood = limiter.getTrackedClients();
+
+        // When
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        limiter.tryAcquire("10.0.0.1");
+
+        // Then
+        assertThat(trackedAfterFlood).isLessThanOrEqualTo(100);
+        assertThat(limiter.getTrackedClients()).isEqualTo(1);
+    }
+
+    private static int countAllowed(ClientRateLimiter limiter, int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (limiter.tryAcquire("10.0.0.1") == 0) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.feedback.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.feedback.rejection.FastRejectFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for RateLimitFilter.
+ */
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ClientRateLimiter perIp = new ClientRateLimiter(
+                new RateLimitProperties.Limit(60, Duration.ofMinutes(1), 3), 100, Duration.ofMinutes(10));
+        ClientRateLimiter perEmail = new ClientRateLimiter(
+                new RateLimitProperties.Limit(1, Duration.ofMinutes(1), 1), 100, Duration.ofMinutes(10));
+        filter = new RateLimitFilter(perIp, perEmail, objectMapper);
+    }
+
+    private static MockHttpServletRequest post(String remoteAddr, String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/feedback");
+        request.setRemoteAddr(remoteAddr);
+        request.setAttribute(FastRejectFilter.EMAIL_ATTRIBUTE, email);
+        return request;
+    }
+
+    @Test
+    void emailLimit_IgnoresCaseAndAnswers429WithRetryAfter() throws Exception {
+        // Given
+        MockFilterChain first = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain second = new MockFilterChain();
+
+        // When
+        filter.doFilter(post("10.0.0.1", "john@example.com"), new MockHttpServletResponse(), first);
+        filter.doFilter(post("10.0.0.2", "John@Example.com"), response, second);
+
+        // Then
+        assertThat(first.getRequest()).isNotNull();
+        assertThat(second.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("error").asText())
+                .isEqualTo("Too many requests");
+    }
+
+    @Test
+    void ipLimit_AppliesAcrossEmailsAndOnlyToPosts() throws Exception {
+        // Given
+        int passed = 0;
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(post("10.0.0.1", "user" + i + "@example.com"), new MockHttpServletResponse(), chain);
+            if (chain.getRequest() != null) {
+                passed++;
+            }
+        }
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/feedback");
+        get.setRemoteAddr("10.0.0.1");
+        MockFilterChain getChain = new MockFilterChain();
+        filter.doFilter(get, new MockHttpServletResponse(), getChain);
+
+        // Then
+        assertThat(passed).isEqualTo(3);
+        assertThat(getChain.getRequest()).isSameAs(get);
+    }
+}
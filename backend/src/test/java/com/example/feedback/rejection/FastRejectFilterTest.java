@@ -0,0 +1,208 @@
+package com.example.feedback.rejection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for FastRejectFilter.
+ * Runs the filter against mock requests and inspects what reaches the rest of the chain.
+ */
+class FastRejectFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ValidatorFactory validatorFactory;
+    private FastRejectFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        SubmissionLimitsProperties properties = new SubmissionLimitsProperties();
+        properties.setMaxBodySize(DataSize.ofBytes(512));
+        filter = new FastRejectFilter(new SubmissionPrecheck(validatorFactory.getValidator()), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private static MockHttpServletRequest post(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/feedback");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Test
+    void validBody_IsPassedOnUnchanged() throws Exception {
+        // Given
+        String body = "{\"name\":\"John\",\"email\":\"john@example.com\",\"message\":\"Great service!\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(post(body), new MockHttpServletResponse(), chain);
+
+        // Then
+        ServletRequest forwarded = chain.getRequest();
+        assertThat(forwarded).isNotNull();
+        assertThat(StreamUtils.copyToString(forwarded.getInputStream(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void validBody_CanBeReadAsynchronously() throws Exception {
+        // Given
+        String body = "{\"name\":\"John\",\"email\":\"john@example.com\",\"message\":\"Great service!\"}";
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(post(body), new MockHttpServletResponse(), chain);
+        ServletInputStream in = chain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+
+        // When
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("available");
+                while (in.isReady() && !in.isFinished()) {
+                    read.write(in.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("all read");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        // Then
+        assertThat(calls).containsExactly("available", "all read");
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void asyncReadFailure_IsReportedToTheListener() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(post("{\"name\":\"John\",\"email\":\"john@example.com\",\"message\":\"Hi\"}"),
+                new MockHttpServletResponse(), chain);
+        ServletInputStream in = chain.getRequest().getInputStream();
+        IOException failure = new IOException("listener failed");
+        List<Throwable> errors = new ArrayList<>();
+
+        // When
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw failure;
+            }
+
+            @Override
+            public void onAllDataRead() {
+                errors.add(new AssertionError("onAllDataRead after a failure"));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+
+        // Then
+        assertThat(errors).containsExactly(failure);
+    }
+
+    @Test
+    void invalidBody_IsAnsweredWithoutReachingTheChain() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(post("{\"name\":\"\",\"email\":\"nope\",\"message\":\"Hi\"}"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(400);
+        JsonNode json = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(json.get("error").asText()).isEqualTo("Validation failed");
+        assertThat(json.get("details").asText()).isEqualTo("Name is required, Please enter a valid email address");
+        assertThat(json.get("timestamp").asText()).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}");
+    }
+
+    @Test
+    void malformedBody_IsAnswered400() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post("{\"name\":"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("error").asText())
+                .isEqualTo("Malformed request");
+    }
+
+    @Test
+    void oversizedBody_IsAnswered413() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(post("{\"message\":\"" + "x".repeat(600) + "\"}"), response, chain);
+
+        // Then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(objectMapper.readTree(response.getContentAsByteArray()).get("details").asText())
+                .isEqualTo("Request body exceeds the maximum size of 512 bytes");
+    }
+
+    @Test
+    void nonJsonAndNonPostRequests_AreLeftAlone() throws Exception {
+        // Given
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/feedback");
+        MockHttpServletRequest text = post("not json");
+        text.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        MockFilterChain getChain = new MockFilterChain();
+        MockFilterChain textChain = new MockFilterChain();
+
+        // When
+        filter.doFilter(get, new MockHttpServletResponse(), getChain);
+        filter.doFilter(text, new MockHttpServletResponse(), textChain);
+
+        // Then
+        assertThat(getChain.getRequest()).isSameAs(get);
+        assertThat(textChain.getRequest()).isSameAs(text);
+    }
+}
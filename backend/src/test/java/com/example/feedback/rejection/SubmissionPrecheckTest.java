@@ -0,0 +1,147 @@
+package com.example.feedback.rejection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for SubmissionPrecheck.
+ * Besides targeted cases, compares every verdict with what Jackson binding plus Bean Validation report.
+ */
+class SubmissionPrecheckTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+    private static SubmissionPrecheck precheck;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        precheck = new SubmissionPrecheck(validator);
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    private static int check(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        return precheck.check(bytes, bytes.length);
+    }
+
+    @Test
+    void check_AcceptsValidBodyWithUnknownNestedFields() {
+        // Given
+        String body = "{\"name\":\"John\",\"meta\":{\"tags\":[1,2.5e3,true,null,{\"a\":\"b\"}]},"
+                + "\"email\":\"john@example.com\",\"message\":\"Hi \\\"there\\\" \\u00e9\"}";
+
+        // When & Then
+        assertThat(check(body)).isZero();
+    }
+
+    @Test
+    void check_ReportsMissingAndBlankFields() {
+        // When
+        int verdict = check("{\"name\":\" \\t \",\"email\":null}");
+
+        // Then
+        assertThat(verdict).isEqualTo(Violation.NAME_REQUIRED.bit() | Violation.EMAIL_REQUIRED.bit()
+                | Violation.MESSAGE_REQUIRED.bit());
+    }
+
+    @Test
+    void check_CountsLengthInUtf16UnitsLikeStringLength() {
+        // Given
+        String accents = "\u00e9".repeat(1000);
+        String emoji = "\uD83D\uDE00".repeat(501);
+
+        // When & Then
+        assertThat(check(body("John", "john@example.com", accents))).isZero();
+        assertThat(check(body("John", "john@example.com", emoji))).isEqualTo(Violation.MESSAGE_TOO_LONG.bit());
+        assertThat(check(body("x".repeat(101), "john@example.com", "Hi"))).isEqualTo(Violation.NAME_TOO_LONG.bit());
+    }
+
+    @Test
+    void check_AppliesTheEmailRuleToOverLongEmailsToo() {
+        // Given
+        String email = "not an email ".repeat(20);
+
+        // When
+        int verdict = check(body("John", email, "Hi"));
+
+        // Then
+        assertThat(verdict).isEqualTo(Violation.EMAIL_TOO_LONG.bit() | Violation.EMAIL_INVALID.bit());
+    }
+
+    @Test
+    void check_FlagsMalformedBodies() {
+        List<String> bodies = List.of("", "[]", "{\"name\":", "{'name':'John'}", "{\"name\":\"John\",}",
+                "{\"name\":{\"first\":\"John\"}}", "{\"name\":[\"John\"]}", "{\"name\":01}", "{\"name\":\"a\\x\"}",
+                "{\"name\":\"line\nbreak\"}");
+
+        for (String body : bodies) {
+            assertThat(check(body)).as(body).isEqualTo(SubmissionPrecheck.MALFORMED);
+        }
+
+        byte[] invalidUtf8 = { '{', '"', 'n', 'a', 'm', 'e', '"', ':', '"', (byte) 0xC3, '"', '}' };
+        assertThat(precheck.check(invalidUtf8, invalidUtf8.length)).isEqualTo(SubmissionPrecheck.MALFORMED);
+    }
+
+    @Test
+    void check_MatchesBeanValidationForEveryCombination() throws Exception {
+        // Given
+        List<String> names = Arrays.asList(null, "", "   ", "John", "x".repeat(100), "x".repeat(101));
+        List<String> emails = Arrays.asList(null, "", " ", "john@example.com", "not-an-email", "a@b",
+                "x".repeat(243) + "@example.com", "x".repeat(244) + "@example.com", "y".repeat(300),
+                "john@" + ("d".repeat(60) + ".").repeat(5) + "com");
+        List<String> messages = Arrays.asList(null, "", "\n", "Great service!", "m".repeat(1000),
+                "m".repeat(1001), "\u00e9".repeat(1001));
+
+        for (String name : names) {
+            for (String email : emails) {
+                for (String message : messages) {
+                    // When
+                    String json = objectMapper.writeValueAsString(new FeedbackRequest(name, email, message));
+                    int verdict = check(json);
+
+                    // Then
+                    Set<String> expected = validator.validate(new FeedbackRequest(name, email, message)).stream()
+                            .map(ConstraintViolation::getMessage)
+                            .collect(Collectors.toSet());
+                    Set<String> actual = Arrays.stream(Violation.values())
+                            .filter(violation -> (verdict & violation.bit()) != 0)
+                            .map(Violation::message)
+                            .collect(Collectors.toSet());
+                    assertThat(actual).as(json).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    private String body(String name, String email, String message) {
+        try {
+            return objectMapper.writeValueAsString(new FeedbackRequest(name, email, message));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.feedback.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.feedback.model.Feedback;
+
+/**
+ * Tests for FeedbackBatchWriter against the embedded H2 database.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(FeedbackBatchWriter.class)
+class FeedbackBatchWriterTest {
+
+  @Autowired
+  private FeedbackBatchWriter feedbackBatchWriter;
+
+  @Autowired
+  private FeedbackRepository feedbackRepository;
+
+  @Test
+  void testInsertAllAssignsIdsAndTimestamps() {
+    // Given
+    List<Feedback> feedbacks = List.of(
+        new Feedback("User One", "user1@example.com", "First feedback"),
+        new Feedback("User Two", "user2@example.com", "Second feedback"));
+
+    // When
+    List<Feedback> saved = feedbackBatchWriter.insertAll(feedbacks);
+
+    // Then
+    assertThat(saved).extracting(Feedback::getId).doesNotContainNull().doesNotHaveDuplicates().isSorted();
+    assertThat(saved).extracting(Feedback::getCreatedAt).doesNotContainNull();
+    assertThat(feedbackRepository.findById(saved.get(1).getId()))
+        .hasValueSatisfying(found -> assertThat(found.getMessage()).isEqualTo("Second feedback"));
+  }
+
+  @Test
+  void testInsertAllSpansMultipleStatements() {
+    // Given
+    int rows = FeedbackBatchWriter.MAX_ROWS_PER_STATEMENT * 2 + 7;
+    List<Feedback> feedbacks = new ArrayList<>();
+    for (int i = 0; i < rows; i++) {
+      feedbacks.add(new Feedback("User " + i, "user" + i + "@example.com", "Message " + i));
+    }
+    long before = feedbackRepository.count();
+
+    // When
+    feedbackBatchWriter.insertAll(feedbacks);
+
+    // Then
+    assertThat(feedbackRepository.count()).isEqualTo(before + rows);
+    assertThat(feedbacks).extracting(Feedback::getId).doesNotContainNull().doesNotHaveDuplicates();
+    Feedback last = feedbacks.get(rows - 1);
+    assertThat(feedbackRepository.findById(last.getId()))
+        .hasValueSatisfying(found -> assertThat(found.getName()).isEqualTo(last.getName()));
+  }
+}
@@ -3,6 +3,7 @@ package com.example.feedback.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.example.feedback.model.Feedback;
@@ -42,8 +44,8 @@ class FeedbackRepositoryTest {
     // Given
     Feedback feedback = new Feedback("John Doe", "john@example.com", "Great service!");
 
-    // When
-    Feedback savedFeedback = feedbackRepository.save(feedback);
+    // When: the id is assigned before the insert, which (with the creation timestamp) waits for the flush
+    Feedback savedFeedback = feedbackRepository.saveAndFlush(feedback);
 
     // Then
     assertThat(savedFeedback.getId()).isNotNull();
@@ -118,7 +120,7 @@ class FeedbackRepositoryTest {
     Feedback feedback = new Feedback("Test User", "test@example.com", "Test message");
 
     // When
-    Feedback savedFeedback = feedbackRepository.save(feedback);
+    Feedback savedFeedback = feedbackRepository.saveAndFlush(feedback);
     LocalDateTime afterSave = LocalDateTime.now();
 
     // Then
@@ -126,4 +128,86 @@ class FeedbackRepositoryTest {
     assertThat(savedFeedback.getCreatedAt()).isAfter(beforeSave.minusSeconds(1));
     assertThat(savedFeedback.getCreatedAt()).isBefore(afterSave.plusSeconds(1));
   }
+
+  @Test
+  void testFindPageWalksAllRowsNewestFirst() {
+    // Given
+    LocalDateTime base = LocalDateTime.of(2024, 1, 15, 10, 0);
+    for (int i = 0; i < 7; i++) {
+      // Two rows per timestamp so the id tie-breaker is exercised
+      persistAt("User " + i, "user" + i + "@example.com", base.plusMinutes(i / 2));
+    }
+
+    // When
+    List<Feedback> seen = new ArrayList<>();
+    FeedbackCursor cursor = null;
+    Slice<Feedback> slice;
+    do {
+      slice = feedbackRepository.findPage(FeedbackQuery.all(), cursor, 3);
+      seen.addAll(slice.getContent());
+      cursor = slice.hasNext() ? FeedbackCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1)) : null;
+    } while (cursor != null);
+
+    // Then
+    assertThat(seen).hasSize(7);
+    assertThat(seen).extracting(Feedback::getId).doesNotHaveDuplicates();
+    for (int i = 1; i < seen.size(); i++) {
+      Feedback previous = seen.get(i - 1);
+      Feedback current = seen.get(i);
+      assertThat(current.getCreatedAt()).isBeforeOrEqualTo(previous.getCreatedAt());
+      if (current.getCreatedAt().equals(previous.getCreatedAt())) {
+        assertThat(current.getId()).isLessThan(previous.getId());
+      }
+    }
+  }
+
+  @Test
+  void testFindPageFiltersByEmailAndTimeRange() {
+    // Given
+    LocalDateTime base = LocalDateTime.of(2024, 1, 15, 10, 0);
+    persistAt("Match", "match@example.com", base.plusMinutes(1));
+    persistAt("Too early", "match@example.com", base.minusMinutes(1));
+    persistAt("Too late", "match@example.com", base.plusHours(1));
+    persistAt("Other", "other@example.com", base.plusMinutes(2));
+
+    // When
+    Slice<Feedback> slice = feedbackRepository.findPage(
+        new FeedbackQuery("match@example.com", base, base.plusHours(1)), null, 10);
+
+    // Then
+    assertThat(slice.hasNext()).isFalse();
+    assertThat(slice.getContent()).extracting(Feedback::getName).containsExactly("Match");
+  }
+
+  @Test
+  void testCursorRoundTrip() {
+    // Given
+    FeedbackCursor cursor = new FeedbackCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000), 42L);
+
+    // When
+    FeedbackCursor decoded = FeedbackCursor.decode(cursor.encode());
+
+    // Then
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @Test
+  void testCursorToken_MatchesTheReactiveBuild() {
+    // Given: the same token is pinned in the reactive module's FeedbackRepositoryTest
+    FeedbackCursor cursor = new FeedbackCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000), 42L);
+
+    // When & Then
+    assertThat(cursor.encode()).isEqualTo("MjAyNC0wMS0xNVQxMDozMDowMC4xMjM0NTZ8NDI");
+    assertThat(FeedbackCursor.decode("MjAyNC0wMS0xNVQxMDozMDowMC4xMjM0NTZ8NDI")).isEqualTo(cursor);
+  }
+
+  private void persistAt(String name, String email, LocalDateTime createdAt) {
+    Feedback feedback = entityManager.persistAndFlush(new Feedback(name, email, "Message from " + name));
+    entityManager.getEntityManager()
+        .createQuery("update Feedback f set f.createdAt = :createdAt where f.id = :id")
+        .setParameter("createdAt", createdAt)
+        .setParameter("id", feedback.getId())
+        .executeUpdate();
+    entityManager.clear();
+  }
 }
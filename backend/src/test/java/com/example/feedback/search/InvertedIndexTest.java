@@ -0,0 +1,146 @@
+package com.example.feedback.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for InvertedIndex.
+ * Ranked results are checked against a brute-force scan over the same corpus.
+ */
+class InvertedIndexTest {
+
+    private static final String[] VOCABULARY = {
+            "slow", "checkout", "payment", "failed", "great", "service", "app", "crashes", "login",
+            "password", "reset", "email", "support", "friendly", "delivery", "late", "refund", "thanks"
+    };
+
+    @Test
+    void testTokenizerLowercasesAndDropsStopWords() {
+        assertThat(Tokenizer.tokenize("The Checkout is SLOW, and payment-failed again! x"))
+                .containsExactly("checkout", "slow", "payment", "failed", "again");
+    }
+
+    @Test
+    void testSearchMatchesBruteForce() {
+        // Given
+        Random random = new Random(42);
+        Map<Long, String> corpus = new LinkedHashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            corpus.put(id, randomMessage(random));
+        }
+        InvertedIndex index = new InvertedIndex(Long.MAX_VALUE);
+        // Index half one by one and half in bulk, out of order, to exercise both insert paths
+        List<Long> ids = new ArrayList<>(corpus.keySet());
+        Map<Long, String> bulk = new LinkedHashMap<>();
+        for (int i = ids.size() - 1; i >= 0; i--) {
+            long id = ids.get(i);
+            if (id % 2 == 0) {
+                index.add(id, corpus.get(id));
+            } else {
+                bulk.put(id, corpus.get(id));
+            }
+        }
+        index.addAll(bulk);
+
+        // When & Then
+        for (String query : List.of("slow checkout", "payment failed refund", "Great SERVICE", "login",
+                "password reset email support", "unknownword", "late delivery late")) {
+            List<SearchHit> expected = bruteForce(corpus, query, 25);
+            List<SearchHit> actual = index.search(query, 25);
+
+            assertThat(actual).extracting(SearchHit::id).as(query)
+                    .containsExactlyElementsOf(expected.stream().map(SearchHit::id).toList());
+            for (int i = 0; i < actual.size(); i++) {
+                assertThat(actual.get(i).score()).isCloseTo(expected.get(i).score(), within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void testDuplicateAddIsIgnored() {
+        // Given
+        InvertedIndex index = new InvertedIndex(Long.MAX_VALUE);
+        index.add(1, "payment failed");
+        index.add(1, "payment failed");
+        index.add(2, "payment");
+
+        // When
+        List<SearchHit> hits = index.search("payment", 10);
+
+        // Then
+        assertThat(hits).extracting(SearchHit::id).containsExactly(2L, 1L);
+        assertThat(index.stats().documents()).isEqualTo(2);
+    }
+
+    @Test
+    void testMemoryBudgetRefusesNewDocuments() {
+        // Given
+        InvertedIndex index = new InvertedIndex(InvertedIndex.BYTES_PER_TERM * 3);
+
+        // When
+        for (long id = 1; id <= 100; id++) {
+            index.add(id, "message number " + id + " about checkout");
+        }
+
+        // Then
+        InvertedIndex.Stats stats = index.stats();
+        assertThat(stats.complete()).isFalse();
+        assertThat(stats.documents()).isLessThan(100);
+        assertThat(index.search("checkout", 200)).hasSize((int) stats.documents());
+    }
+
+    private static String randomMessage(Random random) {
+        int words = 3 + random.nextInt(12);
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            // Skew towards the start of the vocabulary so document frequencies differ
+            int index = (int) Math.min(VOCABULARY.length - 1, Math.abs(random.nextGaussian()) * 6);
+            message.append(i == 0 ? "" : random.nextBoolean() ? " " : ", ").append(VOCABULARY[index]);
+        }
+        return message.toString();
+    }
+
+    private static List<SearchHit> bruteForce(Map<Long, String> corpus, String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        Map<Long, Map<String, Integer>> termFrequencies = new HashMap<>();
+        for (Map.Entry<Long, String> document : corpus.entrySet()) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : Tokenizer.tokenize(document.getValue())) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            termFrequencies.put(document.getKey(), frequencies);
+            frequencies.keySet().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (Map.Entry<Long, Map<String, Integer>> document : termFrequencies.entrySet()) {
+            double score = 0;
+            boolean matched = false;
+            for (String term : terms) {
+                Integer tf = document.getValue().get(term);
+                if (tf != null) {
+                    matched = true;
+                    score += (1 + Math.log(tf)) * Math.log(1.0 + (double) corpus.size() / documentFrequencies.get(term));
+                }
+            }
+            if (matched) {
+                hits.add(new SearchHit(document.getKey(), score));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed()
+                .thenComparing(SearchHit::id, Comparator.reverseOrder()));
+        return hits.subList(0, Math.min(limit, hits.size()));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.feedback.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+
+/**
+ * Unit tests for FeedbackSimilarityIndex and the MinHash and LSH structures behind it.
+ * Near-duplicates are made by small edits to template complaints, among random unrelated messages.
+ */
+class FeedbackSimilarityIndexTest {
+
+    private static final String[] TEMPLATES = {
+            "The checkout page keeps failing when I try to pay with my credit card, please fix it",
+            "Your mobile app crashes every time I open the settings screen after the latest update",
+            "I never received the password reset email even though I requested it three times today"
+    };
+
+    private static final String[] WORDS = {
+            "slow", "delivery", "great", "support", "refund", "late", "friendly", "order", "missing", "item",
+            "price", "quality", "shipping", "package", "broken", "thanks", "staff", "store", "website", "login"
+    };
+
+    private static Feedback feedback(long id, String message) {
+        Feedback feedback = new Feedback("User " + id, "user" + id + "@example.com", message);
+        feedback.setId(id);
+        return feedback;
+    }
+
+    /** The template with a few words changed, added or dropped, and varied case and punctuation. */
+    private static String variant(String template, Random random) {
+        List<String> words = new ArrayList<>(List.of(template.split(" ")));
+        int position = random.nextInt(words.size());
+        switch (random.nextInt(3)) {
+            case 0 -> words.set(position, WORDS[random.nextInt(WORDS.length)]);
+            case 1 -> words.add(position, WORDS[random.nextInt(WORDS.length)]);
+            default -> words.remove(position);
+        }
+        String text = String.join(" ", words);
+        return random.nextBoolean() ? text.toUpperCase() + "!!" : text + ".";
+    }
+
+    private static String unrelated(Random random) {
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < 12; i++) {
+            message.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return message.toString().trim();
+    }
+
+    /** Feedback 1 to 300: ten variants of each template first, then unrelated messages. */
+    private static List<Feedback> corpus() {
+        Random random = new Random(7);
+        List<Feedback> feedbacks = new ArrayList<>();
+        long id = 1;
+        for (String template : TEMPLATES) {
+            for (int i = 0; i < 10; i++) {
+                feedbacks.add(feedback(id++, variant(template, random)));
+            }
+        }
+        while (id <= 300) {
+            feedbacks.add(feedback(id++, unrelated(random)));
+        }
+        return feedbacks;
+    }
+
+    private static Set<String> shingles(String text, int length) {
+        String normalized = MinHasher.normalize(text);
+        Set<String> shingles = new HashSet<>();
+        for (int i = 0; i + length <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + length));
+        }
+        return shingles;
+    }
+
+    @Test
+    void signature_EstimatesTheJaccardSimilarityOfShingles() {
+        // Given
+        MinHasher hasher = new MinHasher(256, 5);
+        String first = TEMPLATES[0];
+        String second = "The checkout page keeps failing when I pay with my debit card, please fix this";
+
+        // When
+        int[] a = hasher.signature(first);
+        int[] b = hasher.signature(second);
+
+        // Then
+        Set<String> union = new HashSet<>(shingles(first, 5));
+        union.addAll(shingles(second, 5));
+        Set<String> intersection = new HashSet<>(shingles(first, 5));
+        intersection.retainAll(shingles(second, 5));
+        double jaccard = (double) intersection.size() / union.size();
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            equal += a[i] == b[i] ? 1 : 0;
+        }
+        assertThat((double) equal / a.length).isCloseTo(jaccard, within(0.1));
+        assertThat(hasher.signature("  The CHECKOUT page; keeps failing...")).isEqualTo(
+                hasher.signature("the checkout page keeps failing"));
+        assertThat(hasher.signature("?!")).isNull();
+    }
+
+    @Test
+    void similar_FindsTheVariantsOfTheSameComplaintOnly() {
+        // Given
+        FeedbackSimilarityIndex index = new FeedbackSimilarityIndex(new SimilarityProperties());
+        List<Feedback> corpus = corpus();
+        corpus.forEach(feedback -> index.onFeedbackSaved(FeedbackSavedEvent.of(feedback)));
+
+        // When
+        List<SimilarHit> hits = index.similar(corpus.get(0), 20);
+
+        // Then
+        assertThat(hits).extracting(SimilarHit::id).doesNotContain(1L).allMatch(id -> id <= 10);
+        assertThat(hits).hasSizeGreaterThanOrEqualTo(7);
+        assertThat(hits).extracting(SimilarHit::similarity)
+                .allMatch(similarity -> similarity >= 0.6)
+                .isSortedAccordingTo((x, y) -> Double.compare(y, x));
+        assertThat(index.similar(feedback(999, "A message about something else entirely"), 20)).isEmpty();
+    }
+
+    @Test
+    void clusters_GroupTheComplaintsLargestFirst() {
+        // Given
+        SimilarityProperties properties = new SimilarityProperties();
+        properties.setClusterSampleSize(3);
+        FeedbackSimilarityIndex index = new FeedbackSimilarityIndex(properties);
+
+        // When: replayed in one event, so signatures are computed in parallel
+        index.onFeedbackSaved(FeedbackSavedEvent.replay(corpus()));
+        List<LshIndex.Cluster> clusters = index.clusters(5, 10);
+
+        // Then
+        assertThat(clusters).hasSize(3);
+        assertThat(clusters).extracting(LshIndex.Cluster::size)
+                .allMatch(size -> size >= 8 && size <= 10)
+                .isSortedAccordingTo((x, y) -> Integer.compare(y, x));
+        assertThat(clusters).allSatisfy(cluster -> {
+            assertThat(cluster.ids()).hasSize(3).isSorted();
+            assertThat((cluster.ids().get(0) - 1) / 10).isEqualTo((cluster.ids().get(2) - 1) / 10);
+        });
+        assertThat(index.stats().documents()).isEqualTo(300);
+        assertThat(index.stats().clusters()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void add_RefusesDocumentsOnceTheMemoryBudgetIsReached() {
+        // Given
+        SimilarityProperties properties = new SimilarityProperties();
+        properties.setMemoryBudget(DataSize.ofKilobytes(150));
+        FeedbackSimilarityIndex index = new FeedbackSimilarityIndex(properties);
+
+        // When
+        index.onFeedbackSaved(FeedbackSavedEvent.of(corpus()));
+
+        // Then
+        LshIndex.Stats stats = index.stats();
+        assertThat(stats.complete()).isFalse();
+        assertThat(stats.documents()).isPositive().isLessThan(300);
+        assertThat(stats.documents() + stats.refusedDocuments()).isEqualTo(300);
+        // The last document admitted may double the bucket table
+        assertThat(stats.estimatedBytes()).isLessThan(stats.memoryBudgetBytes() * 2);
+
+        // An item refused by the index is still compared with the indexed ones
+        assertThat(index.similar(feedback(301, TEMPLATES[1]), 5)).isNotEmpty();
+    }
+
+    @Test
+    void add_IgnoresIdsThatAreAlreadyIndexed() {
+        // Given
+        LshIndex index = new LshIndex(8, 4, 0.5, Long.MAX_VALUE);
+        int[] signature = { 1, 2, 3, 4, 5, 6, 7, 8 };
+        index.add(1, signature);
+
+        // When
+        index.add(1, signature);
+        index.add(2, signature.clone());
+
+        // Then
+        assertThat(index.stats().documents()).isEqualTo(2);
+        assertThat(index.similar(signature, 2, 10)).containsExactly(new SimilarHit(1, 1.0));
+        assertThat(index.clusters(2, 10, 10)).containsExactly(new LshIndex.Cluster(2, List.of(1L, 2L)));
+    }
+}
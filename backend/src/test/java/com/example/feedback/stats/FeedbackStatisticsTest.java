@@ -0,0 +1,142 @@
+package com.example.feedback.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+
+/**
+ * Unit tests for FeedbackStatistics.
+ * Uses a manual clock, so the time windows move only when the test says so.
+ */
+class FeedbackStatisticsTest {
+
+    private final AtomicLong now = new AtomicLong(Instant.parse("2026-03-02T12:00:30Z").toEpochMilli());
+
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(now.get());
+        }
+    };
+
+    private FeedbackStatistics statistics() {
+        return new FeedbackStatistics(new StatsProperties(), clock);
+    }
+
+    private Feedback feedback(String email, int messageLength, Duration age) {
+        Feedback feedback = new Feedback("Name", email, "x".repeat(messageLength));
+        feedback.setCreatedAt(LocalDateTime.ofInstant(clock.instant().minus(age), ZoneOffset.UTC));
+        return feedback;
+    }
+
+    @Test
+    void snapshot_CountsSubmissionsPerWindowByCreationTime() {
+        // Given
+        FeedbackStatistics statistics = statistics();
+        List<Feedback> replayed = new ArrayList<>();
+        replayed.add(feedback("a@example.com", 10, Duration.ofDays(3)));
+        replayed.add(feedback("a@example.com", 10, Duration.ofHours(5)));
+        replayed.add(feedback("a@example.com", 10, Duration.ofMinutes(10)));
+
+        // When
+        statistics.onFeedbackSaved(FeedbackSavedEvent.replay(replayed));
+        statistics.onFeedbackSaved(FeedbackSavedEvent.of(feedback("a@example.com", 10, Duration.ofSeconds(5))));
+
+        // Then
+        FeedbackStatistics.Submissions submissions = statistics.snapshot().submissions();
+        assertThat(submissions.total()).isEqualTo(4);
+        assertThat(submissions.lastMinute()).isEqualTo(1);
+        assertThat(submissions.lastHour()).isEqualTo(2);
+        assertThat(submissions.lastDay()).isEqualTo(3);
+    }
+
+    @Test
+    void snapshot_DropsSubmissionsAsWindowsMoveOn() {
+        // Given
+        FeedbackStatistics statistics = statistics();
+        statistics.onFeedbackSaved(FeedbackSavedEvent.of(feedback("a@example.com", 10, Duration.ZERO)));
+
+        // When
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        FeedbackStatistics.Submissions afterTwoMinutes = statistics.snapshot().submissions();
+        now.addAndGet(Duration.ofHours(2).toMillis());
+        FeedbackStatistics.Submissions afterTwoHours = statistics.snapshot().submissions();
+
+        // Then
+        assertThat(afterTwoMinutes.lastMinute()).isZero();
+        assertThat(afterTwoMinutes.lastHour()).isEqualTo(1);
+        assertThat(afterTwoHours.lastHour()).isZero();
+        assertThat(afterTwoHours.lastDay()).isEqualTo(1);
+        assertThat(afterTwoHours.total()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshot_ReportsTopDomainsCaseInsensitively() {
+        // Given
+        FeedbackStatistics statistics = statistics();
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            feedbacks.add(feedback(i % 2 == 0 ? "user@Example.com" : "user@example.COM", 10, Duration.ZERO));
+        }
+        for (int i = 0; i < 10; i++) {
+            feedbacks.add(feedback("user@other.org", 10, Duration.ZERO));
+        }
+        for (int i = 0; i < 500; i++) {
+            feedbacks.add(feedback("user@rare" + i + ".net", 10, Duration.ZERO));
+        }
+
+        // When
+        statistics.onFeedbackSaved(FeedbackSavedEvent.of(feedbacks));
+
+        // Then
+        List<FeedbackStatistics.DomainCount> top = statistics.snapshot().topDomains();
+        assertThat(top).hasSize(10);
+        assertThat(top.get(0)).isEqualTo(new FeedbackStatistics.DomainCount("example.com", 30, 0));
+        assertThat(top.get(1)).isEqualTo(new FeedbackStatistics.DomainCount("other.org", 10, 0));
+    }
+
+    @Test
+    void snapshot_BucketsMessageLengths() {
+        // Given
+        FeedbackStatistics statistics = statistics();
+
+        // When
+        statistics.onFeedbackSaved(FeedbackSavedEvent.of(List.of(
+                feedback("a@example.com", 5, Duration.ZERO),
+                feedback("a@example.com", 150, Duration.ZERO),
+                feedback("a@example.com", 1000, Duration.ZERO))));
+
+        // Then
+        FeedbackStatistics.MessageLengths lengths = statistics.snapshot().messageLengths();
+        assertThat(lengths.count()).isEqualTo(3);
+        assertThat(lengths.mean()).isEqualTo(385.0);
+        assertThat(lengths.max()).isEqualTo(1000);
+        assertThat(lengths.buckets()).hasSize(10);
+        assertThat(lengths.buckets()[0]).isEqualTo(1);
+        assertThat(lengths.buckets()[1]).isEqualTo(1);
+        assertThat(lengths.buckets()[9]).isEqualTo(1);
+    }
+}
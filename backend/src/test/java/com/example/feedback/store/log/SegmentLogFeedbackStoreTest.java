@@ -0,0 +1,196 @@
+package com.example.feedback.store.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.unit.DataSize;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+
+/**
+ * Unit tests for SegmentLogFeedbackStore.
+ * Segments are kept at 1 KB so a handful of records already spans several files.
+ */
+class SegmentLogFeedbackStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private SegmentLogFeedbackStore open(SegmentLogProperties.Fsync fsync) throws IOException {
+        SegmentLogProperties properties = new SegmentLogProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofKilobytes(1));
+        properties.setFsync(fsync);
+        return new SegmentLogFeedbackStore(properties);
+    }
+
+    private static Feedback feedback(int n, String email) {
+        return new Feedback("User " + n, email, "Message number " + n + " with some padding to fill segments");
+    }
+
+    @Test
+    void save_AssignsDenseIdsAndNonDecreasingTimestamps() throws IOException {
+        // Given
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.GROUP)) {
+
+            // When
+            Feedback first = store.save(feedback(1, "a@example.com"));
+            List<Feedback> batch = store.insertAll(List.of(feedback(2, "b@example.com"), feedback(3, "c@example.com")));
+
+            // Then
+            assertThat(first.getId()).isEqualTo(1L);
+            assertThat(batch).extracting(Feedback::getId).containsExactly(2L, 3L);
+            assertThat(batch.get(1).getCreatedAt()).isAfterOrEqualTo(first.getCreatedAt());
+            assertThat(store.findAllById(List.of(3L, 1L, 99L)))
+                    .extracting(Feedback::getMessage)
+                    .containsExactly(feedback(3, "").getMessage(), feedback(1, "").getMessage());
+        }
+    }
+
+    @Test
+    void reopen_RebuildsIndexAcrossSegmentsAndContinuesIds() throws IOException {
+        // Given
+        LocalDateTime createdAt;
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.PER_WRITE)) {
+            for (int i = 1; i <= 40; i++) {
+                store.save(feedback(i, "user" + i + "@example.com"));
+            }
+            createdAt = store.findAllById(List.of(40L)).get(0).getCreatedAt();
+        }
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+
+        // When
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.PER_WRITE)) {
+            Feedback next = store.save(feedback(41, "user41@example.com"));
+
+            // Then
+            assertThat(store.size()).isEqualTo(41);
+            assertThat(next.getId()).isEqualTo(41L);
+            Feedback last = store.findAllById(List.of(40L)).get(0);
+            assertThat(last.getEmail()).isEqualTo("user40@example.com");
+            assertThat(last.getCreatedAt()).isEqualTo(createdAt);
+            assertThat(store.findPage(new FeedbackQuery("user7@example.com", null, null), null, 10))
+                    .extracting(Feedback::getId).containsExactly(7L);
+            assertThat(store.findPage(new FeedbackQuery("user41@example.com", null, null), null, 10))
+                    .extracting(Feedback::getId).containsExactly(41L);
+            assertThat(store.findPage(new FeedbackQuery("nobody@example.com", null, null), null, 10)).isEmpty();
+        }
+    }
+
+    @Test
+    void reopen_DiscardsTornTailAndNeverResurrectsIt() throws IOException {
+        // Given
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.GROUP)) {
+            store.insertAll(List.of(feedback(1, "a@example.com"), feedback(2, "b@example.com"),
+                    feedback(3, "c@example.com")));
+        }
+        flipLastWrittenByte(segmentFiles().get(0));
+
+        // When
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.GROUP)) {
+            Feedback replacement = store.save(feedback(4, "d@example.com"));
+
+            // Then
+            assertThat(replacement.getId()).isEqualTo(3L);
+        }
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.GROUP)) {
+            assertThat(store.size()).isEqualTo(3);
+            assertThat(store.findAllById(List.of(3L))).extracting(Feedback::getEmail)
+                    .containsExactly("d@example.com");
+        }
+    }
+
+    @Test
+    void reopen_FailsOnCorruptionBeforeTheLastSegment() throws IOException {
+        // Given
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.GROUP)) {
+            for (int i = 1; i <= 40; i++) {
+                store.save(feedback(i, "user" + i + "@example.com"));
+            }
+        }
+        flipLastWrittenByte(segmentFiles().get(0));
+
+        // When / Then
+        assertThatThrownBy(() -> open(SegmentLogProperties.Fsync.GROUP))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Corrupt record");
+    }
+
+    @Test
+    void findPage_WalksNewestFirstWithCursorAndEmailFilter() throws IOException {
+        // Given
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.INTERVAL)) {
+            for (int i = 1; i <= 30; i++) {
+                store.save(feedback(i, i % 3 == 0 ? "three@example.com" : "other@example.com"));
+            }
+
+            // When
+            List<Long> ids = new ArrayList<>();
+            FeedbackCursor cursor = null;
+            Slice<Feedback> slice;
+            do {
+                slice = store.findPage(new FeedbackQuery("three@example.com", null, null), cursor, 4);
+                slice.forEach(feedback -> ids.add(feedback.getId()));
+                cursor = slice.hasContent() ? FeedbackCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1))
+                        : null;
+            } while (slice.hasNext());
+
+            // Then
+            assertThat(ids).containsExactly(30L, 27L, 24L, 21L, 18L, 15L, 12L, 9L, 6L, 3L);
+        }
+    }
+
+    @Test
+    void scan_StartsAtSinceInCreationOrder() throws IOException {
+        // Given
+        try (SegmentLogFeedbackStore store = open(SegmentLogProperties.Fsync.GROUP)) {
+            for (int i = 1; i <= 10; i++) {
+                store.save(feedback(i, "user@example.com"));
+            }
+            LocalDateTime since = store.findAllById(List.of(7L)).get(0).getCreatedAt();
+            Slice<Feedback> all = store.findPage(FeedbackQuery.all(), null, 100);
+
+            // When
+            List<Long> ids = new ArrayList<>();
+            long count = store.scan(since, feedback -> ids.add(feedback.getId()));
+
+            // Then
+            long expected = all.stream().filter(feedback -> !feedback.getCreatedAt().isBefore(since)).count();
+            assertThat(count).isEqualTo(expected);
+            assertThat(ids).isSorted().contains(7L, 8L, 9L, 10L).doesNotContain(1L);
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    /** Simulates a torn write by damaging the last byte of the last record in {@code file}. */
+    private static void flipLastWrittenByte(Path file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            long position = raf.length() - 1;
+            raf.seek(position);
+            while (raf.read() == 0) {
+                raf.seek(--position);
+            }
+            raf.seek(position);
+            raf.write(0x7F);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.feedback.store.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackCursor;
+import com.example.feedback.repository.FeedbackQuery;
+
+/**
+ * Unit tests for ShardedFeedbackStore.
+ * Every test gets its own set of in-memory H2 databases, one per shard.
+ */
+class ShardedFeedbackStoreTest {
+
+    private ShardingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ShardingProperties();
+        properties.setCount(3);
+        properties.setPoolSize(2);
+        properties.setUrl("jdbc:h2:mem:shard-test-" + UUID.randomUUID() + "-{shard};DB_CLOSE_DELAY=-1");
+    }
+
+    private static Feedback feedback(int n) {
+        return new Feedback("User " + n, "user" + (n % 7) + "@example.com", "Message number " + n);
+    }
+
+    private static List<Feedback> feedbacks(int count) {
+        return IntStream.range(0, count).mapToObj(ShardedFeedbackStoreTest::feedback).toList();
+    }
+
+    @Test
+    void save_RoutesByEmailAndEncodesTheShardInTheId() {
+        // Given
+        try (ShardedFeedbackStore store = new ShardedFeedbackStore(properties)) {
+
+            // When
+            List<Feedback> saved = new ArrayList<>();
+            for (int n = 0; n < 14; n++) {
+                saved.add(store.save(feedback(n)));
+            }
+
+            // Then
+            for (Feedback feedback : saved) {
+                assertThat(ShardedFeedbackStore.shardOf(feedback.getId())).isEqualTo(store.shardFor(feedback.getEmail()));
+                assertThat(store.findById(feedback.getId())).hasValueSatisfying(
+                        found -> assertThat(found.getMessage()).isEqualTo(feedback.getMessage()));
+            }
+            assertThat(saved).extracting(Feedback::getId).doesNotHaveDuplicates();
+            assertThat(saved.stream().map(feedback -> store.shardFor(feedback.getEmail())).distinct())
+                    .hasSizeGreaterThan(1);
+            assertThat(store.findById(ShardedFeedbackStore.MAX_SHARDS + 5L)).isEmpty();
+            assertThat(store.findById(0)).isEmpty();
+        }
+    }
+
+    @Test
+    void insertAll_KeepsTheInputOrderAndFindAllByIdGathersFromEveryShard() {
+        // Given
+        try (ShardedFeedbackStore store = new ShardedFeedbackStore(properties)) {
+
+            // When
+            List<Feedback> saved = store.insertAll(feedbacks(20));
+
+            // Then
+            assertThat(saved).extracting(Feedback::getMessage)
+                    .containsExactlyElementsOf(feedbacks(20).stream().map(Feedback::getMessage).toList());
+            assertThat(saved).allSatisfy(feedback -> assertThat(feedback.getId()).isNotNull());
+            List<Long> ids = new ArrayList<>(saved.stream().map(Feedback::getId).toList());
+            ids.add(-1L);
+            ids.add(ShardedFeedbackStore.MAX_SHARDS * 1000L + 7);
+            assertThat(store.findAllById(ids)).extracting(Feedback::getId)
+                    .containsExactlyInAnyOrderElementsOf(saved.stream().map(Feedback::getId).toList());
+        }
+    }
+
+    @Test
+    void findPage_MergesTheShardsNewestFirstAcrossPages() throws IOException {
+        // Given
+        try (ShardedFeedbackStore store = new ShardedFeedbackStore(properties)) {
+            for (int n = 0; n < 25; n++) {
+                store.save(feedback(n));
+            }
+            // The merged scan, newest first; it is checked on its own below
+            List<Long> expected = new ArrayList<>();
+            store.scan(null, feedback -> expected.add(0, feedback.getId()));
+
+            // When
+            List<Long> paged = new ArrayList<>();
+            FeedbackCursor after = null;
+            Slice<Feedback> page;
+            int pages = 0;
+            do {
+                page = store.findPage(FeedbackQuery.all(), after, 10);
+                page.getContent().forEach(feedback -> paged.add(feedback.getId()));
+                after = page.hasNext() ? FeedbackCursor.of(page.getContent().get(page.getContent().size() - 1)) : null;
+                pages++;
+            } while (page.hasNext());
+
+            // Then
+            assertThat(pages).isEqualTo(3);
+            assertThat(paged).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void findPage_WithEmailReadsOnlyThatEmailsRows() {
+        // Given
+        try (ShardedFeedbackStore store = new ShardedFeedbackStore(properties)) {
+            store.insertAll(feedbacks(30));
+
+            // When
+            Slice<Feedback> page = store.findPage(new FeedbackQuery("user3@example.com", null, null), null, 10);
+
+            // Then
+            assertThat(page.getContent()).extracting(Feedback::getMessage)
+                    .containsExactly("Message number 24", "Message number 17", "Message number 10", "Message number 3");
+            assertThat(page.hasNext()).isFalse();
+        }
+    }
+
+    @Test
+    void scan_StreamsEveryShardInOneAscendingOrder() throws IOException {
+        // Given
+        try (ShardedFeedbackStore store = new ShardedFeedbackStore(properties)) {
+            for (int n = 0; n < 12; n++) {
+                store.save(feedback(n));
+            }
+            List<Feedback> scanned = new ArrayList<>();
+
+            // When
+            long all = store.scan(null, scanned::add);
+            LocalDateTime since = scanned.get(6).getCreatedAt();
+            long recent = store.scan(since, feedback -> { });
+
+            // Then
+            assertThat(all).isEqualTo(12);
+            assertThat(scanned).isSortedAccordingTo(
+                    Comparator.comparing(Feedback::getCreatedAt).thenComparing(Feedback::getId));
+            assertThat(recent).isEqualTo(scanned.stream().filter(f -> !f.getCreatedAt().isBefore(since)).count());
+        }
+    }
+
+    @Test
+    void reopen_ContinuesEachShardsIds() {
+        // Given
+        Feedback before;
+        try (ShardedFeedbackStore store = new ShardedFeedbackStore(properties)) {
+            before = store.save(feedback(1));
+        }
+
+        // When
+        try (ShardedFeedbackStore store = new ShardedFeedbackStore(properties)) {
+            Feedback after = store.save(feedback(1));
+
+            // Then
+            assertThat(after.getId()).isEqualTo(before.getId() + ShardedFeedbackStore.MAX_SHARDS);
+            assertThat(store.findById(before.getId())).isPresent();
+        }
+    }
+
+    @Test
+    void constructor_RejectsMoreShardsThanIdsCanEncode() {
+        // Given
+        properties.setCount(ShardedFeedbackStore.MAX_SHARDS + 1);
+
+        // When / Then
+        assertThatThrownBy(() -> new ShardedFeedbackStore(properties))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("between 1 and 256");
+    }
+}
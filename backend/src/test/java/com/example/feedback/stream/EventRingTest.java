@@ -0,0 +1,67 @@
+package com.example.feedback.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for EventRing.
+ */
+class EventRingTest {
+
+    private final EventRing ring = new EventRing(4);
+
+    @AfterEach
+    void tearDown() {
+        ring.close();
+    }
+
+    @Test
+    void get_ReturnsRetainedEventsAndForgetsOverwrittenOnes() {
+        // Given
+        for (int i = 1; i <= 6; i++) {
+            ring.publish("event " + i);
+        }
+
+        // When / Then
+        assertThat(ring.head()).isEqualTo(6);
+        assertThat(ring.get(1)).isNull();
+        assertThat(ring.get(2)).isNull();
+        assertThat(ring.get(3).data()).isEqualTo("event 3");
+        assertThat(ring.get(6).data()).isEqualTo("event 6");
+        assertThat(ring.get(7)).isNull();
+    }
+
+    @Test
+    void awaitAfter_WakesUpWhenAnEventIsPublished() throws Exception {
+        // Given
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ring.awaitAfter(0, Duration.ofSeconds(10).toNanos());
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // When
+        Thread.sleep(50);
+        ring.publish("event 1");
+
+        // Then
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void awaitAfter_ReturnsFalseWhenNothingArrivesInTime() throws Exception {
+        // When
+        boolean published = ring.awaitAfter(0, Duration.ofMillis(20).toNanos());
+
+        // Then
+        assertThat(published).isFalse();
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.feedback.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Unit tests for FeedbackStreamBroadcaster.
+ * Subscriptions are served through MockMvc, so every event goes through a real SseEmitter into the response.
+ * While a test holds {@code writes}, a subscriber blocks inside its next write, like one on a slow connection.
+ */
+class FeedbackStreamBroadcasterTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private FeedbackStreamBroadcaster broadcaster;
+    private final ReentrantLock writes = new ReentrantLock();
+
+    private FeedbackStreamBroadcaster broadcaster(int maxSubscribers) {
+        return broadcaster(maxSubscribers, 1024, 512);
+    }
+
+    private FeedbackStreamBroadcaster broadcaster(int maxSubscribers, int bufferSize, int maxLag) {
+        FeedbackStreamProperties properties = new FeedbackStreamProperties();
+        properties.setMaxSubscribers(maxSubscribers);
+        properties.setBufferSize(bufferSize);
+        properties.setMaxLag(maxLag);
+        broadcaster = new FeedbackStreamBroadcaster(MAPPER, properties);
+        return broadcaster;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writes.isHeldByCurrentThread()) {
+            writes.unlock();
+        }
+        broadcaster.close();
+    }
+
+    private static Feedback feedback(long id) {
+        Feedback feedback = new Feedback("John Doe", "john@example.com", "Great service!");
+        feedback.setId(id);
+        feedback.setCreatedAt(LocalDateTime.now());
+        return feedback;
+    }
+
+    /** Publishes items with ids {@code from} to {@code to}, so each item's id is also its event number. */
+    private void publish(long from, long to) {
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            feedbacks.add(feedback(id));
+        }
+        broadcaster.onFeedbackSaved(FeedbackSavedEvent.of(feedbacks));
+    }
+
+    /** Opens a subscription the way the stream endpoint does, with writes passing through {@code writes}. */
+    private MvcResult subscribe(String lastEventId) throws Exception {
+        Filter gate = (request, response, chain) -> chain.doFilter(request,
+                new HttpServletResponseWrapper((HttpServletResponse) response) {
+                    @Override
+                    public ServletOutputStream getOutputStream() throws IOException {
+                        return gated(super.getOutputStream());
+                    }
+                });
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamEndpoint(broadcaster)).addFilters(gate).build();
+        var get = get("/stream");
+        if (lastEventId != null) {
+            get.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(get).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private ServletOutputStream gated(ServletOutputStream out) {
+        return new ServletOutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                pass();
+                out.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                pass();
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                out.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return out.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                out.setWriteListener(writeListener);
+            }
+
+            private void pass() {
+                writes.lock();
+                writes.unlock();
+            }
+        };
+    }
+
+    /**
+     * The events written so far, as {@code "feedback <event id> item <item id>"} or {@code "gap <skipped>"}.
+     */
+    private static List<String> events(MvcResult result) throws IOException {
+        List<String> events = new ArrayList<>();
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        for (String block : body.split("\n\n")) {
+            String id = null;
+            String name = null;
+            String data = null;
+            for (String line : block.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                } else if (line.startsWith("data:")) {
+                    data = line.substring(5);
+                }
+            }
+            if (FeedbackStreamBroadcaster.FEEDBACK_EVENT.equals(name)) {
+                events.add(name + " " + id + " item " + MAPPER.readTree(data).get("id").asLong());
+            } else if (name != null) {
+                events.add(name + " " + data);
+            }
+        }
+        return events;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitEvents(MvcResult result, int count) throws InterruptedException {
+        await(() -> {
+            try {
+                return events(result).size() >= count;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void onFeedbackSaved_PublishesNewItemsButNotReplayedOnes() {
+        // Given
+        FeedbackStreamBroadcaster broadcaster = broadcaster(10);
+
+        // When
+        broadcaster.onFeedbackSaved(FeedbackSavedEvent.replay(List.of(feedback(1), feedback(2))));
+        broadcaster.onFeedbackSaved(FeedbackSavedEvent.of(List.of(feedback(3), feedback(4))));
+
+        // Then
+        assertThat(broadcaster.getPublishedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void subscribe_RefusesSubscribersBeyondTheLimit() {
+        // Given
+        FeedbackStreamBroadcaster broadcaster = broadcaster(2);
+
+        // When / Then
+        assertThat(broadcaster.subscribe(null)).isNotNull();
+        assertThat(broadcaster.subscribe("17")).isNotNull();
+        assertThat(broadcaster.subscribe(null)).isNull();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ResumesAfterThatEventAndStaysLive() throws Exception {
+        // Given
+        broadcaster(10, 8, 4);
+        publish(1, 3);
+
+        // When
+        MvcResult result = subscribe("1");
+        awaitEvents(result, 2);
+        publish(4, 4);
+        awaitEvents(result, 3);
+
+        // Then
+        assertThat(events(result)).containsExactly("feedback 2 item 2", "feedback 3 item 3", "feedback 4 item 4");
+    }
+
+    @Test
+    void subscribe_AfterTheRingWrapped_StartsWithAGapOfTheSkippedItems() throws Exception {
+        // Given: 20 events through a ring of 8, and a client that last saw event 3
+        broadcaster(10, 8, 4);
+        publish(1, 20);
+
+        // When
+        MvcResult result = subscribe("3");
+        awaitEvents(result, 5);
+
+        // Then: 4 to 16 are skipped, the last max-lag events are replayed
+        assertThat(events(result)).containsExactly("gap 13", "feedback 17 item 17", "feedback 18 item 18",
+                "feedback 19 item 19", "feedback 20 item 20");
+        assertThat(broadcaster.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void subscriber_MoreThanMaxLagBehind_IsDisconnected() throws Exception {
+        // Given: a subscriber that received event 1, then stalls writing event 2
+        broadcaster(10, 16, 4);
+        MvcResult result = subscribe(null);
+        publish(1, 1);
+        awaitEvents(result, 1);
+        writes.lock();
+        publish(2, 2);
+        await(writes::hasQueuedThreads);
+
+        // When: eight more events arrive before the write goes through
+        publish(3, 10);
+        writes.unlock();
+
+        // Then
+        await(() -> broadcaster.getSubscriberCount() == 0);
+        assertThat(broadcaster.getDroppedCount()).isEqualTo(1);
+        assertThat(events(result)).containsExactly("feedback 1 item 1", "feedback 2 item 2");
+    }
+
+    /** The stream endpoint reduced to what the broadcaster needs from it. */
+    @RestController
+    static class StreamEndpoint {
+
+        private final FeedbackStreamBroadcaster broadcaster;
+
+        StreamEndpoint(FeedbackStreamBroadcaster broadcaster) {
+            this.broadcaster = broadcaster;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+            return broadcaster.subscribe(lastEventId);
+        }
+    }
+}
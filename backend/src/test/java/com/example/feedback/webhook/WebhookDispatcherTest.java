@@ -0,0 +1,296 @@
+package com.example.feedback.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.example.feedback.model.Feedback;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Unit tests for WebhookDispatcher, CircuitBreaker and Backoff. Deliveries go to a stub HTTP server on a local
+ * port, from an outbox in an in-memory H2 database.
+ */
+class WebhookDispatcherTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private WebhookDispatcher dispatcher;
+
+    /** Request bodies each stub endpoint received, in order. */
+    private final Map<String, List<JsonNode>> received = new ConcurrentHashMap<>();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:webhook-test-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        serverThreads = Executors.newFixedThreadPool(8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverThreads);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+        server.stop(0);
+        serverThreads.shutdownNow();
+        dataSource.close();
+    }
+
+    /** Serves {@code /name}, answering each request with the next status {@code statuses} gives. */
+    private void endpoint(String name, IntSupplier statuses, long delayMillis) {
+        received.put(name, new CopyOnWriteArrayList<>());
+        server.createContext("/" + name, exchange -> respond(exchange, name, statuses.getAsInt(), delayMillis));
+    }
+
+    private void respond(HttpExchange exchange, String name, int status, long delayMillis) throws IOException {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        try (InputStream body = exchange.getRequestBody()) {
+            received.get(name).add(MAPPER.readTree(body));
+            Thread.sleep(delayMillis);
+            exchange.sendResponseHeaders(status, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            concurrent.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private WebhookProperties properties(String... endpoints) {
+        WebhookProperties properties = new WebhookProperties();
+        for (String name : endpoints) {
+            properties.getEndpoints().add(new WebhookProperties.Endpoint(name,
+                    "http://127.0.0.1:" + server.getAddress().getPort() + "/" + name));
+        }
+        properties.setPollInterval(Duration.ofMillis(50));
+        properties.setInitialBackoff(Duration.ofMillis(10));
+        properties.setMaxBackoff(Duration.ofMillis(40));
+        return properties;
+    }
+
+    /** Starts a dispatcher over an outbox that already holds {@code items} feedback items. */
+    private WebhookOutbox start(WebhookProperties properties, int items) {
+        WebhookOutbox outbox = new WebhookOutbox(jdbcTemplate, new DataSourceTransactionManager(dataSource), MAPPER,
+                properties.getEndpoints().stream().map(WebhookProperties.Endpoint::getName).toList());
+        List<Feedback> feedbacks = new ArrayList<>();
+        for (int n = 1; n <= items; n++) {
+            Feedback feedback = new Feedback("User " + n, "user" + n + "@example.com", "Message " + n);
+            feedback.setId((long) n);
+            feedback.setCreatedAt(LocalDateTime.of(2026, 3, 1, 12, 0).plusSeconds(n));
+            feedbacks.add(feedback);
+        }
+        outbox.append(feedbacks);
+        dispatcher = new WebhookDispatcher(outbox, properties);
+        dispatcher.start();
+        return outbox;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private List<Long> receivedIds(String endpoint) {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode batch : received.get(endpoint)) {
+            batch.forEach(event -> ids.add(event.get("feedback").get("id").asLong()));
+        }
+        return ids;
+    }
+
+    @Test
+    void start_DeliversTheOutboxInOrderedBatchesToEveryEndpoint() throws Exception {
+        // Given
+        endpoint("chat", () -> 200, 0);
+        endpoint("tickets", () -> 204, 0);
+        WebhookProperties properties = properties("chat", "tickets");
+        properties.setBatchSize(10);
+
+        // When
+        WebhookOutbox outbox = start(properties, 25);
+        await(() -> outbox.pending() == 0);
+
+        // Then
+        List<Long> expected = new ArrayList<>();
+        for (long n = 1; n <= 25; n++) {
+            expected.add(n);
+        }
+        assertThat(receivedIds("chat")).isEqualTo(expected);
+        assertThat(receivedIds("tickets")).isEqualTo(expected);
+        assertThat(received.get("chat")).extracting(JsonNode::size).containsExactly(10, 10, 5);
+        JsonNode first = received.get("chat").get(0).get(0);
+        assertThat(first.get("type").asText()).isEqualTo(WebhookOutbox.EVENT_TYPE);
+        assertThat(first.get("feedback").get("createdAt").asText()).isEqualTo("2026-03-01T12:00:01");
+        assertThat(dispatcher.getDelivered()).isEqualTo(50);
+        assertThat(outbox.deadLetters()).isZero();
+    }
+
+    @Test
+    void start_RetriesFailedRequestsWithBackoffAndGivesUpAfterMaxAttempts() throws Exception {
+        // Given: "flaky" recovers after two 503s, "down" never does and "gone" refuses the items outright
+        AtomicInteger flakyCalls = new AtomicInteger();
+        endpoint("flaky", () -> flakyCalls.incrementAndGet() <= 2 ? 503 : 200, 0);
+        endpoint("down", () -> 500, 0);
+        endpoint("gone", () -> 410, 0);
+        WebhookProperties properties = properties("flaky", "down", "gone");
+        properties.setMaxAttempts(3);
+        properties.setFailureThreshold(100);
+
+        // When
+        WebhookOutbox outbox = start(properties, 3);
+        await(() -> outbox.pending() == 0);
+
+        // Then
+        assertThat(receivedIds("flaky")).containsExactly(1L, 2L, 3L, 1L, 2L, 3L, 1L, 2L, 3L);
+        assertThat(received.get("down")).hasSize(3);
+        assertThat(received.get("gone")).hasSize(1);
+        assertThat(dispatcher.getDelivered()).isEqualTo(3);
+        assertThat(dispatcher.getFailedRequests()).isEqualTo(5);
+        assertThat(dispatcher.getDeadLettered()).isEqualTo(6);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT endpoint || ' ' || feedback_id || ' ' || attempts || ' ' || last_error "
+                        + "FROM webhook_dead_letter ORDER BY endpoint, feedback_id", String.class))
+                .containsExactly("down 1 3 HTTP 500", "down 2 3 HTTP 500", "down 3 3 HTTP 500",
+                        "gone 1 0 HTTP 410", "gone 2 0 HTTP 410", "gone 3 0 HTTP 410");
+    }
+
+    @Test
+    void start_OpensTheCircuitOfAFailingEndpointWithoutHoldingUpTheOthers() throws Exception {
+        // Given
+        endpoint("down", () -> 503, 0);
+        endpoint("up", () -> 200, 0);
+        WebhookProperties properties = properties("down", "up");
+        properties.setBatchSize(1);
+        properties.setFailureThreshold(2);
+        properties.setOpenDuration(Duration.ofHours(1));
+
+        // When
+        WebhookOutbox outbox = start(properties, 5);
+        await(() -> dispatcher.getDelivered() == 5 && dispatcher.circuitState("down") == CircuitBreaker.State.OPEN);
+        Thread.sleep(200);
+
+        // Then
+        assertThat(received.get("down")).hasSize(2);
+        assertThat(receivedIds("up")).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(dispatcher.circuitState("up")).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(outbox.next("down", 10)).hasSize(5).first()
+                .extracting(WebhookOutbox.Entry::attempts).isEqualTo(2);
+        assertThat(outbox.deadLetters()).isZero();
+    }
+
+    @Test
+    void start_KeepsAtMostMaxConcurrentRequestsInFlight() throws Exception {
+        // Given: four slow endpoints sharing two request slots
+        for (String name : List.of("a", "b", "c", "d")) {
+            endpoint(name, () -> 200, 100);
+        }
+        WebhookProperties properties = properties("a", "b", "c", "d");
+        properties.setBatchSize(2);
+        properties.setMaxConcurrentRequests(2);
+
+        // When
+        WebhookOutbox outbox = start(properties, 6);
+        await(() -> outbox.pending() == 0);
+
+        // Then
+        assertThat(maxConcurrent.get()).isEqualTo(2);
+        for (String name : List.of("a", "b", "c", "d")) {
+            assertThat(receivedIds(name)).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        }
+    }
+
+    @Test
+    void circuitBreaker_OpensAfterTheThresholdAndLetsOneTrialThroughAfterTheOpenDuration() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(30), now::get);
+
+        // When
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        breaker.onFailure();
+
+        // Then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        now.set(Duration.ofSeconds(30).toNanos());
+        assertThat(breaker.isOpen()).isFalse();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        // A failed trial opens the circuit again at once, a successful one closes it
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void backoff_DoublesUpToTheMaximumWithJitterInTheUpperHalf() {
+        // Given
+        Backoff backoff = new Backoff(Duration.ofSeconds(1), Duration.ofSeconds(30), new SplittableRandom(42));
+
+        // When / Then
+        for (int i = 0; i < 100; i++) {
+            assertThat(backoff.delay(1)).isBetween(Duration.ofMillis(500), Duration.ofSeconds(1));
+            assertThat(backoff.delay(4)).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(8));
+            assertThat(backoff.delay(50)).isBetween(Duration.ofSeconds(15), Duration.ofSeconds(30));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.feedback.webhook;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackBatchWriter;
+import com.example.feedback.store.JpaFeedbackStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Tests for WebhookOutbox against the embedded H2 database.
+ * Runs outside a test transaction, as outbox rows are written when the insert commits.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ JpaFeedbackStore.class, FeedbackBatchWriter.class, WebhookOutboxTest.OutboxConfig.class })
+class WebhookOutboxTest {
+
+  private static final ObjectMapper MAPPER = JsonMapper.builder()
+      .findAndAddModules()
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+      .build();
+
+  @TestConfiguration
+  static class OutboxConfig {
+
+    @Bean
+    WebhookOutbox webhookOutbox(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+      return new WebhookOutbox(jdbcTemplate, transactionManager, MAPPER, List.of("chat", "tickets"));
+    }
+  }
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private JpaFeedbackStore jpaFeedbackStore;
+
+  @Autowired
+  private WebhookOutbox outbox;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM webhook_outbox");
+    jdbcTemplate.update("DELETE FROM feedback");
+  }
+
+  @Test
+  void save_AndInsertAll_RecordOneOutboxRowPerEndpointInTheInsertTransaction() throws Exception {
+    // When
+    Feedback saved = jpaFeedbackStore.save(new Feedback("Ann", "ann@example.com", "Hello"));
+    List<Feedback> inserted = jpaFeedbackStore.insertAll(List.of(
+        new Feedback("Bob", "bob@example.com", "First"), new Feedback("Cy", "cy@example.com", "Second")));
+
+    // Then
+    assertThat(outbox.pending()).isEqualTo(6);
+    List<WebhookOutbox.Entry> tickets = outbox.next("tickets", 10);
+    assertThat(tickets).extracting(WebhookOutbox.Entry::feedbackId)
+        .containsExactly(saved.getId(), inserted.get(0).getId(), inserted.get(1).getId());
+    assertThat(tickets).extracting(WebhookOutbox.Entry::attempts).containsOnly(0);
+    JsonNode event = MAPPER.readTree(tickets.get(0).payload());
+    assertThat(event.get("type").asText()).isEqualTo(WebhookOutbox.EVENT_TYPE);
+    assertThat(event.get("feedback").get("id").asLong()).isEqualTo(saved.getId());
+    assertThat(event.get("feedback").get("message").asText()).isEqualTo("Hello");
+    assertThat(event.get("feedback").get("createdAt").isTextual()).isTrue();
+    assertThat(outbox.next("chat", 2)).extracting(WebhookOutbox.Entry::payload)
+        .containsExactly(tickets.get(0).payload(), tickets.get(1).payload());
+  }
+
+  @Test
+  void save_RolledBack_LeavesNoOutboxRows() {
+    // When
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    assertThatThrownBy(() -> transaction.executeWithoutResult(status -> {
+      jpaFeedbackStore.save(new Feedback("Ann", "ann@example.com", "Hello"));
+      throw new IllegalStateException("Rolled back");
+    })).isInstanceOf(IllegalStateException.class);
+
+    // Then
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM feedback", Long.class)).isZero();
+    assertThat(outbox.pending()).isZero();
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.feedback.benchmarks;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.example.feedback.rejection.RejectionResponses;
+import com.example.feedback.rejection.SubmissionPrecheck;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * What a submission costs before it reaches the controller body, with and without the fast-reject filter.
+ * {@code fastRejectInvalid} scans an invalid body and picks its pre-encoded 400; {@code fastCheckValid} is the
+ * scan a valid body pays on top of normal binding. The {@code binding*} pair is what both bodies cost through
+ * Jackson and Bean Validation, for comparison with {@link ValidationFailureBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FastRejectBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private SubmissionPrecheck precheck;
+    private RejectionResponses responses;
+    private ObjectMapper objectMapper;
+    private byte[] valid;
+    private byte[] invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        precheck = new SubmissionPrecheck(validator);
+        responses = new RejectionResponses(16 * 1024);
+        objectMapper = new ObjectMapper();
+        valid = Payloads.json(Payloads.valid(200));
+        invalid = Payloads.json(Payloads.invalid());
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void fastRejectInvalid(Blackhole blackhole) {
+        int verdict = precheck.check(invalid, invalid.length);
+        blackhole.consume(responses.validationHead(verdict));
+        blackhole.consume(responses.timestampTail());
+    }
+
+    @Benchmark
+    public int fastCheckValid() {
+        return precheck.check(valid, valid.length);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FeedbackRequest>> bindingInvalid() throws IOException {
+        return validator.validate(objectMapper.readValue(invalid, FeedbackRequest.class));
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<FeedbackRequest>> bindingValid() throws IOException {
+        return validator.validate(objectMapper.readValue(valid, FeedbackRequest.class));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.feedback.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.feedback.FeedbackApplication;
+import com.example.feedback.cache.CachedFeedback;
+import com.example.feedback.cache.FeedbackDetailCache;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.FeedbackStore;
+
+/**
+ * Latency of {@code GET /api/feedback/{id}} lookups below the HTTP layer, on the default JPA store.
+ * {@code uncached} is what every request cost before the cache: a {@code findById} through Hibernate, JSON
+ * encoding and the ETag digest. {@code cached} is a hit on a working set that fits the cache.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedbackLookupBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int HOT_IDS = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private FeedbackDetailCache cache;
+    private long[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(FeedbackApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "feedback.replay.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.feedback=WARN")
+                .run();
+        FeedbackStore store = context.getBean(FeedbackStore.class);
+        List<Feedback> feedbacks = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            feedbacks.add(new Feedback(Payloads.NAME, Payloads.EMAIL, Payloads.message(200)));
+        }
+        store.insertAll(feedbacks);
+
+        ids = new long[HOT_IDS];
+        for (int i = 0; i < HOT_IDS; i++) {
+            ids[i] = feedbacks.get(i * (ROWS / HOT_IDS)).getId();
+        }
+        cache = context.getBean(FeedbackDetailCache.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextId() {
+        next = next + 1 == ids.length ? 0 : next + 1;
+        return ids[next];
+    }
+
+    @Benchmark
+    public CachedFeedback cached() {
+        return cache.get(nextId());
+    }
+
+    @Benchmark
+    public CachedFeedback uncached() {
+        return cache.load(nextId());
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.feedback.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+
+/**
+ * Sample submissions shared by the benchmarks.
+ */
+final class Payloads {
+
+    static final String NAME = "Jordan Example";
+    static final String EMAIL = "jordan.example@example.com";
+
+    private Payloads() {
+    }
+
+    static String message(int length) {
+        StringBuilder message = new StringBuilder(length);
+        String words = "The checkout page was slow today but support sorted it out quickly. ";
+        while (message.length() < length) {
+            message.append(words);
+        }
+        message.setLength(length);
+        return message.toString();
+    }
+
+    static FeedbackRequest valid(int messageLength) {
+        return new FeedbackRequest(NAME, EMAIL, message(messageLength));
+    }
+
+    /** Fails all three rules that apply: blank name, malformed email and an over-long message. */
+    static FeedbackRequest invalid() {
+        return new FeedbackRequest("", "not-an-email", message(1001));
+    }
+
+    static byte[] json(FeedbackRequest request) {
+        String json = "{\"name\":\"" + request.getName() + "\",\"email\":\"" + request.getEmail()
+                + "\",\"message\":\"" + request.getMessage() + "\"}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.feedback.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.feedback.FeedbackApplication;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackBatchWriter;
+import com.example.feedback.repository.FeedbackRepository;
+
+/**
+ * Storing feedback in the in-memory H2 database through the real application context.
+ * {@code save} is the single-row JPA path used by {@code POST /api/feedback}; {@code insertAll} is the
+ * multi-row JDBC path used by the bulk and write-behind modes, and {@code saveAll} many rows through JPA, both
+ * reported per row for comparison.
+ * Hibernate takes far longer to reach steady state than the other benchmarks, hence the longer warmup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositorySaveBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private ConfigurableApplicationContext context;
+    private FeedbackRepository feedbackRepository;
+    private FeedbackBatchWriter feedbackBatchWriter;
+    private JdbcTemplate jdbcTemplate;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(FeedbackApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "feedback.replay.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.feedback=WARN")
+                .run();
+        feedbackRepository = context.getBean(FeedbackRepository.class);
+        feedbackBatchWriter = context.getBean(FeedbackBatchWriter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        message = Payloads.message(200);
+    }
+
+    /** Keeps the table, and with it index depth, from growing across iterations. */
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE feedback");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Feedback save() {
+        return feedbackRepository.save(new Feedback(Payloads.NAME, Payloads.EMAIL, message));
+    }
+
+    /** One transaction through JPA; Hibernate sends its inserts as JDBC batches of {@code jdbc.batch_size}. */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Feedback> saveAll() {
+        List<Feedback> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new Feedback(Payloads.NAME, Payloads.EMAIL, message));
+        }
+        return feedbackRepository.saveAll(batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Feedback> insertAll() {
+        List<Feedback> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new Feedback(Payloads.NAME, Payloads.EMAIL, message));
+        }
+        return feedbackBatchWriter.insertAll(batch);
+    }
+}
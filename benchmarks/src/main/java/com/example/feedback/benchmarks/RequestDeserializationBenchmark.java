@@ -0,0 +1,58 @@
+package com.example.feedback.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Cost of turning a request body into a {@link FeedbackRequest}, using a mapper configured the way Spring MVC
+ * configures its own.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestDeserializationBenchmark {
+
+    @Param({ "32", "1000" })
+    int messageLength;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = objectMapper.readerFor(FeedbackRequest.class);
+        body = Payloads.json(Payloads.valid(messageLength));
+    }
+
+    @Benchmark
+    public FeedbackRequest objectMapper() throws IOException {
+        return objectMapper.readValue(body, FeedbackRequest.class);
+    }
+
+    @Benchmark
+    public FeedbackRequest preparedReader() throws IOException {
+        return reader.readValue(body);
+    }
+}
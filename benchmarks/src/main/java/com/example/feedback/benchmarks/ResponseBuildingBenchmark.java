@@ -0,0 +1,55 @@
+package com.example.feedback.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.feedback.controller.FeedbackResponses;
+import com.example.feedback.model.Feedback;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Building the response body of a successful submission, alone and followed by JSON serialization.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseBuildingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Feedback feedback;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        feedback = new Feedback(Payloads.NAME, Payloads.EMAIL, Payloads.message(200));
+        feedback.setId(42L);
+        feedback.setCreatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public Map<String, Object> createdMap() {
+        return FeedbackResponses.created(feedback);
+    }
+
+    @Benchmark
+    public byte[] createdJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(FeedbackResponses.created(feedback));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.feedback.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.store.log.SegmentLogFeedbackStore;
+import com.example.feedback.store.log.SegmentLogProperties;
+
+/**
+ * Storing feedback in the segment log under each fsync policy, on the same payloads as
+ * {@link RepositorySaveBenchmark} so the two can be compared directly. {@code saveConcurrent} runs eight
+ * writers, which is where group commit pays off: their fsyncs are shared instead of queued.
+ * Every iteration starts from an empty directory, which is deleted again afterwards.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SegmentLogStoreBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({ "PER_WRITE", "GROUP", "INTERVAL" })
+    private SegmentLogProperties.Fsync fsync;
+
+    private Path directory;
+    private SegmentLogFeedbackStore store;
+    private String message;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("segment-log-benchmark");
+        SegmentLogProperties properties = new SegmentLogProperties();
+        properties.setDirectory(directory.toString());
+        properties.setFsync(fsync);
+        store = new SegmentLogFeedbackStore(properties);
+        message = Payloads.message(200);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Feedback save() {
+        return store.save(new Feedback(Payloads.NAME, Payloads.EMAIL, message));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Feedback saveConcurrent() {
+        return store.save(new Feedback(Payloads.NAME, Payloads.EMAIL, message));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Feedback> insertAll() {
+        List<Feedback> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new Feedback(Payloads.NAME, Payloads.EMAIL, message));
+        }
+        return store.insertAll(batch);
+    }
+}
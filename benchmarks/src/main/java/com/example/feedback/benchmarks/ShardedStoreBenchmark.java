@@ -0,0 +1,111 @@
+package com.example.feedback.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Slice;
+
+import com.example.feedback.model.Feedback;
+import com.example.feedback.repository.FeedbackQuery;
+import com.example.feedback.store.shard.ShardedFeedbackStore;
+import com.example.feedback.store.shard.ShardingProperties;
+
+/**
+ * How the sharded store scales with the number of shards, each an in-memory H2 database with its own pool.
+ * Writes cycle through 1024 emails so they spread over the shards; {@code saveConcurrent} runs eight writers,
+ * which contend on one table when there is a single shard. {@code firstPage} is the scatter-gather read of an
+ * unfiltered list over the {@value #PRELOADED} rows stored in setup. Every iteration starts from new databases.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShardedStoreBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int EMAILS = 1024;
+    private static final int PRELOADED = 10_000;
+
+    @Param({ "1", "2", "4" })
+    private int shards;
+
+    private ShardedFeedbackStore store;
+    private String message;
+    private final String[] emails = new String[EMAILS];
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setCount(shards);
+        // Without DB_CLOSE_DELAY each database is dropped when its pool closes at the end of the iteration
+        properties.setUrl("jdbc:h2:mem:shard-benchmark-" + UUID.randomUUID() + "-{shard}");
+        store = new ShardedFeedbackStore(properties);
+        message = Payloads.message(200);
+        for (int i = 0; i < EMAILS; i++) {
+            emails[i] = "user" + i + "@example.com";
+        }
+        for (int i = 0; i < PRELOADED; i += BATCH_SIZE) {
+            store.insertAll(batch());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        store.close();
+    }
+
+    private Feedback next() {
+        return new Feedback(Payloads.NAME, emails[(int) (sequence.getAndIncrement() % EMAILS)], message);
+    }
+
+    private List<Feedback> batch() {
+        List<Feedback> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(next());
+        }
+        return batch;
+    }
+
+    @Benchmark
+    public Feedback save() {
+        return store.save(next());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Feedback saveConcurrent() {
+        return store.save(next());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Feedback> insertAll() {
+        return store.insertAll(batch());
+    }
+
+    @Benchmark
+    public Slice<Feedback> firstPage() {
+        return store.findPage(FeedbackQuery.all(), null, 20);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.feedback.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.feedback.event.FeedbackSavedEvent;
+import com.example.feedback.model.Feedback;
+import com.example.feedback.similar.FeedbackSimilarityIndex;
+import com.example.feedback.similar.MinHasher;
+import com.example.feedback.similar.SimilarHit;
+import com.example.feedback.similar.SimilarityProperties;
+
+/**
+ * The near-duplicate index over {@value #CORPUS} messages of about 200 characters, a fifth of them edited
+ * copies of 200 template complaints. {@code similar} is one lookup through the LSH buckets; {@code pairwise}
+ * is the same question answered by comparing the signature with every other one, the linear scan the buckets
+ * replace (comparing raw messages would cost far more). {@code rebuild} replays the whole corpus into a new
+ * index in chunks of 1000, as at startup, and is reported per message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimilarityIndexBenchmark {
+
+    private static final int CORPUS = 20_000;
+    private static final int TEMPLATES = 200;
+    private static final int CHUNK_SIZE = 1000;
+
+    /** Signature threads for {@code rebuild}; 0 is one per core. */
+    @Param({ "1", "0" })
+    private int parallelism;
+
+    private final List<Feedback> corpus = new ArrayList<>(CORPUS);
+    private final SimilarityProperties properties = new SimilarityProperties();
+    private MinHasher hasher;
+    private FeedbackSimilarityIndex index;
+    private int[][] signatures;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        String[] vocabulary = new String[2000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = Long.toString(random.nextLong(36L * 36 * 36 * 36 * 36), 36);
+        }
+        String[] templates = new String[TEMPLATES];
+        for (int i = 0; i < TEMPLATES; i++) {
+            templates[i] = sentence(random, vocabulary);
+        }
+        for (int i = 0; i < CORPUS; i++) {
+            String message;
+            if (i % 5 == 0) {
+                // An edited copy: one word replaced
+                String[] words = templates[random.nextInt(TEMPLATES)].split(" ");
+                words[random.nextInt(words.length)] = vocabulary[random.nextInt(vocabulary.length)];
+                message = String.join(" ", words);
+            } else {
+                message = sentence(random, vocabulary);
+            }
+            Feedback feedback = new Feedback(Payloads.NAME, Payloads.EMAIL, message);
+            feedback.setId(i + 1L);
+            corpus.add(feedback);
+        }
+
+        properties.setRebuildParallelism(parallelism);
+        hasher = new MinHasher(properties.getHashes(), properties.getShingleLength());
+        index = replayCorpus();
+        signatures = new int[CORPUS][];
+        for (int i = 0; i < CORPUS; i++) {
+            signatures[i] = hasher.signature(corpus.get(i).getMessage());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.close();
+    }
+
+    private static String sentence(SplittableRandom random, String[] vocabulary) {
+        StringBuilder sentence = new StringBuilder(220);
+        while (sentence.length() < 200) {
+            sentence.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+        }
+        return sentence.toString().trim();
+    }
+
+    private FeedbackSimilarityIndex replayCorpus() {
+        FeedbackSimilarityIndex rebuilt = new FeedbackSimilarityIndex(properties);
+        for (int from = 0; from < CORPUS; from += CHUNK_SIZE) {
+            rebuilt.onFeedbackSaved(FeedbackSavedEvent.replay(corpus.subList(from, from + CHUNK_SIZE)));
+        }
+        return rebuilt;
+    }
+
+    private Feedback nextFeedback() {
+        next = (next + 1) % CORPUS;
+        return corpus.get(next);
+    }
+
+    @Benchmark
+    public int[] signature() {
+        return hasher.signature(nextFeedback().getMessage());
+    }
+
+    @Benchmark
+    public List<SimilarHit> similar() {
+        return index.similar(nextFeedback(), 20);
+    }
+
+    @Benchmark
+    public int pairwise() {
+        int[] query = signatures[next = (next + 1) % CORPUS];
+        int matches = 0;
+        for (int[] other : signatures) {
+            int equal = 0;
+            for (int i = 0; i < query.length; i++) {
+                if (other[i] == query[i]) {
+                    equal++;
+                }
+            }
+            if (equal >= properties.getThreshold() * query.length) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS)
+    public FeedbackSimilarityIndex rebuild() {
+        FeedbackSimilarityIndex rebuilt = replayCorpus();
+        rebuilt.close();
+        return rebuilt;
+    }
+}
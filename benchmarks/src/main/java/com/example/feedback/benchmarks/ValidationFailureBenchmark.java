@@ -0,0 +1,82 @@
+package com.example.feedback.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import com.example.feedback.controller.FeedbackController;
+import com.example.feedback.controller.FeedbackController.FeedbackRequest;
+import com.example.feedback.controller.GlobalExceptionHandler;
+
+/**
+ * The rejection path of an invalid submission: Spring's validator adapter fills a binding result, the
+ * exception is created and {@link GlobalExceptionHandler} turns it into the 400 body.
+ * {@code handlerOnly} isolates the last step. The handler's warning log is silenced in {@code logback.xml},
+ * so console I/O does not drown out the rest.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationFailureBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private SpringValidatorAdapter validator;
+    private MethodParameter parameter;
+    private GlobalExceptionHandler handler;
+    private FeedbackRequest invalid;
+    private MethodArgumentNotValidException prebuilt;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = new SpringValidatorAdapter(validatorFactory.getValidator());
+        parameter = new MethodParameter(
+                FeedbackController.class.getMethod("submitFeedback", FeedbackRequest.class, String.class), 0);
+        handler = new GlobalExceptionHandler();
+        invalid = Payloads.invalid();
+        prebuilt = validate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    private MethodArgumentNotValidException validate() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalid, "feedbackRequest");
+        validator.validate(invalid, bindingResult);
+        return new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> fullPath() {
+        return handler.handleValidationException(validate());
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> handlerOnly() {
+        return handler.handleValidationException(prebuilt);
+    }
+}
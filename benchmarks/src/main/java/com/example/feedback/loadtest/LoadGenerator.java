@@ -0,0 +1,280 @@
+package com.example.feedback.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import com.example.feedback.loadtest.PayloadMix.Kind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Open-model load generator for {@code POST /api/feedback}.
+ * <p>
+ * Requests are scheduled at a constant arrival rate and each one is sent on its own virtual thread, so a slow
+ * response never delays the requests due after it. Latency is measured from the moment a request was
+ * <em>due</em>, not from when it was actually sent, which keeps coordinated omission out of the percentiles;
+ * the time from send to response is recorded separately as service time.
+ * <p>
+ * With {@code --connections=N} the requests are dealt round-robin over N clients, each with its own
+ * keep-alive connection, which models many mostly idle users rather than a few busy ones.
+ */
+public final class LoadGenerator {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(200);
+
+    private final LoadOptions options;
+    private final HttpClient[] clients;
+    private final Recorder latency = new Recorder(3);
+    private final Recorder serviceTime = new Recorder(3);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder notSent = new LongAdder();
+    private final Map<Kind, Map<String, LongAdder>> outcomes = new EnumMap<>(Kind.class);
+
+    LoadGenerator(LoadOptions options) {
+        this.options = options;
+        this.clients = new HttpClient[Math.max(1, options.connections())];
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(options.requestTimeout())
+                    .build();
+        }
+        for (Kind kind : Kind.values()) {
+            outcomes.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Map<String, Object> report = new LoadGenerator(options).run();
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (options.writesToStdout()) {
+            System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        } else {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(Files.newOutputStream(options.output()), report);
+            System.err.println("Report written to " + options.output().toAbsolutePath());
+        }
+    }
+
+    Map<String, Object> run() throws InterruptedException {
+        Instant startedAt = Instant.now();
+        double intervalNanos = 1_000_000_000.0 / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long scheduled = 0;
+
+        System.err.printf("Sending %d req/s to %s for %ds after a %ds warmup%n", options.rate(), options.target(),
+                options.duration().toSeconds(), options.warmup().toSeconds());
+        ServerSampler sampler = null;
+        Thread samplerThread = null;
+        if (options.samplesServer()) {
+            sampler = new ServerSampler(options.serverPid(), options.target(), options.serverMetrics(),
+                    SAMPLE_INTERVAL);
+            samplerThread = Thread.ofPlatform().daemon().name("server-sampler").start(sampler);
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long sequence = 0;; sequence++) {
+                long due = start + (long) (sequence * intervalNanos);
+                if (due >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                boolean measured = due >= measureFrom;
+                if (measured) {
+                    if (scheduled++ == 0 && sampler != null) {
+                        sampler.startMeasuring();
+                    }
+                }
+                if (inFlight.get() >= options.maxInFlight()) {
+                    if (measured) {
+                        notSent.increment();
+                    }
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                Kind kind = options.mix().next();
+                long id = sequence;
+                executor.execute(() -> send(kind, id, due, measured));
+            }
+            executor.shutdown();
+            executor.awaitTermination(options.requestTimeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+        Map<String, Object> report = report(startedAt, scheduled, (end - measureFrom) / 1_000_000_000.0);
+        if (sampler != null) {
+            samplerThread.interrupt();
+            samplerThread.join();
+            report.put("server", sampler.report());
+        }
+        return report;
+    }
+
+    private void send(Kind kind, long sequence, long due, boolean measured) {
+        HttpRequest request = HttpRequest.newBuilder(options.target())
+                .timeout(options.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(options.mix().body(kind, sequence)))
+                .build();
+        long sentAt = System.nanoTime();
+        String outcome;
+        try {
+            HttpClient client = clients[(int) (sequence % clients.length)];
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            outcome = String.valueOf(response.statusCode());
+        } catch (HttpTimeoutException ex) {
+            outcome = "timeout";
+        } catch (IOException ex) {
+            outcome = ex.getClass().getSimpleName();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        if (measured) {
+            long now = System.nanoTime();
+            latency.recordValue(now - due);
+            serviceTime.recordValue(now - sentAt);
+            outcomes.get(kind).computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        }
+    }
+
+    private Map<String, Object> report(Instant startedAt, long scheduled, double measuredSeconds) {
+        Histogram latencyHistogram = latency.getIntervalHistogram();
+        Histogram serviceHistogram = serviceTime.getIntervalHistogram();
+
+        Map<String, Long> totals = new TreeMap<>();
+        Map<String, Long> unexpected = new TreeMap<>();
+        Map<String, Object> byPayload = new LinkedHashMap<>();
+        long completed = 0;
+        long expected = 0;
+        long shed = 0;
+        for (Map.Entry<Kind, Map<String, LongAdder>> entry : outcomes.entrySet()) {
+            Map<String, Long> counts = new TreeMap<>();
+            entry.getValue().forEach((outcome, count) -> counts.put(outcome, count.sum()));
+            if (counts.isEmpty()) {
+                continue;
+            }
+            long sent = 0;
+            for (Map.Entry<String, Long> count : counts.entrySet()) {
+                String outcome = count.getKey();
+                long value = count.getValue();
+                sent += value;
+                totals.merge(outcome, value, Long::sum);
+                if (isExpected(entry.getKey(), outcome)) {
+                    expected += value;
+                } else if ("503".equals(outcome) || "429".equals(outcome)) {
+                    shed += value;
+                } else {
+                    unexpected.merge(outcome, value, Long::sum);
+                }
+            }
+            completed += sent;
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("sent", sent);
+            payload.put("outcomes", counts);
+            byPayload.put(entry.getKey().label(), payload);
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", options.rate());
+        config.put("durationSeconds", options.duration().toSeconds());
+        config.put("warmupSeconds", options.warmup().toSeconds());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().weights().forEach((kind, weight) -> mix.put(kind.label(), weight));
+        config.put("mix", mix);
+        config.put("timeoutMillis", options.requestTimeout().toMillis());
+        config.put("connections", options.connections());
+
+        Map<String, Object> requests = new LinkedHashMap<>();
+        requests.put("scheduled", scheduled);
+        requests.put("completed", completed);
+        requests.put("notSent", notSent.sum());
+
+        Map<String, Object> throughput = new LinkedHashMap<>();
+        throughput.put("targetPerSecond", options.rate());
+        throughput.put("completedPerSecond", round(completed / measuredSeconds));
+        throughput.put("expectedOutcomePerSecond", round(expected / measuredSeconds));
+
+        Map<String, Object> errors = new LinkedHashMap<>();
+        errors.put("unexpected", unexpected.values().stream().mapToLong(Long::longValue).sum());
+        errors.put("shed", shed);
+        errors.put("notSent", notSent.sum());
+        errors.put("byOutcome", unexpected);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", options.target().toString());
+        report.put("startedAt", startedAt.toString());
+        report.put("config", config);
+        report.put("requests", requests);
+        report.put("throughput", throughput);
+        report.put("latencyMillis", percentiles(latencyHistogram));
+        report.put("serviceTimeMillis", percentiles(serviceHistogram));
+        report.put("outcomes", totals);
+        report.put("errors", errors);
+        report.put("byPayload", byPayload);
+        return report;
+    }
+
+    /** Valid payloads should be stored (200, or 202 in async write-behind mode); the rest should get a 400. */
+    private static boolean isExpected(Kind kind, String outcome) {
+        if (kind.isValid()) {
+            return "200".equals(outcome) || "201".equals(outcome) || "202".equals(outcome);
+        }
+        return "400".equals(outcome);
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getTotalCount());
+        values.put("mean", round(histogram.getMean() / NANOS_PER_MILLI));
+        values.put("p50", millis(histogram, 50.0));
+        values.put("p90", millis(histogram, 90.0));
+        values.put("p99", millis(histogram, 99.0));
+        values.put("p99.9", millis(histogram, 99.9));
+        values.put("max", round(histogram.getMaxValue() / NANOS_PER_MILLI));
+        return values;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
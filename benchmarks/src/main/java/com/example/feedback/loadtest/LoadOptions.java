@@ -0,0 +1,95 @@
+package com.example.feedback.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line settings of the {@link LoadGenerator}, given as {@code --name=value}.
+ */
+record LoadOptions(
+        URI target,
+        int rate,
+        Duration duration,
+        Duration warmup,
+        PayloadMix mix,
+        Duration requestTimeout,
+        int maxInFlight,
+        int connections,
+        Path output,
+        long serverPid,
+        List<String> serverMetrics) {
+
+    static final String USAGE = """
+            Usage: java -cp benchmarks.jar com.example.feedback.loadtest.LoadGenerator [options]
+              --url=http://localhost:8080/api/feedback   endpoint to POST to
+              --rate=200                                  requests per second, sent on schedule
+              --duration=30s                              measured phase
+              --warmup=5s                                 unmeasured phase before it
+              --mix=valid=90,blank-name=4,bad-email=4,too-long=2
+                                                          weights of valid, blank-name, bad-email,
+                                                          too-long and malformed payloads
+              --timeout=10s                               per-request timeout
+              --max-in-flight=10000                       requests due beyond this are counted as not sent
+              --connections=0                             spread requests over this many keep-alive
+                                                          connections; 0 lets one client pool them
+              --out=load-report.json                      report file, '-' for stdout
+              --server-pid=12345                          sample this server process's threads and the
+                                                          connections it holds on the target port
+              --server-metrics=hikaricp.connections.active
+                                                          actuator gauges to sample, comma-separated
+            """;
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognised argument '" + arg + "'");
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadOptions options = new LoadOptions(
+                URI.create(values.getOrDefault("url", "http://localhost:8080/api/feedback")),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                duration(values.getOrDefault("duration", "30s")),
+                duration(values.getOrDefault("warmup", "5s")),
+                PayloadMix.parse(values.getOrDefault("mix", "valid=90,blank-name=4,bad-email=4,too-long=2")),
+                duration(values.getOrDefault("timeout", "10s")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                Integer.parseInt(values.getOrDefault("connections", "0")),
+                Path.of(values.getOrDefault("out", "load-report.json")),
+                Long.parseLong(values.getOrDefault("server-pid", "0")),
+                values.containsKey("server-metrics") ? List.of(values.get("server-metrics").split(",")) : List.of());
+        if (options.rate() <= 0) {
+            throw new IllegalArgumentException("--rate must be positive");
+        }
+        return options;
+    }
+
+    /** Accepts {@code 500ms}, {@code 30s} and {@code 2m}, the forms used in the application properties. */
+    static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        throw new IllegalArgumentException("Unsupported duration '" + value + "', use ms, s or m");
+    }
+
+    boolean samplesServer() {
+        return serverPid > 0 || !serverMetrics.isEmpty();
+    }
+
+    boolean writesToStdout() {
+        return "-".equals(output.toString());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.feedback.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Weighted mix of request bodies sent by the {@link LoadGenerator}.
+ * Parsed from a spec such as {@code valid=90,blank-name=4,bad-email=4,too-long=2}.
+ */
+final class PayloadMix {
+
+    /**
+     * The payloads the generator can send. Valid ones should be stored, every other kind should get a 400.
+     */
+    enum Kind {
+        VALID("valid"),
+        BLANK_NAME("blank-name"),
+        BAD_EMAIL("bad-email"),
+        TOO_LONG("too-long"),
+        MALFORMED("malformed");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+
+        boolean isValid() {
+            return this == VALID;
+        }
+
+        static Kind fromLabel(String label) {
+            for (Kind kind : values()) {
+                if (kind.label.equals(label)) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Unknown payload kind '" + label + "', expected one of "
+                    + List.of(values()).stream().map(Kind::label).toList());
+        }
+    }
+
+    private static final String MESSAGE = "Load test feedback: the checkout page felt slow this afternoon.";
+
+    private final Map<Kind, Integer> weights;
+    private final Kind[] slots;
+    private final byte[][] bodies;
+
+    private PayloadMix(Map<Kind, Integer> weights) {
+        this.weights = weights;
+        List<Kind> expanded = new ArrayList<>();
+        weights.forEach((kind, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                expanded.add(kind);
+            }
+        });
+        this.slots = expanded.toArray(new Kind[0]);
+        this.bodies = new byte[Kind.values().length][];
+        for (Kind kind : Kind.values()) {
+            bodies[kind.ordinal()] = body(kind).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    static PayloadMix parse(String spec) {
+        Map<Kind, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected kind=weight but got '" + part + "'");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + pair[0] + " must not be negative");
+            }
+            if (weight > 0) {
+                weights.merge(Kind.fromLabel(pair[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Payload mix '" + spec + "' has no positive weight");
+        }
+        return new PayloadMix(weights);
+    }
+
+    Kind next() {
+        return slots[ThreadLocalRandom.current().nextInt(slots.length)];
+    }
+
+    byte[] body(Kind kind, long sequence) {
+        if (kind.isValid()) {
+            // Distinct senders keep per-email indexes and any duplicate detection realistic.
+            return ("{\"name\":\"Load Tester\",\"email\":\"user" + sequence + "@example.com\",\"message\":\""
+                    + MESSAGE + "\"}").getBytes(StandardCharsets.UTF_8);
+        }
+        return bodies[kind.ordinal()];
+    }
+
+    Map<Kind, Integer> weights() {
+        return weights;
+    }
+
+    private static String body(Kind kind) {
+        return switch (kind) {
+            case VALID -> json("Load Tester", "user@example.com", MESSAGE);
+            case BLANK_NAME -> json("", "user@example.com", MESSAGE);
+            case BAD_EMAIL -> json("Load Tester", "not-an-email", MESSAGE);
+            case TOO_LONG -> json("Load Tester", "user@example.com", "x".repeat(1001));
+            case MALFORMED -> "{\"name\":\"Load Tester\",\"email\":";
+        };
+    }
+
+    private static String json(String name, String email, String message) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"message\":\"" + message + "\"}";
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.feedback.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Samples the server under test while the {@link LoadGenerator} runs: its OS thread count and the TCP
+ * connections it holds on the target port, both read from {@code /proc} (so Linux only, same host), and
+ * any actuator gauges asked for, such as {@code hikaricp.connections.active} or {@code r2dbc.pool.acquired}.
+ * Each series is reported as its mean and maximum over the measured phase.
+ */
+final class ServerSampler implements Runnable {
+
+    private static final String ESTABLISHED = "01";
+
+    private final long pid;
+    private final int port;
+    private final List<String> metrics;
+    private final URI actuator;
+    private final Duration interval;
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Series> series = new LinkedHashMap<>();
+
+    private volatile boolean measuring;
+
+    ServerSampler(long pid, URI target, List<String> metrics, Duration interval) {
+        this.pid = pid;
+        this.port = target.getPort() > 0 ? target.getPort() : 80;
+        this.metrics = metrics;
+        this.actuator = target.resolve("/actuator/metrics/");
+        this.interval = interval;
+        if (pid > 0) {
+            series.put("threads", new Series());
+            series.put("connections", new Series());
+        }
+        metrics.forEach(metric -> series.put(metric, new Series()));
+    }
+
+    /** Samples taken before this call (during warmup) are not reported. */
+    void startMeasuring() {
+        measuring = true;
+    }
+
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (measuring) {
+                    sample();
+                }
+                Thread.sleep(interval);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void sample() throws InterruptedException {
+        if (pid > 0) {
+            record("threads", threads());
+            record("connections", establishedConnections());
+        }
+        for (String metric : metrics) {
+            record(metric, gauge(metric));
+        }
+    }
+
+    private void record(String name, double value) {
+        if (!Double.isNaN(value)) {
+            series.get(name).add(value);
+        }
+    }
+
+    private double threads() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("Threads:")) {
+                    return Double.parseDouble(line.substring("Threads:".length()).trim());
+                }
+            }
+        } catch (IOException ex) {
+            // The process is gone; nothing left to sample
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Server-side sockets of the target port in state ESTABLISHED, i.e. connections the server is holding open.
+     * The sampler's own actuator connection is one of them when gauges are polled.
+     */
+    private double establishedConnections() {
+        String localPort = String.format(Locale.ROOT, ":%04X", port);
+        long count = 0;
+        for (String table : List.of("tcp", "tcp6")) {
+            try {
+                for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "net", table))) {
+                    String[] fields = line.trim().split("\\s+");
+                    if (fields.length > 3 && fields[1].endsWith(localPort) && ESTABLISHED.equals(fields[3])) {
+                        count++;
+                    }
+                }
+            } catch (IOException ex) {
+                return Double.NaN;
+            }
+        }
+        return count;
+    }
+
+    private double gauge(String metric) throws InterruptedException {
+        try {
+            HttpResponse<String> response = client.send(
+                    HttpRequest.newBuilder(actuator.resolve(metric)).timeout(interval.multipliedBy(10)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return Double.NaN;
+            }
+            JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+            return measurements.isEmpty() ? Double.NaN : measurements.get(0).path("value").asDouble();
+        } catch (IOException ex) {
+            return Double.NaN;
+        }
+    }
+
+    Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        if (pid > 0) {
+            report.put("pid", pid);
+        }
+        series.forEach((name, values) -> report.put(name, values.summary()));
+        return report;
+    }
+
+    /** Running mean and maximum; written by the sampling thread only, read once it has stopped. */
+    private static final class Series {
+        private long count;
+        private double sum;
+        private double max;
+
+        void add(double value) {
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("samples", count);
+            summary.put("mean", count == 0 ? 0.0 : Math.round(sum / count * 10.0) / 10.0);
+            summary.put("max", max);
+            return summary;
+        }
+    }
+}
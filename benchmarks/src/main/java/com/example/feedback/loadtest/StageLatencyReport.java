@@ -0,0 +1,167 @@
+package com.example.feedback.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Offline analysis of a flight recording made with the backend's {@code jfr/feedback.jfc}: per-stage latency
+ * percentiles of {@code POST /api/feedback}, and optionally the stages of the slowest requests, which is
+ * where a p99 spike shows which stage it came from.
+ * <p>
+ * Stages are the {@code com.example.feedback.*} events, matched to their request by the request id they all
+ * carry. {@code Save} includes its {@code Commit}, and {@code Submission} is the whole request; {@code Other} is
+ * what of a request no stage accounts for.
+ */
+public final class StageLatencyReport {
+
+    static final String EVENT_PREFIX = "com.example.feedback.";
+    static final String SUBMISSION = "Submission";
+    /** Time of a submission outside all of its stages: other filters, dispatch, logging, waiting for a CPU. */
+    static final String OTHER = "Other";
+    /** Recorded inside another stage, so it does not count towards {@link #OTHER}. */
+    static final String COMMIT = "Commit";
+    /** Pipeline order; stages not listed here are printed after them. */
+    static final List<String> STAGES = List.of("Precheck", "Parse", "Validation", "Save", COMMIT, "Notify",
+            "Serialization", OTHER, SUBMISSION);
+
+    static final String USAGE = """
+            Usage: java -cp benchmarks.jar com.example.feedback.loadtest.StageLatencyReport recording.jfr [options]
+              --outcome=stored    only requests whose Submission event has this outcome
+              --slowest=0         also list the stages of the N slowest requests
+            """;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = { 50.0, 90.0, 99.0, 99.9 };
+
+    private StageLatencyReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path recording = null;
+        String outcome = null;
+        int slowest = 0;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith("--outcome=")) {
+                    outcome = arg.substring("--outcome=".length());
+                } else if (arg.startsWith("--slowest=")) {
+                    slowest = Integer.parseInt(arg.substring("--slowest=".length()));
+                } else if (!arg.startsWith("--") && recording == null) {
+                    recording = Path.of(arg);
+                } else {
+                    throw new IllegalArgumentException("Unrecognised argument '" + arg + "'");
+                }
+            }
+            if (recording == null || !Files.isRegularFile(recording)) {
+                throw new IllegalArgumentException("Missing recording file");
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+        print(read(recording), outcome, slowest, System.out);
+    }
+
+    /** The stage events of a recording, grouped by request id in the order their requests first appear. */
+    static Map<String, Request> read(Path recording) throws IOException {
+        Map<String, Request> requests = new LinkedHashMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(EVENT_PREFIX) || !event.hasField("requestId")) {
+                    continue;
+                }
+                String requestId = event.getString("requestId");
+                if (requestId == null) {
+                    continue;
+                }
+                Request request = requests.computeIfAbsent(requestId, Request::new);
+                String stage = name.substring(EVENT_PREFIX.length());
+                request.stageNanos.merge(stage, event.getDuration().toNanos(), Long::sum);
+                if (stage.equals(SUBMISSION)) {
+                    request.outcome = event.getString("outcome");
+                }
+            }
+        }
+        for (Request request : requests.values()) {
+            Long total = request.stageNanos.get(SUBMISSION);
+            if (total != null) {
+                long staged = request.stageNanos.entrySet().stream()
+                        .filter(stage -> !stage.getKey().equals(SUBMISSION) && !stage.getKey().equals(COMMIT))
+                        .mapToLong(Map.Entry::getValue)
+                        .sum();
+                request.stageNanos.put(OTHER, Math.max(0, total - staged));
+            }
+        }
+        return requests;
+    }
+
+    static void print(Map<String, Request> requests, String outcome, int slowest, PrintStream out) {
+        List<Request> selected = requests.values().stream()
+                .filter(request -> outcome == null || outcome.equals(request.outcome))
+                .toList();
+
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        STAGES.forEach(stage -> histograms.put(stage, new Histogram(3)));
+        for (Request request : selected) {
+            request.stageNanos.forEach((stage, nanos) ->
+                    histograms.computeIfAbsent(stage, key -> new Histogram(3)).recordValue(nanos));
+        }
+
+        out.printf("%d requests%s%n%n", selected.size(), outcome != null ? " with outcome " + outcome : "");
+        out.printf("%-14s %8s %9s %9s %9s %9s %9s%n", "stage (ms)", "count", "p50", "p90", "p99", "p99.9", "max");
+        histograms.forEach((stage, histogram) -> {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            out.printf("%-14s %8d", stage, histogram.getTotalCount());
+            for (double percentile : PERCENTILES) {
+                out.printf(" %9.3f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+            }
+            out.printf(" %9.3f%n", histogram.getMaxValue() / NANOS_PER_MILLI);
+        });
+
+        if (slowest > 0) {
+            out.printf("%nSlowest %d requests (ms):%n", Math.min(slowest, selected.size()));
+            selected.stream()
+                    .filter(request -> request.stageNanos.containsKey(SUBMISSION))
+                    .sorted(Comparator.comparingLong((Request request) -> request.stageNanos.get(SUBMISSION))
+                            .reversed())
+                    .limit(slowest)
+                    .forEach(request -> {
+                        List<String> parts = new ArrayList<>();
+                        histograms.keySet().stream()
+                                .filter(request.stageNanos::containsKey)
+                                .forEach(stage -> parts.add(String.format("%s %.3f", stage,
+                                        request.stageNanos.get(stage) / NANOS_PER_MILLI)));
+                        out.printf("  %s [%s] %s%n", request.id, request.outcome, String.join(", ", parts));
+                    });
+        }
+    }
+
+    /** Stage durations of one request, summed when a stage ran more than once. */
+    static final class Request {
+        final String id;
+        final Map<String, Long> stageNanos = new LinkedHashMap<>();
+        String outcome;
+
+        Request(String id) {
+            this.id = id;
+        }
+    }
+}
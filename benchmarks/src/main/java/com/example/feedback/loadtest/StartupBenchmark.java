@@ -0,0 +1,203 @@
+package com.example.feedback.loadtest;
+
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToDoubleFunction;
+
+import com.example.feedback.loadtest.PayloadMix.Kind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cold-start benchmark for the backend. Each run starts the server with the given command, then:
+ * <ol>
+ * <li>sends a valid {@code POST /api/feedback} every few milliseconds until one succeeds. The time from
+ * launching the process to that first success is the <em>time to first submission</em>. It covers JVM
+ * start, the Spring context, schema setup and the first request, which is what new capacity waits for.</li>
+ * <li>sends valid submissions for {@code --warmup} at {@code --warmup-rate} (sequentially, so a slower server
+ * sends fewer).</li>
+ * <li>reads the process's resident set size, and its peak so far, from {@code /proc} (Linux only).</li>
+ * </ol>
+ * The process is then stopped and the next run starts from scratch. The report holds every run and the
+ * min/median/max over all of them.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(30);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double KB_PER_MB = 1024.0;
+
+    private final StartupOptions options;
+    private final PayloadMix payloads = PayloadMix.parse("valid=100");
+    private long sequence;
+
+    StartupBenchmark(StartupOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        StartupOptions options;
+        try {
+            options = StartupOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(StartupOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Map<String, Object> report = new StartupBenchmark(options).run();
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (options.writesToStdout()) {
+            System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        } else {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(Files.newOutputStream(options.output()), report);
+            System.err.println("Report written to " + options.output().toAbsolutePath());
+        }
+    }
+
+    Map<String, Object> run() throws IOException, InterruptedException {
+        Instant startedAt = Instant.now();
+        List<RunResult> results = new ArrayList<>();
+        for (int run = 1; run <= options.runs(); run++) {
+            RunResult result = measure();
+            System.err.printf("Run %d/%d: first submission after %.0f ms, RSS %.0f MB after warmup (peak %.0f MB)%n",
+                    run, options.runs(), result.timeToFirstSubmissionMs(), result.rssMb(), result.peakRssMb());
+            results.add(result);
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("label", options.label());
+        config.put("command", String.join(" ", options.command()));
+        config.put("url", options.target().toString());
+        config.put("runs", options.runs());
+        config.put("warmupSeconds", options.warmup().toSeconds());
+        config.put("warmupRate", options.warmupRate());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timeToFirstSubmissionMs", spread(results, RunResult::timeToFirstSubmissionMs));
+        summary.put("rssAfterWarmupMb", spread(results, RunResult::rssMb));
+        summary.put("peakRssMb", spread(results, RunResult::peakRssMb));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("config", config);
+        report.put("summary", summary);
+        report.put("runs", results);
+        return report;
+    }
+
+    private RunResult measure() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        if (trySubmit(client) != 0) {
+            throw new IllegalStateException("A server is already answering at " + options.target()
+                    + "; stop it first or the runs would measure it instead");
+        }
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(options.command())
+                .redirectErrorStream(true)
+                .redirectOutput(Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + options.startTimeout().toNanos();
+            int status;
+            while ((status = trySubmit(client)) / 100 != 2) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Server exited with status " + process.exitValue()
+                            + " before accepting a submission");
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("No successful submission within " + options.startTimeout()
+                            + (status != 0 ? ", last status " + status : ""));
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            double timeToFirstSubmissionMs = (System.nanoTime() - start) / NANOS_PER_MILLI;
+
+            int sent = 0;
+            int failed = 0;
+            long intervalNanos = 1_000_000_000L / options.warmupRate();
+            long warmupStart = System.nanoTime();
+            long warmupEnd = warmupStart + options.warmup().toNanos();
+            for (long due = warmupStart; due < warmupEnd; due += intervalNanos) {
+                LockSupport.parkNanos(due - System.nanoTime());
+                sent++;
+                if (trySubmit(client) / 100 != 2) {
+                    failed++;
+                }
+            }
+
+            return new RunResult(timeToFirstSubmissionMs, status(process.pid(), "VmRSS:") / KB_PER_MB,
+                    status(process.pid(), "VmHWM:") / KB_PER_MB, sent, failed);
+        } finally {
+            stop(process);
+        }
+    }
+
+    /** Status of one valid submission, or 0 if the server could not be reached. */
+    private int trySubmit(HttpClient client) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(options.target())
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payloads.body(Kind.VALID, sequence++)))
+                .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    /** A {@code kB} line of {@code /proc/<pid>/status}, such as {@code VmRSS:}. */
+    private static double status(long pid, String field) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            if (line.startsWith(field)) {
+                return Double.parseDouble(line.substring(field.length()).replace("kB", "").trim());
+            }
+        }
+        throw new IllegalStateException("No " + field + " in /proc/" + pid + "/status");
+    }
+
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static Map<String, Object> spread(List<RunResult> results, ToDoubleFunction<RunResult> value) {
+        double[] values = results.stream().mapToDouble(value).sorted().toArray();
+        Map<String, Object> spread = new LinkedHashMap<>();
+        spread.put("min", round(values[0]));
+        spread.put("median", round(values.length % 2 == 1 ? values[values.length / 2]
+                : (values[values.length / 2 - 1] + values[values.length / 2]) / 2));
+        spread.put("max", round(values[values.length - 1]));
+        return spread;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    /** One server start; serialized into the report as is. */
+    record RunResult(double timeToFirstSubmissionMs, double rssMb, double peakRssMb, int warmupSent,
+            int warmupFailed) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.feedback.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line settings of the {@link StartupBenchmark}: {@code --name=value} options, then {@code --} and
+ * the command that starts the server.
+ */
+record StartupOptions(
+        URI target,
+        int runs,
+        Duration startTimeout,
+        Duration warmup,
+        int warmupRate,
+        Path output,
+        String label,
+        List<String> command) {
+
+    static final String USAGE = """
+            Usage: java -cp benchmarks.jar com.example.feedback.loadtest.StartupBenchmark [options] -- command...
+              --url=http://localhost:8080/api/feedback   endpoint to POST to
+              --runs=5                                    server starts to measure
+              --start-timeout=120s                        give up on a start after this long
+              --warmup=20s                                valid submissions sent after the first one succeeds,
+              --warmup-rate=50                            at this rate, before memory is read
+              --label=default                             name of this configuration in the report
+              --out=startup-report.json                   report file, '-' for stdout
+              command...                                  starts the server in the foreground; run java itself,
+                                                          not a wrapper script, so the measured process is the JVM
+            """;
+
+    static StartupOptions parse(String[] args) {
+        int separator = Arrays.asList(args).indexOf("--");
+        if (separator < 0 || separator == args.length - 1) {
+            throw new IllegalArgumentException("Missing '-- command...' to start the server with");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (String arg : Arrays.copyOfRange(args, 0, separator)) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognised argument '" + arg + "'");
+            }
+            int equals = arg.indexOf('=');
+            values.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        StartupOptions options = new StartupOptions(
+                URI.create(values.getOrDefault("url", "http://localhost:8080/api/feedback")),
+                Integer.parseInt(values.getOrDefault("runs", "5")),
+                LoadOptions.duration(values.getOrDefault("start-timeout", "120s")),
+                LoadOptions.duration(values.getOrDefault("warmup", "20s")),
+                Integer.parseInt(values.getOrDefault("warmup-rate", "50")),
+                Path.of(values.getOrDefault("out", "startup-report.json")),
+                values.getOrDefault("label", "default"),
+                List.of(Arrays.copyOfRange(args, separator + 1, args.length)));
+        if (options.runs() <= 0 || options.warmupRate() <= 0) {
+            throw new IllegalArgumentException("--runs and --warmup-rate must be positive");
+        }
+        return options;
+    }
+
+    boolean writesToStdout() {
+        return "-".equals(output.toString());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.feedback.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class FeedbackReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(FeedbackReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.example.feedback.reactive.controller;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.feedback.reactive.model.Feedback;
+import com.example.feedback.reactive.repository.FeedbackCursor;
+import com.example.feedback.reactive.repository.FeedbackQuery;
+import com.example.feedback.reactive.repository.FeedbackRepository;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the servlet backend's {@code FeedbackController}: same paths, bodies and
+ * validation messages, but no handler ever waits on a thread. Bodies are decoded and validated as they
+ * arrive and rows are written through R2DBC, so a few event-loop threads serve every open connection.
+ */
+@RestController
+@RequestMapping("/api/feedback")
+public class FeedbackController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackController.class);
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    /**
+     * Submit new feedback.
+     * A body that fails validation surfaces as a {@code WebExchangeBindException} from the {@code Mono}.
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Map<String, Object>>> submitFeedback(@Valid @RequestBody Mono<FeedbackRequest> request) {
+        return request
+                .doOnNext(body -> {
+                    logger.info("Received feedback submission request for user: [REDACTED]");
+                    logger.debug("Request details - Name length: {}, Email length: {}, Message length: {}",
+                            body.getName().length(), body.getEmail().length(), body.getMessage().length());
+                })
+                .flatMap(body -> {
+                    Feedback feedback = new Feedback(body.getName(), body.getEmail(), body.getMessage());
+                    feedback.setCreatedAt(LocalDateTime.now());
+                    return feedbackRepository.save(feedback);
+                })
+                .map(saved -> {
+                    logger.info("Feedback submitted successfully with ID: {}", saved.getId());
+                    return ResponseEntity.ok(FeedbackResponses.created(saved));
+                })
+                .doOnError(e -> logger.debug("Feedback submission failed: ", e));
+    }
+
+    /**
+     * List feedback, newest first, with keyset pagination.
+     * Pass the {@code nextCursor} of a response as {@code cursor} to get the following page.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<Map<String, Object>>> listFeedback(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        FeedbackCursor after;
+        try {
+            after = cursor != null ? FeedbackCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected feedback listing with invalid cursor");
+            return Mono.just(ResponseEntity.badRequest().body(FeedbackResponses.error("Invalid request", "Invalid cursor")));
+        }
+
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return feedbackRepository.findPage(new FeedbackQuery(email, from, to), after, pageSize)
+                .map(slice -> {
+                    logger.debug("Listed {} feedback items, hasNext: {}", slice.getNumberOfElements(), slice.hasNext());
+                    return ResponseEntity.ok(FeedbackResponses.page(slice));
+                });
+    }
+
+    /**
+     * Same constraints and messages as the servlet backend's {@code FeedbackController.FeedbackRequest}.
+     */
+    public static class FeedbackRequest {
+        public static final int MAX_NAME_LENGTH = 100;
+        public static final int MAX_EMAIL_LENGTH = 255;
+        public static final int MAX_MESSAGE_LENGTH = 1000;
+
+        public static final String NAME_REQUIRED = "Name is required";
+        public static final String NAME_TOO_LONG = "Name must not exceed 100 characters";
+        public static final String EMAIL_REQUIRED = "Email is required";
+        public static final String EMAIL_INVALID = "Please enter a valid email address";
+        public static final String EMAIL_TOO_LONG = "Email must not exceed 255 characters";
+        public static final String MESSAGE_REQUIRED = "Message is required";
+        public static final String MESSAGE_TOO_LONG = "Message must not exceed 1000 characters";
+
+        @jakarta.validation.constraints.NotBlank(message = NAME_REQUIRED)
+        @jakarta.validation.constraints.Size(max = MAX_NAME_LENGTH, message = NAME_TOO_LONG)
+        private String name;
+
+        @jakarta.validation.constraints.NotBlank(message = EMAIL_REQUIRED)
+        @jakarta.validation.constraints.Email(message = EMAIL_INVALID)
+        @jakarta.validation.constraints.Size(max = MAX_EMAIL_LENGTH, message = EMAIL_TOO_LONG)
+        private String email;
+
+        @jakarta.validation.constraints.NotBlank(message = MESSAGE_REQUIRED)
+        @jakarta.validation.constraints.Size(max = MAX_MESSAGE_LENGTH, message = MESSAGE_TOO_LONG)
+        private String message;
+
+        // Constructors, getters and setters
+        public FeedbackRequest() {
+        }
+
+        public FeedbackRequest(String name, String email, String message) {
+            this.name = name;
+            this.email = email;
+            this.message = message;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
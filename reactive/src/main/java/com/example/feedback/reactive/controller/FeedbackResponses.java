@@ -0,0 +1,79 @@
+package com.example.feedback.reactive.controller;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Slice;
+
+import com.example.feedback.reactive.model.Feedback;
+import com.example.feedback.reactive.repository.FeedbackCursor;
+
+/**
+ * Builds the JSON bodies returned by the feedback endpoints.
+ * The shapes are the servlet backend's, key for key, so clients cannot tell the two builds apart.
+ */
+public final class FeedbackResponses {
+
+    private FeedbackResponses() {
+    }
+
+    /**
+     * Body returned after a feedback item has been stored.
+     */
+    public static Map<String, Object> created(Feedback feedback) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", feedback.getId());
+        response.put("name", feedback.getName());
+        response.put("message", feedback.getMessage());
+        return response;
+    }
+
+    /**
+     * Full representation of a stored feedback item, used by the listing.
+     */
+    public static Map<String, Object> detail(Feedback feedback) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("id", feedback.getId());
+        response.put("name", feedback.getName());
+        response.put("email", feedback.getEmail());
+        response.put("message", feedback.getMessage());
+        response.put("createdAt", feedback.getCreatedAt());
+        return response;
+    }
+
+    /**
+     * One page of a keyset-paginated listing. {@code nextCursor} is {@code null} on the last page.
+     */
+    public static Map<String, Object> page(Slice<Feedback> slice) {
+        List<Map<String, Object>> items = new ArrayList<>(slice.getNumberOfElements());
+        for (Feedback feedback : slice) {
+            items.add(detail(feedback));
+        }
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            nextCursor = FeedbackCursor.of(slice.getContent().get(items.size() - 1)).encode();
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("items", items);
+        response.put("hasNext", slice.hasNext());
+        response.put("nextCursor", nextCursor);
+        return response;
+    }
+
+    /**
+     * Error body in the same shape as the one produced by {@link GlobalExceptionHandler}.
+     */
+    public static Map<String, Object> error(String error, String details) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("error", error);
+        response.put("details", details);
+        response.put("timestamp", LocalDateTime.now());
+        return response;
+    }
+}
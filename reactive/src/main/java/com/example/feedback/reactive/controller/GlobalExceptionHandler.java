@@ -0,0 +1,125 @@
+package com.example.feedback.reactive.controller;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.resource.NoResourceFoundException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.PayloadTooLargeException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * WebFlux counterpart of the servlet backend's {@code GlobalExceptionHandler}. Spring reports the same
+ * client errors through different exception types here, so each handler maps one of them back onto the
+ * servlet build's status code and body.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+  /** Invalid input is client-driven, so its WARN lines are throttled to keep a flood from turning into log I/O. */
+  private static final RateLimitedLogger rejectLog = new RateLimitedLogger(logger, Duration.ofSeconds(10));
+
+  /** Field order of the request, which is the order the servlet build lists violations in. */
+  private static final List<String> FIELD_ORDER = List.of("name", "email", "message");
+
+  /** The limit the JSON decoder enforces, which plays the part of the servlet build's max-body-size. */
+  @Value("${spring.codec.max-in-memory-size:256KB}")
+  private DataSize maxBodySize;
+
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<Map<String, Object>> handleValidationException(WebExchangeBindException ex) {
+    rejectLog.warn("Validation failed for feedback submission: {} field error(s)", ex.getErrorCount());
+    logger.debug("Validation error details: ", ex);
+
+    String details = ex.getFieldErrors()
+        .stream()
+        .sorted(Comparator.comparingInt(GlobalExceptionHandler::fieldPosition))
+        .map(error -> error.getDefaultMessage())
+        .collect(Collectors.joining(", "));
+
+    return ResponseEntity.badRequest().body(FeedbackResponses.error("Validation failed", details));
+  }
+
+  /**
+   * Everything else WebFlux rejects while reading a request: an unparseable body or a query parameter that
+   * does not convert. The cause tells them apart.
+   */
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<Map<String, Object>> handleInputException(ServerWebInputException ex) {
+    Throwable cause = NestedExceptionUtils.getMostSpecificCause(ex);
+
+    if (ex.getCause() instanceof TypeMismatchException mismatch) {
+      String name = ex.getMethodParameter() != null ? ex.getMethodParameter().getParameterName()
+          : mismatch.getPropertyName();
+      logger.warn("Invalid value for request parameter: {}", name);
+      return ResponseEntity.badRequest()
+          .body(FeedbackResponses.error("Invalid request", "Invalid value for parameter '" + name + "'"));
+    }
+
+    rejectLog.warn("Unreadable request body: {}", cause.getClass().getSimpleName());
+    return ResponseEntity.badRequest().body(FeedbackResponses.error("Malformed request",
+        "Request body must be a JSON object with name, email and message"));
+  }
+
+  /** Raised by the JSON decoder once a body outgrows {@code spring.codec.max-in-memory-size}. */
+  @ExceptionHandler(PayloadTooLargeException.class)
+  public ResponseEntity<Map<String, Object>> handlePayloadTooLarge(PayloadTooLargeException ex) {
+    rejectLog.warn("Request body too large: {}", NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+
+    return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(FeedbackResponses.error("Payload too large",
+        "Request body exceeds the maximum size of " + maxBodySize.toBytes() + " bytes"));
+  }
+
+  /** An unmapped path such as {@code /api/feedback/abc}; without this it would reach the catch-all as a 500. */
+  @ExceptionHandler(NoResourceFoundException.class)
+  public ResponseEntity<Map<String, Object>> handleNoResource(NoResourceFoundException ex, ServerWebExchange exchange) {
+    String path = exchange.getRequest().getPath().value();
+    logger.debug("No handler for {}", path);
+
+    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+        .body(FeedbackResponses.error("Not found", "No endpoint at " + path));
+  }
+
+  @ExceptionHandler(MethodNotAllowedException.class)
+  public ResponseEntity<Map<String, Object>> handleMethodNotSupported(MethodNotAllowedException ex) {
+    logger.debug("Method {} not supported here", ex.getHttpMethod());
+
+    return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
+        .allow(ex.getSupportedMethods().toArray(HttpMethod[]::new))
+        .body(FeedbackResponses.error("Method not allowed",
+            "Method " + ex.getHttpMethod() + " is not supported for this endpoint"));
+  }
+
+  @ExceptionHandler(Exception.class)
+  public ResponseEntity<Map<String, Object>> handleGeneralException(Exception ex) {
+    logger.error("Unexpected error occurred: {}", ex.getMessage());
+    logger.debug("Error details: ", ex);
+
+    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(FeedbackResponses.error(
+        "Internal server error", "An unexpected error occurred. Please try again later."));
+  }
+
+  private static int fieldPosition(FieldError error) {
+    int position = FIELD_ORDER.indexOf(error.getField());
+    return position < 0 ? FIELD_ORDER.size() : position;
+  }
+}
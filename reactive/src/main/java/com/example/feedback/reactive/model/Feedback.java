@@ -0,0 +1,53 @@
+package com.example.feedback.reactive.model;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Row of the {@code feedback} table, mapped by Spring Data R2DBC.
+ * Unlike the JPA entity there is no {@code @CreationTimestamp}, so {@code createdAt} is set before saving.
+ */
+@Table("feedback")
+public class Feedback {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    private String message;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    // Default constructor
+    public Feedback() {}
+
+    // Constructor for creating new feedback
+    public Feedback(String name, String email, String message) {
+        this.name = name;
+        this.email = email;
+        this.message = message;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
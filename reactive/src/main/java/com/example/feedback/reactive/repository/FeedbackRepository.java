@@ -0,0 +1,11 @@
+package com.example.feedback.reactive.repository;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.feedback.reactive.model.Feedback;
+
+@Repository
+public interface FeedbackRepository extends ReactiveCrudRepository<Feedback, Long>, FeedbackRepositoryCustom {
+    // Basic CRUD operations provided by ReactiveCrudRepository, keyset paging by FeedbackRepositoryCustom
+}
@@ -0,0 +1,21 @@
+package com.example.feedback.reactive.repository;
+
+import org.springframework.data.domain.Slice;
+
+import com.example.feedback.reactive.model.Feedback;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Queries that need hand-built criteria rather than derived query methods.
+ */
+public interface FeedbackRepositoryCustom {
+
+    /**
+     * Returns the next page of feedback, newest first, using keyset pagination on {@code (created_at, id)}.
+     * No count query is issued; {@link Slice#hasNext()} is derived by fetching one extra row.
+     *
+     * @param after position of the last item of the previous page, or {@code null} for the first page
+     */
+    Mono<Slice<Feedback>> findPage(FeedbackQuery query, FeedbackCursor after, int limit);
+}
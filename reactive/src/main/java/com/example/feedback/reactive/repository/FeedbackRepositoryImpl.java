@@ -0,0 +1,62 @@
+package com.example.feedback.reactive.repository;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+
+import com.example.feedback.reactive.model.Feedback;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link FeedbackRepositoryCustom}, picked up by Spring Data through the {@code Impl} suffix.
+ */
+class FeedbackRepositoryImpl implements FeedbackRepositoryCustom {
+
+    @Autowired
+    private R2dbcEntityTemplate template;
+
+    @Override
+    public Mono<Slice<Feedback>> findPage(FeedbackQuery query, FeedbackCursor after, int limit) {
+        // Only add the predicates that apply so the planner can use idx_feedback_email_created_at_id
+        // or idx_feedback_created_at_id as a plain range scan.
+        Criteria criteria = Criteria.empty();
+        if (query.email() != null) {
+            criteria = criteria.and(where("email").is(query.email()));
+        }
+        if (query.from() != null) {
+            criteria = criteria.and(where("created_at").greaterThanOrEquals(query.from()));
+        }
+        if (query.to() != null) {
+            criteria = criteria.and(where("created_at").lessThan(query.to()));
+        }
+        if (after != null) {
+            // (created_at, id) < (:createdAt, :id), written with a leading range term the index can seek on
+            criteria = criteria.and(where("created_at").lessThanOrEquals(after.createdAt()))
+                    .and(where("created_at").lessThan(after.createdAt()).or("id").lessThan(after.id()));
+        }
+
+        Query select = Query.query(criteria)
+                .sort(Sort.by(Sort.Order.desc("created_at"), Sort.Order.desc("id")))
+                .limit(limit + 1);
+
+        return template.select(select, Feedback.class)
+                .collectList()
+                .map(rows -> toSlice(rows, limit));
+    }
+
+    private static Slice<Feedback> toSlice(List<Feedback> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<Feedback> content = hasNext ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.ofSize(limit), hasNext);
+    }
+}
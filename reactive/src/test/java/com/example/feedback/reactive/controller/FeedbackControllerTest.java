@@ -0,0 +1,162 @@
+package com.example.feedback.reactive.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.example.feedback.reactive.model.Feedback;
+import com.example.feedback.reactive.repository.FeedbackCursor;
+import com.example.feedback.reactive.repository.FeedbackQuery;
+import com.example.feedback.reactive.repository.FeedbackRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for the reactive FeedbackController and GlobalExceptionHandler.
+ * Every status code and body checked here is the one the servlet backend answers with.
+ */
+@WebFluxTest(FeedbackController.class)
+@TestPropertySource(properties = "spring.codec.max-in-memory-size=2KB")
+class FeedbackControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private FeedbackRepository feedbackRepository;
+
+    private Feedback savedFeedback;
+
+    @BeforeEach
+    void setUp() {
+        savedFeedback = new Feedback("John Doe", "john@example.com", "Great service!");
+        savedFeedback.setId(1L);
+        savedFeedback.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
+    }
+
+    private WebTestClient.ResponseSpec submit(String body) {
+        return webTestClient.post().uri("/api/feedback")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange();
+    }
+
+    @Test
+    void submitFeedback_Success() {
+        // Given
+        when(feedbackRepository.save(any(Feedback.class))).thenReturn(Mono.just(savedFeedback));
+
+        // When & Then
+        submit("{\"name\":\"John Doe\",\"email\":\"john@example.com\",\"message\":\"Great service!\"}")
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.name").isEqualTo("John Doe")
+                .jsonPath("$.message").isEqualTo("Great service!");
+    }
+
+    @Test
+    void submitFeedback_ValidationErrorsListedInFieldOrder() {
+        // When & Then
+        submit("{\"name\":\" \",\"email\":\"invalid-email\",\"message\":\"" + "a".repeat(1001) + "\"}")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation failed")
+                .jsonPath("$.details").isEqualTo("Name is required, Please enter a valid email address, "
+                        + "Message must not exceed 1000 characters")
+                .jsonPath("$.timestamp").exists();
+    }
+
+    @Test
+    void submitFeedback_MalformedBody() {
+        // When & Then
+        submit("{\"name\":")
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Malformed request")
+                .jsonPath("$.details").isEqualTo("Request body must be a JSON object with name, email and message");
+    }
+
+    @Test
+    void submitFeedback_BodyOverTheLimit() {
+        // When & Then
+        submit("{\"name\":\"John\",\"email\":\"john@example.com\",\"message\":\"" + "a".repeat(4096) + "\"}")
+                .expectStatus().isEqualTo(413)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Payload too large")
+                .jsonPath("$.details").isEqualTo("Request body exceeds the maximum size of 2048 bytes");
+    }
+
+    @Test
+    void submitFeedback_RepositoryException() {
+        // Given
+        when(feedbackRepository.save(any(Feedback.class))).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        // When & Then
+        submit("{\"name\":\"John Doe\",\"email\":\"john@example.com\",\"message\":\"Great service!\"}")
+                .expectStatus().is5xxServerError()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Internal server error")
+                .jsonPath("$.details").isEqualTo("An unexpected error occurred. Please try again later.");
+    }
+
+    @Test
+    void listFeedback_FirstPage() {
+        // Given
+        when(feedbackRepository.findPage(eq(FeedbackQuery.all()), isNull(), eq(1)))
+                .thenReturn(Mono.just(new SliceImpl<>(List.of(savedFeedback), PageRequest.ofSize(1), true)));
+
+        // When & Then
+        webTestClient.get().uri("/api/feedback?limit=1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.items[0].id").isEqualTo(1)
+                .jsonPath("$.items[0].email").isEqualTo("john@example.com")
+                .jsonPath("$.items[0].createdAt").isEqualTo("2024-01-15T10:30:00")
+                .jsonPath("$.hasNext").isEqualTo(true)
+                .jsonPath("$.nextCursor").isEqualTo(FeedbackCursor.of(savedFeedback).encode());
+    }
+
+    @Test
+    void listFeedback_InvalidCursorAndParameter() {
+        // When & Then
+        webTestClient.get().uri("/api/feedback?cursor=not-a-cursor").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid request")
+                .jsonPath("$.details").isEqualTo("Invalid cursor");
+        webTestClient.get().uri("/api/feedback?limit=ten").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid request")
+                .jsonPath("$.details").isEqualTo("Invalid value for parameter 'limit'");
+    }
+
+    @Test
+    void wrongMethod_Returns405WithAllowHeader() {
+        // When & Then
+        webTestClient.delete().uri("/api/feedback").exchange()
+                .expectStatus().isEqualTo(405)
+                .expectHeader().value(HttpHeaders.ALLOW, allow -> org.assertj.core.api.Assertions.assertThat(allow)
+                        .contains("GET", "POST"))
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Method not allowed");
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.feedback.reactive.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.data.domain.Slice;
+
+import com.example.feedback.reactive.model.Feedback;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * Integration tests for FeedbackRepository against the in-memory H2 database over R2DBC.
+ */
+@DataR2dbcTest
+class FeedbackRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Two rows per timestamp, so the id tiebreak of the cursor is exercised
+        List<Feedback> rows = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Feedback feedback = new Feedback("User " + i, i % 2 == 0 ? "even@example.com" : "odd@example.com",
+                    "Message " + i);
+            feedback.setCreatedAt(BASE.plusMinutes(i / 2));
+            rows.add(feedback);
+        }
+        feedbackRepository.deleteAll().thenMany(feedbackRepository.saveAll(rows)).blockLast();
+    }
+
+    @Test
+    void save_AssignsGeneratedId() {
+        // Given
+        Feedback feedback = new Feedback("Jane", "jane@example.com", "Hello");
+        feedback.setCreatedAt(BASE);
+
+        // When & Then
+        StepVerifier.create(feedbackRepository.save(feedback))
+                .assertNext(saved -> assertThat(saved.getId()).isPositive())
+                .verifyComplete();
+    }
+
+    @Test
+    void findPage_WalksNewestFirstAcrossPages() {
+        // When
+        List<String> messages = new ArrayList<>();
+        FeedbackCursor cursor = null;
+        Slice<Feedback> slice;
+        do {
+            slice = feedbackRepository.findPage(FeedbackQuery.all(), cursor, 5).block();
+            slice.forEach(feedback -> messages.add(feedback.getMessage()));
+            cursor = slice.hasNext() ? FeedbackCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1))
+                    : null;
+        } while (slice.hasNext());
+
+        // Then
+        assertThat(messages).hasSize(12).doesNotHaveDuplicates();
+        assertThat(messages.get(0)).isIn("Message 10", "Message 11");
+        assertThat(messages.get(11)).isIn("Message 0", "Message 1");
+    }
+
+    @Test
+    void findPage_AppliesEmailAndTimeFilters() {
+        // Given
+        FeedbackQuery query = new FeedbackQuery("even@example.com", BASE.plusMinutes(1), BASE.plusMinutes(5));
+
+        // When
+        Slice<Feedback> slice = feedbackRepository.findPage(query, null, 10).block();
+
+        // Then
+        assertThat(Flux.fromIterable(slice).map(Feedback::getMessage).collectList().block())
+                .containsExactly("Message 8", "Message 6", "Message 4", "Message 2");
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    void cursorToken_MatchesTheServletBackend() {
+        // Given: the same token is pinned in the backend's FeedbackRepositoryTest
+        FeedbackCursor cursor = new FeedbackCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000), 42L);
+
+        // When & Then
+        assertThat(cursor.encode()).isEqualTo("MjAyNC0wMS0xNVQxMDozMDowMC4xMjM0NTZ8NDI");
+        assertThat(FeedbackCursor.decode("MjAyNC0wMS0xNVQxMDozMDowMC4xMjM0NTZ8NDI")).isEqualTo(cursor);
+    }
+}